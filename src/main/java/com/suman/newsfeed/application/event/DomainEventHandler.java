@@ -1,6 +1,8 @@
 package com.suman.newsfeed.application.event;
 
 import com.suman.newsfeed.application.usecase.AddNewsKeywordUseCase;
+import com.suman.newsfeed.application.usecase.KeywordActivityTracker;
+import com.suman.newsfeed.application.usecase.KeywordPlatformDemandIndex;
 import com.suman.newsfeed.application.usecase.NewsCollectionUseCase;
 import com.suman.newsfeed.application.usecase.RemoveNewsKeywordUseCase;
 import com.suman.newsfeed.domain.news.NewsKeyword;
@@ -10,6 +12,7 @@ import com.suman.newsfeed.domain.shared.DomainEvent;
 import com.suman.newsfeed.domain.user.event.UserKeywordActiveEvent;
 import com.suman.newsfeed.domain.user.event.UserKeywordAddedEvent;
 import com.suman.newsfeed.domain.user.event.UserKeywordRemovedEvent;
+import com.suman.newsfeed.domain.user.event.UserNewsPlatformChangedEvent;
 import com.suman.newsfeed.domain.user.event.UserRegisteredEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +29,8 @@ public class DomainEventHandler {
     private final NewsCollectionUseCase newsCollectionUseCase;
     private final AddNewsKeywordUseCase addNewsKeywordUseCase;
     private final RemoveNewsKeywordUseCase removeNewsKeywordUseCase;
+    private final KeywordPlatformDemandIndex keywordPlatformDemandIndex;
+    private final KeywordActivityTracker keywordActivityTracker;
 
     //모든 도메인 이벤트 핸들러
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -56,6 +61,10 @@ public class DomainEventHandler {
         log.info("사용자 키워드 추가 이벤트 domain ID: {}", event.getDomainId());
         log.info("사용자 키워드 추가 이벤트 키워드: {}", event.getText());
 
+        //키워드별 수집 대상 플랫폼, 활동 구독자 수 갱신 (새 키워드 첫 수집 전에 반영)
+        keywordPlatformDemandIndex.refresh();
+        keywordActivityTracker.recordKeywordAdded(event.getDomainId(), event.getText());
+
         //뉴스 키워드 생성 호출
         addNewsKeywordUseCase.execute(event.getText());
     }
@@ -69,6 +78,10 @@ public class DomainEventHandler {
         log.info("사용자 키워드 삭제 이벤트 domain ID: {}", event.getDomainId());
         log.info("사용자 키워드 삭제 이벤트 키워드: {}", event.getTextList());
 
+        //키워드별 수집 대상 플랫폼, 활동 구독자 수 갱신
+        keywordPlatformDemandIndex.refresh();
+        keywordActivityTracker.recordKeywordRemoved(event.getDomainId(), event.getTextList());
+
         //뉴스 키워드 삭제 호출
         removeNewsKeywordUseCase.execute(event.getTextList());
 
@@ -81,8 +94,22 @@ public class DomainEventHandler {
         log.info("사용자 키워드 활성화/비활성 이벤트 수신: {}", event);
         log.info("사용자 키워드 활성화/비활성 이벤트 ID", event.getEventId());
         log.info("사용자 키워드 활성화/비활성 이벤트 domain ID: {}", event.getDomainId());
-        log.info("사용자 키워드 활성화/비활성 이벤트 키워드: {}", event.getText());
+        log.info("사용자 키워드 활성화/비활성 이벤트 키워드: {}, 활성: {}", event.getText(), event.getActive());
+
+        //키워드별 수집 대상 플랫폼, 활동 구독자 수 갱신
+        keywordPlatformDemandIndex.refresh();
+        keywordActivityTracker.recordKeywordActive(event.getDomainId(), event.getText(), Boolean.TRUE.equals(event.getActive()));
+    }
+
+    //사용자 뉴스 플랫폼 구독 변경 이벤트 핸들러
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async("eventExecutor")
+    public void handleUserNewsPlatformChanged(UserNewsPlatformChangedEvent event) {
+        log.info("사용자 뉴스 플랫폼 변경 이벤트 수신: {}", event);
+        log.info("사용자 뉴스 플랫폼 변경 이벤트 추가: {}, 삭제: {}", event.getAddedPlatforms(), event.getRemovedPlatforms());
 
+        //키워드별 수집 대상 플랫폼 갱신
+        keywordPlatformDemandIndex.refresh();
     }
 
     //뉴스 키워드 생성
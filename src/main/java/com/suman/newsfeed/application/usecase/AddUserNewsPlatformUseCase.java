@@ -24,6 +24,8 @@ import java.util.stream.Collectors;
 public class AddUserNewsPlatformUseCase {
 
     private final UserNewsPlatformRepository userNewsPlatformRepository;
+    private final UserRepository userRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     /**
      * 뉴스 플랫폼 동기화 (추가/삭제)
@@ -53,8 +55,10 @@ public class AddUserNewsPlatformUseCase {
                 .toList();
 
         // 삭제할 플랫폼
-        List<Long> platformsToRemove = userNewsPlatformRepository.findAllByUserId(userId).stream()
+        List<UserNewsPlatform> userPlatformsToRemove = userNewsPlatformRepository.findAllByUserId(userId).stream()
                 .filter(userNewsPlatform -> !newPlatformSet.contains(userNewsPlatform.getNewsPlatform()))
+                .toList();
+        List<Long> platformsToRemove = userPlatformsToRemove.stream()
                 .map(UserNewsPlatform::getId)
                 .toList();
 
@@ -76,6 +80,13 @@ public class AddUserNewsPlatformUseCase {
         if (!platformsToAdd.isEmpty() || !platformsToRemove.isEmpty()) {
             log.info("사용자 {}의 플랫폼 동기화 완료. 추가: {}, 삭제: {}",
                     userId, platformsToAdd.size(), platformsToRemove.size());
+
+            //도메인 이벤트 발행 (키워드별 수집 대상 플랫폼 갱신)
+            User user = userRepository.findByUserIdWithKeywordsAndPlatforms(userId);
+            user.changeNewsPlatforms(platformsToAdd, userPlatformsToRemove.stream()
+                    .map(UserNewsPlatform::getNewsPlatform)
+                    .toList());
+            domainEventPublisher.publishEvents(user);
         }
         else {
             log.info("사용자 {}의 플랫폼 변경사항 없음", userId);
@@ -0,0 +1,94 @@
+package com.suman.newsfeed.application.usecase;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 키워드 수집 1회의 진행 상황
+ * 시작 시점의 키워드 수(전체)와 수집을 시작한 키워드, 끝난 키워드(성공/실패) 수, 활동 구독자가 없어 건너뛴 키워드 수를 기록합니다.
+ * 성공/실패는 키워드마다 처음 기록된 결과 하나만 셉니다. (묶음 실패 시 이미 끝난 키워드를 다시 세지 않도록)
+ */
+public class CollectionProgress {
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long totalKeywords;
+    private final AtomicLong submittedKeywords = new AtomicLong();
+    private final AtomicLong succeededKeywords = new AtomicLong();
+    private final AtomicLong failedKeywords = new AtomicLong();
+    private final AtomicLong skippedKeywords = new AtomicLong();
+    // 성공/실패가 기록된 키워드
+    private final Set<String> completedKeywords = ConcurrentHashMap.newKeySet();
+    private volatile boolean finished;
+
+    public CollectionProgress(long totalKeywords) {
+        this.totalKeywords = totalKeywords;
+    }
+
+    public void submitted(int keywords) {
+        submittedKeywords.addAndGet(keywords);
+    }
+
+    public void succeeded(String keyword) {
+        if (completedKeywords.add(keyword)) {
+            succeededKeywords.incrementAndGet();
+        }
+    }
+
+    // 아직 결과가 기록되지 않은 키워드만 실패로 셈
+    public void failed(String keyword) {
+        if (completedKeywords.add(keyword)) {
+            failedKeywords.incrementAndGet();
+        }
+    }
+
+    public void skipped() {
+        skippedKeywords.incrementAndGet();
+    }
+
+    public void finish() {
+        finished = true;
+    }
+
+    public long getTotalKeywords() {
+        return totalKeywords;
+    }
+
+    public long getSubmittedKeywords() {
+        return submittedKeywords.get();
+    }
+
+    public long getSucceededKeywords() {
+        return succeededKeywords.get();
+    }
+
+    public long getFailedKeywords() {
+        return failedKeywords.get();
+    }
+
+    public long getSkippedKeywords() {
+        return skippedKeywords.get();
+    }
+
+    public long getCompletedKeywords() {
+        return succeededKeywords.get() + failedKeywords.get() + skippedKeywords.get();
+    }
+
+    // 수집을 시작했지만 아직 끝나지 않은 키워드 수
+    public long getInFlightKeywords() {
+        return submittedKeywords.get() - succeededKeywords.get() - failedKeywords.get();
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("완료 %d / 전체 %d (성공 %d, 실패 %d, 건너뜀 %d, 진행 중 %d) - 경과 %ds",
+                getCompletedKeywords(), totalKeywords, getSucceededKeywords(), getFailedKeywords(),
+                getSkippedKeywords(), getInFlightKeywords(), Duration.between(startedAt, LocalDateTime.now()).toSeconds());
+    }
+}
@@ -0,0 +1,232 @@
+package com.suman.newsfeed.application.usecase;
+
+import com.suman.newsfeed.domain.user.User;
+import com.suman.newsfeed.domain.user.UserKeyword;
+import com.suman.newsfeed.domain.user.UserRepository;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 키워드별 활동 구독자 수 (crawler.activity)
+ * 키워드를 활성 구독하면서 휴면이 아닌 사용자 수를 메모리에 두고, 키워드 추가/삭제/활성화 이벤트와 로그인 때마다 바로 반영합니다.
+ * refresh token 만료 후 dormant-after가 지나도록 로그인하지 않은 사용자는 휴면으로 보고 수에서 뺍니다. (휴면 전환은 refresh 때 반영)
+ * 재시작 후 첫 refresh 때 저장된 사용자 키워드와 refresh token 만료 시각으로 채우며, 채우기 전에는 사용하지 않습니다. (isLoaded)
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordActivityTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeywordActivityTracker.class);
+
+    private final UserRepository userRepository;
+    private final CrawlerProperties crawlerProperties;
+    private final MeterRegistry meterRegistry;
+
+    // 사용자 domain ID -> 활동 상태
+    private final Map<String, Subscriber> subscribers = new HashMap<>();
+    // 키워드 텍스트 -> 활동 구독자 수 (0이 되면 제거)
+    private final Map<String, Integer> activeSubscribers = new HashMap<>();
+    private volatile boolean loaded;
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gauge("crawler.activity.keywords", this, KeywordActivityTracker::countDemandedKeywords);
+        meterRegistry.gauge("crawler.activity.users", Tags.of("state", "active"), this, tracker -> tracker.countUsers(true));
+        meterRegistry.gauge("crawler.activity.users", Tags.of("state", "dormant"), this, tracker -> tracker.countUsers(false));
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 키워드의 활동 구독자 수
+     */
+    public synchronized long demandFor(String keyword) {
+        return activeSubscribers.getOrDefault(keyword, 0);
+    }
+
+    /**
+     * 키워드 텍스트별 활동 구독자 수 (활동 구독자가 없는 키워드는 빠짐)
+     */
+    public synchronized Map<String, Long> activeSubscribersByText() {
+        Map<String, Long> counts = new HashMap<>();
+        activeSubscribers.forEach((text, count) -> counts.put(text, count.longValue()));
+        return counts;
+    }
+
+    /**
+     * 처음이면 저장된 사용자 정보로 채우고, 휴면이 된 사용자를 활동 구독자 수에서 뺌
+     */
+    public void refresh() {
+        if (!loaded) {
+            try {
+                // DB 조회 중에는 잠그지 않음
+                List<User> users = userRepository.findAllWithKeywordsAndPlatforms();
+                load(users, System.currentTimeMillis());
+            } catch (Exception e) {
+                // 다음 refresh 때 다시 시도
+                logger.error("키워드별 활동 구독자 수 초기화 실패: {}", e.getMessage(), e);
+                return;
+            }
+        }
+        expire(System.currentTimeMillis());
+    }
+
+    /**
+     * 로그인한 사용자의 활성 키워드를 활동 구독자 수에 반영
+     */
+    public void recordLogin(User user) {
+        recordLogin(user, System.currentTimeMillis());
+    }
+
+    synchronized void recordLogin(User user, long nowMillis) {
+        Subscriber subscriber = subscriber(user.getDomainId());
+        replaceKeywords(subscriber, activeKeywordsOf(user));
+        long refreshTokenExpiresAtMillis = toMillis(user.getRefreshTokenExpiresAt());
+        markSeen(subscriber, Math.max(nowMillis, refreshTokenExpiresAtMillis) + dormantAfter(), nowMillis);
+    }
+
+    /**
+     * 키워드 추가 반영 (추가한 키워드는 활성 상태)
+     */
+    public void recordKeywordAdded(String userDomainId, String text) {
+        recordKeywordActive(userDomainId, text, true, System.currentTimeMillis());
+    }
+
+    /**
+     * 키워드 활성화/비활성 반영
+     */
+    public void recordKeywordActive(String userDomainId, String text, boolean active) {
+        recordKeywordActive(userDomainId, text, active, System.currentTimeMillis());
+    }
+
+    synchronized void recordKeywordActive(String userDomainId, String text, boolean active, long nowMillis) {
+        Subscriber subscriber = subscriber(userDomainId);
+        setActive(subscriber, text, active);
+        // 키워드를 바꾼 사용자는 활동 중으로 봄
+        markSeen(subscriber, nowMillis + dormantAfter(), nowMillis);
+    }
+
+    /**
+     * 키워드 삭제 반영
+     */
+    public synchronized void recordKeywordRemoved(String userDomainId, Collection<String> texts) {
+        Subscriber subscriber = subscriber(userDomainId);
+        texts.forEach(text -> setActive(subscriber, text, false));
+    }
+
+    synchronized void load(List<User> users, long nowMillis) {
+        for (User user : users) {
+            // 저장된 키워드가 이벤트로 받은 키워드보다 최신 (커밋 후 조회)
+            Subscriber subscriber = subscriber(user.getDomainId());
+            replaceKeywords(subscriber, activeKeywordsOf(user));
+            long refreshTokenExpiresAtMillis = toMillis(user.getRefreshTokenExpiresAt());
+            if (refreshTokenExpiresAtMillis > 0) {
+                markSeen(subscriber, refreshTokenExpiresAtMillis + dormantAfter(), nowMillis);
+            }
+        }
+        loaded = true;
+        logger.info("키워드별 활동 구독자 수 초기화 - 사용자 {}명, 활동 구독자가 있는 키워드 {}개", users.size(), activeSubscribers.size());
+    }
+
+    synchronized void expire(long nowMillis) {
+        int expired = 0;
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.counted && subscriber.seenUntilMillis <= nowMillis) {
+                subscriber.counted = false;
+                subscriber.activeKeywords.forEach(text -> adjust(text, -1));
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            logger.info("휴면 사용자 {}명을 키워드별 활동 구독자 수에서 제외", expired);
+        }
+    }
+
+    private Subscriber subscriber(String userDomainId) {
+        return subscribers.computeIfAbsent(userDomainId, ignored -> new Subscriber());
+    }
+
+    private void replaceKeywords(Subscriber subscriber, Set<String> texts) {
+        for (String text : new ArrayList<>(subscriber.activeKeywords)) {
+            if (!texts.contains(text)) {
+                setActive(subscriber, text, false);
+            }
+        }
+        texts.forEach(text -> setActive(subscriber, text, true));
+    }
+
+    private void setActive(Subscriber subscriber, String text, boolean active) {
+        boolean changed = active ? subscriber.activeKeywords.add(text) : subscriber.activeKeywords.remove(text);
+        if (changed && subscriber.counted) {
+            adjust(text, active ? 1 : -1);
+        }
+    }
+
+    // 활동 기한을 늘리고, 휴면이었으면 활성 키워드를 다시 셈
+    private void markSeen(Subscriber subscriber, long seenUntilMillis, long nowMillis) {
+        subscriber.seenUntilMillis = Math.max(subscriber.seenUntilMillis, seenUntilMillis);
+        if (!subscriber.counted && subscriber.seenUntilMillis > nowMillis) {
+            subscriber.counted = true;
+            subscriber.activeKeywords.forEach(text -> adjust(text, 1));
+        }
+    }
+
+    private void adjust(String text, int delta) {
+        activeSubscribers.merge(text, delta, (count, change) -> count + change > 0 ? count + change : null);
+    }
+
+    private long dormantAfter() {
+        return crawlerProperties.getActivity().getDormantAfter();
+    }
+
+    private static Set<String> activeKeywordsOf(User user) {
+        Set<String> texts = new HashSet<>();
+        if (user.getUserKeywords() != null) {
+            for (UserKeyword userKeyword : user.getUserKeywords()) {
+                if (Boolean.TRUE.equals(userKeyword.getIsActive())) {
+                    texts.add(userKeyword.getText());
+                }
+            }
+        }
+        return texts;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0;
+    }
+
+    private synchronized int countDemandedKeywords() {
+        return activeSubscribers.size();
+    }
+
+    private synchronized int countUsers(boolean active) {
+        return (int) subscribers.values().stream().filter(subscriber -> subscriber.counted == active).count();
+    }
+
+    private static class Subscriber {
+        // 활성 상태인 구독 키워드
+        private final Set<String> activeKeywords = new HashSet<>();
+        // 이 시각까지 활동 중으로 봄
+        private long seenUntilMillis;
+        // 활동 구독자 수에 포함되어 있는지
+        private boolean counted;
+    }
+}
@@ -0,0 +1,281 @@
+package com.suman.newsfeed.application.usecase;
+
+import com.suman.newsfeed.domain.news.NewsKeyword;
+import com.suman.newsfeed.domain.news.NewsKeywordRepository;
+import com.suman.newsfeed.domain.user.UserKeywordRepository;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 키워드 수집 우선순위 큐 (crawler.schedule)
+ * 키워드마다 다음 수집 시각(마지막 수집 + 수집 간격)을 두고, 수집 시각이 지난 키워드 중 점수가 가장 높은 키워드부터 꺼냅니다.
+ * 수집 간격은 키워드에 저장된 수집 간격(새 뉴스 수에 따라 조정)을 활성 구독자가 많을수록 줄인 값이며(min-interval ~ max-interval),
+ * 점수는 활성 구독자 수, 마지막 성공 수집 이후 경과 시간(수집 간격 대비), 플랫폼별 최근 수율로 계산합니다.
+ * 수집 시각이 지나 대기 중인 키워드의 점수는 키워드 목록 갱신(refresh) 때마다 다시 계산합니다.
+ * 마지막 성공 수집 시각은 키워드에 저장되므로(last_crawled_at) 재시작 후에도 모든 키워드가 한꺼번에 수집 대상이 되지 않습니다.
+ * 활동 구독자 수(KeywordActivityTracker)를 채운 뒤에는 휴면 사용자를 뺀 구독자 수를 사용하며,
+ * 꺼낼 때 활동 구독자가 없는(구독자가 모두 비활성이거나 휴면인) 키워드는 수집하지 않고 min-interval 뒤에 다시 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordCrawlPlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeywordCrawlPlanner.class);
+
+    // 수율 계산 기준 (한 번에 수집하는 페이지 크기)
+    private static final double PageSize = 10;
+    // 한 번도 성공하지 못한 키워드의 경과 시간 점수
+    private static final double NeverCrawledStaleness = 2.0;
+
+    private final NewsKeywordRepository newsKeywordRepository;
+    private final UserKeywordRepository userKeywordRepository;
+    private final KeywordActivityTracker keywordActivityTracker;
+    private final CrawlerProperties crawlerProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    // 다음 수집 시각 순
+    private final PriorityQueue<Entry> waiting = new PriorityQueue<>(Comparator.comparingLong((Entry entry) -> entry.dueAtMillis));
+    // 수집 시각이 지난 키워드 (점수 높은 순)
+    private final PriorityQueue<Entry> ready = new PriorityQueue<>(Comparator.comparingDouble((Entry entry) -> entry.score).reversed());
+    private int running;
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gauge("crawler.schedule.keywords", Tags.of("state", "waiting"), this, planner -> planner.count(State.WAITING));
+        meterRegistry.gauge("crawler.schedule.keywords", Tags.of("state", "ready"), this, planner -> planner.count(State.READY));
+        meterRegistry.gauge("crawler.schedule.keywords", Tags.of("state", "running"), this, planner -> planner.count(State.RUNNING));
+    }
+
+    /**
+     * 키워드 목록과 활성 구독자 수 갱신 (새 키워드는 바로 수집 대상, 삭제된 키워드는 제외)
+     */
+    public void refresh() {
+        Map<String, Long> subscribers = keywordActivityTracker.isLoaded()
+                ? keywordActivityTracker.activeSubscribersByText()
+                : userKeywordRepository.countActiveSubscribersByText();
+
+        List<NewsKeyword> keywords = new ArrayList<>();
+        int chunkSize = crawlerProperties.getCollection().getKeywordChunkSize();
+        Long lastId = null;
+        List<NewsKeyword> chunk;
+        do {
+            chunk = newsKeywordRepository.findChunkAfter(lastId, chunkSize);
+            keywords.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == chunkSize);
+
+        refresh(keywords, subscribers, System.currentTimeMillis());
+    }
+
+    synchronized void refresh(Collection<NewsKeyword> keywords, Map<String, Long> subscribers, long nowMillis) {
+        Set<String> texts = new HashSet<>();
+        keywords.forEach(newsKeyword -> texts.add(newsKeyword.getText()));
+        entries.values().removeIf(entry -> {
+            if (texts.contains(entry.keyword)) {
+                return false;
+            }
+            waiting.remove(entry);
+            ready.remove(entry);
+            if (entry.state == State.RUNNING) {
+                running--;
+            }
+            entry.state = State.REMOVED;
+            return true;
+        });
+
+        for (NewsKeyword newsKeyword : keywords) {
+            String keyword = newsKeyword.getText();
+            Entry entry = entries.get(keyword);
+            if (entry == null) {
+                // 저장된 수집 간격, 수율, 마지막 성공 시각은 재시작 후에도 이어서 사용 (성공 기록이 없으면 바로 수집 대상)
+                entry = new Entry(keyword);
+                entries.put(keyword, entry);
+                entry.state = State.WAITING;
+                entry.subscribers = subscribers.getOrDefault(keyword, 0L);
+                entry.accept(newsKeyword);
+                entry.lastSuccessAtMillis = toMillis(newsKeyword.getLastCrawledAt());
+                entry.dueAtMillis = entry.lastSuccessAtMillis != null
+                        ? Math.min(nowMillis, entry.lastSuccessAtMillis) + interval(entry)
+                        : nowMillis;
+                waiting.add(entry);
+                continue;
+            }
+
+            long subscriberCount = subscribers.getOrDefault(keyword, 0L);
+            boolean intervalChanged = entry.subscribers != subscriberCount
+                    || !Objects.equals(entry.crawlInterval, newsKeyword.getCrawlInterval());
+            if (intervalChanged && entry.state == State.WAITING) {
+                // 구독자 수나 수집 간격이 바뀌면 다음 수집 시각도 다시 계산
+                waiting.remove(entry);
+                entry.subscribers = subscriberCount;
+                entry.accept(newsKeyword);
+                if (entry.lastSuccessAtMillis != null) {
+                    entry.dueAtMillis = entry.lastSuccessAtMillis + interval(entry);
+                }
+                waiting.add(entry);
+            } else {
+                entry.subscribers = subscriberCount;
+            }
+        }
+
+        // 대기 중인 키워드 점수 다시 계산 (오래 기다린 키워드가 밀리지 않도록)
+        List<Entry> readyEntries = new ArrayList<>(ready);
+        ready.clear();
+        readyEntries.forEach(entry -> {
+            entry.score = score(entry, nowMillis);
+            ready.add(entry);
+        });
+
+        logger.info("키워드 수집 일정 갱신 - 키워드 {}개 (대기 {}, 수집 대상 {}, 수집 중 {})",
+                entries.size(), waiting.size(), ready.size(), running);
+    }
+
+    /**
+     * 수집 시각이 지난 키워드 중 점수가 높은 순으로 최대 max개를 꺼냄 (꺼낸 키워드는 complete로 결과를 알려야 함)
+     */
+    public List<String> pollDue(int max) {
+        return pollDue(max, System.currentTimeMillis());
+    }
+
+    synchronized List<String> pollDue(int max, long nowMillis) {
+        while (!waiting.isEmpty() && waiting.peek().dueAtMillis <= nowMillis) {
+            Entry entry = waiting.poll();
+            entry.score = score(entry, nowMillis);
+            entry.state = State.READY;
+            ready.add(entry);
+        }
+
+        List<String> keywords = new ArrayList<>();
+        while (keywords.size() < max && !ready.isEmpty()) {
+            Entry entry = ready.poll();
+            if (!hasActiveSubscribers(entry)) {
+                entry.dueAtMillis = nowMillis + crawlerProperties.getSchedule().getMinInterval();
+                entry.state = State.WAITING;
+                waiting.add(entry);
+                meterRegistry.counter("crawler.schedule.skipped").increment();
+                continue;
+            }
+            entry.state = State.RUNNING;
+            running++;
+            keywords.add(entry.keyword);
+        }
+        return keywords;
+    }
+
+    /**
+     * 수집 결과 반영
+     * @param collected 수집 결과(수율, 수집 간격)가 반영된 키워드
+     *                  (수집 실패 또는 회로 열림으로 어느 플랫폼도 크롤링하지 못했으면 null - 마지막 성공 시각은 그대로 두고 min-interval 후 다시 시도)
+     */
+    public void complete(String keyword, NewsKeyword collected) {
+        complete(keyword, collected, System.currentTimeMillis());
+    }
+
+    synchronized void complete(String keyword, NewsKeyword collected, long nowMillis) {
+        Entry entry = entries.get(keyword);
+        if (entry == null || entry.state != State.RUNNING) {
+            return;
+        }
+        running--;
+
+        if (collected == null) {
+            entry.dueAtMillis = nowMillis + crawlerProperties.getSchedule().getMinInterval();
+        } else {
+            entry.accept(collected);
+            entry.lastSuccessAtMillis = nowMillis;
+            entry.dueAtMillis = nowMillis + interval(entry);
+        }
+        entry.state = State.WAITING;
+        waiting.add(entry);
+    }
+
+    // 활동 구독자 수를 채우기 전에는 모든 키워드를 수집
+    private boolean hasActiveSubscribers(Entry entry) {
+        return !keywordActivityTracker.isLoaded() || keywordActivityTracker.demandFor(entry.keyword) > 0;
+    }
+
+    // 키워드 수집 간격(아직 조정 전이면 base-interval)을 구독자가 많을수록(log2) 줄임 (구독자가 없으면 max-interval)
+    private long interval(Entry entry) {
+        CrawlerProperties.Schedule schedule = crawlerProperties.getSchedule();
+        if (entry.subscribers <= 0) {
+            return schedule.getMaxInterval();
+        }
+
+        double subscriberFactor = Math.log(1 + entry.subscribers) / Math.log(2);
+        long crawlInterval = entry.crawlInterval != null ? entry.crawlInterval : schedule.getBaseInterval();
+        long interval = (long) (crawlInterval / subscriberFactor);
+        return Math.max(schedule.getMinInterval(), Math.min(schedule.getMaxInterval(), interval));
+    }
+
+    private double score(Entry entry, long nowMillis) {
+        double staleness = entry.lastSuccessAtMillis == null
+                ? NeverCrawledStaleness
+                : (double) (nowMillis - entry.lastSuccessAtMillis) / interval(entry);
+        return (1 + entry.subscribers) * (1 + yieldRatio(entry)) * staleness;
+    }
+
+    private static Long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : null;
+    }
+
+    private static double yieldRatio(Entry entry) {
+        return Math.min(1.0, entry.recentYield / PageSize);
+    }
+
+    private synchronized int count(State state) {
+        return switch (state) {
+            case WAITING -> waiting.size();
+            case READY -> ready.size();
+            case RUNNING -> running;
+            case REMOVED -> 0;
+        };
+    }
+
+    private enum State {
+        WAITING, READY, RUNNING, REMOVED
+    }
+
+    private static class Entry {
+        private final String keyword;
+        private State state;
+        private long subscribers;
+        // 키워드에 저장된 수집 간격 (아직 조정 전이면 null)
+        private Long crawlInterval;
+        // 플랫폼별 최근 수집당 새 뉴스 수 합
+        private double recentYield;
+        private Long lastSuccessAtMillis;
+        private long dueAtMillis;
+        private double score;
+
+        private Entry(String keyword) {
+            this.keyword = keyword;
+        }
+
+        private void accept(NewsKeyword newsKeyword) {
+            this.crawlInterval = newsKeyword.getCrawlInterval();
+            this.recentYield = newsKeyword.totalRecentYield();
+        }
+    }
+}
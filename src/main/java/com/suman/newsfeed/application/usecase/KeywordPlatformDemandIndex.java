@@ -0,0 +1,81 @@
+package com.suman.newsfeed.application.usecase;
+
+import com.suman.newsfeed.domain.user.UserKeywordRepository;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키워드별 수집 대상 플랫폼 색인
+ * 키워드를 활성 구독한 사용자가 구독한 뉴스 플랫폼만 수집 대상으로 두어, 아무에게도 보이지 않을 (키워드, 플랫폼) 크롤링을 하지 않습니다.
+ * 키워드·플랫폼 구독이 바뀔 때(도메인 이벤트)와 수집 일정 갱신 때마다 다시 읽으며, 동시에 여러 번 요청되면 한 번 더 읽는 것으로 합칩니다.
+ * 아직 읽지 못했으면 모든 플랫폼을 수집 대상으로 봅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordPlatformDemandIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeywordPlatformDemandIndex.class);
+
+    private final UserKeywordRepository userKeywordRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 키워드 텍스트 -> 수집 대상 플랫폼 (읽기 전이면 null)
+    private volatile Map<String, Set<NewsPlatform>> demandedPlatforms;
+    private final AtomicInteger work = new AtomicInteger();
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gauge("crawler.demand.pairs", this, index -> {
+            Map<String, Set<NewsPlatform>> current = index.demandedPlatforms;
+            return current != null ? current.values().stream().mapToInt(Set::size).sum() : 0;
+        });
+    }
+
+    /**
+     * 키워드의 수집 대상 플랫폼 (구독자가 원하는 플랫폼이 없으면 빈 집합)
+     */
+    public Set<NewsPlatform> platformsFor(String keyword) {
+        if (demandedPlatforms == null) {
+            refresh();
+        }
+
+        Map<String, Set<NewsPlatform>> current = demandedPlatforms;
+        if (current == null) {
+            return EnumSet.allOf(NewsPlatform.class);
+        }
+        return current.getOrDefault(keyword, Set.of());
+    }
+
+    /**
+     * 키워드·플랫폼 구독 정보를 다시 읽음 (다른 스레드가 읽는 중이면 그 스레드가 한 번 더 읽도록 표시만 함)
+     */
+    public void refresh() {
+        if (work.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            try {
+                Map<String, Set<NewsPlatform>> loaded = userKeywordRepository.findDemandedPlatformsByText();
+                demandedPlatforms = Collections.unmodifiableMap(loaded);
+                logger.info("키워드별 수집 대상 플랫폼 갱신 - 키워드 {}개", loaded.size());
+            } catch (Exception e) {
+                // 이전에 읽은 색인을 그대로 사용
+                logger.error("키워드별 수집 대상 플랫폼 갱신 실패: {}", e.getMessage(), e);
+            }
+            missed = work.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
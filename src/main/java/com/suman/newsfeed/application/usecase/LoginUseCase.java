@@ -19,6 +19,7 @@ public class LoginUseCase {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final KeywordActivityTracker keywordActivityTracker;
 
     public LoginResponse execute(LoginRequest request) {
         // 1. 사용자 조회
@@ -46,6 +47,8 @@ public class LoginUseCase {
         user.updateRefreshToken(refreshToken, newExpiresAt);
         userRepository.save(user);
 
+        //키워드별 활동 구독자 수 반영 (휴면 사용자의 키워드를 다시 수집 대상으로)
+        keywordActivityTracker.recordLogin(user);
 
         return new LoginResponse(
                 accessToken,
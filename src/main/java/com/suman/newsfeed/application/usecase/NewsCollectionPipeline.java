@@ -0,0 +1,324 @@
+package com.suman.newsfeed.application.usecase;
+
+import com.suman.newsfeed.domain.news.News;
+import com.suman.newsfeed.domain.news.NewsKeyword;
+import com.suman.newsfeed.domain.news.NewsRepository;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsDataDto;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsDataProvider;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 뉴스 수집 파이프라인 (crawler.pipeline)
+ * 플랫폼별 크롤링 결과 → 중복 제외(URL 정규화, 유사 기사 묶음 지정) → 묶음 저장 단계를 크기가 정해진 대기열로 연결합니다.
+ * 먼저 끝난 플랫폼의 뉴스는 느린 플랫폼을 기다리지 않고 저장되며, 뒤 단계가 밀려 대기열이 가득 차면 앞 단계가 기다립니다.
+ * 중복 제외·저장 단계는 파이프라인이 직접 만든 작업자 스레드(dedupe-workers, persist-workers개)에서 실행되어 공용 스레드 풀을 차지하지 않습니다.
+ * 단계별 처리 건수, 처리 시간, 대기열 길이는 crawler.pipeline.* 메트릭으로 확인할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsCollectionPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsCollectionPipeline.class);
+
+    private final NewsDataProvider newsDataProvider;
+    private final NewsRepository newsRepository;
+    private final CrawlerProperties crawlerProperties;
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<FetchedNews> dedupeQueue;
+    private BlockingQueue<PendingNews> persistQueue;
+    // 단계별 작업자 스레드 (종료 시 대기 중인 작업자를 깨우기 위해 보관)
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        CrawlerProperties.Pipeline pipeline = crawlerProperties.getPipeline();
+        dedupeQueue = new ArrayBlockingQueue<>(pipeline.getDedupeQueueCapacity());
+        persistQueue = new ArrayBlockingQueue<>(pipeline.getPersistQueueCapacity());
+        meterRegistry.gauge("crawler.pipeline.queue.depth", Tags.of("stage", "dedupe"), dedupeQueue, BlockingQueue::size);
+        meterRegistry.gauge("crawler.pipeline.queue.depth", Tags.of("stage", "persist"), persistQueue, BlockingQueue::size);
+
+        running = true;
+        for (int i = 0; i < pipeline.getDedupeWorkers(); i++) {
+            startWorker("news-dedupe-" + i, this::runDedupeStage);
+        }
+        for (int i = 0; i < pipeline.getPersistWorkers(); i++) {
+            startWorker("news-persist-" + i, this::runPersistStage);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 키워드 1건의 수집 시작 (close 전까지는 완료되지 않음)
+     */
+    public Run open(NewsKeyword newsKeyword) {
+        return new Run(newsKeyword);
+    }
+
+    /**
+     * 플랫폼 크롤링 결과 전달 (중복 제외 대기열이 가득 차면 자리가 날 때까지 대기)
+     */
+    public void submit(Run run, List<NewsDataDto> newsDataDtoList) {
+        if (newsDataDtoList == null || newsDataDtoList.isEmpty()) {
+            return;
+        }
+
+        meterRegistry.counter("crawler.pipeline.items", "stage", "fetch").increment(newsDataDtoList.size());
+        run.pending.incrementAndGet();
+        try {
+            dedupeQueue.put(new FetchedNews(run, newsDataDtoList));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.fail(e);
+            run.done(1);
+        }
+    }
+
+    /**
+     * 더 이상 전달할 크롤링 결과가 없음을 알림
+     * @return 전달된 뉴스가 모두 저장되면 완료 (중간에 실패가 있었으면 예외로 완료)
+     */
+    public CompletableFuture<Void> close(Run run) {
+        run.done(1);
+        return run.completion;
+    }
+
+    // 중복 제외 단계: 이미 저장된 기사를 빼고 도메인 뉴스로 변환해 저장 대기열로 전달
+    private void runDedupeStage() {
+        while (running) {
+            FetchedNews fetched;
+            try {
+                fetched = dedupeQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            Run run = fetched.run;
+            long startNanos = System.nanoTime();
+            List<NewsDataDto> unseenNewsList = List.of();
+            int queued = 0;
+            try {
+                unseenNewsList = newsDataProvider.filterUnseen(run.newsKeyword.getText(), fetched.newsDataDtoList);
+                meterRegistry.counter("crawler.pipeline.items", "stage", "dedupe").increment(unseenNewsList.size());
+
+                for (NewsDataDto newsDataDto : unseenNewsList) {
+                    News news = toNews(run.newsKeyword, newsDataDto);
+                    run.pending.incrementAndGet();
+                    persistQueue.put(new PendingNews(run, news));
+                    queued++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run.fail(e);
+                releaseUnqueued(run, unseenNewsList, queued);
+                // 저장 대기열에 넣지 못한 뉴스와 크롤링 결과 묶음 몫 반납
+                run.done(2);
+                return;
+            } catch (Exception e) {
+                logger.error("키워드 '{}' 중복 제외 중 오류 발생", run.newsKeyword.getText(), e);
+                run.fail(e);
+                releaseUnqueued(run, unseenNewsList, queued);
+            } finally {
+                recordStage("dedupe", startNanos);
+            }
+            run.done(1);
+        }
+    }
+
+    // 저장 단계: 대기열에서 최대 persist-batch-size개(최대 persist-linger 대기)를 모아 한 번에 저장
+    private void runPersistStage() {
+        CrawlerProperties.Pipeline pipeline = crawlerProperties.getPipeline();
+        List<PendingNews> batch = new ArrayList<>();
+        while (running) {
+            try {
+                batch.add(persistQueue.take());
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pipeline.getPersistLinger());
+                while (batch.size() < pipeline.getPersistBatchSize()) {
+                    persistQueue.drainTo(batch, pipeline.getPersistBatchSize() - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= pipeline.getPersistBatchSize() || remainingNanos <= 0) {
+                        break;
+                    }
+                    PendingNews next = persistQueue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                persist(batch);
+                return;
+            }
+
+            persist(batch);
+            batch.clear();
+        }
+    }
+
+    private void persist(List<PendingNews> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            newsRepository.saveAll(batch.stream().map(pendingNews -> pendingNews.news).toList());
+            meterRegistry.counter("crawler.pipeline.items", "stage", "persist").increment(batch.size());
+            batch.forEach(pendingNews -> pendingNews.run.persisted(pendingNews.news.getPlatform()));
+            // 저장된 뉴스만 이미 저장된 뉴스로 기록
+            urlsByKeyword(batch).forEach(newsDataProvider::markSeen);
+            logger.info("뉴스 {}건 저장 완료", batch.size());
+        } catch (Exception e) {
+            // 저장에 실패한 묶음에 포함된 키워드는 모두 실패 처리하고, 뉴스는 다음 수집에서 다시 받을 수 있게 함
+            logger.error("뉴스 {}건 저장 중 오류 발생", batch.size(), e);
+            batch.forEach(pendingNews -> pendingNews.run.fail(e));
+            urlsByKeyword(batch).forEach(newsDataProvider::releaseUnseen);
+        } finally {
+            recordStage("persist", startNanos);
+            batch.forEach(pendingNews -> pendingNews.run.done(1));
+        }
+    }
+
+    // 저장 대기열에 넣지 못한 새 뉴스는 다음 수집에서 다시 받을 수 있게 함
+    private void releaseUnqueued(Run run, List<NewsDataDto> unseenNewsList, int queued) {
+        if (queued < unseenNewsList.size()) {
+            newsDataProvider.releaseUnseen(run.newsKeyword.getText(),
+                    unseenNewsList.subList(queued, unseenNewsList.size()).stream().map(NewsDataDto::getUrl).toList());
+        }
+    }
+
+    private static Map<String, List<String>> urlsByKeyword(List<PendingNews> batch) {
+        Map<String, List<String>> urlsByKeyword = new HashMap<>();
+        batch.forEach(pendingNews -> urlsByKeyword
+                .computeIfAbsent(pendingNews.run.newsKeyword.getText(), ignored -> new ArrayList<>())
+                .add(pendingNews.news.getUrl()));
+        return urlsByKeyword;
+    }
+
+    private News toNews(NewsKeyword newsKeyword, NewsDataDto newsDataDto) {
+        News news = News.create(newsDataDto.getTitle(),
+                                newsDataDto.getContent(),
+                                newsDataDto.getDescription(),
+                                newsDataDto.getUrl(),
+                                newsKeyword,
+                                newsDataDto.getPlatform(),
+                                null);
+        news.setClusterId(newsDataDto.getClusterId());
+        return news;
+    }
+
+    private void recordStage(String stage, long startNanos) {
+        Timer.builder("crawler.pipeline.stage.duration")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void startWorker(String name, Runnable stage) {
+        Thread worker = new Thread(stage, name);
+        // 종료 시 애플리케이션 종료를 막지 않도록 데몬 스레드로 실행
+        worker.setDaemon(true);
+        workers.add(worker);
+        worker.start();
+    }
+
+    /**
+     * 키워드 1건의 수집 진행 상태 (전달된 크롤링 결과와 저장 대기 뉴스 수)
+     */
+    public static class Run {
+        private final NewsKeyword newsKeyword;
+        // close 전까지 1을 유지해 결과 전달 도중 완료되지 않도록 함
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        // 저장된 새 뉴스 수 (전체, 플랫폼별)
+        private final AtomicInteger persisted = new AtomicInteger();
+        private final Map<NewsPlatform, AtomicInteger> persistedByPlatform = new ConcurrentHashMap<>();
+        private volatile Throwable error;
+
+        private Run(NewsKeyword newsKeyword) {
+            this.newsKeyword = newsKeyword;
+        }
+
+        public int getPersistedCount() {
+            return persisted.get();
+        }
+
+        public int getPersistedCount(NewsPlatform platform) {
+            AtomicInteger count = persistedByPlatform.get(platform);
+            return count != null ? count.get() : 0;
+        }
+
+        private void persisted(NewsPlatform platform) {
+            persisted.incrementAndGet();
+            if (platform != null) {
+                persistedByPlatform.computeIfAbsent(platform, ignored -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+
+        // 첫 번째 오류만 보관
+        public void fail(Throwable throwable) {
+            if (error == null) {
+                error = throwable;
+            }
+        }
+
+        private void done(int count) {
+            if (pending.addAndGet(-count) == 0) {
+                if (error != null) {
+                    completion.completeExceptionally(error);
+                } else {
+                    completion.complete(null);
+                }
+            }
+        }
+    }
+
+    private static class FetchedNews {
+        private final Run run;
+        private final List<NewsDataDto> newsDataDtoList;
+
+        private FetchedNews(Run run, List<NewsDataDto> newsDataDtoList) {
+            this.run = run;
+            this.newsDataDtoList = newsDataDtoList;
+        }
+    }
+
+    private static class PendingNews {
+        private final Run run;
+        private final News news;
+
+        private PendingNews(Run run, News news) {
+            this.run = run;
+            this.news = news;
+        }
+    }
+}
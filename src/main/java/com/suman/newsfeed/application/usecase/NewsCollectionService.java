@@ -1,25 +1,36 @@
 package com.suman.newsfeed.application.usecase;
 
 
-import com.suman.newsfeed.domain.news.News;
+import com.suman.newsfeed.domain.news.CrawlCursor;
 import com.suman.newsfeed.domain.news.NewsKeyword;
 import com.suman.newsfeed.domain.news.NewsKeywordRepository;
-import com.suman.newsfeed.domain.news.NewsRepository;
 import com.suman.newsfeed.domain.user.*;
 
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import com.suman.newsfeed.infrastructure.external.crawler.CrawlOutcome;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsDataDto;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsDataProvider;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 
 
 @RequiredArgsConstructor
@@ -28,20 +39,48 @@ public class NewsCollectionService implements NewsCollectionUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(NewsCollectionService.class);
     private final NewsKeywordRepository newsKeywordRepository;
-    private final NewsRepository newsRepository;
     private final NewsDataProvider newsDataProvider;
-    private final Executor taskExecutor; // 스레드 풀 주입
+    private final NewsCollectionPipeline newsCollectionPipeline;
+    private final KeywordPlatformDemandIndex keywordPlatformDemandIndex;
+    private final KeywordActivityTracker keywordActivityTracker;
+    private final CrawlerProperties crawlerProperties;
+    private final MeterRegistry meterRegistry;
+    // 키워드 수집 흐름 조정용 풀 (크롤링은 crawlExecutor에서 실행되며, 이 풀의 스레드는 크롤링 결과를 기다리며 막히지 않음)
+    private final Executor taskExecutor;
     private static final int PageSize = 10;
+    // 한 번에 크롤러로 넘기는 키워드 수 (브라우저 1개의 탭으로 묶어서 처리)
+    private static final int KeywordBatchSize = 5;
+
+    private volatile CompletableFuture<Void> currentRun;
+    private volatile CollectionProgress currentProgress;
+
+    @PostConstruct
+    void init() {
+        // 진행 중이거나 마지막으로 끝난 전체 수집의 진행 상황
+        registerProgressGauge("total", CollectionProgress::getTotalKeywords);
+        registerProgressGauge("completed", CollectionProgress::getCompletedKeywords);
+        registerProgressGauge("failed", CollectionProgress::getFailedKeywords);
+        registerProgressGauge("skipped", CollectionProgress::getSkippedKeywords);
+        registerProgressGauge("in-flight", CollectionProgress::getInFlightKeywords);
+    }
 
+    /**
+     * 전체 키워드 수집 - 키워드를 DB에서 묶음(keyword-chunk-size) 단위로 읽으면서
+     * 동시에 수집 중인 키워드 묶음이 max-in-flight-batches개를 넘지 않도록 끝나는 만큼 다음 묶음을 시작합니다.
+     * 이전 수집이 아직 진행 중이면 새로 시작하지 않고 진행 중인 수집을 반환합니다. (동시에 요청돼도 한 번만 시작)
+     * 구독자가 모두 비활성이거나 휴면인 키워드는 건너뜁니다. (활동 구독자 수를 채운 뒤에만)
+     */
     @Override
-    public CompletableFuture<Void> collectNewsAll() {
+    public synchronized CompletableFuture<Void> collectNewsAll() {
         try {
-            //뉴스 키워드 조회
-            List<NewsKeyword> newsKeywordList = newsKeywordRepository.findAll();
-
-            logger.info("News Keyword List: {}", newsKeywordList);
+            if (isCollectingAll()) {
+                logger.warn("이전 뉴스 수집이 아직 진행 중입니다 - {}", currentProgress);
+                return currentRun;
+            }
 
-            Set<NewsKeyword> newsKeywords = new HashSet<>(newsKeywordList);
+            //뉴스 키워드 첫 묶음 조회
+            int chunkSize = crawlerProperties.getCollection().getKeywordChunkSize();
+            List<NewsKeyword> firstChunk = newsKeywordRepository.findChunkAfter(null, chunkSize);
 
             List<NewsPlatform> newsPlatformList = newsDataProvider.getSupportedPlatforms();
             if (newsPlatformList.isEmpty()) {
@@ -49,13 +88,18 @@ public class NewsCollectionService implements NewsCollectionUseCase {
                 return CompletableFuture.completedFuture(null);
             }
 
-            // 키워드별로 뉴스를 한 번만 수집
-            List<CompletableFuture<Void>> keywordFutures = newsKeywords.stream()
-                    .map(this::collectNewsForKeywordAsync)
-                    .toList();
+            CollectionProgress progress = new CollectionProgress(newsKeywordRepository.count());
+            currentProgress = progress;
+            logger.info("전체 뉴스 수집 시작 - 키워드 {}개", progress.getTotalKeywords());
 
-            return CompletableFuture.allOf(keywordFutures.toArray(new CompletableFuture[0]))
-                    .thenRun(() -> logger.info("모든 키워드에 대한 뉴스 수집 완료"));
+            KeywordFeeder feeder = new KeywordFeeder(firstChunk, chunkSize, newsPlatformList, progress);
+            currentRun = feeder.completion;
+            feeder.drain();
+
+            return feeder.completion.whenComplete((ignored, error) -> {
+                progress.finish();
+                logger.info("모든 키워드에 대한 뉴스 수집 완료 - {}", progress);
+            });
 
         } catch (Exception e) {
             logger.error("뉴스 수집 서비스 초기화 중 오류 발생", e);
@@ -63,6 +107,29 @@ public class NewsCollectionService implements NewsCollectionUseCase {
         }
     }
 
+    @Override
+    public boolean isCollectingAll() {
+        CompletableFuture<Void> running = currentRun;
+        return running != null && !running.isDone();
+    }
+
+    // 우선순위 스케줄러가 고른 키워드 묶음 수집
+    @Override
+    public CompletableFuture<Map<String, NewsKeyword>> collectNewsForKeywords(List<String> keywords) {
+        try {
+            List<NewsKeyword> newsKeywords = newsKeywordRepository.findAllByTexts(keywords);
+            List<NewsPlatform> newsPlatformList = newsDataProvider.getSupportedPlatforms();
+            if (newsKeywords.isEmpty() || newsPlatformList.isEmpty()) {
+                return CompletableFuture.completedFuture(Map.of());
+            }
+
+            return collectNewsForBatchAsync(newsKeywords, newsPlatformList, new CollectionProgress(newsKeywords.size()));
+        } catch (Exception e) {
+            logger.error("키워드 묶음 {} 수집 중 오류 발생", keywords, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     //키워드 구독시 즉시 뉴스 수집
     @Override
     public CompletableFuture<Void> collectNewsForKeyword(String keyword) {
@@ -75,9 +142,16 @@ public class NewsCollectionService implements NewsCollectionUseCase {
                 return CompletableFuture.completedFuture(null);
             }
 
-            logger.info("키워드 '{}'에 대한 뉴스 수집 시작", keyword);
+            // 키워드 구독자가 구독한 플랫폼만 수집
+            Set<NewsPlatform> platforms = keywordPlatformDemandIndex.platformsFor(keyword);
+            if (platforms.isEmpty()) {
+                logger.info("키워드 '{}'를 구독한 사용자의 구독 플랫폼이 없어 수집을 생략합니다.", keyword);
+                return CompletableFuture.completedFuture(null);
+            }
+
+            logger.info("키워드 '{}'에 대한 뉴스 수집 시작 - 대상 플랫폼: {}", keyword, platforms);
 
-            return collectNewsForKeywordAsync(newsKeyword);
+            return collectNewsForKeywordAsync(newsKeyword, platforms);
 
         } catch (Exception e) {
             logger.error("키워드 '{}'에 대한 뉴스 수집 중 오류 발생: {}", keyword, e.getMessage());
@@ -86,62 +160,373 @@ public class NewsCollectionService implements NewsCollectionUseCase {
     }
 
     // 공통 로직을 담은 비동기 뉴스 수집 메소드
-    private CompletableFuture<Void> collectNewsForKeywordAsync(NewsKeyword newsKeyword) {
-        return CompletableFuture.runAsync(() -> {
-            String text = newsKeyword.getText();
-            Long pageNumber = newsKeyword.getCollectedCount();
-
+    private CompletableFuture<Void> collectNewsForKeywordAsync(NewsKeyword newsKeyword, Set<NewsPlatform> platforms) {
+        String text = newsKeyword.getText();
+        return CompletableFuture.supplyAsync(() -> {
+            // 수집 대상 플랫폼별 수집 커서 (이전 실행에서 가져가지 않은 페이지부터, 첫 페이지는 워터마크까지만 수집)
+            Map<NewsPlatform, CrawlCursor> platformCursors = crawlTargets(newsKeyword, platforms);
 
             try {
-                logger.info("키워드 '{}' 뉴스 수집 시작 - 페이지 번호 {}번", text, pageNumber);
+                logger.info("키워드 '{}' 뉴스 수집 시작 - 플랫폼별 커서 {}", text, platformCursors);
+                return newsDataProvider.fetchNewsByKeyword(text, platformCursors, PageSize);
+            } catch (Exception e) {
+                logger.error("키워드 '{}' 처리 중 오류 발생", text, e);
+                throw new RuntimeException("뉴스 수집 실패", e);
+            }
+        }, taskExecutor).thenCompose(platformFutures -> {
+            NewsCollectionPipeline.Run run = newsCollectionPipeline.open(newsKeyword);
+
+            // 플랫폼별로 크롤링이 끝나는 대로 파이프라인에 전달 (느린 플랫폼을 기다리지 않음)
+            CompletableFuture<?>[] submitted = platformFutures.values().stream()
+                    .map(future -> future.thenAccept(outcome -> newsCollectionPipeline.submit(run, outcome.getNewsList())))
+                    .toArray(CompletableFuture[]::new);
+
+            return CompletableFuture.allOf(submitted)
+                    .handle((ignored, error) -> {
+                        if (error != null) {
+                            logger.error("키워드 '{}' 처리 중 오류 발생", text, error);
+                        }
+                        return closeAndUpdate(newsKeyword, run, demandedOf(newsDataProvider.getSupportedPlatforms(), platforms),
+                                () -> outcomesOf(platformFutures), error);
+                    })
+                    .thenCompose(Function.identity());
+        }).thenRun(() -> logger.info("키워드 '{}'에 대한 뉴스 수집 완료", text));
+    }
 
-                List<NewsDataDto> newsDataDtoList = newsDataProvider.fetchNewsByKeyword(text, pageNumber, PageSize);
 
-                if (newsDataDtoList.isEmpty()) {
-                    logger.info("키워드 '{}'에 대한 뉴스가 없습니다.", text);
-                    return;
-                }
+    // 키워드 묶음 비동기 뉴스 수집 (키워드별 저장 실패는 다른 키워드에 영향을 주지 않음, 성공한 키워드 반환)
+    private CompletableFuture<Map<String, NewsKeyword>> collectNewsForBatchAsync(List<NewsKeyword> batch, List<NewsPlatform> platforms, CollectionProgress progress) {
+        // 키워드마다 구독자가 구독한 플랫폼만 크롤링 (수집 대상 플랫폼이 없는 키워드는 크롤링 없이 성공 처리)
+        Map<String, NewsKeyword> collectedKeywords = new ConcurrentHashMap<>();
+        Map<String, List<NewsPlatform>> keywordPlatforms = new HashMap<>();
+        Map<String, Map<NewsPlatform, CrawlCursor>> keywordPages = new LinkedHashMap<>();
+        List<NewsKeyword> crawlBatch = new ArrayList<>();
+        for (NewsKeyword newsKeyword : batch) {
+            String text = newsKeyword.getText();
+            Set<NewsPlatform> demanded = keywordPlatformDemandIndex.platformsFor(text);
+            if (demanded.isEmpty()) {
+                logger.info("키워드 '{}'를 구독한 사용자의 구독 플랫폼이 없어 수집을 생략합니다.", text);
+                collectedKeywords.put(text, newsKeyword);
+                progress.succeeded(text);
+                continue;
+            }
+            crawlBatch.add(newsKeyword);
+            keywordPlatforms.put(text, demandedOf(platforms, demanded));
+            keywordPages.put(text, crawlTargets(newsKeyword, demanded));
+        }
 
-                updateNewsKeyword(newsKeyword);
-                createNews(newsKeyword,newsDataDtoList);
+        if (crawlBatch.isEmpty()) {
+            return CompletableFuture.completedFuture(collectedKeywords);
+        }
 
-                logger.info("키워드 '{}'에 대한 뉴스 수집 완료 - 뉴스 개수: {}", text, newsDataDtoList.size());
+        return CompletableFuture.supplyAsync(() -> {
+            logger.info("키워드 묶음 뉴스 수집 시작 - 키워드: {}", keywordPages.keySet());
 
+            try {
+                return newsDataProvider.fetchNewsByKeywords(keywordPages, PageSize);
             } catch (Exception e) {
-                logger.error("키워드 '{}' 처리 중 오류 발생", text, e);
+                logger.error("키워드 묶음 {} 처리 중 오류 발생", keywordPages.keySet(), e);
                 throw new RuntimeException("뉴스 수집 실패", e);
             }
+        }, taskExecutor).thenCompose(platformFutures -> {
+            Map<String, NewsCollectionPipeline.Run> runs = new LinkedHashMap<>();
+            crawlBatch.forEach(newsKeyword -> runs.put(newsKeyword.getText(), newsCollectionPipeline.open(newsKeyword)));
+
+            // 플랫폼별로 크롤링이 끝나는 대로 키워드별 파이프라인에 전달
+            CompletableFuture<?>[] submitted = platformFutures.values().stream()
+                    .map(future -> future.thenAccept(outcomeByKeyword -> outcomeByKeyword.forEach((keyword, outcome) -> {
+                        NewsCollectionPipeline.Run run = runs.get(keyword);
+                        if (run != null) {
+                            newsCollectionPipeline.submit(run, outcome.getNewsList());
+                        }
+                    })))
+                    .toArray(CompletableFuture[]::new);
+
+            return CompletableFuture.allOf(submitted)
+                    .handle((ignored, error) -> {
+                        List<CompletableFuture<Void>> keywordFutures = new ArrayList<>();
+                        for (NewsKeyword newsKeyword : crawlBatch) {
+                            String text = newsKeyword.getText();
+                            NewsCollectionPipeline.Run run = runs.get(text);
+                            Supplier<Map<NewsPlatform, CrawlOutcome>> crawled = () -> outcomesOf(platformFutures, text);
+
+                            keywordFutures.add(closeAndUpdate(newsKeyword, run, keywordPlatforms.get(text), crawled, error).handle((done, keywordError) -> {
+                                if (keywordError != null) {
+                                    logger.error("키워드 '{}' 처리 중 오류 발생", text, keywordError);
+                                    progress.failed(text);
+                                } else if (notCrawled(crawled.get())) {
+                                    // 성공한 수집으로 보지 않음 (우선순위 스케줄러는 마지막 성공 시각과 수집 간격을 그대로 두고 min-interval 후 다시 시도)
+                                    logger.warn("키워드 '{}' 크롤링하지 못함 (회로 열림 또는 크롤링 실패) - {}", text, crawled.get());
+                                    progress.failed(text);
+                                } else {
+                                    logger.info("키워드 '{}'에 대한 뉴스 수집 완료 - 새 뉴스 {}건, 수집 간격 {}ms",
+                                            text, run.getPersistedCount(), newsKeyword.getCrawlInterval());
+                                    collectedKeywords.put(text, newsKeyword);
+                                    progress.succeeded(text);
+                                }
+                                return null;
+                            }));
+                        }
+                        return CompletableFuture.allOf(keywordFutures.toArray(new CompletableFuture[0]))
+                                .thenApply(done -> collectedKeywords);
+                    })
+                    .thenCompose(Function.identity());
+        });
+    }
+
+    /**
+     * 파이프라인에 더 보낼 결과가 없음을 알리고, 중복 제외·저장이 끝나면 키워드 수집 상태(커서, 수율, 수집 간격) 저장
+     * 크롤링에 실패했으면 키워드를 저장하지 않고, 뉴스 저장에 실패했으면 커서만 반영합니다. (새 뉴스 수를 알 수 없음)
+     * 회로가 열려 건너뛰었거나 실패한 플랫폼은 커서, 수율, 수집 간격에 반영하지 않습니다.
+     * 키워드 저장은 크롤링·저장 스레드가 아닌 수집 흐름 풀에서 실행합니다.
+     */
+    private CompletableFuture<Void> closeAndUpdate(NewsKeyword newsKeyword, NewsCollectionPipeline.Run run, List<NewsPlatform> platforms,
+                                                   Supplier<Map<NewsPlatform, CrawlOutcome>> crawled, Throwable crawlError) {
+        if (crawlError != null) {
+            run.fail(crawlError);
+        }
+        return newsCollectionPipeline.close(run).handleAsync((ignored, persistError) -> {
+            if (crawlError == null) {
+                updateNewsKeyword(newsKeyword, platforms, crawled.get(), persistError == null ? run : null);
+            }
+            if (persistError != null) {
+                throw persistError instanceof CompletionException completionException
+                        ? completionException
+                        : new CompletionException(persistError);
+            }
+            return null;
         }, taskExecutor);
     }
 
+    // 수집 대상 플랫폼별 수집 커서 (커서가 없는 플랫폼은 첫 페이지)
+    private Map<NewsPlatform, CrawlCursor> crawlTargets(NewsKeyword newsKeyword, Set<NewsPlatform> platforms) {
+        Map<NewsPlatform, CrawlCursor> platformCursors = new EnumMap<>(NewsPlatform.class);
+        platforms.forEach(platform -> platformCursors.put(platform, newsKeyword.cursorFor(platform)));
+        return platformCursors;
+    }
 
-    @Transactional
-    protected void createNews(NewsKeyword newsKeyword, List<NewsDataDto> newsDataDtoList){
-        try{
+    // 활성화된 플랫폼 중 수집 대상 플랫폼 (커서·수율을 반영할 플랫폼)
+    private List<NewsPlatform> demandedOf(List<NewsPlatform> platforms, Set<NewsPlatform> demanded) {
+        return platforms.stream()
+                .filter(demanded::contains)
+                .toList();
+    }
 
-            logger.info("뉴스 데이터 {}", newsDataDtoList);
+    // 정상 완료된 플랫폼별 크롤링 결과
+    private Map<NewsPlatform, CrawlOutcome> outcomesOf(Map<NewsPlatform, CompletableFuture<CrawlOutcome>> platformFutures) {
+        Map<NewsPlatform, CrawlOutcome> outcomes = new EnumMap<>(NewsPlatform.class);
+        platformFutures.forEach((platform, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                outcomes.put(platform, future.join());
+            }
+        });
+        return outcomes;
+    }
 
-            newsDataDtoList.forEach(newsDataDto -> {
+    // 키워드 묶음 크롤링 결과 중 한 키워드의 정상 완료된 플랫폼별 결과
+    private Map<NewsPlatform, CrawlOutcome> outcomesOf(Map<NewsPlatform, CompletableFuture<Map<String, CrawlOutcome>>> platformFutures, String keyword) {
+        Map<NewsPlatform, CrawlOutcome> outcomes = new EnumMap<>(NewsPlatform.class);
+        platformFutures.forEach((platform, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                CrawlOutcome outcome = future.join().get(keyword);
+                if (outcome != null) {
+                    outcomes.put(platform, outcome);
+                }
+            }
+        });
+        return outcomes;
+    }
+
+    // 크롤링을 요청한 플랫폼이 모두 회로 열림으로 건너뛰었거나 실패했는지
+    private boolean notCrawled(Map<NewsPlatform, CrawlOutcome> outcomes) {
+        return !outcomes.isEmpty() && outcomes.values().stream().noneMatch(CrawlOutcome::isCrawled);
+    }
+
+    // 발행 시각이 가장 늦은 기사 (결과가 최신순이 아닐 수 있음), 발행 시각을 모르면 첫 결과
+    private NewsDataDto newestOf(List<NewsDataDto> newsList) {
+        return newsList.stream()
+                .filter(newsDataDto -> newsDataDto.getPublishedAt() != null)
+                .max(Comparator.comparing(NewsDataDto::getPublishedAt))
+                .orElse(newsList.isEmpty() ? null : newsList.get(0));
+    }
+
+    private void registerProgressGauge(String state, ToDoubleFunction<CollectionProgress> value) {
+        meterRegistry.gauge("crawler.collection.keywords", Tags.of("state", state), this, service -> {
+            CollectionProgress progress = service.currentProgress;
+            return progress != null ? value.applyAsDouble(progress) : 0;
+        });
+    }
+
+    /**
+     * 키워드 묶음 공급기 - 묶음이 끝날 때마다 다음 묶음을 시작하며, 버퍼가 비면 DB에서 다음 키워드를 읽습니다.
+     * 묶음 완료 콜백이 어느 스레드에서 오든 공급 반복은 한 스레드에서만 실행되며, 스레드를 막고 기다리지 않습니다.
+     */
+    private final class KeywordFeeder {
+        private final int chunkSize;
+        private final List<NewsPlatform> platforms;
+        private final CollectionProgress progress;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private final Deque<NewsKeyword> buffer;
+        private final AtomicInteger work = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private Long lastId;
+        private boolean exhausted;
+        private Exception loadError;
+
+        private KeywordFeeder(List<NewsKeyword> firstChunk, int chunkSize, List<NewsPlatform> platforms, CollectionProgress progress) {
+            this.chunkSize = chunkSize;
+            this.platforms = platforms;
+            this.progress = progress;
+            this.buffer = new ArrayDeque<>();
+            accept(firstChunk);
+        }
 
-                News news = News.create(newsDataDto.getTitle(),
-                                        newsDataDto.getContent(),
-                                        newsDataDto.getDescription(),
-                                        newsDataDto.getUrl(),
-                                        newsKeyword,
-                                        newsDataDto.getPlatform(),
-                                        null);
-                newsRepository.save(news);
+        private void drain() {
+            // 이미 다른 스레드가 공급 중이면 그 스레드가 한 번 더 반복하도록 표시만 함
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                int maxInFlight = crawlerProperties.getCollection().getMaxInFlightBatches();
+                while (inFlight.get() < maxInFlight) {
+                    List<NewsKeyword> batch = nextBatch();
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    inFlight.incrementAndGet();
+                    submit(batch);
+                }
+
+                if (exhausted && buffer.isEmpty() && inFlight.get() == 0) {
+                    if (loadError != null) {
+                        completion.completeExceptionally(loadError);
+                    } else {
+                        completion.complete(null);
+                    }
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void submit(List<NewsKeyword> batch) {
+            progress.submitted(batch.size());
+            CompletableFuture<Map<String, NewsKeyword>> batchFuture;
+            try {
+                batchFuture = collectNewsForBatchAsync(batch, platforms, progress);
+            } catch (Exception e) {
+                batchFuture = CompletableFuture.failedFuture(e);
+            }
+
+            batchFuture.whenComplete((ignored, error) -> {
+                // 키워드별 결과는 묶음 안에서 기록되며, 묶음 자체가 실패하면 아직 결과가 없는 키워드만 실패로 기록
+                if (error != null) {
+                    logger.error("키워드 묶음 수집 실패 - 키워드 {}개", batch.size(), error);
+                    batch.forEach(newsKeyword -> progress.failed(newsKeyword.getText()));
+                }
+                inFlight.decrementAndGet();
+                drain();
             });
         }
-        catch (Exception e){
-            logger.error("뉴스 데이터 생성 중 오류 발생", e);
+
+        // 버퍼에서 활동 구독자가 있는 키워드를 최대 KeywordBatchSize개 꺼냄 (꺼낸 키워드가 없는데 버퍼가 비면 DB에서 다음 키워드 묶음을 읽음)
+        private List<NewsKeyword> nextBatch() {
+            List<NewsKeyword> batch = new ArrayList<>(KeywordBatchSize);
+            while (batch.size() < KeywordBatchSize) {
+                if (batch.isEmpty()) {
+                    fill();
+                }
+                NewsKeyword newsKeyword = buffer.poll();
+                if (newsKeyword == null) {
+                    break;
+                }
+                if (keywordActivityTracker.isLoaded() && keywordActivityTracker.demandFor(newsKeyword.getText()) == 0) {
+                    progress.skipped();
+                    continue;
+                }
+                batch.add(newsKeyword);
+            }
+            return batch;
+        }
+
+        private void fill() {
+            if (buffer.isEmpty() && !exhausted) {
+                try {
+                    accept(newsKeywordRepository.findChunkAfter(lastId, chunkSize));
+                    logger.info("뉴스 수집 진행 - {}", progress);
+                } catch (Exception e) {
+                    // 남은 키워드는 다음 수집에서 처리
+                    logger.error("뉴스 키워드 조회 중 오류 발생 - 마지막 키워드 ID: {}", lastId, e);
+                    loadError = e;
+                    exhausted = true;
+                }
+            }
+        }
+
+        private void accept(List<NewsKeyword> chunk) {
+            buffer.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            if (chunk.size() < chunkSize) {
+                exhausted = true;
+            }
         }
     }
 
+    /**
+     * 플랫폼별 수집 커서(페이지, 워터마크) 반영 및 수집 횟수 증가, 새 뉴스도 커서 변경도 없으면 저장 생략
+     * 파이프라인 저장 결과가 있으면 플랫폼별 수율과 키워드 수집 간격도 함께 반영합니다. (우선순위 스케줄러가 사용)
+     * 크롤링하지 못한(건너뛰었거나 실패한) 플랫폼은 커서와 수율을 그대로 두고, 크롤링한 플랫폼이 없으면 수집 간격도 그대로 둡니다.
+     * @param outcomes 플랫폼별 크롤링 결과
+     * @param run 저장이 끝난 파이프라인 실행 (뉴스 저장에 실패했으면 null)
+     */
     @Transactional
-    protected  void updateNewsKeyword(NewsKeyword newsKeyword){
+    protected  void updateNewsKeyword(NewsKeyword newsKeyword, List<NewsPlatform> platforms, Map<NewsPlatform, CrawlOutcome> outcomes, NewsCollectionPipeline.Run run){
+        List<NewsPlatform> crawledPlatforms = platforms.stream()
+                .filter(platform -> outcomes.containsKey(platform) && outcomes.get(platform).isCrawled())
+                .toList();
+        if (crawledPlatforms.size() < platforms.size()) {
+            logger.info("키워드 '{}' 크롤링하지 못한 플랫폼은 수집 상태 반영 생략 - {}", newsKeyword.getText(), outcomes);
+        }
+
+        int maxPages = crawlerProperties.getCursor().getMaxPages();
+        boolean changed = false;
+        if (!crawledPlatforms.isEmpty()) {
+            newsKeyword.markCrawled(LocalDateTime.now());
+            changed = true;
+        }
+        for (NewsPlatform platform : crawledPlatforms) {
+            List<NewsDataDto> platformNews = outcomes.get(platform).getNewsList();
+            NewsDataDto newest = newestOf(platformNews);
+            changed |= newsKeyword.recordCrawl(platform, platformNews.size(), PageSize, maxPages,
+                    newest != null ? newest.getUrl() : null,
+                    newest != null ? newest.getPublishedAt() : null);
+        }
+
+        if (outcomes.values().stream().anyMatch(outcome -> !outcome.getNewsList().isEmpty())) {
+            newsKeyword.updateCount();
+            changed = true;
+        }
+
+        // 중복 제외 후 새 뉴스 수 기준 (크롤링 결과가 많아도 이미 본 기사뿐이면 수집 간격이 늘어남)
+        if (run != null && !crawledPlatforms.isEmpty()) {
+            CrawlerProperties.Schedule schedule = crawlerProperties.getSchedule();
+            for (NewsPlatform platform : crawledPlatforms) {
+                changed |= newsKeyword.recordYield(platform, run.getPersistedCount(platform), schedule.getYieldSmoothing());
+            }
+            changed |= newsKeyword.adaptCrawlInterval(run.getPersistedCount(), schedule.getTargetYield(),
+                    schedule.getBaseInterval(), schedule.getMinInterval(), schedule.getMaxInterval());
+        }
+
+        if (!changed) {
+            logger.info("뉴스 키워드 변경 없음 - 저장 생략 -> {}", newsKeyword.getText());
+            return;
+        }
+
         logger.info("뉴스 키워드 카운트 업데이트 -> {}",newsKeyword);
-        newsKeyword.updateCount();
         newsKeywordRepository.update(newsKeyword);
     }
 }
@@ -1,8 +1,17 @@
 package com.suman.newsfeed.application.usecase;
 
+import com.suman.newsfeed.domain.news.NewsKeyword;
+
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public interface NewsCollectionUseCase {
+    // 전체 키워드 수집 (백필 - NewsCollectionEndpoint에서 수동 실행)
     CompletableFuture<Void> collectNewsAll();
+    // 전체 키워드 수집이 진행 중인지
+    boolean isCollectingAll();
     CompletableFuture<Void> collectNewsForKeyword(String keyword);
+    // 키워드 묶음 수집 - 성공한 키워드별 수집 결과가 반영된 키워드 (수율, 수집 간격 / 실패한 키워드는 제외)
+    CompletableFuture<Map<String, NewsKeyword>> collectNewsForKeywords(List<String> keywords);
 }
@@ -61,7 +61,8 @@ public class PersonalizedNewsService implements PersonalizedNewsUseCase {
             Pageable pageable = PageRequest.of(page, size);
             List<News> personalizedNews = newsRepository.findWithKeywordByKeywordsAndPlatforms(filteredNewsKeywords, newsPlatforms, pageable);
 
-            List<PersonalizedNewsResponse> responses = personalizedNews.stream()
+            // 플랫폼/키워드만 다른 같은 기사는 묶음당 최신 1건만 노출 (조회 쿼리에서 묶음별 최신 1건만 가져오므로 페이지 크기가 유지됨)
+            List<PersonalizedNewsResponse> responses = representativesOf(personalizedNews).stream()
                     .map(this::convertToResponse)
                     .collect(Collectors.toList());
 
@@ -79,6 +80,15 @@ public class PersonalizedNewsService implements PersonalizedNewsUseCase {
     }
 
 
+    // 조회 순서(최신순)를 유지하며 묶음 ID별 첫 기사만 남김, 묶음 ID가 없는 기사는 모두 유지
+    // 쿼리에서 이미 묶음별 1건만 조회하므로 보통은 그대로 통과하며, 같은 묶음이 섞여 와도 한 번만 노출하기 위한 보호 장치
+    private List<News> representativesOf(List<News> newsList) {
+        Set<String> seenClusters = new HashSet<>();
+        return newsList.stream()
+                .filter(news -> news.getClusterId() == null || seenClusters.add(news.getClusterId()))
+                .collect(Collectors.toList());
+    }
+
     private PersonalizedNewsResponse convertToResponse(News news) {
 
         return PersonalizedNewsResponse.builder()
@@ -1,6 +1,9 @@
 package com.suman.newsfeed.config;
 
 
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -9,34 +12,68 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 비동기 실행용 스레드 풀
+ * 뉴스 수집은 단계별로 풀을 나눠, 한 풀의 스레드가 같은 풀에 넣은 작업을 기다리며 멈추지 않도록 합니다.
+ * (키워드 수집 흐름 → 크롤링, 크기는 crawler.thread-pools.* / 중복 제외·저장 단계는 수집 파이프라인의 작업자 스레드)
+ * 풀별 상태는 /actuator/metrics/executor.* (name 태그 = 빈 이름), 대기 시간과 거부 수는 crawler.executor.* 메트릭으로 확인할 수 있습니다.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    // 키워드 수집 흐름 조정 (크롤링 결과를 기다리며 스레드를 막지 않음)
     @Bean
     @Primary
-    public Executor taskExecutor() {
+    public Executor taskExecutor(CrawlerProperties crawlerProperties, MeterRegistry meterRegistry) {
+        return threadPool("taskExecutor", "news-collector-", crawlerProperties.getThreadPools().getOrchestration(), meterRegistry);
+    }
+
+    // 브라우저/HTTP 크롤링
+    @Bean("crawlExecutor")
+    public Executor crawlExecutor(CrawlerProperties crawlerProperties, MeterRegistry meterRegistry) {
+        return threadPool("crawlExecutor", "news-crawler-", crawlerProperties.getThreadPools().getCrawl(), meterRegistry);
+    }
+
+    @Bean("eventExecutor")
+    public TaskExecutor eventTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        // 메모리 최적화를 위해 스레드 풀 크기 조정
-        executor.setCorePoolSize(5);  // 크롤링 동시 실행 수 제한
-        executor.setMaxPoolSize(15);  // 최대 스레드 수 감소
-        executor.setQueueCapacity(50); // 대기열 크기 감소
-        executor.setThreadNamePrefix("news-collector-");
-        executor.setKeepAliveSeconds(60); // 유휴 스레드 생존 시간 설정
-        executor.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 작업 완료 대기
-        executor.setAwaitTerminationSeconds(30); // 종료 대기 시간
+        executor.setCorePoolSize(5);
+        executor.setMaxPoolSize(10);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("event-executor-");
         executor.initialize();
         return executor;
     }
 
-    @Bean("eventExecutor")
-    public TaskExecutor eventTaskExecutor() {
+    private ThreadPoolTaskExecutor threadPool(String name, String threadNamePrefix, CrawlerProperties.ThreadPool settings,
+                                              MeterRegistry meterRegistry) {
+        Timer waitTimer = Timer.builder("crawler.executor.wait").tag("name", name).register(meterRegistry);
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5); 
-        executor.setMaxPoolSize(10); 
-        executor.setQueueCapacity(50); 
-        executor.setThreadNamePrefix("event-executor-"); 
+        executor.setCorePoolSize(settings.getCoreSize());
+        executor.setMaxPoolSize(Math.max(settings.getMaxSize(), settings.getCoreSize()));
+        executor.setQueueCapacity(settings.getQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setKeepAliveSeconds(60); // 유휴 스레드 생존 시간 설정
+        executor.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 작업 완료 대기
+        executor.setAwaitTerminationSeconds(30); // 종료 대기 시간
+        // 작업이 대기열에서 실행되기까지 기다린 시간 기록
+        executor.setTaskDecorator(task -> {
+            long submittedNanos = System.nanoTime();
+            return () -> {
+                waitTimer.record(System.nanoTime() - submittedNanos, TimeUnit.NANOSECONDS);
+                task.run();
+            };
+        });
+        // 풀과 대기열이 가득 차면 거부 (호출한 쪽이 실패로 처리)
+        executor.setRejectedExecutionHandler((runnable, pool) -> {
+            meterRegistry.counter("crawler.executor.rejected", "name", name).increment();
+            new ThreadPoolExecutor.AbortPolicy().rejectedExecution(runnable, pool);
+        });
         executor.initialize();
         return executor;
     }
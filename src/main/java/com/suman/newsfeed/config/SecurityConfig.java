@@ -1,6 +1,7 @@
 package com.suman.newsfeed.config;
 
 import com.suman.newsfeed.infrastructure.security.JwtAuthenticationFilter;
+import com.suman.newsfeed.shared.UserRole;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -38,6 +39,8 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))  // JWT 사용시
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/users/register", "/api/users/login").permitAll()
+                        // 전체 키워드 수집(백필) 수동 실행은 관리자만
+                        .requestMatchers("/actuator/newscollection").hasAuthority(UserRole.ADMIN.getRole())
                         .anyRequest().authenticated()  // ✅ 이게 핵심!
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);;  // 모든 요청 허용 (개발 단계)
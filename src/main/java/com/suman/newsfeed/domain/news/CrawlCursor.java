@@ -0,0 +1,60 @@
+package com.suman.newsfeed.domain.news;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 키워드·플랫폼별 수집 커서
+ * 다음에 가져올 페이지와 첫 페이지 수집 시 기준이 되는 워터마크, 최근 수율(수집당 새 뉴스 수)을 함께 보관합니다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CrawlCursor {
+    //다음 수집 페이지 (1부터 시작)
+    private final long nextPage;
+    //마지막으로 본 최신 기사 (아직 수집 전이면 null)
+    private final CrawlWatermark watermark;
+    //수집당 중복 제외 후 새 뉴스 수 (지수 평균)
+    private final double recentYield;
+
+    public static CrawlCursor initial() {
+        return new CrawlCursor(1, null, 0);
+    }
+
+    public static CrawlCursor reconstruct(long nextPage, CrawlWatermark watermark) {
+        return new CrawlCursor(nextPage, watermark, 0);
+    }
+
+    public static CrawlCursor reconstruct(long nextPage, CrawlWatermark watermark, double recentYield) {
+        return new CrawlCursor(nextPage, watermark, recentYield);
+    }
+
+    public boolean isFirstPage() {
+        return nextPage <= 1;
+    }
+
+    /**
+     * 수집 결과 반영
+     * 한 페이지를 가득 채웠으면 다음 페이지로, 아니면 워터마크나 결과 끝에 도달한 것이므로 첫 페이지로 돌아갑니다.
+     * 가득 찬 페이지가 계속 이어져도 maxPages 페이지까지만 내려가고 첫 페이지로 돌아가 최신 기사부터 다시 확인합니다.
+     * 첫 페이지를 수집한 경우 가장 최신 기사로 워터마크를 갱신합니다.
+     */
+    public CrawlCursor next(int collected, int pageSize, int maxPages, CrawlWatermark newest) {
+        CrawlWatermark nextWatermark = isFirstPage() && newest != null ? newest : watermark;
+        boolean hasNextPage = collected >= pageSize && nextPage < maxPages;
+        return new CrawlCursor(hasNextPage ? nextPage + 1 : 1, nextWatermark, recentYield);
+    }
+
+    /**
+     * 중복 제외 후 저장된 새 뉴스 수를 최근 수율에 반영
+     * @param smoothing 이번 수집 결과의 비중 (0~1)
+     */
+    public CrawlCursor withYield(int newNewsCount, double smoothing) {
+        return new CrawlCursor(nextPage, watermark, smoothing * newNewsCount + (1 - smoothing) * recentYield);
+    }
+}
@@ -0,0 +1,55 @@
+package com.suman.newsfeed.domain.news;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 키워드·플랫폼별 수집 워터마크 (마지막으로 본 최신 기사)
+ * 최신순 검색 결과에서 이 기사와 같거나 더 오래된 기사는 이미 수집한 것으로 보고 건너뜁니다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CrawlWatermark {
+    //기사 URL의 SHA-256 해시
+    private final String urlHash;
+    //기사 발행 시각 (플랫폼이 제공하지 않으면 null)
+    private final LocalDateTime publishedAt;
+
+    public static CrawlWatermark of(String url, LocalDateTime publishedAt) {
+        return new CrawlWatermark(hash(url), publishedAt);
+    }
+
+    public static CrawlWatermark reconstruct(String urlHash, LocalDateTime publishedAt) {
+        return new CrawlWatermark(urlHash, publishedAt);
+    }
+
+    /**
+     * 이미 본 기사인지 확인 (같은 URL이거나, 두 발행 시각을 모두 알 때 워터마크보다 늦지 않은 기사)
+     */
+    public boolean isReachedBy(String url, LocalDateTime articlePublishedAt) {
+        if (url != null && urlHash.equals(hash(url))) {
+            return true;
+        }
+        return publishedAt != null && articlePublishedAt != null && !articlePublishedAt.isAfter(publishedAt);
+    }
+
+    private static String hash(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.trim().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -20,10 +20,12 @@ public class News extends BaseAggregate {
     private NewsPlatform platform;
     private String imageUrl;
     private NewsKeyword newsKeyword;
+    //유사 기사 묶음 ID (플랫폼 간 같은 기사는 같은 값, 피드에서 묶음당 하나만 노출)
+    private String clusterId;
     private LocalDateTime createdAt;
 
 
-    private News(Long id, String domainId, String title, String content, String description, String url, NewsKeyword newsKeyword, NewsPlatform platform, String imageUrl, LocalDateTime createdAt) {
+    private News(Long id, String domainId, String title, String content, String description, String url, NewsKeyword newsKeyword, NewsPlatform platform, String imageUrl, String clusterId, LocalDateTime createdAt) {
         super(domainId);
         this.id = id;
         this.title = title;
@@ -33,12 +35,13 @@ public class News extends BaseAggregate {
         this.newsKeyword = newsKeyword;
         this.platform = platform;
         this.imageUrl = imageUrl;
+        this.clusterId = clusterId;
         this.createdAt = createdAt;
     }
 
     public static News create(String title, String content, String description, String url, NewsKeyword newsKeyword, NewsPlatform platform, String imageUrl) {
         String domainId = UUID.randomUUID().toString();
-        News news = new News(null, domainId, title, content,description, url, newsKeyword,platform, imageUrl, LocalDateTime.now());
+        News news = new News(null, domainId, title, content,description, url, newsKeyword,platform, imageUrl, null, LocalDateTime.now());
         //도메인 이벤트 생성
         news.addDomainEvent(new NewsCreatedEvent(
                 domainId,
@@ -52,8 +55,8 @@ public class News extends BaseAggregate {
     }
 
     // 매퍼에서 사용
-    public static News reconstruct(Long id, String domainId, String title, String content,String description, String url,NewsKeyword newsKeyword, NewsPlatform platform, String imageUrl, LocalDateTime createdAt) {
-            return new News(id, domainId, title, content, description,url, newsKeyword, platform, imageUrl, createdAt);
+    public static News reconstruct(Long id, String domainId, String title, String content,String description, String url,NewsKeyword newsKeyword, NewsPlatform platform, String imageUrl, String clusterId, LocalDateTime createdAt) {
+            return new News(id, domainId, title, content, description,url, newsKeyword, platform, imageUrl, clusterId, createdAt);
     }
 
 }
@@ -3,8 +3,12 @@ package com.suman.newsfeed.domain.news;
 
 import com.suman.newsfeed.domain.news.event.NewsKeywordCreatedEvent;
 import com.suman.newsfeed.domain.shared.BaseAggregate;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Data
@@ -13,17 +17,32 @@ public class NewsKeyword extends BaseAggregate {
     private String text;
     //수집된 횟수
     private Long collectedCount;
+    //수집 간격 (ms, 수집당 새 뉴스 수에 따라 조정 / 아직 조정 전이면 null)
+    private Long crawlInterval;
+    //플랫폼별 수집 커서 (다음 페이지, 워터마크 / 없으면 첫 페이지)
+    private Map<NewsPlatform, CrawlCursor> platformCursors;
+    //마지막으로 크롤링에 성공한 시각 (어느 플랫폼이든 / 아직 없으면 null)
+    private LocalDateTime lastCrawledAt;
 
-    private NewsKeyword(Long id, String domainId, String text, Long collectedCount) {
+    // 새 뉴스 수에 따른 수집 간격 증감 배수
+    private static final int CrawlIntervalFactor = 2;
+
+    private NewsKeyword(Long id, String domainId, String text, Long collectedCount, Long crawlInterval, Map<NewsPlatform, CrawlCursor> platformCursors, LocalDateTime lastCrawledAt) {
         super(domainId);
         this.id = id;
         this.text = text;
         this.collectedCount = collectedCount;
+        this.crawlInterval = crawlInterval;
+        this.platformCursors = new EnumMap<>(NewsPlatform.class);
+        if (platformCursors != null) {
+            this.platformCursors.putAll(platformCursors);
+        }
+        this.lastCrawledAt = lastCrawledAt;
     }
 
     public static NewsKeyword create(String text) {
         String domainId = UUID.randomUUID().toString();
-        NewsKeyword newsKeyword = new NewsKeyword(null, domainId, text,1L);
+        NewsKeyword newsKeyword = new NewsKeyword(null, domainId, text,1L, null, null, null);
 
         System.out.println("뉴스 도메인 생성 -> : " + text);
         //도메인 이벤트 생성
@@ -32,11 +51,87 @@ public class NewsKeyword extends BaseAggregate {
 
     }
 
-    public static NewsKeyword reconstruct(Long id,String domainId, String text, Long collectedCount){
-        return new NewsKeyword(id,domainId,text,collectedCount);
+    public static NewsKeyword reconstruct(Long id,String domainId, String text, Long collectedCount, Map<NewsPlatform, CrawlCursor> platformCursors){
+        return new NewsKeyword(id,domainId,text,collectedCount,null,platformCursors,null);
+    }
+
+    public static NewsKeyword reconstruct(Long id,String domainId, String text, Long collectedCount, Long crawlInterval, Map<NewsPlatform, CrawlCursor> platformCursors){
+        return new NewsKeyword(id,domainId,text,collectedCount,crawlInterval,platformCursors,null);
+    }
+
+    public static NewsKeyword reconstruct(Long id,String domainId, String text, Long collectedCount, Long crawlInterval, Map<NewsPlatform, CrawlCursor> platformCursors, LocalDateTime lastCrawledAt){
+        return new NewsKeyword(id,domainId,text,collectedCount,crawlInterval,platformCursors,lastCrawledAt);
     }
 
     public void updateCount(){
         this.collectedCount = this.collectedCount + 1;
     }
+
+    // 크롤링 성공 시각 기록 (재시작 후 수집 일정을 이어가는 기준)
+    public void markCrawled(LocalDateTime crawledAt) {
+        this.lastCrawledAt = crawledAt;
+    }
+
+    public CrawlCursor cursorFor(NewsPlatform platform) {
+        return platformCursors.getOrDefault(platform, CrawlCursor.initial());
+    }
+
+    /**
+     * 플랫폼별 수집 결과를 커서에 반영
+     * @param maxPages 커서가 내려갈 수 있는 최대 페이지
+     * @param newestUrl 이번에 수집한 가장 최신 기사 URL (결과가 없으면 null)
+     * @return 커서가 바뀌었으면 true
+     */
+    public boolean recordCrawl(NewsPlatform platform, int collected, int pageSize, int maxPages, String newestUrl, LocalDateTime newestPublishedAt) {
+        CrawlCursor current = cursorFor(platform);
+        CrawlWatermark newest = newestUrl != null ? CrawlWatermark.of(newestUrl, newestPublishedAt) : null;
+        CrawlCursor next = current.next(collected, pageSize, maxPages, newest);
+        if (next.equals(current)) {
+            return false;
+        }
+        platformCursors.put(platform, next);
+        return true;
+    }
+
+    /**
+     * 플랫폼별 중복 제외 후 새 뉴스 수를 최근 수율에 반영
+     * @return 수율이 바뀌었으면 true
+     */
+    public boolean recordYield(NewsPlatform platform, int newNewsCount, double smoothing) {
+        CrawlCursor current = cursorFor(platform);
+        CrawlCursor next = current.withYield(newNewsCount, smoothing);
+        if (next.equals(current)) {
+            return false;
+        }
+        platformCursors.put(platform, next);
+        return true;
+    }
+
+    // 플랫폼별 최근 수율 합 (수집당 새 뉴스 수)
+    public double totalRecentYield() {
+        return platformCursors.values().stream().mapToDouble(CrawlCursor::getRecentYield).sum();
+    }
+
+    /**
+     * 이번 수집의 새 뉴스 수로 수집 간격 조정
+     * 목표 수 이상이면 간격을 절반으로, 새 뉴스가 없으면 두 배로 늘리고 그 사이면 유지합니다. (min ~ max 범위)
+     * @param initialInterval 아직 조정 전일 때 기준 간격
+     * @return 수집 간격이 바뀌었으면 true
+     */
+    public boolean adaptCrawlInterval(int newNewsCount, int targetNewsCount, long initialInterval, long minInterval, long maxInterval) {
+        long current = crawlInterval != null ? crawlInterval : initialInterval;
+        long next = current;
+        if (newNewsCount >= targetNewsCount) {
+            next = current / CrawlIntervalFactor;
+        } else if (newNewsCount == 0) {
+            next = current * CrawlIntervalFactor;
+        }
+        next = Math.max(minInterval, Math.min(maxInterval, next));
+
+        if (crawlInterval != null && crawlInterval == next) {
+            return false;
+        }
+        crawlInterval = next;
+        return true;
+    }
 }
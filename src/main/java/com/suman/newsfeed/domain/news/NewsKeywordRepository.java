@@ -1,5 +1,6 @@
 package com.suman.newsfeed.domain.news;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -8,6 +9,10 @@ public interface NewsKeywordRepository {
     List<String> findAllTextList();
     boolean existsByText(String text);
     List<NewsKeyword> findAll();
+    // id 순으로 afterId 다음부터 최대 size개 조회 (afterId가 null이면 처음부터)
+    List<NewsKeyword> findChunkAfter(Long afterId, int size);
+    long count();
+    List<NewsKeyword> findAllByTexts(Collection<String> texts);
     void update(NewsKeyword newsKeyword);
     NewsKeyword findByText(String text);
     void deleteAllByTexts(List<String> textList);
@@ -0,0 +1,25 @@
+package com.suman.newsfeed.domain.news;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 저장된 뉴스의 키워드 텍스트와 URL (중복 판별 필터 재구성용)
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class NewsKeywordUrl {
+    //뉴스 id (다음 묶음 조회 기준)
+    private final Long id;
+    private final String keyword;
+    private final String url;
+
+    public static NewsKeywordUrl of(Long id, String keyword, String url) {
+        return new NewsKeywordUrl(id, keyword, url);
+    }
+}
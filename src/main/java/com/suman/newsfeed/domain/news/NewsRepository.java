@@ -9,7 +9,11 @@ import java.util.Set;
 public interface NewsRepository {
 
     Long save(News news);
+    // 여러 뉴스를 한 트랜잭션으로 저장
+    void saveAll(List<News> newsList);
     List<News> findWithKeywordByKeywordsAndPlatforms(Set<NewsKeyword> keywords, Set<NewsPlatform> platforms, Pageable pageable);
+    // id 이후의 뉴스를 키워드 텍스트와 URL만 id 순으로 size개 조회 (afterId가 null이면 처음부터)
+    List<NewsKeywordUrl> findKeywordUrlsAfter(Long afterId, int size);
 
 
 }
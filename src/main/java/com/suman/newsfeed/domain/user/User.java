@@ -5,8 +5,10 @@ import com.suman.newsfeed.domain.shared.BaseAggregate;
 import com.suman.newsfeed.domain.user.event.UserKeywordActiveEvent;
 import com.suman.newsfeed.domain.user.event.UserKeywordAddedEvent;
 import com.suman.newsfeed.domain.user.event.UserKeywordRemovedEvent;
+import com.suman.newsfeed.domain.user.event.UserNewsPlatformChangedEvent;
 import com.suman.newsfeed.domain.user.event.UserRegisteredEvent;
 import com.suman.newsfeed.domain.userNewsFeed.UserNewsFeed;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
 import com.suman.newsfeed.shared.UserRole;
 import lombok.Data;
 
@@ -80,6 +82,24 @@ public class User extends BaseAggregate {
         return new User(id, domainId, email, password, nickname, userKeywords, userNewsPlatforms, refreshToken, refreshTokenExpiresAt);
     }
 
+    //매퍼에서 사용 (저장된 권한 복원)
+    public static User reconstruct(Long id,
+                                   String domainId,
+                                   String email,
+                                   String password,
+                                   String nickname,
+                                   UserRole role,
+                                   Set<UserKeyword> userKeywords,
+                                   Set<UserNewsPlatform> userNewsPlatforms,
+                                   String refreshToken,
+                                   LocalDateTime refreshTokenExpiresAt) {
+        User user = new User(id, domainId, email, password, nickname, userKeywords, userNewsPlatforms, refreshToken, refreshTokenExpiresAt);
+        if (role != null) {
+            user.role = role;
+        }
+        return user;
+    }
+
 
     // 키워드 생성
     public UserKeyword addKeyword(String text) {
@@ -133,7 +153,12 @@ public class User extends BaseAggregate {
         UserKeyword userKeyword = getKeywordById(keywordId);
         userKeyword.active();
         // 도메인 이벤트 생성
-        addDomainEvent(new UserKeywordActiveEvent(this.domainId, userKeyword.getText()));
+        addDomainEvent(new UserKeywordActiveEvent(this.domainId, userKeyword.getText(), userKeyword.getIsActive()));
+    }
+
+    // 뉴스 플랫폼 구독 변경 (저장은 UserNewsPlatformRepository에서 처리)
+    public void changeNewsPlatforms(List<NewsPlatform> addedPlatforms, List<NewsPlatform> removedPlatforms) {
+        addDomainEvent(new UserNewsPlatformChangedEvent(this.domainId, addedPlatforms, removedPlatforms));
     }
 
     // Refresh Token 만료 확인
@@ -1,6 +1,10 @@
 package com.suman.newsfeed.domain.user;
 
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
+
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface UserKeywordRepository {
     void save(UserKeyword userKeyword);
@@ -10,4 +14,8 @@ public interface UserKeywordRepository {
     List<UserKeyword> findAllByIsActiveTrue();
     void deleteAllByIds (List<Long> ids);
     List<UserKeyword> findByUserId(Long userId);
+    // 키워드 텍스트별 활성 구독자 수
+    Map<String, Long> countActiveSubscribersByText();
+    // 키워드 텍스트별 활성 구독자가 구독한 뉴스 플랫폼
+    Map<String, Set<NewsPlatform>> findDemandedPlatformsByText();
 }
@@ -7,9 +7,12 @@ import lombok.Getter;
 public class UserKeywordActiveEvent extends AbstractDomainEvent {
 
     private final String text;
+    // 변경 후 활성 여부
+    private final Boolean active;
 
-    public UserKeywordActiveEvent(String userDomainId, String text) {
+    public UserKeywordActiveEvent(String userDomainId, String text, Boolean active) {
         super(userDomainId);
         this.text = text;
+        this.active = active;
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.suman.newsfeed.domain.user.event;
+
+import com.suman.newsfeed.domain.shared.AbstractDomainEvent;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserNewsPlatformChangedEvent extends AbstractDomainEvent {
+
+    private final List<NewsPlatform> addedPlatforms;
+    private final List<NewsPlatform> removedPlatforms;
+
+    public UserNewsPlatformChangedEvent(String userDomainId, List<NewsPlatform> addedPlatforms, List<NewsPlatform> removedPlatforms) {
+        super(userDomainId);
+        this.addedPlatforms = addedPlatforms;
+        this.removedPlatforms = removedPlatforms;
+    }
+}
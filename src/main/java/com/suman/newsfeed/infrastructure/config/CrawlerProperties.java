@@ -0,0 +1,304 @@
+package com.suman.newsfeed.infrastructure.config;
+
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크롤러 공통 설정 (crawler.*)
+ * 플랫폼별 설정(naver/daum/google)과 달리 모든 CrawlerStrategy가 공유하는 자원에 대한 설정입니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "crawler")
+@Getter
+@Setter
+public class CrawlerProperties {
+
+    // 헤드리스 모드 (풀의 모든 브라우저에 공통 적용)
+    private Boolean headless = true;
+
+    private Pool pool = new Pool();
+
+    private Http http = new Http();
+
+    private Extraction extraction = new Extraction();
+
+    private Tabs tabs = new Tabs();
+
+    private Blocking blocking = new Blocking();
+
+    private Capture capture = new Capture();
+
+    private Dedup dedup = new Dedup();
+
+    private Clustering clustering = new Clustering();
+
+    private Replay replay = new Replay();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private SingleFlight singleFlight = new SingleFlight();
+
+    private ResultCache resultCache = new ResultCache();
+
+    private Pipeline pipeline = new Pipeline();
+
+    private ThreadPools threadPools = new ThreadPools();
+
+    private Collection collection = new Collection();
+
+    private Cursor cursor = new Cursor();
+
+    private Schedule schedule = new Schedule();
+
+    private Activity activity = new Activity();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        // 동시에 대여 가능한 최대 브라우저 수
+        private Integer size = 3;
+        // 애플리케이션 시작 시 미리 띄워둘 브라우저 수
+        private Integer warmUpSize = 1;
+        // 브라우저 1개당 최대 사용 횟수 (초과 시 폐기 후 재생성)
+        private Integer maxUses = 50;
+        // 브라우저 대여 대기 시간 (ms)
+        private Long borrowTimeout = 60000L;
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+        // 브라우저 없이 정적 HTML을 먼저 파싱할지 여부
+        private Boolean enabled = true;
+        // 연결 타임아웃 (ms)
+        private Long connectTimeout = 3000L;
+        // 요청 타임아웃 (ms)
+        private Long requestTimeout = 5000L;
+    }
+
+    @Getter
+    @Setter
+    public static class Extraction {
+        // 학습된 선택자 계획의 수율이 학습 시점 대비 이 비율 미만이면 재학습
+        private Double relearnYieldRatio = 0.5;
+        // 페이지 구조 진단 로그 (선택자별 매칭 수, 첫 컨테이너 HTML) - 문제 분석 시에만 사용
+        private Boolean debug = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Tabs {
+        // 브라우저 1개에서 동시에 여는 최대 탭 수 (키워드 묶음 크롤링)
+        private Integer maxPerBrowser = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Blocking {
+        // 이미지/폰트/미디어 및 광고·분석 도메인 요청 차단 여부
+        private Boolean enabled = true;
+        // 리소스 유형별 차단 URL 패턴 (CDP Network.setBlockedURLs 와일드카드 형식)
+        private List<String> resourcePatterns = new ArrayList<>(List.of(
+                "*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.svg*", "*.ico*",
+                "*.woff*", "*.ttf*", "*.otf*", "*.eot*",
+                "*.mp4*", "*.webm*", "*.mp3*", "*.m3u8*"));
+        // 모든 플랫폼 공통 광고·분석 도메인
+        private List<String> domainPatterns = new ArrayList<>(List.of(
+                "*doubleclick.net*", "*googlesyndication.com*", "*google-analytics.com*",
+                "*googletagmanager.com*", "*googleadservices.com*", "*facebook.net*"));
+        // 플랫폼별 추가 차단 도메인 (키: NAVER, DAUM, GOOGLE)
+        private Map<NewsPlatform, List<String>> platformDomainPatterns = new EnumMap<>(NewsPlatform.class);
+    }
+
+    @Getter
+    @Setter
+    public static class Capture {
+        // 검색 결과 XHR(JSON) 응답에서 우선 추출할지 여부 (매칭 응답이 없으면 DOM 파싱)
+        private Boolean enabled = true;
+        // 플랫폼별 검색 결과 JSON API URL 패턴 (키: NAVER, DAUM, GOOGLE / 비어 있으면 캡처하지 않음)
+        private Map<NewsPlatform, List<String>> urlPatterns = new EnumMap<>(NewsPlatform.class);
+    }
+
+    @Getter
+    @Setter
+    public static class Dedup {
+        // URL 정규화 후 이미 저장된 뉴스를 저장 전에 걸러낼지 여부
+        private Boolean enabled = true;
+        // 블룸 필터 예상 원소 수 (초과하면 오탐률이 올라가므로 저장 뉴스 규모에 맞게 설정)
+        private Integer expectedInsertions = 1_000_000;
+        // 블룸 필터 목표 오탐률 (오탐 시 새 기사가 중복으로 판단되어 누락됨)
+        private Double falsePositiveRate = 0.001;
+        // 기동 시 DB에서 필터를 다시 채울 때 한 번에 읽는 뉴스 수
+        private Integer rebuildChunkSize = 5000;
+        // 정규화 시 제거할 추적 파라미터 (끝이 *이면 접두어 매칭)
+        private List<String> trackingParams = new ArrayList<>(List.of(
+                "utm_*", "fbclid", "gclid", "dclid", "msclkid", "igshid", "mc_cid", "mc_eid",
+                "_ga", "ref", "ref_src", "referrer", "cmpid", "from", "spm", "ncid", "ocid"));
+    }
+
+    @Getter
+    @Setter
+    public static class Clustering {
+        // 제목/요약 MinHash로 플랫폼 간 유사 기사를 같은 묶음(cluster)으로 지정할지 여부
+        private Boolean enabled = true;
+        // 같은 기사로 판단할 추정 자카드 유사도 (0~1)
+        private Double similarityThreshold = 0.5;
+        // 비교 대상으로 유지할 최근 기사 시간 범위 (시간)
+        private Integer windowHours = 48;
+        // 인덱스에 유지할 최대 기사 수 (초과 시 오래된 기사부터 제거)
+        private Integer maxEntries = 100_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Replay {
+        // OFF: 사용 안 함, RECORD: 가져온 페이지를 디렉터리에 저장, REPLAY: 저장된 페이지를 로컬 HTTP 서버로 제공
+        private Mode mode = Mode.OFF;
+        // 페이지 저장 디렉터리
+        private String directory = "crawl-fixtures";
+        // REPLAY 모드 로컬 서버 포트 (검색 URL 템플릿을 http://127.0.0.1:{port}/... 로 지정)
+        private Integer port = 18080;
+
+        public enum Mode {
+            OFF, RECORD, REPLAY
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        // 플랫폼별 회로 차단 사용 여부
+        private Boolean enabled = true;
+        // 연속 예외 횟수가 이 값에 도달하면 회로 열림
+        private Integer failureThreshold = 3;
+        // 연속 수집 0건(워터마크로 설명되지 않는 빈 결과) 횟수가 이 값에 도달하면 회로 열림
+        private Integer zeroYieldThreshold = 5;
+        // 첫 번째 열림 유지 시간 (ms), 시험 크롤링이 실패할 때마다 2배씩 증가
+        private Long openDuration = 60000L;
+        // 열림 유지 시간 상한 (ms)
+        private Long maxOpenDuration = 1800000L;
+        // 반열림(half-open) 상태에서 동시에 허용할 시험 크롤링 수
+        private Integer halfOpenProbes = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class SingleFlight {
+        // 같은 키워드·플랫폼·커서의 동시 크롤링 요청을 하나로 합칠지 여부
+        private Boolean enabled = true;
+        // 크롤링 완료 후 같은 요청에 마지막 결과를 재사용하는 시간 (ms)
+        private Long reuseWindow = 30000L;
+    }
+
+    @Getter
+    @Setter
+    public static class ResultCache {
+        // (플랫폼, 키워드, 페이지)별 크롤링 결과 캐시 사용 여부
+        private Boolean enabled = true;
+        // 기본 유효 시간 (ms)
+        private Long ttl = 300000L;
+        // 플랫폼별 유효 시간 (키: NAVER, DAUM, GOOGLE / 없으면 ttl)
+        private Map<NewsPlatform, Long> platformTtl = new EnumMap<>(NewsPlatform.class);
+        // 유효 시간이 지난 뒤에도 이전 결과를 돌려주며 백그라운드에서 다시 크롤링하는 시간 (ms)
+        private Long staleWindow = 600000L;
+        // 캐시 최대 크기 (추정 바이트, 초과 시 오래 사용되지 않은 항목부터 제거)
+        private Long maxBytes = 32L * 1024 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Pipeline {
+        // 중복 제외 단계 대기열 크기 (플랫폼별 크롤링 결과 묶음 수, 가득 차면 크롤링 결과 전달이 대기)
+        private Integer dedupeQueueCapacity = 64;
+        // 저장 단계 대기열 크기 (뉴스 수, 가득 차면 중복 제외 단계가 대기)
+        private Integer persistQueueCapacity = 500;
+        // 한 번에 저장하는 최대 뉴스 수
+        private Integer persistBatchSize = 50;
+        // 저장 묶음을 채우기 위해 기다리는 최대 시간 (ms)
+        private Long persistLinger = 200L;
+        // 중복 제외·유사 기사 묶음 단계 작업자 스레드 수
+        private Integer dedupeWorkers = 2;
+        // 저장 단계 작업자 스레드 수
+        private Integer persistWorkers = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Collection {
+        // DB에서 한 번에 읽는 키워드 수
+        private Integer keywordChunkSize = 500;
+        // 동시에 수집 중인 키워드 묶음 최대 수 (끝나는 만큼 다음 묶음 시작)
+        private Integer maxInFlightBatches = 8;
+    }
+
+    @Getter
+    @Setter
+    public static class Cursor {
+        // 한 페이지를 가득 채워도 더 내려가지 않는 최대 페이지 (넘으면 첫 페이지부터 다시)
+        private Integer maxPages = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Schedule {
+        // 동시에 수집 중인 키워드 묶음 최대 수 (크롤링 예산)
+        private Integer concurrency = 4;
+        // 한 번에 꺼내 함께 수집하는 키워드 수
+        private Integer batchSize = 5;
+        // 수집 시각이 된 키워드 확인 주기 (ms)
+        private Long tick = 1000L;
+        // 키워드 목록과 활성 구독자 수 갱신 주기 (ms)
+        private Long refreshInterval = 300000L;
+        // 키워드별 수집 간격 초기값 (ms, 구독자 1명 기준)
+        private Long baseInterval = 3600000L;
+        // 수집 간격 하한/상한 (ms)
+        private Long minInterval = 600000L;
+        private Long maxInterval = 21600000L;
+        // 수집 간격을 줄이는 수집당 새 뉴스 수 (이 수 이상이면 절반, 새 뉴스가 없으면 두 배)
+        private Integer targetYield = 5;
+        // 플랫폼별 수율 평균에서 최근 수집 결과의 비중 (0~1)
+        private Double yieldSmoothing = 0.3;
+    }
+
+    @Getter
+    @Setter
+    public static class Activity {
+        // refresh token 만료 후 이 시간이 지나도록 로그인하지 않은 사용자는 휴면으로 보고 수집 수요에서 제외 (ms)
+        private Long dormantAfter = 2592000000L;
+    }
+
+    @Getter
+    @Setter
+    public static class ThreadPools {
+        // 키워드 수집 흐름 조정 (크롤링 요청 후 결과를 기다리지 않고 반환, 키워드 커서 저장)
+        private ThreadPool orchestration = new ThreadPool(4, 8, 100);
+        // 브라우저/HTTP 크롤링 (브라우저 풀 크기와 플랫폼별 동시 크롤링 수에 맞춤)
+        private ThreadPool crawl = new ThreadPool(6, 12, 100);
+    }
+
+    @Getter
+    @Setter
+    public static class ThreadPool {
+        private Integer coreSize;
+        private Integer maxSize;
+        // 대기열 크기 (0이면 대기열 없이 바로 실행하거나 거부)
+        private Integer queueCapacity;
+
+        public ThreadPool() {
+        }
+
+        public ThreadPool(Integer coreSize, Integer maxSize, Integer queueCapacity) {
+            this.coreSize = coreSize;
+            this.maxSize = maxSize;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
@@ -6,9 +6,11 @@ import com.suman.newsfeed.infrastructure.database.jpa.entities.NewsKeywordJpaEnt
 import com.suman.newsfeed.infrastructure.database.jpa.repositories.NewsKeywordJpaRepository;
 import com.suman.newsfeed.infrastructure.mappers.NewsKeywordMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -24,7 +26,10 @@ public class NewsKeywordRepositoryAdapter implements NewsKeywordRepository {
         NewsKeywordJpaEntity newsKeywordJpaEntity = new NewsKeywordJpaEntity(newsKeyword.getId(),
                                                                                 newsKeyword.getDomainId(),
                                                                                 newsKeyword.getText(),
-                                                                                newsKeyword.getCollectedCount());
+                                                                                newsKeyword.getCollectedCount(),
+                                                                                newsKeyword.getCrawlInterval(),
+                                                                                newsKeyword.getLastCrawledAt(),
+                                                                                newsKeyword.getPlatformCursors());
         newsKeywordJpaRepository.save(newsKeywordJpaEntity);
     }
 
@@ -44,6 +49,24 @@ public class NewsKeywordRepositoryAdapter implements NewsKeywordRepository {
         return newsKeywordMapper.toDomainList(newsKeywordJpaRepository.findAll());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<NewsKeyword> findChunkAfter(Long afterId, int size){
+        return newsKeywordMapper.toDomainList(newsKeywordJpaRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, PageRequest.of(0, size)));
+    }
+
+    @Override
+    public long count(){
+        return newsKeywordJpaRepository.count();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NewsKeyword> findAllByTexts(Collection<String> texts){
+        return newsKeywordMapper.toDomainList(newsKeywordJpaRepository.findAllByTextIn(texts));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<String> findAllTextList(){
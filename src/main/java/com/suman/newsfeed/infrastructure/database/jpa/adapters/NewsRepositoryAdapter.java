@@ -2,6 +2,7 @@ package com.suman.newsfeed.infrastructure.database.jpa.adapters;
 
 import com.suman.newsfeed.domain.news.News;
 import com.suman.newsfeed.domain.news.NewsKeyword;
+import com.suman.newsfeed.domain.news.NewsKeywordUrl;
 import com.suman.newsfeed.domain.news.NewsRepository;
 import com.suman.newsfeed.infrastructure.database.jpa.entities.NewsJpaEntity;
 import com.suman.newsfeed.infrastructure.database.jpa.entities.NewsKeywordJpaEntity;
@@ -14,8 +15,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.List;
@@ -36,6 +39,14 @@ public class NewsRepositoryAdapter implements NewsRepository {
         return newsJpaEntity.getId();
     }
 
+    @Override
+    @Transactional
+    public void saveAll(List<News> newsList) {
+        newsJpaRepository.saveAll(newsList.stream()
+                .map(newsMapper::toEntity)
+                .toList());
+    }
+
     @Override
     public List<News> findWithKeywordByKeywordsAndPlatforms(Set<NewsKeyword> keywords, Set<NewsPlatform> platforms, Pageable pageable) {
         logger.info("keywords {}", keywords);
@@ -57,5 +68,13 @@ public class NewsRepositoryAdapter implements NewsRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<NewsKeywordUrl> findKeywordUrlsAfter(Long afterId, int size) {
+        return newsJpaRepository.findKeywordUrlsAfter(afterId != null ? afterId : 0L, PageRequest.of(0, size)).stream()
+                .map(keywordUrl -> NewsKeywordUrl.of(keywordUrl.getId(), keywordUrl.getKeyword(), keywordUrl.getUrl()))
+                .toList();
+    }
+
 
 }
@@ -6,10 +6,17 @@ import com.suman.newsfeed.domain.user.UserRepository;
 import com.suman.newsfeed.infrastructure.database.jpa.entities.UserJpaEntity;
 import com.suman.newsfeed.infrastructure.database.jpa.entities.UserKeywordJpaEntity;
 import com.suman.newsfeed.infrastructure.database.jpa.repositories.UserKeywordJpaRepository;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
 import com.suman.newsfeed.infrastructure.mappers.UserKeywordMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Repository
@@ -63,4 +70,23 @@ public class UserKeywordRepositoryAdapter implements UserKeywordRepository {
     public List<UserKeyword> findByUserId(Long userId) {
         return userKeywordMapper.toDomainList(userKeywordJpaRepository.findByUserId(userId));
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> countActiveSubscribersByText() {
+        Map<String, Long> subscribers = new HashMap<>();
+        userKeywordJpaRepository.countActiveSubscribersByText()
+                .forEach(row -> subscribers.put(row.getText(), row.getSubscribers()));
+        return subscribers;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Set<NewsPlatform>> findDemandedPlatformsByText() {
+        Map<String, Set<NewsPlatform>> demandedPlatforms = new HashMap<>();
+        userKeywordJpaRepository.findDemandedPlatformsByText()
+                .forEach(row -> demandedPlatforms.computeIfAbsent(row.getText(), text -> EnumSet.noneOf(NewsPlatform.class))
+                        .add(row.getPlatform()));
+        return demandedPlatforms;
+    }
 }
@@ -0,0 +1,44 @@
+package com.suman.newsfeed.infrastructure.database.jpa.entities;
+
+import com.suman.newsfeed.domain.news.CrawlCursor;
+import com.suman.newsfeed.domain.news.CrawlWatermark;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 키워드·플랫폼별 수집 커서 (news_keyword_cursors 테이블 값)
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CrawlCursorEmbeddable {
+
+    @Column(name = "next_page")
+    private Long nextPage;
+
+    @Column(name = "last_url_hash", length = 64)
+    private String lastUrlHash;
+
+    @Column(name = "last_published_at")
+    private LocalDateTime lastPublishedAt;
+
+    @Column(name = "recent_yield")
+    private Double recentYield;
+
+    public CrawlCursorEmbeddable(CrawlCursor crawlCursor) {
+        this.nextPage = crawlCursor.getNextPage();
+        this.recentYield = crawlCursor.getRecentYield();
+        if (crawlCursor.getWatermark() != null) {
+            this.lastUrlHash = crawlCursor.getWatermark().getUrlHash();
+            this.lastPublishedAt = crawlCursor.getWatermark().getPublishedAt();
+        }
+    }
+
+    public CrawlCursor toDomain() {
+        CrawlWatermark watermark = lastUrlHash != null ? CrawlWatermark.reconstruct(lastUrlHash, lastPublishedAt) : null;
+        return CrawlCursor.reconstruct(nextPage != null ? nextPage : 1, watermark, recentYield != null ? recentYield : 0);
+    }
+}
@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = @Index(name = "idx_news_cluster_id", columnList = "cluster_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class NewsJpaEntity extends BaseEntity{
@@ -35,8 +35,12 @@ public class NewsJpaEntity extends BaseEntity{
     @Column(name = "image_url")
     private String imageUrl;
 
+    // 유사 기사 묶음 ID (플랫폼 간 같은 기사는 같은 값)
+    @Column(name = "cluster_id", length = 36)
+    private String clusterId;
 
-    public NewsJpaEntity(Long id, String domainId, String title, String content,String description, String url, NewsKeywordJpaEntity newsKeyword, NewsPlatform platform, String imageUrl) {
+
+    public NewsJpaEntity(Long id, String domainId, String title, String content,String description, String url, NewsKeywordJpaEntity newsKeyword, NewsPlatform platform, String imageUrl, String clusterId) {
         this.id = id;
         this.domainId = domainId;
         this.title = title;
@@ -46,5 +50,6 @@ public class NewsJpaEntity extends BaseEntity{
         this.url = url;
         this.platform = platform;
         this.imageUrl = imageUrl;
+        this.clusterId = clusterId;
     }
 }
@@ -1,13 +1,20 @@
 package com.suman.newsfeed.infrastructure.database.jpa.entities;
 
 
+import com.suman.newsfeed.domain.news.CrawlCursor;
 import com.suman.newsfeed.domain.news.NewsKeyword;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 @Entity
@@ -19,20 +26,46 @@ public class NewsKeywordJpaEntity extends BaseEntity {
     //수집된 횟수
     @Column(name = "collected_count")
     private Long collectedCount;
+    //수집 간격 (ms, 수집당 새 뉴스 수에 따라 조정)
+    @Column(name = "crawl_interval")
+    private Long crawlInterval;
+    //마지막으로 크롤링에 성공한 시각 (수집 우선순위 큐의 재시작 기준)
+    @Column(name = "last_crawled_at")
+    private LocalDateTime lastCrawledAt;
+
+    //플랫폼별 수집 커서 (다음 페이지, 워터마크)
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "news_keyword_cursors", joinColumns = @JoinColumn(name = "news_keyword_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "platform")
+    @BatchSize(size = 100)
+    private Map<NewsPlatform, CrawlCursorEmbeddable> platformCursors = new HashMap<>();
 
     @OneToMany(mappedBy = "newsKeyword", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<NewsJpaEntity> news = new HashSet<>();
 
 
-    public NewsKeywordJpaEntity(Long id, String domainId, String text, Long collectedCount) {
+    public NewsKeywordJpaEntity(Long id, String domainId, String text, Long collectedCount, Long crawlInterval, LocalDateTime lastCrawledAt, Map<NewsPlatform, CrawlCursor> platformCursors) {
         this.id = id;
         this.domainId = domainId;
         this.text = text;
         this.collectedCount = collectedCount;
+        this.crawlInterval = crawlInterval;
+        this.lastCrawledAt = lastCrawledAt;
+        platformCursors.forEach((platform, cursor) -> this.platformCursors.put(platform, new CrawlCursorEmbeddable(cursor)));
     }
 
     public void update(NewsKeyword newsKeyword){
         System.out.println("newsKeyword 카운트 수 " + newsKeyword.getCollectedCount());
         this.collectedCount = newsKeyword.getCollectedCount();
+        this.crawlInterval = newsKeyword.getCrawlInterval();
+        this.lastCrawledAt = newsKeyword.getLastCrawledAt();
+        newsKeyword.getPlatformCursors().forEach((platform, cursor) -> this.platformCursors.put(platform, new CrawlCursorEmbeddable(cursor)));
+    }
+
+    public Map<NewsPlatform, CrawlCursor> toCrawlCursors() {
+        Map<NewsPlatform, CrawlCursor> crawlCursors = new EnumMap<>(NewsPlatform.class);
+        platformCursors.forEach((platform, cursor) -> crawlCursors.put(platform, cursor.toDomain()));
+        return crawlCursors;
     }
 }
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 public interface NewsJpaRepository extends JpaRepository<NewsJpaEntity, Long> {
@@ -18,17 +20,64 @@ public interface NewsJpaRepository extends JpaRepository<NewsJpaEntity, Long> {
     /**
      * 키워드 집합과 플랫폼 집합에 모두 속하는 뉴스를
      * 생성일자 기준 내림차순으로 페이징하여 조회합니다.
+     * 유사 기사 묶음(cluster_id)은 조건에 맞는 기사 중 최신 1건만 조회하므로 페이지가 묶음 때문에 줄거나
+     * 같은 묶음이 다음 페이지에 다시 나오지 않습니다. (묶음 ID가 없는 뉴스는 모두 조회)
      * @param keywords 뉴스 키워드 엔티티 집합
      * @param platforms 뉴스 플랫폼 집합
      * @param pageable 페이징 정보
      * @return 페이징 처리된 뉴스 엔티티
      */
-    @Query("SELECT n FROM NewsJpaEntity n JOIN FETCH n.newsKeyword nk " +
+    @Query(value = "SELECT n FROM NewsJpaEntity n JOIN FETCH n.newsKeyword nk " +
             "WHERE nk IN :keywords AND n.platform IN :platforms " +
-            "ORDER BY n.createdAt DESC")
+            "AND (n.clusterId IS NULL OR NOT EXISTS (" +
+            "SELECT 1 FROM NewsJpaEntity m WHERE m.clusterId = n.clusterId " +
+            "AND m.newsKeyword IN :keywords AND m.platform IN :platforms " +
+            "AND (m.createdAt > n.createdAt OR (m.createdAt = n.createdAt AND m.id > n.id)))) " +
+            "ORDER BY n.createdAt DESC, n.id DESC",
+            countQuery = "SELECT COUNT(n) FROM NewsJpaEntity n " +
+            "WHERE n.newsKeyword IN :keywords AND n.platform IN :platforms " +
+            "AND (n.clusterId IS NULL OR NOT EXISTS (" +
+            "SELECT 1 FROM NewsJpaEntity m WHERE m.clusterId = n.clusterId " +
+            "AND m.newsKeyword IN :keywords AND m.platform IN :platforms " +
+            "AND (m.createdAt > n.createdAt OR (m.createdAt = n.createdAt AND m.id > n.id))))")
     Page<NewsJpaEntity> findWithKeywordByKeywordsAndPlatforms(
             @Param("keywords") Set<NewsKeywordJpaEntity> keywords,
             @Param("platforms") Set<NewsPlatform> platforms,
             Pageable pageable
     );
+
+    /**
+     * id 이후의 뉴스를 키워드 텍스트와 URL만 id 오름차순으로 조회합니다. (중복 판별 필터 재구성용)
+     * @param afterId 이전 묶음의 마지막 뉴스 id (처음에는 0)
+     * @param pageable 묶음 크기 (정렬은 무시)
+     * @return 키워드 텍스트와 URL 목록
+     */
+    @Query("SELECT n.id AS id, nk.text AS keyword, n.url AS url FROM NewsJpaEntity n JOIN n.newsKeyword nk " +
+            "WHERE n.id > :afterId ORDER BY n.id ASC")
+    List<KeywordUrl> findKeywordUrlsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 기준 시각 이후 생성된 뉴스를 id 이후부터 제목/요약/묶음 ID만 id 오름차순으로 조회합니다. (유사 기사 인덱스 재구성용)
+     * @param since 생성 시각 하한
+     * @param afterId 이전 묶음의 마지막 뉴스 id (처음에는 0)
+     * @param pageable 묶음 크기 (정렬은 무시)
+     * @return 제목, 요약, 묶음 ID, 생성 시각 목록
+     */
+    @Query("SELECT n.id AS id, n.title AS title, n.description AS description, n.clusterId AS clusterId, n.createdAt AS createdAt " +
+            "FROM NewsJpaEntity n WHERE n.createdAt >= :since AND n.id > :afterId ORDER BY n.id ASC")
+    List<StorySource> findStorySourcesSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId, Pageable pageable);
+
+    interface KeywordUrl {
+        Long getId();
+        String getKeyword();
+        String getUrl();
+    }
+
+    interface StorySource {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        String getClusterId();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -2,10 +2,16 @@ package com.suman.newsfeed.infrastructure.database.jpa.repositories;
 
 
 import com.suman.newsfeed.infrastructure.database.jpa.entities.NewsKeywordJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface NewsKeywordJpaRepository extends JpaRepository<NewsKeywordJpaEntity, Long> {
     boolean existsByText(String text);
     NewsKeywordJpaEntity findByText(String text);
     void deleteAllByTextIn(Iterable<String> texts);
+    List<NewsKeywordJpaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    List<NewsKeywordJpaEntity> findAllByTextIn(Collection<String> texts);
 }
@@ -1,7 +1,9 @@
 package com.suman.newsfeed.infrastructure.database.jpa.repositories;
 
 import com.suman.newsfeed.infrastructure.database.jpa.entities.UserKeywordJpaEntity;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -9,4 +11,31 @@ public interface UserKeywordJpaRepository extends JpaRepository<UserKeywordJpaEn
 
     List<UserKeywordJpaEntity> findAllByIsActiveTrue();
     List<UserKeywordJpaEntity> findByUserId(Long userId);
+
+    /**
+     * 키워드 텍스트별 활성 구독자 수를 조회합니다. (수집 우선순위 계산용)
+     * @return 키워드 텍스트와 활성 구독자 수 목록
+     */
+    @Query("SELECT k.text AS text, COUNT(k) AS subscribers FROM UserKeywordJpaEntity k " +
+            "WHERE k.isActive = true GROUP BY k.text")
+    List<KeywordSubscribers> countActiveSubscribersByText();
+
+    /**
+     * 키워드 텍스트별로 활성 구독자가 구독한 뉴스 플랫폼을 조회합니다. (플랫폼별 수집 대상 결정용)
+     * @return 키워드 텍스트와 플랫폼 쌍 목록 (중복 없음)
+     */
+    @Query("SELECT DISTINCT k.text AS text, p.newsPlatform AS platform " +
+            "FROM UserKeywordJpaEntity k, UserNewsPlatformEntity p " +
+            "WHERE p.user = k.user AND k.isActive = true")
+    List<KeywordPlatform> findDemandedPlatformsByText();
+
+    interface KeywordSubscribers {
+        String getText();
+        Long getSubscribers();
+    }
+
+    interface KeywordPlatform {
+        String getText();
+        NewsPlatform getPlatform();
+    }
 }
@@ -0,0 +1,89 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.domain.news.CrawlWatermark;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포털 검색 결과 페이지 크롤링 전략의 공통 흐름
+ * 브라우저 없이 정적 HTML을 먼저 파싱하고, 결과가 요청 개수보다 적으면서 워터마크에도 도달하지 않은 경우에만 브라우저(Selenium)를 사용합니다.
+ * 플랫폼별 전략은 정적 파싱과 브라우저 크롤링(단건, 키워드 묶음의 여러 탭)만 구현합니다.
+ */
+public abstract class AbstractSearchCrawlerStrategy implements CrawlerStrategy {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractSearchCrawlerStrategy.class);
+
+    @Override
+    public List<NewsDataDto> crawlNews(String keyword, Long pageNumber, int pageSize) {
+        return crawlNews(keyword, pageNumber, pageSize, null);
+    }
+
+    @Override
+    public List<NewsDataDto> crawlNews(String keyword, Long pageNumber, int pageSize, CrawlWatermark watermark) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            logger.warn("키워드가 비어있습니다.");
+            return new ArrayList<>();
+        }
+
+        // 1. 브라우저 없이 정적 HTML 파싱 시도 (워터마크 이후의 이미 본 기사는 제외)
+        List<NewsDataDto> parsedNewsList = crawlWithHttp(keyword, pageNumber, pageSize);
+        List<NewsDataDto> staticNewsList = CrawlerStrategy.newerThan(parsedNewsList, watermark);
+        if (staticNewsList.size() >= pageSize || staticNewsList.size() < parsedNewsList.size()) {
+            return staticNewsList;
+        }
+
+        // 2. 정적 파싱 결과가 요청 개수보다 적고 워터마크에도 도달하지 않은 경우에만 Selenium 사용
+        List<NewsDataDto> newsList = CrawlerStrategy.newerThan(crawlWithSelenium(keyword, pageNumber, pageSize), watermark);
+        return newsList.size() >= staticNewsList.size() ? newsList : staticNewsList;
+    }
+
+    @Override
+    public Map<String, List<NewsDataDto>> crawlNewsBatch(Map<String, Long> keywordPages, Map<String, CrawlWatermark> watermarks, int pageSize) {
+        Map<String, List<NewsDataDto>> results = new LinkedHashMap<>();
+        Map<String, Long> seleniumPages = new LinkedHashMap<>();
+
+        // 1. 키워드별 정적 HTML 파싱, 결과가 부족하고 워터마크에 도달하지 않은 키워드만 브라우저 탭 대상으로 모음
+        keywordPages.forEach((keyword, pageNumber) -> {
+            if (keyword == null || keyword.trim().isEmpty()) {
+                return;
+            }
+            List<NewsDataDto> parsedNewsList = crawlWithHttp(keyword, pageNumber, pageSize);
+            List<NewsDataDto> staticNewsList = CrawlerStrategy.newerThan(parsedNewsList, watermarks.get(keyword));
+            results.put(keyword, staticNewsList);
+            if (staticNewsList.size() < pageSize && staticNewsList.size() == parsedNewsList.size()) {
+                seleniumPages.put(keyword, pageNumber);
+            }
+        });
+
+        // 2. 부족한 키워드들은 한 브라우저의 여러 탭에서 동시에 크롤링
+        if (!seleniumPages.isEmpty()) {
+            crawlWithSeleniumTabs(seleniumPages, pageSize).forEach((keyword, newsList) ->
+                    results.merge(keyword, CrawlerStrategy.newerThan(newsList, watermarks.get(keyword)),
+                            (staticNewsList, tabNewsList) -> tabNewsList.size() >= staticNewsList.size() ? tabNewsList : staticNewsList));
+        }
+
+        return results;
+    }
+
+    /**
+     * 브라우저 없이 HTTP 요청 + Jsoup 파싱으로 크롤링 (실패하거나 사용하지 않으면 빈 목록)
+     */
+    protected abstract List<NewsDataDto> crawlWithHttp(String keyword, Long pageNumber, int pageSize);
+
+    /**
+     * Selenium(브라우저)을 사용한 크롤링 (실패하면 빈 목록)
+     */
+    protected abstract List<NewsDataDto> crawlWithSelenium(String keyword, Long pageNumber, int pageSize);
+
+    /**
+     * 키워드 묶음을 한 브라우저의 여러 탭에서 동시에 크롤링
+     * @param keywordPages 키워드별 페이지 번호 (1부터 시작)
+     * @return 키워드별 수집 결과 (실패한 키워드는 빠질 수 있음)
+     */
+    protected abstract Map<String, List<NewsDataDto>> crawlWithSeleniumTabs(Map<String, Long> keywordPages, int pageSize);
+}
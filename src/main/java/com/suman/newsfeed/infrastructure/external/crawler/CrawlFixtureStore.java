@@ -0,0 +1,94 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 크롤링 페이지 기록 저장소 (crawler.replay)
+ * RECORD 모드에서 가져온 검색 결과 HTML(정적/렌더링)과 검색 결과 XHR JSON을 디렉터리에 저장하고,
+ * REPLAY 모드에서 CrawlReplayServer가 같은 경로+쿼리 요청에 저장된 본문을 돌려줄 수 있도록 찾아줍니다.
+ * 파일 이름은 URL의 경로+쿼리 해시이므로 호스트만 로컬 서버로 바꾼 URL도 같은 기록을 찾습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlFixtureStore {
+
+    public static final String HTML = "html";
+    public static final String JSON = "json";
+
+    private static final String INDEX_FILE = "index.tsv";
+
+    private final CrawlerProperties crawlerProperties;
+
+    public boolean isRecording() {
+        return crawlerProperties.getReplay().getMode() == CrawlerProperties.Replay.Mode.RECORD;
+    }
+
+    /**
+     * 페이지 본문 저장 (RECORD 모드에서만, 같은 URL은 마지막 기록으로 덮어씀)
+     * @param extension HTML 또는 JSON
+     */
+    public void record(String url, String body, String extension) {
+        if (!isRecording() || url == null || body == null) {
+            return;
+        }
+
+        try {
+            Path directory = directory();
+            Files.createDirectories(directory);
+            String key = keyOf(URI.create(url).getRawPath(), URI.create(url).getRawQuery());
+            Files.writeString(directory.resolve(key + "." + extension), body, StandardCharsets.UTF_8);
+            // 사람이 확인할 수 있도록 키와 원본 URL 기록
+            Files.writeString(directory.resolve(INDEX_FILE), key + "\t" + extension + "\t" + url + System.lineSeparator(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.debug("크롤링 페이지 기록 - {} ({})", url, extension);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("크롤링 페이지 기록 실패 - URL: {}, 오류: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * 경로+쿼리에 해당하는 기록 파일 (HTML 우선)
+     */
+    public Optional<Path> find(String rawPath, String rawQuery) {
+        String key = keyOf(rawPath, rawQuery);
+        for (String extension : List.of(HTML, JSON)) {
+            Path file = directory().resolve(key + "." + extension);
+            if (Files.isRegularFile(file)) {
+                return Optional.of(file);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Path directory() {
+        return Paths.get(crawlerProperties.getReplay().getDirectory());
+    }
+
+    private String keyOf(String rawPath, String rawQuery) {
+        String pathAndQuery = (rawPath == null || rawPath.isEmpty() ? "/" : rawPath)
+                + (rawQuery == null ? "" : "?" + rawQuery);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(pathAndQuery.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
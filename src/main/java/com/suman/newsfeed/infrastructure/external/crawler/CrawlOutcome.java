@@ -0,0 +1,43 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 키워드·플랫폼별 크롤링 결과
+ * 회로가 열려 크롤링을 건너뛰었거나 크롤링에 실패한 경우를 새 기사가 없는 정상 결과(0건)와 구분합니다.
+ * 크롤링하지 못한 플랫폼은 수집 커서, 수율, 수집 간격에 반영하지 않습니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CrawlOutcome {
+
+    public enum Status {
+        CRAWLED, SKIPPED, FAILED
+    }
+
+    private final Status status;
+    //수집한 뉴스 (크롤링하지 못했으면 빈 목록)
+    private final List<NewsDataDto> newsList;
+
+    public static CrawlOutcome crawled(List<NewsDataDto> newsList) {
+        return new CrawlOutcome(Status.CRAWLED, newsList);
+    }
+
+    public static CrawlOutcome skipped() {
+        return new CrawlOutcome(Status.SKIPPED, List.of());
+    }
+
+    public static CrawlOutcome failed() {
+        return new CrawlOutcome(Status.FAILED, List.of());
+    }
+
+    public boolean isCrawled() {
+        return status == Status.CRAWLED;
+    }
+}
@@ -0,0 +1,96 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 기록된 크롤링 페이지를 제공하는 로컬 HTTP 서버 (crawler.replay.mode=REPLAY)
+ * 검색 URL 템플릿(naver.news.search-url 등)을 이 서버 주소로 바꾸면 포털에 접속하지 않고
+ * 같은 페이지로 크롤링/파싱을 반복할 수 있어, 네트워크 없는 환경에서 처리량과 파싱 지연을 일정하게 측정할 수 있습니다.
+ * 기록이 없는 경로는 404로 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlReplayServer {
+
+    private final CrawlerProperties crawlerProperties;
+    private final CrawlFixtureStore crawlFixtureStore;
+    private final MeterRegistry meterRegistry;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() throws IOException {
+        if (crawlerProperties.getReplay().getMode() == CrawlerProperties.Replay.Mode.REPLAY) {
+            start(crawlerProperties.getReplay().getPort());
+        }
+    }
+
+    /**
+     * 서버 시작 (0이면 임의 포트)
+     */
+    public synchronized void start(int port) throws IOException {
+        if (server != null) {
+            return;
+        }
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/", this::handle);
+        executor = Executors.newFixedThreadPool(4);
+        server.setExecutor(executor);
+        server.start();
+        log.info("크롤링 재생 서버 시작 - http://127.0.0.1:{} (기록 디렉터리: {})", getPort(), crawlerProperties.getReplay().getDirectory());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    public int getPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Optional<Path> fixture = crawlFixtureStore.find(exchange.getRequestURI().getRawPath(), exchange.getRequestURI().getRawQuery());
+            meterRegistry.counter("crawler.replay.requests", "result", fixture.isPresent() ? "hit" : "miss").increment();
+
+            if (fixture.isEmpty()) {
+                log.debug("기록 없음 - {}", exchange.getRequestURI());
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] body = Files.readAllBytes(fixture.get());
+            String contentType = fixture.get().toString().endsWith("." + CrawlFixtureStore.JSON)
+                    ? "application/json; charset=UTF-8" : "text/html; charset=UTF-8";
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤링 결과 캐시 (crawler.result-cache)
+ * 인기 키워드는 구독이 몰릴 때마다 같은 페이지를 다시 크롤링하므로, (플랫폼, 정규화 키워드, 페이지)별 결과를 짧게 보관합니다.
+ * 유효 시간(플랫폼별 ttl)이 지나도 stale-window 동안은 이전 결과를 바로 돌려주고, 첫 조회 요청에게만 다시 크롤링하도록 알립니다.
+ * 크기는 결과 문자열 길이로 추정한 바이트 기준으로 제한하며, 초과하면 오래 사용되지 않은 항목부터 제거합니다.
+ * 회로 열림이나 실패로 비어 있는 결과는 저장하지 않도록 호출하는 쪽에서 정상 크롤링 결과만 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CrawlResultCache {
+
+    // 항목/뉴스당 고정 비용 추정치 (객체 헤더, 참조 등)
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+    private static final long NEWS_OVERHEAD_BYTES = 96;
+
+    private final CrawlerProperties crawlerProperties;
+    private final MeterRegistry meterRegistry;
+
+    // 접근 순서 유지 (가장 오래 사용되지 않은 항목이 맨 앞)
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private Counter hitCounter;
+    private Counter staleCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void init() {
+        hitCounter = meterRegistry.counter("crawler.cache.requests", "result", "hit");
+        staleCounter = meterRegistry.counter("crawler.cache.requests", "result", "stale");
+        missCounter = meterRegistry.counter("crawler.cache.requests", "result", "miss");
+        meterRegistry.gauge("crawler.cache.size.bytes", this, cache -> cache.sizeInBytes());
+        meterRegistry.gauge("crawler.cache.hit.ratio", this, cache -> cache.hitRatio());
+    }
+
+    /**
+     * 캐시된 결과 조회 (없거나 stale-window까지 지났으면 empty)
+     */
+    public Optional<CachedResult> get(NewsPlatform platform, String keyword, long page) {
+        if (!crawlerProperties.getResultCache().getEnabled()) {
+            return Optional.empty();
+        }
+
+        Key key = new Key(platform, keyword, page);
+        long now = System.nanoTime();
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null || now - entry.storedAtNanos >= ttlNanos(platform) + staleWindowNanos()) {
+                if (entry != null) {
+                    remove(key);
+                }
+                missCounter.increment();
+                return Optional.empty();
+            }
+
+            if (now - entry.storedAtNanos < ttlNanos(platform)) {
+                hitCounter.increment();
+                return Optional.of(new CachedResult(entry.newsList, false, false));
+            }
+
+            // 유효 시간이 지난 결과 - 첫 조회 요청만 다시 크롤링
+            staleCounter.increment();
+            boolean refreshNeeded = !entry.refreshing;
+            entry.refreshing = true;
+            return Optional.of(new CachedResult(entry.newsList, true, refreshNeeded));
+        }
+    }
+
+    /**
+     * 정상 크롤링 결과 저장 (워터마크 이후 새 기사가 없는 빈 결과 포함, 최대 크기보다 큰 결과는 저장하지 않음)
+     */
+    public void put(NewsPlatform platform, String keyword, long page, List<NewsDataDto> newsList) {
+        if (!crawlerProperties.getResultCache().getEnabled() || newsList == null) {
+            return;
+        }
+
+        long bytes = estimateBytes(newsList);
+        long maxBytes = crawlerProperties.getResultCache().getMaxBytes();
+        if (bytes > maxBytes) {
+            return;
+        }
+
+        Key key = new Key(platform, keyword, page);
+        synchronized (this) {
+            remove(key);
+            entries.put(key, new Entry(List.copyOf(newsList), bytes, System.nanoTime()));
+            totalBytes += bytes;
+
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                totalBytes -= iterator.next().getValue().bytes;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 다시 크롤링에 실패한 경우 다음 조회 요청이 다시 시도할 수 있도록 표시 해제
+     */
+    public synchronized void refreshFailed(NewsPlatform platform, String keyword, long page) {
+        Entry entry = entries.get(new Key(platform, keyword, page));
+        if (entry != null) {
+            entry.refreshing = false;
+        }
+    }
+
+    public synchronized long sizeInBytes() {
+        return totalBytes;
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count() + staleCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    private long ttlNanos(NewsPlatform platform) {
+        CrawlerProperties.ResultCache resultCache = crawlerProperties.getResultCache();
+        return TimeUnit.MILLISECONDS.toNanos(resultCache.getPlatformTtl().getOrDefault(platform, resultCache.getTtl()));
+    }
+
+    private long staleWindowNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(crawlerProperties.getResultCache().getStaleWindow());
+    }
+
+    // 문자열은 UTF-16 기준 글자당 2바이트로 추정
+    private static long estimateBytes(List<NewsDataDto> newsList) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        for (NewsDataDto newsDataDto : newsList) {
+            bytes += NEWS_OVERHEAD_BYTES + 2L * (length(newsDataDto.getTitle()) + length(newsDataDto.getContent())
+                    + length(newsDataDto.getDescription()) + length(newsDataDto.getUrl()) + length(newsDataDto.getKeyword()));
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    @Getter
+    public static class CachedResult {
+        private final List<NewsDataDto> newsList;
+        // 유효 시간이 지난 결과인지 여부
+        private final boolean stale;
+        // 이 요청이 다시 크롤링해야 하는지 여부 (stale 결과의 첫 조회 요청만 true)
+        private final boolean refreshNeeded;
+
+        private CachedResult(List<NewsDataDto> newsList, boolean stale, boolean refreshNeeded) {
+            this.newsList = newsList;
+            this.stale = stale;
+            this.refreshNeeded = refreshNeeded;
+        }
+    }
+
+    private static class Entry {
+        private final List<NewsDataDto> newsList;
+        private final long bytes;
+        private final long storedAtNanos;
+        private boolean refreshing;
+
+        private Entry(List<NewsDataDto> newsList, long bytes, long storedAtNanos) {
+            this.newsList = newsList;
+            this.bytes = bytes;
+            this.storedAtNanos = storedAtNanos;
+        }
+    }
+
+    private static class Key {
+        private final NewsPlatform platform;
+        private final String keyword;
+        private final long page;
+
+        private Key(NewsPlatform platform, String keyword, long page) {
+            this.platform = platform;
+            this.keyword = normalize(keyword);
+            this.page = page;
+        }
+
+        // 대소문자와 공백 차이는 같은 키워드로 취급
+        private static String normalize(String keyword) {
+            return keyword == null ? "" : keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return platform == other.platform && page == other.page && keyword.equals(other.keyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(platform, keyword, page);
+        }
+    }
+}
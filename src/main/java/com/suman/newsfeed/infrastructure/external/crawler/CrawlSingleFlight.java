@@ -0,0 +1,146 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.domain.news.CrawlCursor;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 크롤링 등록소 (crawler.single-flight)
+ * 키워드 구독 이벤트와 정기 수집이 같은 키워드·플랫폼을 동시에 크롤링하지 않도록
+ * 먼저 시작한 요청(leader)의 CompletableFuture를 나중 요청이 함께 기다리게 하고,
+ * 완료 후 reuse-window 동안은 같은 요청에 마지막 결과를 그대로 돌려줍니다.
+ * 같은 커서(페이지, 워터마크)에서 시작한 요청만 합치므로, 이미 다음 페이지로 넘어간 요청은 새로 크롤링합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlSingleFlight {
+
+    private final CrawlerProperties crawlerProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 크롤링 참여 - 합칠 수 있는 크롤링이 있으면 그 결과를 공유하고, 없으면 새 leader로 등록
+     * leader는 크롤링이 끝나면 반드시 complete를 호출해야 합니다.
+     */
+    public Flight join(NewsPlatform platform, String keyword, CrawlCursor cursor) {
+        if (!crawlerProperties.getSingleFlight().getEnabled()) {
+            return new Flight(null, null, new CompletableFuture<>(), true);
+        }
+
+        Key key = new Key(platform, keyword);
+        Entry[] created = new Entry[1];
+        Entry entry = entries.compute(key, (k, existing) -> {
+            if (existing != null && existing.isReusableFor(cursor)) {
+                return existing;
+            }
+            created[0] = new Entry(cursor);
+            return created[0];
+        });
+
+        boolean leader = entry == created[0];
+        String result = leader ? "leader" : (entry.future.isDone() ? "reused" : "joined");
+        meterRegistry.counter("crawler.single-flight", "platform", platform.name(), "result", result).increment();
+        if (!leader) {
+            log.info("크롤링 결과 공유 [{}] 키워드: {} ({})", platform, keyword, result);
+        }
+        return new Flight(key, entry, entry.future, leader);
+    }
+
+    /**
+     * leader의 크롤링 결과 등록 (실패한 크롤링은 바로 등록소에서 제거해 다음 요청이 다시 시도)
+     */
+    public void complete(Flight flight, List<NewsDataDto> newsDataDtoList, Throwable error) {
+        if (!flight.isLeader()) {
+            return;
+        }
+
+        if (flight.entry != null) {
+            long reuseWindow = crawlerProperties.getSingleFlight().getReuseWindow();
+            if (error != null || reuseWindow <= 0) {
+                entries.remove(flight.key, flight.entry);
+            } else {
+                // 재사용 시간이 지나면 등록소에서 제거
+                CompletableFuture.delayedExecutor(reuseWindow, TimeUnit.MILLISECONDS)
+                        .execute(() -> entries.remove(flight.key, flight.entry));
+            }
+        }
+
+        if (error != null) {
+            flight.future.completeExceptionally(error);
+        } else {
+            flight.future.complete(newsDataDtoList);
+        }
+    }
+
+    public static class Flight {
+        private final Key key;
+        private final Entry entry;
+        @Getter
+        private final CompletableFuture<List<NewsDataDto>> future;
+        // 직접 크롤링해야 하는 요청인지 여부 (false면 future로 결과만 기다림)
+        @Getter
+        private final boolean leader;
+
+        private Flight(Key key, Entry entry, CompletableFuture<List<NewsDataDto>> future, boolean leader) {
+            this.key = key;
+            this.entry = entry;
+            this.future = future;
+            this.leader = leader;
+        }
+    }
+
+    private static class Entry {
+        private final CrawlCursor cursor;
+        private final CompletableFuture<List<NewsDataDto>> future = new CompletableFuture<>();
+
+        private Entry(CrawlCursor cursor) {
+            this.cursor = cursor;
+        }
+
+        // 같은 커서에서 시작했고, 진행 중이거나 정상 완료된 크롤링 (재사용 시간이 지난 항목은 이미 제거됨)
+        private boolean isReusableFor(CrawlCursor requested) {
+            return cursor.equals(requested) && !future.isCompletedExceptionally();
+        }
+    }
+
+    private static class Key {
+        private final NewsPlatform platform;
+        private final String keyword;
+
+        private Key(NewsPlatform platform, String keyword) {
+            this.platform = platform;
+            this.keyword = keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return platform == other.platform && keyword.equals(other.keyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * platform.hashCode() + keyword.hashCode();
+        }
+    }
+}
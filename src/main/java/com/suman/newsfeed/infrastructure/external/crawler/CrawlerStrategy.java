@@ -1,14 +1,71 @@
 package com.suman.newsfeed.infrastructure.external.crawler;
 
+import com.suman.newsfeed.domain.news.CrawlWatermark;
 import com.suman.newsfeed.domain.news.News;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface CrawlerStrategy {
     NewsPlatform getPlatform();
     List<NewsDataDto> crawlNews(String keyword,Long pageNumber,int pageSize);
     boolean isEnabled();
 
+    /**
+     * 검색 결과가 최신순인지 여부 (관련도순 등 최신순이 아니면 워터마크를 사용하지 않고 매번 첫 페이지 전체를 수집)
+     */
+    default boolean isNewestFirst() {
+        return true;
+    }
+
+    /**
+     * 워터마크(마지막으로 본 최신 기사)까지의 새 기사만 크롤링
+     * 기본 구현은 수집 후 워터마크 이후 결과를 잘라내며, 전략별로 브라우저 크롤링 생략 등 조기 종료를 구현합니다.
+     * @param watermark 첫 페이지 수집일 때만 전달 (없으면 null)
+     */
+    default List<NewsDataDto> crawlNews(String keyword, Long pageNumber, int pageSize, CrawlWatermark watermark) {
+        return newerThan(crawlNews(keyword, pageNumber, pageSize), watermark);
+    }
+
+    /**
+     * 같은 플랫폼의 키워드 묶음 크롤링
+     * 기본 구현은 키워드별 crawlNews 호출이며, 브라우저 기반 전략은 한 브라우저의 여러 탭으로 처리합니다.
+     * @param keywordPages 키워드별 페이지 번호 (1부터 시작)
+     * @param watermarks 키워드별 워터마크 (첫 페이지 수집 키워드만 포함)
+     * @return 키워드별 수집 결과
+     */
+    default Map<String, List<NewsDataDto>> crawlNewsBatch(Map<String, Long> keywordPages, Map<String, CrawlWatermark> watermarks, int pageSize) {
+        Map<String, List<NewsDataDto>> results = new LinkedHashMap<>();
+        keywordPages.forEach((keyword, pageNumber) -> results.put(keyword, crawlNews(keyword, pageNumber, pageSize, watermarks.get(keyword))));
+        return results;
+    }
+
+    /**
+     * 워터마크보다 새 기사만 반환 (결과 순서를 유지하며 이미 본 기사만 건너뜀)
+     * 결과가 대체로 최신순이어도 순서가 조금씩 섞일 수 있으므로, 이미 본 기사 뒤에 오는 새 기사도 남깁니다.
+     */
+    static List<NewsDataDto> newerThan(List<NewsDataDto> newsList, CrawlWatermark watermark) {
+        if (watermark == null) {
+            return newsList;
+        }
+        List<NewsDataDto> newerNews = new ArrayList<>();
+        for (NewsDataDto newsDataDto : newsList) {
+            if (!watermark.isReachedBy(newsDataDto.getUrl(), newsDataDto.getPublishedAt())) {
+                newerNews.add(newsDataDto);
+            }
+        }
+        return newerNews;
+    }
+
+    /**
+     * 페이지 번호 정규화 (1부터 시작, 값이 없거나 1 미만이면 첫 페이지)
+     */
+    static long normalizePage(Long pageNumber) {
+        return pageNumber == null || pageNumber < 1 ? 1 : pageNumber;
+    }
+
     default String getPlatformName() {
         return getPlatform().getDisplayName();
     }
@@ -0,0 +1,81 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Chrome DevTools Protocol(CDP) 헬퍼
+ * 버전별 devtools 패키지(v119 등)에 묶이지 않도록 CDP 명령/이벤트를 이름과 Map 파라미터로 직접 다룹니다.
+ */
+public final class DevToolsSupport {
+
+    private DevToolsSupport() {
+    }
+
+    /**
+     * 드라이버의 DevTools 세션 조회 (CDP를 지원하지 않는 드라이버는 empty)
+     */
+    public static Optional<DevTools> open(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            return Optional.empty();
+        }
+        DevTools devTools = hasDevTools.getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        return Optional.of(devTools);
+    }
+
+    /**
+     * 현재 탭(window)에 새 DevTools 세션 연결 - 멀티 탭 크롤링 시 탭마다 CDP 설정을 적용할 때 사용
+     */
+    public static Optional<DevTools> attachToCurrentWindow(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            return Optional.empty();
+        }
+        DevTools devTools = hasDevTools.getDevTools();
+        devTools.createSession(driver.getWindowHandle());
+        return Optional.of(devTools);
+    }
+
+    public static void send(DevTools devTools, String method, Map<String, Object> params) {
+        devTools.send(new Command<Void>(method, params));
+    }
+
+    /**
+     * 결과가 있는 CDP 명령 실행 - 결과를 Map으로 반환
+     */
+    public static Map<String, Object> sendForResult(DevTools devTools, String method, Map<String, Object> params) {
+        return devTools.send(new Command<Map<String, Object>>(method, params, input -> input.read(Json.MAP_TYPE)));
+    }
+
+    /**
+     * CDP 이벤트 구독 - 이벤트 파라미터를 Map으로 전달
+     */
+    public static void listen(DevTools devTools, String eventName, Consumer<Map<String, Object>> handler) {
+        devTools.addListener(new Event<Map<String, Object>>(eventName, input -> input.read(Json.MAP_TYPE)), handler);
+    }
+
+    /**
+     * 풀 반납 시 이전 대여자가 등록한 리스너 제거 및 세션 해제
+     * 세션을 해제해야 요청 차단 등 세션 단위 CDP 설정이 다음 대여자에게 남지 않습니다.
+     */
+    public static void reset(WebDriver driver) {
+        if (driver instanceof HasDevTools hasDevTools) {
+            hasDevTools.maybeGetDevTools().ifPresent(devTools -> {
+                devTools.clearListeners();
+                try {
+                    devTools.disconnectSession();
+                } catch (Exception e) {
+                    // 이미 닫힌 탭의 세션 등 - 다음 대여 시 새 세션을 연결함
+                }
+            });
+        }
+    }
+}
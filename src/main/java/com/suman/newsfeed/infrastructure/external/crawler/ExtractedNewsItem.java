@@ -0,0 +1,23 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스크립트 추출 결과 (뉴스 아이템 1건)
+ * 링크/시간은 후보 목록으로 받아 플랫폼별 검증 로직에서 선택합니다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+@NoArgsConstructor
+public class ExtractedNewsItem {
+    private String title;
+    private List<String> links = List.of();
+    private String description;
+    private String source;
+    private List<String> times = List.of();
+    private String datetime;
+}
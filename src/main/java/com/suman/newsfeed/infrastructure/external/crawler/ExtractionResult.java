@@ -0,0 +1,34 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스크립트 추출 결과 (아이템 목록 + 선택자별 적중 횟수)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+@NoArgsConstructor
+public class ExtractionResult {
+    private List<ExtractedNewsItem> items = List.of();
+    private SelectorHits hits = new SelectorHits();
+
+    /**
+     * 필드별로 각 선택자(인덱스)가 값을 제공한 아이템 수
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @Data
+    @NoArgsConstructor
+    public static class SelectorHits {
+        // 컨테이너를 찾은 선택자 인덱스 (-1이면 실패)
+        private int containers = -1;
+        private List<Integer> title = List.of();
+        private List<Integer> link = List.of();
+        private List<Integer> description = List.of();
+        private List<Integer> source = List.of();
+        private List<Integer> time = List.of();
+    }
+}
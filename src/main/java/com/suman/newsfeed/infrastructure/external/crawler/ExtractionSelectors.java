@@ -0,0 +1,52 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스크립트 추출에 사용하는 플랫폼별 선택자 목록 (각 목록은 우선순위 순)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ExtractionSelectors {
+
+    @Builder.Default
+    private final List<String> containers = List.of();
+
+    @Builder.Default
+    private final List<String> title = List.of();
+
+    @Builder.Default
+    private final List<String> link = List.of();
+
+    @Builder.Default
+    private final List<String> description = List.of();
+
+    @Builder.Default
+    private final List<String> source = List.of();
+
+    @Builder.Default
+    private final List<String> time = List.of();
+
+    // 이 길이 미만의 제목은 무시
+    @Builder.Default
+    private final int minTitleLength = 1;
+
+    /**
+     * executeScript 인자로 전달할 형태로 변환
+     */
+    public Map<String, Object> toScriptArgument() {
+        return Map.of(
+                "containers", containers,
+                "title", title,
+                "link", link,
+                "description", description,
+                "source", source,
+                "time", time,
+                "minTitleLength", minTitleLength
+        );
+    }
+}
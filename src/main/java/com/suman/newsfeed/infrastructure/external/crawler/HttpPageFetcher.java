@@ -0,0 +1,114 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 브라우저 없이 검색 결과 페이지를 가져오는 HTTP 클라이언트
+ * 단일 HttpClient를 공유하여 keep-alive 커넥션을 재사용하고, gzip 응답을 받아 Jsoup Document로 파싱합니다.
+ * 가져오기+파싱 시간은 crawler.http.fetch 타이머로 기록하며, RECORD 모드에서는 받은 HTML을 CrawlFixtureStore에 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpPageFetcher {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final CrawlerProperties crawlerProperties;
+    private final CrawlFixtureStore crawlFixtureStore;
+    private final MeterRegistry meterRegistry;
+    private final PlatformThrottle platformThrottle;
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    void init() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(crawlerProperties.getHttp().getConnectTimeout()))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(crawlerProperties.getHttp().getEnabled());
+    }
+
+    /**
+     * URL의 HTML을 가져와 Jsoup Document로 파싱
+     * 인코딩은 응답의 meta 태그 기준으로 자동 감지하며, 요청 전에 플랫폼별 요청 한도 토큰을 받습니다.
+     */
+    public Document fetch(String url, NewsPlatform platform) throws IOException {
+        // 플랫폼 요청 한도 (대기 시간 초과 시 IllegalStateException)
+        platformThrottle.acquireRequest(platform);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Document document = send(url);
+            outcome = "success";
+            return document;
+        } finally {
+            sample.stop(Timer.builder("crawler.http.fetch")
+                    .tag("host", String.valueOf(URI.create(url).getHost()))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private Document send(String url) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(crawlerProperties.getHttp().getRequestTimeout()))
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html,application/xhtml+xml")
+                .header("Accept-Language", "ko-KR,ko;q=0.9")
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+            if (response.statusCode() != 200) {
+                response.body().close();
+                throw new IOException("HTTP 응답 오류 - 상태 코드: " + response.statusCode() + ", URL: " + url);
+            }
+
+            boolean gzip = response.headers().firstValue("Content-Encoding")
+                    .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                    .orElse(false);
+
+            try (InputStream body = gzip ? new GZIPInputStream(response.body()) : response.body()) {
+                if (!crawlFixtureStore.isRecording()) {
+                    return Jsoup.parse(body, null, url);
+                }
+                // 기록 모드에서는 원본 본문을 저장한 뒤 파싱
+                String html = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                crawlFixtureStore.record(url, html, CrawlFixtureStore.HTML);
+                return Jsoup.parse(html, url);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("HTTP 요청 중 인터럽트 발생: " + url, e);
+        }
+    }
+}
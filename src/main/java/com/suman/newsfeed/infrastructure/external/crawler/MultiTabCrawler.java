@@ -0,0 +1,113 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * 한 브라우저의 여러 탭에서 키워드 검색 페이지를 동시에 크롤링
+ * 키워드마다 브라우저를 하나씩 점유하는 대신 탭을 나눠 쓰므로, 같은 메모리로 더 많은 키워드를 처리합니다.
+ * 탭 수가 crawler.tabs.max-per-browser를 넘으면 같은 브라우저에서 묶음 단위로 나눠 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MultiTabCrawler {
+
+    private final WebDriverPool webDriverPool;
+    private final PageReadinessWaiter pageReadinessWaiter;
+    private final ResourceBlocker resourceBlocker;
+    private final CrawlerProperties crawlerProperties;
+    private final CrawlFixtureStore crawlFixtureStore;
+
+    /**
+     * 키워드별 URL을 탭으로 열고, 탭마다 준비 완료를 기다린 뒤 extractor로 결과 추출
+     * @param urlsByKeyword 키워드별 검색 URL
+     * @param extractor 현재 탭으로 전환된 드라이버와 키워드를 받아 결과를 추출하는 함수
+     * @return 키워드별 추출 결과 (탭 단위로 실패한 키워드는 포함되지 않음)
+     */
+    public <T> Map<String, T> crawl(Map<String, String> urlsByKeyword, NewsPlatform platform, ReadinessCondition condition,
+                                    Duration maxWait, BiFunction<WebDriver, String, T> extractor) {
+        Map<String, T> results = new LinkedHashMap<>();
+        if (urlsByKeyword.isEmpty()) {
+            return results;
+        }
+
+        WebDriver driver = null;
+        try {
+            driver = webDriverPool.borrow(platform);
+            String mainHandle = driver.getWindowHandle();
+
+            for (List<String> keywords : partition(new ArrayList<>(urlsByKeyword.keySet()), crawlerProperties.getTabs().getMaxPerBrowser())) {
+                crawlTabs(driver, mainHandle, keywords, urlsByKeyword, platform, condition, maxWait, extractor, results);
+            }
+
+            log.info("멀티 탭 크롤링 완료 [{}] - 키워드 {}개 중 {}개 추출", platform, urlsByKeyword.size(), results.size());
+
+        } catch (Exception e) {
+            log.error("멀티 탭 크롤링 중 오류 발생 [{}]: {}", platform, e.getMessage(), e);
+        } finally {
+            // 추가로 연 탭은 반납 시 상태 초기화 과정에서 정리됨
+            webDriverPool.release(driver);
+        }
+
+        return results;
+    }
+
+    private <T> void crawlTabs(WebDriver driver, String mainHandle, List<String> keywords, Map<String, String> urlsByKeyword,
+                               NewsPlatform platform, ReadinessCondition condition, Duration maxWait,
+                               BiFunction<WebDriver, String, T> extractor, Map<String, T> results) {
+        // 첫 키워드는 기존 탭, 나머지는 새 탭에 할당
+        Map<String, String> keywordByHandle = new LinkedHashMap<>();
+        Map<String, String> urlsByHandle = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            String handle = mainHandle;
+            if (!keywordByHandle.isEmpty()) {
+                handle = driver.switchTo().newWindow(WindowType.TAB).getWindowHandle();
+                resourceBlocker.applyToAdditionalTab(driver, platform);
+            }
+            keywordByHandle.put(handle, keyword);
+            urlsByHandle.put(handle, urlsByKeyword.get(keyword));
+        }
+
+        pageReadinessWaiter.loadTabs(driver, urlsByHandle, platform, condition, maxWait);
+
+        keywordByHandle.forEach((handle, keyword) -> {
+            try {
+                driver.switchTo().window(handle);
+                if (crawlFixtureStore.isRecording()) {
+                    crawlFixtureStore.record(urlsByHandle.get(handle), driver.getPageSource(), CrawlFixtureStore.HTML);
+                }
+                results.put(keyword, extractor.apply(driver, keyword));
+            } catch (Exception e) {
+                log.warn("탭 결과 추출 실패 [{}] - 키워드: {}, 오류: {}", platform, keyword, e.getMessage());
+            }
+        });
+
+        // 다음 묶음을 위해 추가 탭 정리
+        for (String handle : keywordByHandle.keySet()) {
+            if (!handle.equals(mainHandle)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(mainHandle);
+    }
+
+    private List<List<String>> partition(List<String> keywords, int size) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < keywords.size(); i += size) {
+            batches.add(keywords.subList(i, Math.min(i + size, keywords.size())));
+        }
+        return batches;
+    }
+}
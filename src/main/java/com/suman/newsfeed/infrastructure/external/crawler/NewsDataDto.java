@@ -17,6 +17,10 @@ public class NewsDataDto {
     private String keyword;
     private NewsPlatform platform;
     private LocalDateTime crawledAt;
+    //기사 발행 시각 (플랫폼이 제공하는 경우만, 워터마크 비교에 사용)
+    private LocalDateTime publishedAt;
+    //유사 기사 묶음 ID (저장 직전에 부여)
+    private String clusterId;
 
     public NewsDataDto(String title, String content, String description, String url,String keyword, NewsPlatform platform) {
         this.title = title;
@@ -1,8 +1,24 @@
 package com.suman.newsfeed.infrastructure.external.crawler;
 
+import com.suman.newsfeed.domain.news.CrawlCursor;
+
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface NewsDataProvider {
-    List<NewsDataDto> fetchNewsByKeyword(String keyword,Long pageNumber,int pageSize);
+    // 플랫폼별 수집 커서(페이지, 워터마크)로 크롤링, 커서 맵에 있는 플랫폼 중 활성화된 플랫폼만 크롤링
+    // 플랫폼별로 크롤링이 끝나는 대로 완료되는 future 반환 (건너뛰거나 실패한 플랫폼은 SKIPPED/FAILED 결과로 완료)
+    Map<NewsPlatform, CompletableFuture<CrawlOutcome>> fetchNewsByKeyword(String keyword, Map<NewsPlatform, CrawlCursor> platformCursors, int pageSize);
+    // 키워드 묶음을 플랫폼별로 한 번에 크롤링 (키워드 -> 크롤링할 플랫폼별 수집 커서, 키워드마다 커서가 있는 플랫폼만 크롤링)
+    // 플랫폼별로 키워드별 결과가 모두 모이면 완료되는 future 반환 (건너뛰거나 실패한 키워드는 SKIPPED/FAILED 결과)
+    Map<NewsPlatform, CompletableFuture<Map<String, CrawlOutcome>>> fetchNewsByKeywords(Map<String, Map<NewsPlatform, CrawlCursor>> keywordCursors, int pageSize);
+    // 이미 저장된 뉴스(정규화 URL 기준)를 제외한 새 뉴스만 반환, 반환된 뉴스는 정규화된 URL과 유사 기사 묶음 ID를 가짐
+    // filterUnseen이 반환한 뉴스는 저장 결과에 따라 markSeen(저장 성공) 또는 releaseUnseen(저장 실패)을 호출해야 함
+    List<NewsDataDto> filterUnseen(String keyword, List<NewsDataDto> newsDataDtoList);
+    // 저장에 성공한 뉴스(정규화 URL)를 이미 저장된 뉴스로 기록
+    void markSeen(String keyword, List<String> urls);
+    // 저장하지 못한 뉴스(정규화 URL)를 다음 수집에서 다시 새 뉴스로 받을 수 있게 함
+    void releaseUnseen(String keyword, List<String> urls);
     List<NewsPlatform> getSupportedPlatforms();
 }
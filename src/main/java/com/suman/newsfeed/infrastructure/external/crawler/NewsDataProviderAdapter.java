@@ -1,14 +1,23 @@
 package com.suman.newsfeed.infrastructure.external.crawler;
 
+import com.suman.newsfeed.domain.news.CrawlCursor;
+import com.suman.newsfeed.domain.news.CrawlWatermark;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -19,18 +28,28 @@ public class NewsDataProviderAdapter implements NewsDataProvider {
     private static final Logger logger = LoggerFactory.getLogger(NewsDataProviderAdapter.class);
 
     private final List<CrawlerStrategy> crawlerStrategies;
-    private final Executor taskExecutor;
+    // 크롤링 전용 풀 (수집 흐름 풀에서 크롤링 결과를 기다리며 스레드를 막지 않도록 분리)
+    @Qualifier("crawlExecutor")
+    private final Executor crawlExecutor;
+    private final SeenNewsFilter seenNewsFilter;
+    private final StoryClusterIndex storyClusterIndex;
+    private final PlatformThrottle platformThrottle;
+    private final PlatformCircuitBreaker platformCircuitBreaker;
+    private final CrawlSingleFlight crawlSingleFlight;
+    private final CrawlResultCache crawlResultCache;
 
     @Override
-    public List<NewsDataDto> fetchNewsByKeyword(String keyword, Long pageNumber,int pageSize) {
+    public Map<NewsPlatform, CompletableFuture<CrawlOutcome>> fetchNewsByKeyword(String keyword, Map<NewsPlatform, CrawlCursor> platformCursors, int pageSize) {
         // 사용자가 구독한 플랫폼만 필터링
         List<CrawlerStrategy> enabledAndSubscribedStrategies = crawlerStrategies.stream()
                 .filter(CrawlerStrategy::isEnabled) // 전체적으로 활성화된 것
+                .filter(strategy -> platformCursors.containsKey(strategy.getPlatform())) // 키워드 구독자가 구독한 것
                 .toList();
 
+        Map<NewsPlatform, CompletableFuture<CrawlOutcome>> futures = new EnumMap<>(NewsPlatform.class);
         if (enabledAndSubscribedStrategies.isEmpty()) {
-            logger.warn("활성화된 크롤러 전략이 없습니다. 키워드: {}", keyword);
-            return List.of();
+            logger.warn("활성화된 크롤러 전략 중 크롤링할 플랫폼이 없습니다. 키워드: {}, 대상: {}", keyword, platformCursors.keySet());
+            return futures;
         }
 
         logger.info("키워드 '{}' 크롤링 대상 플랫폼: {}", keyword,
@@ -38,30 +57,234 @@ public class NewsDataProviderAdapter implements NewsDataProvider {
                         .map(strategy -> strategy.getPlatform().getDisplayName())
                         .toList());
 
-        //플랫폼별로 병렬 크롤링
-        List<CompletableFuture<List<NewsDataDto>>> futures = enabledAndSubscribedStrategies.stream()
-                .map(strategy -> CompletableFuture.supplyAsync(() -> {
-                    try {
-                        logger.info("크롤링 시작: {} - {} (페이지: {})", strategy.getPlatform().getDisplayName(), keyword, pageNumber);
+        //플랫폼별로 병렬 크롤링 (캐시된 결과가 있으면 사용, 같은 키워드·플랫폼을 이미 크롤링 중이면 그 결과를 공유)
+        for (CrawlerStrategy strategy : enabledAndSubscribedStrategies) {
+            CrawlCursor cursor = platformCursors.get(strategy.getPlatform());
+            Optional<CrawlResultCache.CachedResult> cached = crawlResultCache.get(strategy.getPlatform(), keyword, cursor.getNextPage());
+            if (cached.isEmpty()) {
+                futures.put(strategy.getPlatform(), outcomeOf(startCrawl(strategy, keyword, cursor, pageSize)));
+                continue;
+            }
 
-                        List<NewsDataDto> newsDataDtoList = strategy.crawlNews(keyword, pageNumber,pageSize);
+            // 유효 시간이 지난 결과는 그대로 사용하고 백그라운드에서 다시 크롤링
+            if (cached.get().isRefreshNeeded()) {
+                startCrawl(strategy, keyword, cursor, pageSize);
+            }
+            futures.put(strategy.getPlatform(), CompletableFuture.completedFuture(
+                    CrawlOutcome.crawled(CrawlerStrategy.newerThan(cached.get().getNewsList(), watermarkOf(strategy, cursor)))));
+        }
+        return futures;
+    }
+
+    @Override
+    public Map<NewsPlatform, CompletableFuture<Map<String, CrawlOutcome>>> fetchNewsByKeywords(Map<String, Map<NewsPlatform, CrawlCursor>> keywordCursors, int pageSize) {
+        List<CrawlerStrategy> enabledStrategies = crawlerStrategies.stream()
+                .filter(CrawlerStrategy::isEnabled)
+                .toList();
+
+        Map<NewsPlatform, CompletableFuture<Map<String, CrawlOutcome>>> futures = new EnumMap<>(NewsPlatform.class);
+        if (enabledStrategies.isEmpty()) {
+            logger.warn("활성화된 크롤러 전략이 없습니다. 키워드: {}", keywordCursors.keySet());
+            return futures;
+        }
 
-                        logger.info("크롤링 완료: {} - {}개 뉴스 (페이지: {})",
-                                strategy.getPlatform().getDisplayName(), newsDataDtoList.size(), pageNumber);
+        //플랫폼별로 키워드 묶음을 병렬 크롤링 (다른 요청이 크롤링 중인 키워드는 묶음에서 빼고 그 결과를 공유)
+        for (CrawlerStrategy strategy : enabledStrategies) {
+            Map<String, CompletableFuture<CrawlOutcome>> keywordFutures = new LinkedHashMap<>();
+            Map<String, CrawlCursor> leaderCursors = new LinkedHashMap<>();
+            Map<String, CrawlSingleFlight.Flight> leaderFlights = new LinkedHashMap<>();
+            keywordCursors.forEach((keyword, platformCursors) -> {
+                // 이 플랫폼을 구독한 구독자가 없는 키워드는 크롤링하지 않음
+                CrawlCursor cursor = platformCursors.get(strategy.getPlatform());
+                if (cursor == null) {
+                    return;
+                }
 
-                        return newsDataDtoList;
-                    } catch (Exception e) {
-                        logger.error("크롤링 실패 [{}] 키워드: {}, 페이지: {}, 오류: {}",
-                                strategy.getPlatform().getDisplayName(), keyword, pageNumber, e.getMessage());
-                        return List.<NewsDataDto>of();
+                // 캐시된 결과가 있는 키워드는 묶음에서 제외 (유효 시간이 지났으면 결과는 사용하고 묶음에서 다시 크롤링)
+                Optional<CrawlResultCache.CachedResult> cached = crawlResultCache.get(strategy.getPlatform(), keyword, cursor.getNextPage());
+                if (cached.isPresent()) {
+                    keywordFutures.put(keyword, CompletableFuture.completedFuture(
+                            CrawlOutcome.crawled(CrawlerStrategy.newerThan(cached.get().getNewsList(), watermarkOf(strategy, cursor)))));
+                    if (!cached.get().isRefreshNeeded()) {
+                        return;
                     }
-                }, taskExecutor))
-                .toList();
+                }
 
-        return futures.stream()
-                .map(CompletableFuture::join)
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+                CrawlSingleFlight.Flight flight = crawlSingleFlight.join(strategy.getPlatform(), keyword, cursor);
+                if (flight.isLeader()) {
+                    leaderCursors.put(keyword, cursor);
+                    leaderFlights.put(keyword, flight);
+                }
+                keywordFutures.putIfAbsent(keyword, outcomeOf(flight.getFuture()));
+            });
+
+            if (keywordFutures.isEmpty()) {
+                continue;
+            }
+
+            if (!leaderFlights.isEmpty()) {
+                try {
+                    CompletableFuture.supplyAsync(() -> crawlBatch(strategy, leaderCursors, pageSize), crawlExecutor)
+                            .whenComplete((result, error) -> leaderFlights.forEach((keyword, flight) ->
+                                    completeCrawl(strategy.getPlatform(), keyword, leaderCursors.get(keyword), flight,
+                                            result != null ? result.getOrDefault(keyword, List.of()) : null, error)));
+                } catch (RejectedExecutionException e) {
+                    leaderFlights.forEach((keyword, flight) ->
+                            completeCrawl(strategy.getPlatform(), keyword, leaderCursors.get(keyword), flight, null, e));
+                }
+            }
+
+            // 이 플랫폼의 키워드별 결과가 모두 모이면 완료 (대기 중 스레드를 막지 않음)
+            futures.put(strategy.getPlatform(), CompletableFuture.allOf(keywordFutures.values().toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> {
+                        Map<String, CrawlOutcome> outcomeByKeyword = new LinkedHashMap<>();
+                        keywordFutures.forEach((keyword, future) -> outcomeByKeyword.put(keyword, future.join()));
+                        return outcomeByKeyword;
+                    }));
+        }
+        return futures;
+    }
+
+    // 크롤링 시작 (이미 같은 크롤링이 진행 중이면 그 결과를 기다림)
+    private CompletableFuture<List<NewsDataDto>> startCrawl(CrawlerStrategy strategy, String keyword, CrawlCursor cursor, int pageSize) {
+        CrawlSingleFlight.Flight flight = crawlSingleFlight.join(strategy.getPlatform(), keyword, cursor);
+        if (flight.isLeader()) {
+            try {
+                CompletableFuture.supplyAsync(() -> crawl(strategy, keyword, cursor, pageSize), crawlExecutor)
+                        .whenComplete((newsDataDtoList, error) ->
+                                completeCrawl(strategy.getPlatform(), keyword, cursor, flight, newsDataDtoList, error));
+            } catch (RejectedExecutionException e) {
+                // 결과를 기다리는 다른 요청이 멈추지 않도록 실패로 완료
+                completeCrawl(strategy.getPlatform(), keyword, cursor, flight, null, e);
+            }
+        }
+        return flight.getFuture();
+    }
+
+    // 크롤링 결과를 기다리는 요청에 전달 (실행하지 못했으면 캐시의 다시 크롤링 표시 해제)
+    private void completeCrawl(NewsPlatform platform, String keyword, CrawlCursor cursor, CrawlSingleFlight.Flight flight,
+                               List<NewsDataDto> newsDataDtoList, Throwable error) {
+        if (error != null) {
+            crawlResultCache.refreshFailed(platform, keyword, cursor.getNextPage());
+        }
+        crawlSingleFlight.complete(flight, newsDataDtoList, error);
+    }
+
+    // 정상 크롤링 결과만 캐시 (워터마크가 없는데 0건이면 실패일 수 있으므로 제외)
+    private void cacheResult(CrawlerStrategy strategy, String keyword, CrawlCursor cursor, List<NewsDataDto> newsDataDtoList) {
+        if (!newsDataDtoList.isEmpty() || watermarkOf(strategy, cursor) != null) {
+            crawlResultCache.put(strategy.getPlatform(), keyword, cursor.getNextPage(), newsDataDtoList);
+        } else {
+            crawlResultCache.refreshFailed(strategy.getPlatform(), keyword, cursor.getNextPage());
+        }
+    }
+
+    private List<NewsDataDto> crawl(CrawlerStrategy strategy, String keyword, CrawlCursor cursor, int pageSize) {
+        Long pageNumber = cursor.getNextPage();
+        CrawlWatermark watermark = watermarkOf(strategy, cursor);
+
+        // 회로가 열린 플랫폼은 브라우저를 띄우지 않고 건너뜀
+        if (!platformCircuitBreaker.tryAcquire(strategy.getPlatform())) {
+            logger.info("크롤링 생략 (회로 열림): {} - {}", strategy.getPlatform().getDisplayName(), keyword);
+            crawlResultCache.refreshFailed(strategy.getPlatform(), keyword, pageNumber);
+            throw new CrawlSkippedException(strategy.getPlatform());
+        }
+        try {
+            logger.info("크롤링 시작: {} - {} (페이지: {})", strategy.getPlatform().getDisplayName(), keyword, pageNumber);
+
+            // 플랫폼별 동시 크롤링 한도 안에서 실행 (한 포털이 스레드 풀을 모두 차지하지 않도록)
+            List<NewsDataDto> newsDataDtoList = platformThrottle.withinBulkhead(strategy.getPlatform(),
+                    () -> strategy.crawlNews(keyword, pageNumber, pageSize, watermark));
+            platformCircuitBreaker.recordResult(strategy.getPlatform(), newsDataDtoList.size(), watermark != null);
+            cacheResult(strategy, keyword, cursor, newsDataDtoList);
+
+            logger.info("크롤링 완료: {} - {}개 뉴스 (페이지: {})",
+                    strategy.getPlatform().getDisplayName(), newsDataDtoList.size(), pageNumber);
+
+            return newsDataDtoList;
+        } catch (Exception e) {
+            platformCircuitBreaker.recordFailure(strategy.getPlatform());
+            crawlResultCache.refreshFailed(strategy.getPlatform(), keyword, pageNumber);
+            logger.error("크롤링 실패 [{}] 키워드: {}, 페이지: {}, 오류: {}",
+                    strategy.getPlatform().getDisplayName(), keyword, pageNumber, e.getMessage());
+            throw new CompletionException(e);
+        }
+    }
+
+    private Map<String, List<NewsDataDto>> crawlBatch(CrawlerStrategy strategy, Map<String, CrawlCursor> keywordCursors, int pageSize) {
+        // 키워드별로 이 플랫폼의 수집 커서를 페이지 번호와 워터마크로 변환
+        Map<String, Long> keywordPages = new LinkedHashMap<>();
+        Map<String, CrawlWatermark> watermarks = new LinkedHashMap<>();
+        keywordCursors.forEach((keyword, cursor) -> {
+            keywordPages.put(keyword, cursor.getNextPage());
+            CrawlWatermark watermark = watermarkOf(strategy, cursor);
+            if (watermark != null) {
+                watermarks.put(keyword, watermark);
+            }
+        });
+
+        if (!platformCircuitBreaker.tryAcquire(strategy.getPlatform())) {
+            logger.info("묶음 크롤링 생략 (회로 열림): {} - 키워드 {}개", strategy.getPlatform().getDisplayName(), keywordPages.size());
+            keywordPages.forEach((keyword, pageNumber) -> crawlResultCache.refreshFailed(strategy.getPlatform(), keyword, pageNumber));
+            throw new CrawlSkippedException(strategy.getPlatform());
+        }
+        try {
+            logger.info("묶음 크롤링 시작: {} - 키워드 {}개", strategy.getPlatform().getDisplayName(), keywordPages.size());
+
+            Map<String, List<NewsDataDto>> result = platformThrottle.withinBulkhead(strategy.getPlatform(),
+                    () -> strategy.crawlNewsBatch(keywordPages, watermarks, pageSize));
+            int collected = result.values().stream().mapToInt(List::size).sum();
+            // 모든 키워드에 워터마크가 있으면 0건도 정상일 수 있음
+            platformCircuitBreaker.recordResult(strategy.getPlatform(), collected, watermarks.size() == keywordPages.size());
+            keywordCursors.forEach((keyword, cursor) ->
+                    cacheResult(strategy, keyword, cursor, result.getOrDefault(keyword, List.of())));
+
+            logger.info("묶음 크롤링 완료: {} - {}개 뉴스", strategy.getPlatform().getDisplayName(), collected);
+            return result;
+        } catch (Exception e) {
+            platformCircuitBreaker.recordFailure(strategy.getPlatform());
+            keywordPages.forEach((keyword, pageNumber) -> crawlResultCache.refreshFailed(strategy.getPlatform(), keyword, pageNumber));
+            logger.error("묶음 크롤링 실패 [{}] 키워드: {}, 오류: {}",
+                    strategy.getPlatform().getDisplayName(), keywordPages.keySet(), e.getMessage());
+            throw new CompletionException(e);
+        }
+    }
+
+    // 크롤링 결과를 플랫폼별 결과로 변환 (건너뛰었거나 실패해도 다른 플랫폼 결과는 사용, 0건 정상 결과와 구분)
+    private CompletableFuture<CrawlOutcome> outcomeOf(CompletableFuture<List<NewsDataDto>> future) {
+        return future.handle((newsDataDtoList, error) -> {
+            if (error == null) {
+                return CrawlOutcome.crawled(newsDataDtoList);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CrawlSkippedException) {
+                return CrawlOutcome.skipped();
+            }
+            logger.error("크롤링 결과 대기 중 오류: {}", cause.getMessage());
+            return CrawlOutcome.failed();
+        });
+    }
+
+    // 워터마크는 결과가 최신순인 플랫폼의 첫 페이지에서만 의미가 있음
+    private CrawlWatermark watermarkOf(CrawlerStrategy strategy, CrawlCursor cursor) {
+        return strategy.isNewestFirst() && cursor.isFirstPage() ? cursor.getWatermark() : null;
+    }
+
+    @Override
+    public List<NewsDataDto> filterUnseen(String keyword, List<NewsDataDto> newsDataDtoList) {
+        List<NewsDataDto> unseenNewsList = seenNewsFilter.filterUnseen(keyword, newsDataDtoList);
+        storyClusterIndex.assignClusters(unseenNewsList);
+        return unseenNewsList;
+    }
+
+    @Override
+    public void markSeen(String keyword, List<String> urls) {
+        seenNewsFilter.markSeen(keyword, urls);
+    }
+
+    @Override
+    public void releaseUnseen(String keyword, List<String> urls) {
+        seenNewsFilter.release(keyword, urls);
     }
 
     @Override
@@ -71,4 +294,11 @@ public class NewsDataProviderAdapter implements NewsDataProvider {
                 .map(CrawlerStrategy::getPlatform)
                 .collect(Collectors.toList());
     }
+
+    // 회로가 열려 크롤링을 건너뜀 (크롤링 결과를 기다리는 요청에 실패와 구분해 전달)
+    private static class CrawlSkippedException extends RuntimeException {
+        private CrawlSkippedException(NewsPlatform platform) {
+            super("회로 열림으로 크롤링 생략 [" + platform + "]");
+        }
+    }
 }
\ No newline at end of file
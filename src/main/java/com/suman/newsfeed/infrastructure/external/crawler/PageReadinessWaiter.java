@@ -0,0 +1,303 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 페이지 준비 완료 감지기
+ * 고정 sleep 대신 결과 컨테이너 출현, DOM 변경 정지, 네트워크 유휴 조건을 폴링하여
+ * 실제 페이지 렌더링 속도만큼만 기다립니다. 플랫폼별 준비 시간은 crawler.page.ready 히스토그램으로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PageReadinessWaiter {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    // 결과 선택자 존재 여부 (선택자 목록을 한 번의 querySelector로 확인)
+    private static final String RESULT_PRESENT_SCRIPT =
+            "return document.body != null && (arguments[0] === '' || document.querySelector(arguments[0]) != null);";
+
+    // MutationObserver 설치 후 마지막 DOM 변경 이후 경과 시간(ms) 반환
+    private static final String DOM_QUIET_SCRIPT =
+            "if (!window.__crawlerMutation) {" +
+            "  window.__crawlerMutation = { last: Date.now() };" +
+            "  new MutationObserver(function () { window.__crawlerMutation.last = Date.now(); })" +
+            "    .observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });" +
+            "}" +
+            "return Date.now() - window.__crawlerMutation.last;";
+
+    // 탭 단위 준비 완료 확인 (결과 선택자 존재 + DOM 변경 정지를 한 번의 호출로 확인)
+    private static final String TAB_READY_SCRIPT =
+            "var selector = arguments[0], quietMillis = arguments[1];" +
+            "if (document.body == null || location.href === 'about:blank') return false;" +
+            "if (selector !== '' && document.querySelector(selector) == null) return false;" +
+            "if (quietMillis <= 0) return true;" +
+            "if (!window.__crawlerMutation) {" +
+            "  window.__crawlerMutation = { last: Date.now() };" +
+            "  new MutationObserver(function () { window.__crawlerMutation.last = Date.now(); })" +
+            "    .observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });" +
+            "}" +
+            "return Date.now() - window.__crawlerMutation.last >= quietMillis;";
+
+    private final MeterRegistry meterRegistry;
+    private final CrawlFixtureStore crawlFixtureStore;
+    private final PlatformThrottle platformThrottle;
+
+    /**
+     * URL로 이동한 뒤 조건이 충족될 때까지 대기
+     * @return 최대 대기 시간 안에 모든 조건이 충족되었는지 여부
+     */
+    public boolean load(WebDriver driver, String url, NewsPlatform platform, ReadinessCondition condition, Duration maxWait) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + maxWait.toNanos();
+
+        NetworkActivity networkActivity = condition.getNetworkIdleMillis() > 0 ? NetworkActivity.track(driver) : null;
+        boolean ready = false;
+
+        try {
+            platformThrottle.acquireRequest(platform);
+            driver.get(url);
+
+            ready = awaitResults(driver, condition, deadlineNanos)
+                    && awaitDomQuiet(driver, condition, deadlineNanos)
+                    && awaitNetworkIdle(networkActivity, condition, deadlineNanos);
+
+            // 기록 모드에서는 렌더링된 DOM을 저장 (재생 시 정적 파싱만으로 같은 결과가 나오도록)
+            if (crawlFixtureStore.isRecording()) {
+                crawlFixtureStore.record(url, driver.getPageSource(), CrawlFixtureStore.HTML);
+            }
+
+            return ready;
+
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (networkActivity != null) {
+                networkActivity.stop();
+            }
+            record(platform, ready, elapsedNanos);
+
+            if (ready) {
+                log.debug("페이지 준비 완료 [{}] - {}ms", platform, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            } else {
+                log.warn("페이지 준비 대기 시간 초과 [{}] - {}ms, 현재 상태로 파싱을 진행합니다.", platform, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            }
+        }
+    }
+
+    /**
+     * 여러 탭을 동시에 이동시킨 뒤 탭별로 준비 완료를 확인
+     * driver.get()은 탭마다 DOMContentLoaded까지 블로킹되므로 location 변경으로 이동만 시작하고,
+     * 대기 중인 탭을 순회하며 결과 선택자/DOM 정지 조건을 폴링합니다.
+     * DevTools 세션은 한 탭에만 연결되므로 탭 모드에서는 네트워크 유휴 조건을 사용하지 않습니다.
+     * @param urlsByHandle 탭(window handle)별 이동할 URL
+     * @return 탭별 준비 완료 여부 (시간 초과된 탭은 false, 현재 상태로 파싱 가능)
+     */
+    public Map<String, Boolean> loadTabs(WebDriver driver, Map<String, String> urlsByHandle, NewsPlatform platform,
+                                         ReadinessCondition condition, Duration maxWait) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + maxWait.toNanos();
+        String selector = String.join(", ", condition.getResultSelectors());
+
+        urlsByHandle.forEach((handle, url) -> {
+            platformThrottle.acquireRequest(platform);
+            driver.switchTo().window(handle);
+            ((JavascriptExecutor) driver).executeScript("window.location.href = arguments[0];", url);
+        });
+
+        Map<String, Boolean> readiness = new LinkedHashMap<>();
+        Set<String> pending = new LinkedHashSet<>(urlsByHandle.keySet());
+
+        while (!pending.isEmpty()) {
+            Iterator<String> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                String handle = iterator.next();
+                if (isTabReady(driver, handle, selector, condition.getDomQuietMillis())) {
+                    iterator.remove();
+                    readiness.put(handle, true);
+                    record(platform, true, System.nanoTime() - startNanos);
+                }
+            }
+
+            if (pending.isEmpty() || System.nanoTime() >= deadlineNanos) {
+                break;
+            }
+
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        for (String handle : pending) {
+            readiness.put(handle, false);
+            record(platform, false, elapsedNanos);
+        }
+
+        log.debug("탭 준비 완료 [{}] - {}/{}개, {}ms", platform, urlsByHandle.size() - pending.size(),
+                urlsByHandle.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        if (!pending.isEmpty()) {
+            log.warn("탭 준비 대기 시간 초과 [{}] - {}개 탭은 현재 상태로 파싱을 진행합니다.", platform, pending.size());
+        }
+        return readiness;
+    }
+
+    private boolean isTabReady(WebDriver driver, String handle, String selector, long domQuietMillis) {
+        try {
+            driver.switchTo().window(handle);
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(TAB_READY_SCRIPT, selector, domQuietMillis));
+        } catch (Exception e) {
+            log.debug("탭 준비 상태 확인 중 오류: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean awaitResults(WebDriver driver, ReadinessCondition condition, long deadlineNanos) {
+        String selector = String.join(", ", condition.getResultSelectors());
+        return pollUntil(deadlineNanos, () -> Boolean.TRUE.equals(
+                ((JavascriptExecutor) driver).executeScript(RESULT_PRESENT_SCRIPT, selector)));
+    }
+
+    private boolean awaitDomQuiet(WebDriver driver, ReadinessCondition condition, long deadlineNanos) {
+        if (condition.getDomQuietMillis() <= 0) {
+            return true;
+        }
+        return pollUntil(deadlineNanos, () -> {
+            Object quietMillis = ((JavascriptExecutor) driver).executeScript(DOM_QUIET_SCRIPT);
+            return quietMillis instanceof Number number && number.longValue() >= condition.getDomQuietMillis();
+        });
+    }
+
+    private boolean awaitNetworkIdle(NetworkActivity networkActivity, ReadinessCondition condition, long deadlineNanos) {
+        if (networkActivity == null || !networkActivity.isTracking()) {
+            return true;
+        }
+        return pollUntil(deadlineNanos, () -> networkActivity.idleMillis() >= condition.getNetworkIdleMillis());
+    }
+
+    private boolean pollUntil(long deadlineNanos, ReadyCheck check) {
+        while (true) {
+            try {
+                if (check.isReady()) {
+                    return true;
+                }
+            } catch (Exception e) {
+                log.debug("준비 상태 확인 중 오류: {}", e.getMessage());
+            }
+
+            if (System.nanoTime() >= deadlineNanos) {
+                return false;
+            }
+
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private void record(NewsPlatform platform, boolean ready, long elapsedNanos) {
+        Timer.builder("crawler.page.ready")
+                .description("페이지 이동부터 준비 완료까지 걸린 시간")
+                .tag("platform", platform.name())
+                .tag("outcome", ready ? "ready" : "timeout")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @FunctionalInterface
+    private interface ReadyCheck {
+        boolean isReady();
+    }
+
+    /**
+     * DevTools Network 이벤트로 진행 중인 요청 수와 마지막 활동 시각 추적
+     */
+    private static class NetworkActivity {
+        private final DevTools devTools;
+        private volatile boolean stopped;
+        private final Set<Object> inFlight = ConcurrentHashMap.newKeySet();
+        private final AtomicLong lastActivityNanos = new AtomicLong(System.nanoTime());
+
+        private NetworkActivity(DevTools devTools) {
+            this.devTools = devTools;
+        }
+
+        static NetworkActivity track(WebDriver driver) {
+            try {
+                Optional<DevTools> devTools = DevToolsSupport.open(driver);
+                if (devTools.isEmpty()) {
+                    return null;
+                }
+
+                NetworkActivity activity = new NetworkActivity(devTools.get());
+                DevToolsSupport.send(activity.devTools, "Network.enable", Map.of());
+                DevToolsSupport.listen(activity.devTools, "Network.requestWillBeSent", params -> activity.started(params.get("requestId")));
+                DevToolsSupport.listen(activity.devTools, "Network.loadingFinished", params -> activity.finished(params.get("requestId")));
+                DevToolsSupport.listen(activity.devTools, "Network.loadingFailed", params -> activity.finished(params.get("requestId")));
+                return activity;
+
+            } catch (Exception e) {
+                log.debug("DevTools 네트워크 추적 불가 - 네트워크 유휴 조건을 건너뜁니다: {}", e.getMessage());
+                return null;
+            }
+        }
+
+        boolean isTracking() {
+            return !stopped;
+        }
+
+        void started(Object requestId) {
+            if (stopped) {
+                return;
+            }
+            inFlight.add(requestId);
+            lastActivityNanos.set(System.nanoTime());
+        }
+
+        void finished(Object requestId) {
+            if (stopped) {
+                return;
+            }
+            inFlight.remove(requestId);
+            lastActivityNanos.set(System.nanoTime());
+        }
+
+        long idleMillis() {
+            if (!inFlight.isEmpty()) {
+                return 0;
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastActivityNanos.get());
+        }
+
+        // 리스너 자체는 WebDriverPool 반납 시 정리됨
+        void stop() {
+            stopped = true;
+            inFlight.clear();
+        }
+    }
+}
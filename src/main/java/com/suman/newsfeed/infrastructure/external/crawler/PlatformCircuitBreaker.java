@@ -0,0 +1,198 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼별 회로 차단기 (crawler.circuit-breaker)
+ * 포털 구조 변경이나 차단으로 크롤링이 계속 실패하면(연속 예외 또는 연속 0건) 회로를 열어
+ * 일정 시간 동안 해당 플랫폼 크롤링을 건너뛰고, 시간이 지나면 반열림 상태에서 시험 크롤링으로 복구 여부를 확인합니다.
+ * 시험 크롤링이 실패하면 열림 시간을 2배씩 늘려(상한 max-open-duration) 다시 엽니다.
+ * 상태는 crawler.circuit.state 메트릭(0: 닫힘, 1: 반열림, 2: 열림)과 /actuator/health 상세 정보로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlatformCircuitBreaker implements HealthIndicator {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final CrawlerProperties crawlerProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<NewsPlatform, Circuit> circuits = new EnumMap<>(NewsPlatform.class);
+
+    @PostConstruct
+    void init() {
+        for (NewsPlatform platform : NewsPlatform.values()) {
+            Circuit circuit = new Circuit();
+            circuits.put(platform, circuit);
+            meterRegistry.gauge("crawler.circuit.state", Tags.of("platform", platform.name()),
+                    circuit, value -> value.getState().ordinal());
+        }
+    }
+
+    /**
+     * 크롤링 허용 여부 (열림 시간이 지났으면 반열림으로 바꾸고 시험 크롤링 허용)
+     * 허용된 호출은 반드시 recordResult 또는 recordFailure로 결과를 알려야 합니다.
+     */
+    public boolean tryAcquire(NewsPlatform platform) {
+        if (!isEnabled()) {
+            return true;
+        }
+
+        Circuit circuit = circuits.get(platform);
+        synchronized (circuit) {
+            if (circuit.state == State.OPEN && System.nanoTime() >= circuit.openUntilNanos) {
+                transition(platform, circuit, State.HALF_OPEN);
+                circuit.probesInFlight = 0;
+            }
+
+            boolean permitted = circuit.state == State.CLOSED
+                    || (circuit.state == State.HALF_OPEN && circuit.probesInFlight < crawlerProperties.getCircuitBreaker().getHalfOpenProbes());
+            if (!permitted) {
+                meterRegistry.counter("crawler.circuit.short-circuited", "platform", platform.name()).increment();
+                return false;
+            }
+            if (circuit.state == State.HALF_OPEN) {
+                circuit.probesInFlight++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 크롤링 결과 반영
+     * @param collected 수집된 뉴스 수
+     * @param emptyExpected 워터마크가 있어 새 기사가 없으면 0건이 정상인 경우
+     */
+    public void recordResult(NewsPlatform platform, int collected, boolean emptyExpected) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Circuit circuit = circuits.get(platform);
+        synchronized (circuit) {
+            if (collected > 0) {
+                circuit.consecutiveFailures = 0;
+                circuit.consecutiveZeroYields = 0;
+                if (circuit.state == State.HALF_OPEN) {
+                    circuit.openDurationMillis = 0;
+                    transition(platform, circuit, State.CLOSED);
+                }
+                return;
+            }
+
+            if (emptyExpected) {
+                // 새 기사가 없었을 뿐인지 실패인지 알 수 없으므로 연속 횟수는 유지하고 시험 자리만 반납
+                if (circuit.state == State.HALF_OPEN) {
+                    circuit.probesInFlight = Math.max(0, circuit.probesInFlight - 1);
+                }
+                return;
+            }
+
+            circuit.consecutiveZeroYields++;
+            tripIfNeeded(platform, circuit, circuit.consecutiveZeroYields >= crawlerProperties.getCircuitBreaker().getZeroYieldThreshold());
+        }
+    }
+
+    /**
+     * 크롤링 예외 반영
+     */
+    public void recordFailure(NewsPlatform platform) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Circuit circuit = circuits.get(platform);
+        synchronized (circuit) {
+            circuit.consecutiveFailures++;
+            tripIfNeeded(platform, circuit, circuit.consecutiveFailures >= crawlerProperties.getCircuitBreaker().getFailureThreshold());
+        }
+    }
+
+    public State getState(NewsPlatform platform) {
+        Circuit circuit = circuits.get(platform);
+        synchronized (circuit) {
+            return circuit.state;
+        }
+    }
+
+    /**
+     * 플랫폼별 회로 상태 (일부 플랫폼 장애로 애플리케이션 전체를 DOWN으로 보지 않음)
+     */
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        circuits.forEach((platform, circuit) -> {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            synchronized (circuit) {
+                detail.put("state", circuit.state);
+                detail.put("consecutiveFailures", circuit.consecutiveFailures);
+                detail.put("consecutiveZeroYields", circuit.consecutiveZeroYields);
+                if (circuit.state == State.OPEN) {
+                    detail.put("retryInMillis", Math.max(0, TimeUnit.NANOSECONDS.toMillis(circuit.openUntilNanos - System.nanoTime())));
+                }
+            }
+            builder.withDetail(platform.name(), detail);
+        });
+        return builder.build();
+    }
+
+    // 반열림 상태의 실패는 곧바로, 닫힘 상태의 실패는 연속 횟수가 기준에 도달하면 회로를 엶
+    private void tripIfNeeded(NewsPlatform platform, Circuit circuit, boolean thresholdReached) {
+        if (circuit.state == State.HALF_OPEN) {
+            circuit.openDurationMillis = Math.min(circuit.openDurationMillis * 2, crawlerProperties.getCircuitBreaker().getMaxOpenDuration());
+            open(platform, circuit);
+        } else if (circuit.state == State.CLOSED && thresholdReached) {
+            circuit.openDurationMillis = crawlerProperties.getCircuitBreaker().getOpenDuration();
+            open(platform, circuit);
+        }
+    }
+
+    private void open(NewsPlatform platform, Circuit circuit) {
+        circuit.openUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(circuit.openDurationMillis);
+        circuit.consecutiveFailures = 0;
+        circuit.consecutiveZeroYields = 0;
+        transition(platform, circuit, State.OPEN);
+        log.warn("플랫폼 크롤링 회로 열림 [{}] - {}ms 동안 크롤링 생략", platform, circuit.openDurationMillis);
+    }
+
+    private void transition(NewsPlatform platform, Circuit circuit, State state) {
+        if (circuit.state != state) {
+            log.info("플랫폼 크롤링 회로 상태 변경 [{}] - {} → {}", platform, circuit.state, state);
+            circuit.state = state;
+        }
+    }
+
+    private boolean isEnabled() {
+        return crawlerProperties.getCircuitBreaker().getEnabled();
+    }
+
+    private static class Circuit {
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private int consecutiveZeroYields;
+        private int probesInFlight;
+        private long openDurationMillis;
+        private long openUntilNanos;
+
+        private synchronized State getState() {
+            return state;
+        }
+    }
+}
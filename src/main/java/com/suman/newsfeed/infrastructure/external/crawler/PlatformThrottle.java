@@ -0,0 +1,164 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 플랫폼별 요청 속도 제한(토큰 버킷)과 동시 실행 제한(세마포어 벌크헤드)
+ * 한 포털에 요청이 몰려 차단되지 않도록 포털 페이지 요청마다 토큰을 받고,
+ * 플랫폼별 동시 크롤링 수를 제한해 한 포털이 공용 스레드 풀을 모두 차지하지 않게 합니다.
+ * 설정은 플랫폼 블록 아래 throttle 항목을 사용합니다. (naver.throttle, daum.throttle, google.throttle)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlatformThrottle {
+
+    private static final Map<NewsPlatform, String> CONFIG_PREFIXES = Map.of(
+            NewsPlatform.NAVER, "naver.throttle",
+            NewsPlatform.DAUM, "daum.throttle",
+            NewsPlatform.GOOGLE, "google.throttle");
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<NewsPlatform, TokenBucket> buckets = new EnumMap<>(NewsPlatform.class);
+    private final Map<NewsPlatform, Semaphore> bulkheads = new EnumMap<>(NewsPlatform.class);
+    private final Map<NewsPlatform, Long> maxWaitMillis = new EnumMap<>(NewsPlatform.class);
+
+    @PostConstruct
+    void init() {
+        for (NewsPlatform platform : NewsPlatform.values()) {
+            String prefix = CONFIG_PREFIXES.get(platform);
+            double ratePerSecond = environment.getProperty(prefix + ".rate-per-second", Double.class, 2.0);
+            int burst = environment.getProperty(prefix + ".burst", Integer.class, 4);
+            int maxConcurrent = environment.getProperty(prefix + ".max-concurrent", Integer.class, 2);
+
+            buckets.put(platform, new TokenBucket(ratePerSecond, burst));
+            bulkheads.put(platform, new Semaphore(maxConcurrent, true));
+            maxWaitMillis.put(platform, environment.getProperty(prefix + ".max-wait", Long.class, 30000L));
+
+            Semaphore bulkhead = bulkheads.get(platform);
+            meterRegistry.gauge("crawler.throttle.available", Tags.of("platform", platform.name()),
+                    bulkhead, Semaphore::availablePermits);
+            log.info("플랫폼 요청 제한 [{}] - 초당 {}건 (버스트 {}), 동시 크롤링 {}개", platform, ratePerSecond, burst, maxConcurrent);
+        }
+    }
+
+    /**
+     * 포털 페이지 요청 1건 허가 (토큰이 생길 때까지 최대 max-wait 대기)
+     * @throws IllegalStateException 대기 시간 안에 토큰을 받지 못한 경우
+     */
+    public void acquireRequest(NewsPlatform platform) {
+        long startNanos = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = buckets.get(platform).acquire(TimeUnit.MILLISECONDS.toNanos(maxWaitMillis.get(platform)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 한도 대기 중 인터럽트 발생 [" + platform + "]", e);
+        }
+        recordWait(platform, "rate", startNanos);
+
+        if (!acquired) {
+            reject(platform, "rate");
+            throw new IllegalStateException("요청 한도 대기 시간 초과 [" + platform + "]");
+        }
+    }
+
+    /**
+     * 플랫폼 동시 실행 한도 안에서 작업 실행 (자리가 날 때까지 최대 max-wait 대기)
+     * @throws IllegalStateException 대기 시간 안에 자리를 얻지 못한 경우
+     */
+    public <T> T withinBulkhead(NewsPlatform platform, Supplier<T> task) {
+        Semaphore bulkhead = bulkheads.get(platform);
+        long startNanos = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(maxWaitMillis.get(platform), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("동시 실행 한도 대기 중 인터럽트 발생 [" + platform + "]", e);
+        }
+        recordWait(platform, "bulkhead", startNanos);
+
+        if (!acquired) {
+            reject(platform, "bulkhead");
+            throw new IllegalStateException("동시 실행 한도 대기 시간 초과 [" + platform + "]");
+        }
+
+        try {
+            return task.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private void recordWait(NewsPlatform platform, String type, long startNanos) {
+        Timer.builder("crawler.throttle.wait")
+                .tag("platform", platform.name())
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void reject(NewsPlatform platform, String type) {
+        meterRegistry.counter("crawler.throttle.rejected", "platform", platform.name(), "type", type).increment();
+        log.warn("플랫폼 요청 제한으로 거부 [{}] - 유형: {}", platform, type);
+    }
+
+    /**
+     * 토큰 버킷 - 초당 ratePerSecond개씩 최대 burst개까지 토큰이 쌓이며, 요청마다 1개를 사용
+     */
+    static class TokenBucket {
+        private final double ratePerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double ratePerSecond, int burst) {
+            this.ratePerNano = Math.max(ratePerSecond, 0.001) / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(burst, 1);
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        boolean acquire(long maxWaitNanos) throws InterruptedException {
+            long deadline = System.nanoTime() + maxWaitNanos;
+            while (true) {
+                long waitNanos;
+                synchronized (this) {
+                    refill();
+                    if (tokens >= 1) {
+                        tokens -= 1;
+                        return true;
+                    }
+                    waitNanos = (long) Math.ceil((1 - tokens) / ratePerNano);
+                }
+                // 다음 토큰 시점이 대기 한도를 넘으면 기다리지 않고 거부
+                if (System.nanoTime() + waitNanos > deadline) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * ratePerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
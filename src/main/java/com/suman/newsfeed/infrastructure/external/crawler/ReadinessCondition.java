@@ -0,0 +1,25 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 플랫폼별 페이지 준비 완료 조건
+ * 모든 조건은 PageReadinessWaiter의 최대 대기 시간 안에서만 기다립니다.
+ */
+@Getter
+@Builder
+public class ReadinessCondition {
+
+    // 하나라도 존재하면 결과 목록이 렌더링된 것으로 보는 CSS 선택자
+    @Builder.Default
+    private final List<String> resultSelectors = List.of();
+
+    // DOM 변경이 이 시간(ms) 동안 없으면 렌더링 완료로 판단 (0이면 사용 안 함)
+    private final long domQuietMillis;
+
+    // 진행 중인 네트워크 요청이 이 시간(ms) 동안 없으면 완료로 판단 (0이면 사용 안 함, DevTools 필요)
+    private final long networkIdleMillis;
+}
@@ -0,0 +1,144 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 페이지당 한 번의 executeScript로 모든 뉴스 아이템을 추출
+ * 아이템/선택자마다 findElement를 호출하면 chromedriver와 수백 번 왕복하게 되므로,
+ * 선택자 탐색을 브라우저 안에서 수행하고 결과만 JSON 배열로 받아옵니다.
+ * 선택자 순서는 SelectorPlanCache가 플랫폼별로 학습한 계획을 따릅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScriptNewsExtractor {
+
+    private static final String EXTRACT_SCRIPT = """
+            var spec = arguments[0], limit = arguments[1];
+            var hits = { containers: -1 };
+            ['title', 'link', 'description', 'source', 'time'].forEach(function (field) {
+              hits[field] = spec[field].map(function () { return 0; });
+            });
+            function textOf(el) { return ((el.innerText || el.textContent || '') + '').trim(); }
+            function queryAll(root, selector) { try { return root.querySelectorAll(selector); } catch (e) { return []; } }
+            function firstText(root, field, minLength, useAttributes) {
+              var selectors = spec[field];
+              for (var i = 0; i < selectors.length; i++) {
+                var el = queryAll(root, selectors[i])[0];
+                if (!el) continue;
+                var text = textOf(el);
+                if (!text && useAttributes && el.tagName === 'A') {
+                  text = (el.getAttribute('title') || el.getAttribute('aria-label') || '').trim();
+                }
+                if (text && text.length >= minLength) { hits[field][i]++; return text; }
+              }
+              return null;
+            }
+            function collect(root, field, max, read) {
+              var selectors = spec[field], values = [];
+              for (var i = 0; i < selectors.length && values.length < max; i++) {
+                var list = queryAll(root, selectors[i]);
+                for (var j = 0; j < list.length && values.length < max; j++) {
+                  var value = read(list[j]);
+                  if (value && values.indexOf(value) < 0) {
+                    if (values.length === 0) hits[field][i]++;
+                    values.push(value);
+                  }
+                }
+              }
+              return values;
+            }
+            var containers = [];
+            for (var i = 0; i < spec.containers.length && containers.length === 0; i++) {
+              containers = queryAll(document, spec.containers[i]);
+              if (containers.length > 0) hits.containers = i;
+            }
+            var items = [];
+            for (var k = 0; k < containers.length && items.length < limit; k++) {
+              var c = containers[k];
+              var title = firstText(c, 'title', spec.minTitleLength, true);
+              if (!title) continue;
+              var timeEl = c.querySelector('time[datetime]');
+              items.push({
+                title: title,
+                links: collect(c, 'link', 10, function (el) { return el.href || null; }),
+                description: firstText(c, 'description', 1, false),
+                source: firstText(c, 'source', 1, false),
+                times: collect(c, 'time', 5, textOf),
+                datetime: timeEl ? timeEl.getAttribute('datetime') : null
+              });
+            }
+            return JSON.stringify({ items: items, hits: hits });
+            """;
+
+    // 디버그 모드 전용 - 컨테이너 선택자별 매칭 수와 첫 컨테이너 HTML
+    private static final String DIAGNOSTIC_SCRIPT = """
+            var spec = arguments[0], counts = {}, first = null;
+            spec.containers.forEach(function (selector) {
+              var list;
+              try { list = document.querySelectorAll(selector); } catch (e) { counts[selector] = -1; return; }
+              counts[selector] = list.length;
+              if (!first && list.length > 0) first = list[0];
+            });
+            return JSON.stringify({
+              title: document.title,
+              url: location.href,
+              containers: counts,
+              firstContainer: first ? first.outerHTML.substring(0, 500) : null
+            });
+            """;
+
+    // 링크 검증 등으로 일부 아이템이 제외될 수 있으므로 요청 개수보다 여유 있게 추출
+    private static final int CANDIDATE_MULTIPLIER = 3;
+
+    private final ObjectMapper objectMapper;
+    private final SelectorPlanCache selectorPlanCache;
+    private final CrawlerProperties crawlerProperties;
+
+    /**
+     * 현재 페이지에서 뉴스 아이템 후보 추출
+     * @param defaults 플랫폼 기본 선택자 (학습된 계획이 없을 때 사용)
+     * @throws IllegalStateException 스크립트 실행 또는 결과 파싱 실패 시
+     */
+    public List<ExtractedNewsItem> extract(WebDriver driver, NewsPlatform platform, ExtractionSelectors defaults, int maxItems) {
+        ExtractionSelectors selectors = selectorPlanCache.planFor(platform, defaults);
+
+        if (crawlerProperties.getExtraction().getDebug()) {
+            logDiagnostics(driver, platform, selectors);
+        }
+
+        ExtractionResult result;
+        try {
+            Object json = ((JavascriptExecutor) driver).executeScript(
+                    EXTRACT_SCRIPT, selectors.toScriptArgument(), maxItems * CANDIDATE_MULTIPLIER);
+            result = objectMapper.readValue((String) json, ExtractionResult.class);
+
+        } catch (Exception e) {
+            throw new IllegalStateException("스크립트 추출 실패: " + e.getMessage(), e);
+        }
+
+        selectorPlanCache.record(platform, selectors, result);
+        log.debug("스크립트 추출 완료 [{}] - 후보 {}개", platform, result.getItems().size());
+        return result.getItems();
+    }
+
+    /**
+     * 페이지 구조 진단 로그 (crawler.extraction.debug=true 일 때만 실행)
+     */
+    private void logDiagnostics(WebDriver driver, NewsPlatform platform, ExtractionSelectors selectors) {
+        try {
+            Object diagnostic = ((JavascriptExecutor) driver).executeScript(DIAGNOSTIC_SCRIPT, selectors.toScriptArgument());
+            log.info("페이지 구조 진단 [{}]: {}", platform, diagnostic);
+        } catch (Exception e) {
+            log.warn("페이지 구조 진단 실패 [{}]: {}", platform, e.getMessage());
+        }
+    }
+}
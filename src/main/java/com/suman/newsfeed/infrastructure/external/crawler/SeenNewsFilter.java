@@ -0,0 +1,167 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.domain.news.NewsKeywordUrl;
+import com.suman.newsfeed.domain.news.NewsRepository;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이미 저장된 뉴스 판별 필터
+ * 키워드 + 정규화 URL을 블룸 필터에 기록해, 반복 실행이나 플랫폼 간에 다시 수집된 기사를 저장 전에 걸러냅니다.
+ * 뉴스는 키워드별로 저장되므로 같은 기사라도 다른 키워드로 수집된 경우는 중복으로 보지 않습니다.
+ * 필터에는 저장에 성공한 뉴스만 기록하며(markSeen), 새 뉴스로 반환되어 저장 중인 뉴스는 따로 보류해 두었다가
+ * 저장에 실패하면 보류를 풀어(release) 다음 수집에서 다시 새 뉴스로 받을 수 있게 합니다.
+ * 기동 시 DB의 기존 뉴스로 필터를 다시 채우며, 재구성이 끝나기 전에는 이미 저장된 뉴스를 걸러내지 못하므로
+ * 수집 스케줄러는 재구성이 끝날 때까지(isLoaded) 수집을 시작하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeenNewsFilter {
+
+    private final CrawlerProperties crawlerProperties;
+    private final UrlCanonicalizer urlCanonicalizer;
+    private final NewsRepository newsRepository;
+    private final MeterRegistry meterRegistry;
+
+    private BloomFilter bloomFilter;
+    private volatile boolean loaded;
+    // 새 뉴스로 반환되어 저장을 기다리는 키 (bloomFilter로 동기화)
+    private final Set<String> pendingKeys = new HashSet<>();
+
+    @PostConstruct
+    void init() {
+        CrawlerProperties.Dedup dedup = crawlerProperties.getDedup();
+        bloomFilter = new BloomFilter(dedup.getExpectedInsertions(), dedup.getFalsePositiveRate());
+        meterRegistry.gauge("crawler.dedup.filter.size", bloomFilter, BloomFilter::getInsertions);
+    }
+
+    /**
+     * 저장된 뉴스로 필터 재구성이 끝났는지 (중복 판별을 사용하지 않으면 항상 true)
+     * 재구성에 실패해도 그때까지 읽은 뉴스만으로 사용할 수 있도록 true가 됩니다.
+     */
+    public boolean isLoaded() {
+        return loaded || !crawlerProperties.getDedup().getEnabled();
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 저장된 뉴스로 필터 재구성 (id 순으로 묶음 단위 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!crawlerProperties.getDedup().getEnabled()) {
+            return;
+        }
+
+        int chunkSize = crawlerProperties.getDedup().getRebuildChunkSize();
+        long lastId = 0;
+        long loadedCount = 0;
+        try {
+            List<NewsKeywordUrl> chunk;
+            do {
+                chunk = newsRepository.findKeywordUrlsAfter(lastId, chunkSize);
+                for (NewsKeywordUrl keywordUrl : chunk) {
+                    bloomFilter.put(key(keywordUrl.getKeyword(), urlCanonicalizer.canonicalize(keywordUrl.getUrl())));
+                    lastId = keywordUrl.getId();
+                }
+                loadedCount += chunk.size();
+            } while (chunk.size() == chunkSize);
+
+            log.info("중복 판별 필터 재구성 완료 - 뉴스 {}건, 비트 {}개, 해시 {}개",
+                    loadedCount, bloomFilter.getBitSize(), bloomFilter.getHashCount());
+        } catch (Exception e) {
+            log.warn("중복 판별 필터 재구성 실패 ({}건까지 반영): {}", loadedCount, e.getMessage());
+        }
+        loaded = true;
+
+        if (loadedCount > crawlerProperties.getDedup().getExpectedInsertions()) {
+            log.warn("저장된 뉴스 수({})가 중복 판별 필터 예상 원소 수({})를 넘었습니다. crawler.dedup.expected-insertions를 늘려주세요.",
+                    loadedCount, crawlerProperties.getDedup().getExpectedInsertions());
+        }
+    }
+
+    /**
+     * 키워드의 수집 결과에서 새 뉴스만 반환 (URL은 정규화된 값으로 교체)
+     * 반환된 뉴스는 저장이 끝날 때까지 보류해 두며, 저장 결과에 따라 markSeen 또는 release를 호출해야 합니다.
+     */
+    public List<NewsDataDto> filterUnseen(String keyword, List<NewsDataDto> newsDataDtoList) {
+        List<NewsDataDto> unseen = new ArrayList<>();
+        if (!crawlerProperties.getDedup().getEnabled()) {
+            unseen.addAll(newsDataDtoList);
+            return unseen;
+        }
+
+        // 같은 수집 결과 안의 중복 (플랫폼 간 같은 기사)
+        Set<String> batchKeys = new HashSet<>();
+        // 같은 크롤링 결과를 공유한 요청이 동시에 걸러도 한쪽만 새 뉴스로 받도록 확인과 기록을 함께 처리
+        synchronized (bloomFilter) {
+            for (NewsDataDto newsDataDto : newsDataDtoList) {
+                String canonicalUrl = urlCanonicalizer.canonicalize(newsDataDto.getUrl());
+                if (canonicalUrl == null || canonicalUrl.isBlank()) {
+                    continue;
+                }
+
+                String key = key(keyword, canonicalUrl);
+                if (!batchKeys.add(key) || pendingKeys.contains(key) || bloomFilter.mightContain(key)) {
+                    continue;
+                }
+
+                pendingKeys.add(key);
+                newsDataDto.setUrl(canonicalUrl);
+                unseen.add(newsDataDto);
+            }
+        }
+
+        int dropped = newsDataDtoList.size() - unseen.size();
+        if (dropped > 0) {
+            meterRegistry.counter("crawler.dedup.dropped").increment(dropped);
+            log.debug("중복 뉴스 제외 - 키워드: {}, 전체 {}개 중 {}개", keyword, newsDataDtoList.size(), dropped);
+        }
+        return unseen;
+    }
+
+    /**
+     * 저장에 성공한 뉴스를 필터에 기록 (URL은 filterUnseen이 반환한 정규화 URL)
+     */
+    public void markSeen(String keyword, List<String> canonicalUrls) {
+        if (!crawlerProperties.getDedup().getEnabled()) {
+            return;
+        }
+
+        synchronized (bloomFilter) {
+            for (String canonicalUrl : canonicalUrls) {
+                String key = key(keyword, canonicalUrl);
+                pendingKeys.remove(key);
+                bloomFilter.put(key);
+            }
+        }
+    }
+
+    /**
+     * 저장하지 못한 뉴스의 보류를 풀어 다음 수집에서 다시 새 뉴스로 받을 수 있게 함
+     */
+    public void release(String keyword, List<String> canonicalUrls) {
+        if (!crawlerProperties.getDedup().getEnabled()) {
+            return;
+        }
+
+        synchronized (bloomFilter) {
+            canonicalUrls.forEach(canonicalUrl -> pendingKeys.remove(key(keyword, canonicalUrl)));
+        }
+    }
+
+    private String key(String keyword, String canonicalUrl) {
+        return keyword + '\n' + canonicalUrl;
+    }
+}
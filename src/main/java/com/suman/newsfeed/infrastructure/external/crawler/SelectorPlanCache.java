@@ -0,0 +1,103 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 플랫폼별 학습된 선택자 계획 캐시
+ * 마지막으로 성공한 선택자를 목록 앞으로 옮겨 다음 크롤링에서 먼저 시도하고,
+ * 학습 시점 대비 수율이 떨어지면 계획을 버리고 기본 선택자 순서로 다시 학습합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SelectorPlanCache {
+
+    private final CrawlerProperties crawlerProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<NewsPlatform, SelectorPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * 이번 크롤링에 사용할 선택자 (학습된 계획이 없으면 기본 선택자)
+     */
+    public ExtractionSelectors planFor(NewsPlatform platform, ExtractionSelectors defaults) {
+        SelectorPlan plan = plans.get(platform);
+        return plan != null ? plan.getSelectors() : defaults;
+    }
+
+    /**
+     * 추출 결과 반영
+     * 학습된 계획으로 추출한 경우 수율 저하 여부만 확인하고, 기본 선택자로 추출한 경우 새 계획을 학습합니다.
+     */
+    public void record(NewsPlatform platform, ExtractionSelectors used, ExtractionResult result) {
+        int yield = result.getItems().size();
+        SelectorPlan current = plans.get(platform);
+
+        if (current != null && current.getSelectors() == used) {
+            if (yield < current.getLearnedYield() * crawlerProperties.getExtraction().getRelearnYieldRatio()) {
+                plans.remove(platform, current);
+                meterRegistry.counter("crawler.selector.relearn", "platform", platform.name()).increment();
+                log.info("선택자 계획 수율 저하 [{}] - 학습 시 {}개, 현재 {}개. 다음 크롤링에서 재학습합니다.",
+                        platform, current.getLearnedYield(), yield);
+            }
+            return;
+        }
+
+        if (yield > 0) {
+            plans.put(platform, new SelectorPlan(reorder(used, result.getHits()), yield));
+            log.debug("선택자 계획 학습 완료 [{}] - 수율 {}개", platform, yield);
+        }
+    }
+
+    private ExtractionSelectors reorder(ExtractionSelectors selectors, ExtractionResult.SelectorHits hits) {
+        return selectors.toBuilder()
+                .containers(moveToFront(selectors.getContainers(), hits.getContainers()))
+                .title(sortByHits(selectors.getTitle(), hits.getTitle()))
+                .link(sortByHits(selectors.getLink(), hits.getLink()))
+                .description(sortByHits(selectors.getDescription(), hits.getDescription()))
+                .source(sortByHits(selectors.getSource(), hits.getSource()))
+                .time(sortByHits(selectors.getTime(), hits.getTime()))
+                .build();
+    }
+
+    private List<String> moveToFront(List<String> selectors, int index) {
+        if (index <= 0 || index >= selectors.size()) {
+            return selectors;
+        }
+        return IntStream.range(0, selectors.size())
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> i == index ? 0 : 1))
+                .map(selectors::get)
+                .toList();
+    }
+
+    // 적중 횟수가 많은 순으로 정렬 (동률이면 기존 순서 유지, 적중하지 않은 선택자도 폴백으로 남김)
+    private List<String> sortByHits(List<String> selectors, List<Integer> hits) {
+        return IntStream.range(0, selectors.size())
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> -(i < hits.size() && hits.get(i) != null ? hits.get(i) : 0)))
+                .map(selectors::get)
+                .toList();
+    }
+
+    /**
+     * 학습된 선택자와 학습 시점의 수율
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class SelectorPlan {
+        private final ExtractionSelectors selectors;
+        private final int learnedYield;
+    }
+}
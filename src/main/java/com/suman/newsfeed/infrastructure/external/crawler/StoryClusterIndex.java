@@ -0,0 +1,160 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import com.suman.newsfeed.infrastructure.database.jpa.repositories.NewsJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 유사 기사 묶음(cluster) 인덱스
+ * 최근 기사들의 MinHash 서명을 LSH 밴드별로 보관하고, 새 기사와 밴드가 겹치는 기사 중
+ * 추정 유사도가 기준 이상인 기사가 있으면 그 묶음 ID를, 없으면 새 묶음 ID를 부여합니다.
+ * 시간 범위(crawler.clustering.window-hours)를 벗어나거나 최대 개수를 넘은 기사는 오래된 순으로 제거되며,
+ * 기동 시 시간 범위 안의 저장된 뉴스로 인덱스를 다시 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoryClusterIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 2000;
+
+    private final CrawlerProperties crawlerProperties;
+    private final NewsJpaRepository newsJpaRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 밴드 키 → 해당 밴드가 같은 기사들
+    private final Map<Long, List<Entry>> buckets = new HashMap<>();
+    // 추가 순서 (오래된 기사부터 제거)
+    private final Deque<Entry> entries = new ArrayDeque<>();
+
+    /**
+     * 애플리케이션 기동 완료 후 시간 범위 안의 저장된 뉴스로 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!crawlerProperties.getClustering().getEnabled()) {
+            return;
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusHours(crawlerProperties.getClustering().getWindowHours());
+        long lastId = 0;
+        int loaded = 0;
+        try {
+            List<NewsJpaRepository.StorySource> chunk;
+            do {
+                chunk = newsJpaRepository.findStorySourcesSince(since, lastId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+                for (NewsJpaRepository.StorySource source : chunk) {
+                    lastId = source.getId();
+                    StoryFingerprint fingerprint = StoryFingerprint.of(source.getTitle(), source.getDescription());
+                    if (fingerprint != null && source.getClusterId() != null) {
+                        add(new Entry(source.getClusterId(), fingerprint, fingerprint.bandKeys(), source.getCreatedAt()));
+                        loaded++;
+                    }
+                }
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+
+            log.info("유사 기사 인덱스 재구성 완료 - 최근 {}시간 뉴스 {}건", crawlerProperties.getClustering().getWindowHours(), loaded);
+        } catch (Exception e) {
+            log.warn("유사 기사 인덱스 재구성 실패 ({}건까지 반영): {}", loaded, e.getMessage());
+        }
+    }
+
+    /**
+     * 뉴스 목록에 묶음 ID 부여 (목록 안의 유사 기사끼리도 같은 묶음)
+     */
+    public void assignClusters(List<NewsDataDto> newsDataDtoList) {
+        if (!crawlerProperties.getClustering().getEnabled()) {
+            return;
+        }
+
+        for (NewsDataDto newsDataDto : newsDataDtoList) {
+            StoryFingerprint fingerprint = StoryFingerprint.of(newsDataDto.getTitle(), newsDataDto.getDescription());
+            if (fingerprint == null) {
+                newsDataDto.setClusterId(UUID.randomUUID().toString());
+                continue;
+            }
+            newsDataDto.setClusterId(assign(fingerprint));
+        }
+    }
+
+    private synchronized String assign(StoryFingerprint fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        evictExpired(now);
+
+        long[] bandKeys = fingerprint.bandKeys();
+        Entry best = null;
+        double bestSimilarity = crawlerProperties.getClustering().getSimilarityThreshold();
+        for (long bandKey : bandKeys) {
+            for (Entry candidate : buckets.getOrDefault(bandKey, List.of())) {
+                double similarity = fingerprint.similarity(candidate.fingerprint);
+                if (similarity >= bestSimilarity) {
+                    best = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+
+        String clusterId = best != null ? best.clusterId : UUID.randomUUID().toString();
+        meterRegistry.counter("crawler.clustering.assigned", "result", best != null ? "joined" : "new").increment();
+        add(new Entry(clusterId, fingerprint, bandKeys, now));
+        return clusterId;
+    }
+
+    private synchronized void add(Entry entry) {
+        entries.addLast(entry);
+        for (long bandKey : entry.bandKeys) {
+            buckets.computeIfAbsent(bandKey, key -> new ArrayList<>(2)).add(entry);
+        }
+        while (entries.size() > crawlerProperties.getClustering().getMaxEntries()) {
+            remove(entries.pollFirst());
+        }
+    }
+
+    private void evictExpired(LocalDateTime now) {
+        LocalDateTime cutoff = now.minusHours(crawlerProperties.getClustering().getWindowHours());
+        while (!entries.isEmpty() && entries.peekFirst().indexedAt.isBefore(cutoff)) {
+            remove(entries.pollFirst());
+        }
+    }
+
+    private void remove(Entry entry) {
+        for (long bandKey : entry.bandKeys) {
+            List<Entry> bucket = buckets.get(bandKey);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    buckets.remove(bandKey);
+                }
+            }
+        }
+    }
+
+    private static class Entry {
+        private final String clusterId;
+        private final StoryFingerprint fingerprint;
+        private final long[] bandKeys;
+        private final LocalDateTime indexedAt;
+
+        private Entry(String clusterId, StoryFingerprint fingerprint, long[] bandKeys, LocalDateTime indexedAt) {
+            this.clusterId = clusterId;
+            this.fingerprint = fingerprint;
+            this.bandKeys = bandKeys;
+            this.indexedAt = indexedAt;
+        }
+    }
+}
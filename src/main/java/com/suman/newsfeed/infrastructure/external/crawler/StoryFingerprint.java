@@ -0,0 +1,182 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 기사 제목/요약의 MinHash 서명
+ * 한글은 조사를 떼어낸 어절의 글자 2-gram, 영문/숫자는 단어 단위로 shingle을 만들어
+ * 띄어쓰기나 조사, [속보] 같은 말머리만 다른 제목도 높은 유사도가 나오도록 합니다.
+ * 제목만 있는 플랫폼(구글)과 요약까지 있는 플랫폼을 비교할 수 있도록 제목 서명과 전체 서명을 따로 만듭니다.
+ */
+public class StoryFingerprint {
+
+    // 서명 길이 = 밴드 수 × 밴드당 행 수 (LSH)
+    public static final int BANDS = 20;
+    public static final int ROWS = 3;
+    public static final int SIGNATURE_SIZE = BANDS * ROWS;
+
+    // 말머리/괄호 표기 ([속보], (종합), <인터뷰> 등)
+    private static final Pattern BRACKETED = Pattern.compile("\\[[^]]*]|\\([^)]*\\)|<[^>]*>|【[^】]*】");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // 어절 끝 조사 (긴 것부터 검사)
+    private static final List<String> PARTICLES = List.of(
+            "에서는", "으로는", "에게서", "에서", "으로", "에게", "까지", "부터", "보다", "처럼",
+            "은", "는", "이", "가", "을", "를", "의", "에", "로", "와", "과", "도", "만");
+
+    // 서명 계산용 해시 계수 (재기동 후에도 같은 서명이 나오도록 고정 시드)
+    private static final long[] HASH_A = new long[SIGNATURE_SIZE];
+    private static final long[] HASH_B = new long[SIGNATURE_SIZE];
+
+    static {
+        Random random = new Random(0x5EED_CAFEL);
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            HASH_A[i] = random.nextLong() | 1L;
+            HASH_B[i] = random.nextLong();
+        }
+    }
+
+    private final long[] titleSignature;
+    // 요약이 없으면 null
+    private final long[] fullSignature;
+
+    private StoryFingerprint(long[] titleSignature, long[] fullSignature) {
+        this.titleSignature = titleSignature;
+        this.fullSignature = fullSignature;
+    }
+
+    /**
+     * 제목과 요약으로 서명 생성 (제목에서 shingle을 만들 수 없으면 null)
+     */
+    public static StoryFingerprint of(String title, String description) {
+        Set<Long> titleShingles = shingles(title);
+        if (titleShingles.isEmpty()) {
+            return null;
+        }
+
+        Set<Long> descriptionShingles = shingles(description);
+        long[] fullSignature = null;
+        if (!descriptionShingles.isEmpty()) {
+            Set<Long> fullShingles = new HashSet<>(titleShingles);
+            fullShingles.addAll(descriptionShingles);
+            fullSignature = minHash(fullShingles);
+        }
+        return new StoryFingerprint(minHash(titleShingles), fullSignature);
+    }
+
+    /**
+     * 추정 유사도 - 제목 서명과 (둘 다 요약이 있으면) 전체 서명 중 높은 값
+     */
+    public double similarity(StoryFingerprint other) {
+        double similarity = estimate(titleSignature, other.titleSignature);
+        if (fullSignature != null && other.fullSignature != null) {
+            similarity = Math.max(similarity, estimate(fullSignature, other.fullSignature));
+        }
+        return similarity;
+    }
+
+    /**
+     * LSH 밴드 키 목록 (제목/전체 서명별로 밴드마다 하나, 같은 키를 가진 기사가 비교 후보)
+     */
+    public long[] bandKeys() {
+        int count = fullSignature != null ? BANDS * 2 : BANDS;
+        long[] keys = new long[count];
+        for (int band = 0; band < BANDS; band++) {
+            keys[band] = bandKey(0, band, titleSignature);
+            if (fullSignature != null) {
+                keys[BANDS + band] = bandKey(1, band, fullSignature);
+            }
+        }
+        return keys;
+    }
+
+    static Set<Long> shingles(String text) {
+        Set<Long> shingles = new HashSet<>();
+        if (text == null || text.isBlank()) {
+            return shingles;
+        }
+
+        String normalized = NON_WORD.matcher(BRACKETED.matcher(text).replaceAll(" "))
+                .replaceAll(" ")
+                .toLowerCase(Locale.ROOT)
+                .trim();
+        for (String token : normalized.split(" ")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (isHangul(token.charAt(0))) {
+                String stem = stripParticle(token);
+                if (stem.length() == 1) {
+                    shingles.add(mix(stem.hashCode()));
+                }
+                for (int i = 0; i + 2 <= stem.length(); i++) {
+                    shingles.add(mix(stem.substring(i, i + 2).hashCode()));
+                }
+            } else {
+                shingles.add(mix(token.hashCode()));
+            }
+        }
+        return shingles;
+    }
+
+    private static String stripParticle(String token) {
+        for (String particle : PARTICLES) {
+            if (token.length() > particle.length() + 1 && token.endsWith(particle)) {
+                return token.substring(0, token.length() - particle.length());
+            }
+        }
+        return token;
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    private static long[] minHash(Set<Long> shingles) {
+        long[] signature = new long[SIGNATURE_SIZE];
+        // 부호 없는 비교 기준 최댓값으로 초기화
+        Arrays.fill(signature, -1L);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                long hash = mix(HASH_A[i] * shingle + HASH_B[i]);
+                if (Long.compareUnsigned(hash, signature[i]) < 0) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static double estimate(long[] a, long[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    private static long bandKey(int namespace, int band, long[] signature) {
+        long key = mix(namespace * 31L + band);
+        for (int row = 0; row < ROWS; row++) {
+            key = mix(key ^ signature[band * ROWS + row]);
+        }
+        return key;
+    }
+
+    // splitmix64
+    private static long mix(long value) {
+        value ^= value >>> 30;
+        value *= 0xbf58476d1ce4e5b9L;
+        value ^= value >>> 27;
+        value *= 0x94d049bb133111ebL;
+        value ^= value >>> 31;
+        return value;
+    }
+}
@@ -0,0 +1,203 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 뉴스 URL 정규화
+ * 같은 기사가 추적 파라미터, 모바일/데스크톱 호스트, 구글 뉴스 리다이렉트 링크 등 서로 다른 URL로 수집되는 것을
+ * 하나의 URL로 맞춰 중복 판단과 저장에 사용합니다. 정규화할 수 없는 URL은 원본을 그대로 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlCanonicalizer {
+
+    // 호스트 앞에 붙는 모바일/기본 접두어 (m.news.naver.com → news.naver.com)
+    private static final List<String> HOST_PREFIXES = List.of("www.", "m.", "mobile.", "amp.");
+
+    // 네이버 뉴스 기사 링크 (n.news.naver.com/mnews/article/001/0012345678?sid=101 등)
+    private static final Pattern NAVER_ARTICLE = Pattern.compile("^/(?:mnews/)?article/(\\d+)/(\\d+)");
+
+    // 구글 뉴스 기사 ID 링크 (/read/CBMi..., /articles/CBMi..., /rss/articles/CBMi...)
+    private static final Pattern GOOGLE_NEWS_ARTICLE = Pattern.compile("^/(?:rss/)?(?:read|articles)/([A-Za-z0-9_-]+)");
+
+    private final CrawlerProperties crawlerProperties;
+
+    /**
+     * URL 정규화 (스킴/호스트 통일, 추적 파라미터 및 fragment 제거, 리다이렉트 링크 해석)
+     */
+    public String canonicalize(String url) {
+        if (url == null || url.isBlank()) {
+            return url;
+        }
+
+        try {
+            URI uri = new URI(url.trim());
+            if (uri.getHost() == null) {
+                return url.trim();
+            }
+
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+
+            // 구글 리다이렉트 링크는 실제 기사 URL로 치환 후 다시 정규화
+            String redirectTarget = resolveRedirect(host, path, uri.getRawQuery());
+            if (redirectTarget != null && !redirectTarget.equals(url)) {
+                return canonicalize(redirectTarget);
+            }
+
+            host = stripHostPrefix(host);
+
+            // 네이버 뉴스는 호스트/경로 변형이 많아 기사 식별자(언론사 ID, 기사 ID)만 남김
+            if (host.endsWith("news.naver.com")) {
+                Matcher matcher = NAVER_ARTICLE.matcher(path);
+                if (matcher.find()) {
+                    return "https://n.news.naver.com/article/" + matcher.group(1) + "/" + matcher.group(2);
+                }
+            }
+
+            if (path.length() > 1 && path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            // 구글 뉴스 기사 링크의 쿼리는 언어/지역 정보뿐이므로 제거
+            String query = host.equals("news.google.com") ? null : filterQuery(uri.getRawQuery());
+
+            StringBuilder canonical = new StringBuilder("https://").append(host);
+            if (uri.getPort() != -1 && uri.getPort() != 80 && uri.getPort() != 443) {
+                canonical.append(':').append(uri.getPort());
+            }
+            canonical.append(path);
+            if (query != null) {
+                canonical.append('?').append(query);
+            }
+            return canonical.toString();
+
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            log.debug("URL 정규화 실패 - 원본 사용: {}, 오류: {}", url, e.getMessage());
+            return url.trim();
+        }
+    }
+
+    /**
+     * 리다이렉트 링크의 실제 기사 URL (리다이렉트가 아니거나 해석할 수 없으면 null)
+     */
+    private String resolveRedirect(String host, String path, String rawQuery) {
+        // google.com/url?q=... 또는 url=... 형태
+        if (host.endsWith("google.com") && path.equals("/url")) {
+            String target = queryValue(rawQuery, "q");
+            return target != null ? target : queryValue(rawQuery, "url");
+        }
+
+        if (host.equals("news.google.com")) {
+            Matcher matcher = GOOGLE_NEWS_ARTICLE.matcher(path);
+            if (matcher.find()) {
+                return decodeGoogleArticleId(matcher.group(1));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 구글 뉴스 기사 ID 해석
+     * 기존 형식(CBMi...)은 base64url로 인코딩된 데이터 안에 원문 URL이 그대로 들어 있어 추출할 수 있습니다.
+     * 서버 조회가 필요한 신규 형식은 해석하지 않고 구글 뉴스 링크를 그대로 사용합니다.
+     */
+    private String decodeGoogleArticleId(String articleId) {
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(padBase64(articleId));
+            String text = new String(decoded, StandardCharsets.ISO_8859_1);
+            int start = text.indexOf("http");
+            if (start < 0) {
+                return null;
+            }
+            int end = start;
+            while (end < text.length() && text.charAt(end) > 0x20 && text.charAt(end) < 0x7f) {
+                end++;
+            }
+            String target = text.substring(start, end);
+            return target.startsWith("http://") || target.startsWith("https://") ? target : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String padBase64(String value) {
+        int remainder = value.length() % 4;
+        return remainder == 0 ? value : value + "====".substring(remainder);
+    }
+
+    private String stripHostPrefix(String host) {
+        for (String prefix : HOST_PREFIXES) {
+            // 접두어를 제거해도 도메인이 남는 경우만 (m.com 같은 호스트는 유지)
+            if (host.startsWith(prefix) && host.indexOf('.', prefix.length()) > 0) {
+                return host.substring(prefix.length());
+            }
+        }
+        return host;
+    }
+
+    /**
+     * 추적 파라미터를 제거하고 나머지 파라미터를 이름순으로 정렬 (남는 파라미터가 없으면 null)
+     */
+    private String filterQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return null;
+        }
+
+        List<String> params = new ArrayList<>();
+        for (String param : rawQuery.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+            if (!isTrackingParam(name)) {
+                params.add(param);
+            }
+        }
+
+        if (params.isEmpty()) {
+            return null;
+        }
+        params.sort(null);
+        return String.join("&", params);
+    }
+
+    private boolean isTrackingParam(String name) {
+        for (String pattern : crawlerProperties.getDedup().getTrackingParams()) {
+            if (pattern.endsWith("*")
+                    ? name.startsWith(pattern.substring(0, pattern.length() - 1))
+                    : name.equals(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String queryValue(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String param : rawQuery.split("&")) {
+            String[] pair = param.split("=", 2);
+            if (pair.length == 2 && pair[0].equals(name) && !pair[1].isEmpty()) {
+                return URLDecoder.decode(pair[1], StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
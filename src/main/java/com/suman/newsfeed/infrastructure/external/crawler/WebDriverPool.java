@@ -0,0 +1,307 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤러 전략들이 공유하는 ChromeDriver 풀
+ * 키워드마다 Chrome 프로세스를 새로 띄우는 대신, 제한된 수의 브라우저를 재사용합니다.
+ * 대여 시 헬스 체크, 반납 시 쿠키/스토리지 초기화, 최대 사용 횟수 초과 시 재생성을 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebDriverPool {
+
+    private final CrawlerProperties crawlerProperties;
+    private final ResourceBlocker resourceBlocker;
+
+    // 반납된 유휴 브라우저 (최근 반납된 것부터 재사용)
+    private final BlockingDeque<PooledWebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    // 대여 중인 브라우저
+    private final Map<WebDriver, PooledWebDriver> leasedDrivers = new ConcurrentHashMap<>();
+
+    private Semaphore permits;
+    // 드라이버 바이너리 설정 시도 여부 (첫 브라우저 생성 때 한 번만 수행)
+    private volatile boolean driverSetupAttempted;
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(crawlerProperties.getPool().getSize(), true);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 브라우저 사전 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int warmUpSize = Math.min(crawlerProperties.getPool().getWarmUpSize(), crawlerProperties.getPool().getSize());
+        for (int i = 0; i < warmUpSize; i++) {
+            try {
+                idleDrivers.offerLast(new PooledWebDriver(createDriver()));
+            } catch (Exception e) {
+                log.warn("WebDriver 사전 생성 실패: {}", e.getMessage());
+                return;
+            }
+        }
+        log.info("WebDriver 풀 준비 완료 - 유휴: {}개, 최대: {}개", idleDrivers.size(), crawlerProperties.getPool().getSize());
+    }
+
+    /**
+     * 브라우저 대여
+     * 풀이 가득 찬 경우 borrowTimeout 동안 대기하며, 대여한 브라우저는 반드시 release로 반납해야 합니다.
+     */
+    public WebDriver borrow() {
+        try {
+            if (!permits.tryAcquire(crawlerProperties.getPool().getBorrowTimeout(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("WebDriver 풀 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("WebDriver 대여 중 인터럽트 발생", e);
+        }
+
+        try {
+            PooledWebDriver pooled;
+            while ((pooled = idleDrivers.pollFirst()) != null) {
+                if (isHealthy(pooled.getDriver())) {
+                    break;
+                }
+                log.info("비정상 WebDriver 폐기 (사용 횟수: {})", pooled.getUseCount());
+                quitQuietly(pooled.getDriver());
+            }
+
+            if (pooled == null) {
+                pooled = new PooledWebDriver(createDriver());
+            }
+
+            pooled.increaseUseCount();
+            leasedDrivers.put(pooled.getDriver(), pooled);
+            return pooled.getDriver();
+
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 플랫폼 크롤링 프로필(이미지/폰트/미디어 및 광고·분석 도메인 차단)을 적용한 브라우저 대여
+     */
+    public WebDriver borrow(NewsPlatform platform) {
+        WebDriver driver = borrow();
+        resourceBlocker.apply(driver, platform);
+        return driver;
+    }
+
+    /**
+     * 브라우저 반납
+     * 상태 초기화에 실패하거나 최대 사용 횟수에 도달한 브라우저는 폐기합니다.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+
+        PooledWebDriver pooled = leasedDrivers.remove(driver);
+        if (pooled == null) {
+            log.warn("풀에서 대여하지 않은 WebDriver 반납 요청 - 종료 처리합니다.");
+            quitQuietly(driver);
+            return;
+        }
+
+        try {
+            if (pooled.getUseCount() >= crawlerProperties.getPool().getMaxUses()) {
+                log.debug("WebDriver 최대 사용 횟수 도달 - 재생성 대상 ({}회)", pooled.getUseCount());
+                quitQuietly(driver);
+            } else if (resetState(driver)) {
+                idleDrivers.offerFirst(pooled);
+            } else {
+                quitQuietly(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        PooledWebDriver pooled;
+        while ((pooled = idleDrivers.pollFirst()) != null) {
+            quitQuietly(pooled.getDriver());
+        }
+        leasedDrivers.keySet().forEach(this::quitQuietly);
+        leasedDrivers.clear();
+        log.info("WebDriver 풀 종료 완료");
+    }
+
+    /**
+     * Chrome WebDriver 생성
+     */
+    private WebDriver createDriver() {
+        setUpDriverBinary();
+        try {
+            ChromeOptions options = new ChromeOptions();
+
+            // DOMContentLoaded 시점에 driver.get() 반환 - 이후 준비 완료 판단은 PageReadinessWaiter가 담당
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+
+            if (crawlerProperties.getHeadless()) {
+                options.addArguments("--headless");
+            }
+
+            // 성능 및 메모리 최적화 옵션
+            options.addArguments("--no-sandbox");
+            options.addArguments("--disable-dev-shm-usage");
+            options.addArguments("--disable-gpu");
+            options.addArguments("--window-size=1920,1080");
+            options.addArguments("--user-agent=Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
+            options.addArguments("--disable-background-timer-throttling");
+            options.addArguments("--disable-backgrounding-occluded-windows");
+            options.addArguments("--disable-renderer-backgrounding");
+            options.addArguments("--disable-features=TranslateUI");
+            options.addArguments("--disable-ipc-flooding-protection");
+
+            // 자동화 감지 방지
+            options.addArguments("--disable-blink-features=AutomationControlled");
+            options.setExperimentalOption("excludeSwitches", List.of("enable-automation"));
+            options.setExperimentalOption("useAutomationExtension", false);
+
+            ChromeDriver driver = new ChromeDriver(options);
+
+            // 모든 문서 로드 시점에 navigator.webdriver 숨김 (드라이버 재사용 시에도 유지)
+            driver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", "Object.defineProperty(navigator, 'webdriver', {get: () => undefined})"));
+
+            log.debug("Chrome WebDriver 생성 완료");
+            return driver;
+
+        } catch (Exception e) {
+            log.error("WebDriver 초기화 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("WebDriver 초기화 실패", e);
+        }
+    }
+
+    /**
+     * Chrome WebDriver 바이너리 자동 설정 (네트워크 다운로드가 필요할 수 있어 기동 시가 아닌 첫 브라우저 생성 때 수행)
+     * 실패해도 풀은 계속 사용하며, 설치된 chromedriver나 Selenium의 드라이버 탐색으로 브라우저 생성을 시도합니다.
+     */
+    private void setUpDriverBinary() {
+        if (driverSetupAttempted) {
+            return;
+        }
+        synchronized (this) {
+            if (driverSetupAttempted) {
+                return;
+            }
+            try {
+                WebDriverManager.chromedriver().setup();
+            } catch (Exception e) {
+                log.warn("Chrome WebDriver 자동 설정 실패 - 설치된 드라이버를 사용합니다: {}", e.getMessage());
+            } finally {
+                driverSetupAttempted = true;
+            }
+        }
+    }
+
+    /**
+     * 헬스 체크 - 세션이 살아 있고 스크립트 실행이 가능한지 확인
+     */
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return ((JavascriptExecutor) driver).executeScript("return 1;") != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * 다음 대여자를 위한 상태 초기화 (추가 탭 정리, 쿠키/스토리지 삭제, 빈 페이지 이동)
+     */
+    private boolean resetState(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String mainHandle = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(mainHandle)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(mainHandle);
+
+            // 이전 대여자가 등록한 DevTools 리스너/세션(요청 차단 설정 포함) 정리
+            DevToolsSupport.reset(driver);
+
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+
+            if (driver instanceof ChromiumDriver chromiumDriver) {
+                chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+
+            driver.get("about:blank");
+            return true;
+
+        } catch (Exception e) {
+            log.warn("WebDriver 상태 초기화 실패 - 폐기합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.warn("WebDriver 종료 중 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 풀에서 관리되는 WebDriver와 사용 횟수
+     */
+    private static class PooledWebDriver {
+        private final WebDriver driver;
+        private int useCount;
+
+        PooledWebDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        WebDriver getDriver() {
+            return driver;
+        }
+
+        int getUseCount() {
+            return useCount;
+        }
+
+        void increaseUseCount() {
+            useCount++;
+        }
+    }
+}
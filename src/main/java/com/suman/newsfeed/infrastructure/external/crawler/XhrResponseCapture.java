@@ -0,0 +1,212 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과 XHR/Fetch JSON 응답 캡처
+ * 포털이 내부 JSON API로 결과 목록을 채우는 경우, DOM을 탐색하지 않고 응답 본문에서 바로 뉴스 아이템을 추출합니다.
+ * 플랫폼별 API URL 패턴(crawler.capture.url-patterns)에 맞는 JSON 응답만 대상으로 하며,
+ * 매칭되는 응답이 없으면 빈 목록을 반환하므로 호출 측에서 DOM 파싱으로 폴백합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class XhrResponseCapture {
+
+    private static final List<String> TITLE_FIELDS = List.of("title", "headline", "tit");
+    private static final List<String> URL_FIELDS = List.of("originallink", "url", "link", "href", "contentUrl");
+    private static final List<String> DESCRIPTION_FIELDS = List.of("description", "summary", "contents", "desc");
+    private static final List<String> SOURCE_FIELDS = List.of("press", "source", "publisher", "cpName", "officeName");
+    private static final List<String> TIME_FIELDS = List.of("pubDate", "datetime", "publishedAt", "date", "regDate");
+
+    // 링크 검증 등으로 일부 아이템이 제외될 수 있으므로 요청 개수보다 여유 있게 추출
+    private static final int CANDIDATE_MULTIPLIER = 3;
+
+    private final CrawlerProperties crawlerProperties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CrawlFixtureStore crawlFixtureStore;
+
+    /**
+     * 페이지 이동 전에 호출 - 이후 수신되는 JSON 응답 중 플랫폼 API 패턴에 맞는 요청을 기록
+     */
+    public Capture start(WebDriver driver, NewsPlatform platform) {
+        List<String> urlPatterns = crawlerProperties.getCapture().getUrlPatterns().getOrDefault(platform, List.of());
+        if (!crawlerProperties.getCapture().getEnabled() || urlPatterns.isEmpty()) {
+            return Capture.disabled(platform);
+        }
+
+        try {
+            Optional<DevTools> devTools = DevToolsSupport.open(driver);
+            if (devTools.isEmpty()) {
+                return Capture.disabled(platform);
+            }
+
+            Capture capture = new Capture(platform, devTools.get(), toPattern(urlPatterns));
+            DevToolsSupport.send(capture.devTools, "Network.enable", Map.of());
+            DevToolsSupport.listen(capture.devTools, "Network.responseReceived", capture::onResponse);
+            return capture;
+
+        } catch (Exception e) {
+            log.debug("XHR 응답 캡처 불가 [{}] - DOM 파싱만 사용합니다: {}", platform, e.getMessage());
+            return Capture.disabled(platform);
+        }
+    }
+
+    /**
+     * 페이지 준비 완료 후 호출 - 기록된 응답 본문을 읽어 뉴스 아이템으로 변환
+     */
+    public List<ExtractedNewsItem> collect(Capture capture, int maxItems) {
+        List<ExtractedNewsItem> items = new ArrayList<>();
+        if (capture.devTools == null || capture.requestIds.isEmpty()) {
+            return items;
+        }
+
+        int limit = maxItems * CANDIDATE_MULTIPLIER;
+        for (String requestId : capture.requestIds) {
+            if (items.size() >= limit) break;
+            try {
+                Map<String, Object> result = DevToolsSupport.sendForResult(capture.devTools, "Network.getResponseBody", Map.of("requestId", requestId));
+                String body = String.valueOf(result.get("body"));
+                if (Boolean.TRUE.equals(result.get("base64Encoded"))) {
+                    body = new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8);
+                }
+                crawlFixtureStore.record(capture.requestUrls.get(requestId), body, CrawlFixtureStore.JSON);
+                items.addAll(extractItems(objectMapper.readTree(body), limit - items.size()));
+            } catch (Exception e) {
+                log.debug("XHR 응답 본문 조회 실패 [{}] - requestId: {}, 오류: {}", capture.platform, requestId, e.getMessage());
+            }
+        }
+
+        meterRegistry.counter("crawler.capture.items", "platform", capture.platform.name()).increment(items.size());
+        log.debug("XHR 응답 추출 완료 [{}] - 응답 {}개, 후보 {}개", capture.platform, capture.requestIds.size(), items.size());
+        return items;
+    }
+
+    /**
+     * JSON 응답 본문에서 뉴스 아이템을 최대 limit개 추출
+     */
+    List<ExtractedNewsItem> extractItems(JsonNode root, int limit) {
+        List<ExtractedNewsItem> items = new ArrayList<>();
+        walk(root, items, limit);
+        return items;
+    }
+
+    /**
+     * JSON 트리를 순회하며 제목과 URL을 모두 가진 객체를 뉴스 아이템으로 수집
+     */
+    private void walk(JsonNode node, List<ExtractedNewsItem> items, int limit) {
+        if (items.size() >= limit) {
+            return;
+        }
+
+        if (node.isObject()) {
+            String title = firstText(node, TITLE_FIELDS);
+            String url = firstText(node, URL_FIELDS);
+            if (title != null && url != null && url.startsWith("http")) {
+                ExtractedNewsItem item = new ExtractedNewsItem();
+                item.setTitle(title);
+                item.setLinks(List.of(url));
+                item.setDescription(firstText(node, DESCRIPTION_FIELDS));
+                item.setSource(firstText(node, SOURCE_FIELDS));
+                String time = firstText(node, TIME_FIELDS);
+                item.setTimes(time != null ? List.of(time) : List.of());
+                items.add(item);
+                return;
+            }
+        }
+
+        if (node.isContainerNode()) {
+            node.elements().forEachRemaining(child -> walk(child, items, limit));
+        }
+    }
+
+    // HTML 조각이 포함된 값(검색어 강조 태그 등)은 텍스트만 사용
+    private static String firstText(JsonNode node, List<String> fields) {
+        for (String field : fields) {
+            JsonNode value = node.get(field);
+            if (value != null && value.isTextual() && !value.asText().isBlank()) {
+                String text = value.asText().trim();
+                return text.contains("<") ? Jsoup.parse(text).text() : text;
+            }
+        }
+        return null;
+    }
+
+    // 와일드카드(*) URL 패턴 목록을 하나의 정규식으로 변환
+    static Pattern toPattern(List<String> urlPatterns) {
+        return Pattern.compile(urlPatterns.stream()
+                .map(pattern -> Arrays.stream(pattern.split("\\*", -1))
+                        .map(Pattern::quote)
+                        .collect(Collectors.joining(".*")))
+                .collect(Collectors.joining("|")));
+    }
+
+    /**
+     * 한 페이지 로드 동안의 캡처 상태
+     */
+    public static class Capture {
+        private final NewsPlatform platform;
+        private final DevTools devTools;
+        private final Pattern urlPattern;
+        // 응답 수신 순서 유지 (페이지 상단 결과부터 추출)
+        private final CopyOnWriteArrayList<String> requestIds = new CopyOnWriteArrayList<>();
+        // 요청 ID별 요청 URL (기록 모드에서 저장 키로 사용)
+        private final Map<String, String> requestUrls = new ConcurrentHashMap<>();
+
+        Capture(NewsPlatform platform, DevTools devTools, Pattern urlPattern) {
+            this.platform = platform;
+            this.devTools = devTools;
+            this.urlPattern = urlPattern;
+        }
+
+        static Capture disabled(NewsPlatform platform) {
+            return new Capture(platform, null, null);
+        }
+
+        // 기록된 요청 ID (수신 순서)
+        List<String> getRequestIds() {
+            return List.copyOf(requestIds);
+        }
+
+        @SuppressWarnings("unchecked")
+        void onResponse(Map<String, Object> params) {
+            Object type = params.get("type");
+            if (!"XHR".equals(type) && !"Fetch".equals(type)) {
+                return;
+            }
+            Map<String, Object> response = (Map<String, Object>) params.get("response");
+            if (response == null) {
+                return;
+            }
+            String mimeType = String.valueOf(response.get("mimeType"));
+            String url = String.valueOf(response.get("url"));
+            if (mimeType.contains("json") && urlPattern.matcher(url).matches()) {
+                String requestId = String.valueOf(params.get("requestId"));
+                requestUrls.put(requestId, url);
+                requestIds.addIfAbsent(requestId);
+            }
+        }
+    }
+}
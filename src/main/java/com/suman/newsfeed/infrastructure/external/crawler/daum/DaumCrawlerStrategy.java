@@ -1,15 +1,24 @@
 package com.suman.newsfeed.infrastructure.external.crawler.daum;
 
+import com.suman.newsfeed.infrastructure.external.crawler.AbstractSearchCrawlerStrategy;
 import com.suman.newsfeed.infrastructure.external.crawler.CrawlerStrategy;
+import com.suman.newsfeed.infrastructure.external.crawler.ExtractedNewsItem;
+import com.suman.newsfeed.infrastructure.external.crawler.ExtractionSelectors;
+import com.suman.newsfeed.infrastructure.external.crawler.HttpPageFetcher;
+import com.suman.newsfeed.infrastructure.external.crawler.MultiTabCrawler;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsDataDto;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.suman.newsfeed.infrastructure.external.crawler.PageReadinessWaiter;
+import com.suman.newsfeed.infrastructure.external.crawler.ReadinessCondition;
+import com.suman.newsfeed.infrastructure.external.crawler.ScriptNewsExtractor;
+import com.suman.newsfeed.infrastructure.external.crawler.WebDriverPool;
+import com.suman.newsfeed.infrastructure.external.crawler.XhrResponseCapture;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -19,14 +28,24 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 
 @Slf4j
 @Component
-public class DaumCrawlerStrategy implements CrawlerStrategy {
+@RequiredArgsConstructor
+public class DaumCrawlerStrategy extends AbstractSearchCrawlerStrategy {
+
+    private final WebDriverPool webDriverPool;
+    private final HttpPageFetcher httpPageFetcher;
+    private final PageReadinessWaiter pageReadinessWaiter;
+    private final ScriptNewsExtractor scriptNewsExtractor;
+    private final MultiTabCrawler multiTabCrawler;
+    private final XhrResponseCapture xhrResponseCapture;
 
     @Value("${daum.enabled:true}")
     private Boolean enabled;
@@ -34,11 +53,26 @@ public class DaumCrawlerStrategy implements CrawlerStrategy {
     @Value("${daum.timeout:15000}")
     private Integer timeout;
 
-    @Value("${daum.headless:true}")
-    private Boolean headless;
+    // 검색 URL 템플릿 재정의 (기록 재생 서버 등, 비어 있으면 기본 URL)
+    @Value("${daum.search-url:}")
+    private String searchUrl;
+
+    // 다음 뉴스 검색 URL 패턴 (sort=recency: 최신순, p: 결과 페이지 번호, 1부터 / 페이지당 10건)
+    private static final String DAUM_NEWS_SEARCH_URL = "https://search.daum.net/search?nil_suggest=btn&w=news&DA=SBC&cluster=y&sort=recency&q=%s&p=%d";
+
+    // 검색 결과 렌더링 완료 조건 (결과 목록 출현 + DOM 변경 정지)
+    private static final ReadinessCondition READINESS_CONDITION = ReadinessCondition.builder()
+            .resultSelectors(List.of("ul.c-list-basic", "ul.list_news", ".c-item"))
+            .domQuietMillis(300)
+            .build();
 
-    // 다음 뉴스 검색 URL 패턴
-    private static final String DAUM_NEWS_SEARCH_URL = "https://search.daum.net/search?nil_suggest=btn&w=news&DA=SBC&cluster=y&q=%s";
+    // 스크립트 추출 선택자 (우선순위 순)
+    private static final ExtractionSelectors EXTRACTION_SELECTORS = ExtractionSelectors.builder()
+            .containers(List.of("li", ".wrap_cont", "[class*='news']", ".c-item", ".item"))
+            .title(List.of("a", "strong", ".tit, .title", "h3, h4", "[class*='title']", "[class*='tit']"))
+            .link(List.of("a[href*='news']", "a[href*='article']", "a[href^='http']", "a[href^='/']", "a"))
+            .description(List.of(".desc", ".summary", ".cont", "p", ".description"))
+            .build();
 
 
     @Override
@@ -47,30 +81,38 @@ public class DaumCrawlerStrategy implements CrawlerStrategy {
     }
 
     @Override
-    public List<NewsDataDto> crawlNews(String keyword, Long pageNumber, int pageSize) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            log.warn("키워드가 비어있습니다.");
-            return new ArrayList<>();
-        }
+    protected Map<String, List<NewsDataDto>> crawlWithSeleniumTabs(Map<String, Long> keywordPages, int pageSize) {
+        Map<String, String> seleniumUrls = new LinkedHashMap<>();
+        keywordPages.forEach((keyword, pageNumber) -> seleniumUrls.put(keyword, buildSearchUrl(keyword, pageNumber)));
+        return multiTabCrawler.crawl(seleniumUrls, getPlatform(), READINESS_CONDITION,
+                Duration.ofMillis(timeout), (driver, keyword) -> parseNewsItemsWithScript(driver, keyword, pageSize));
+    }
 
+    /**
+     * Selenium(브라우저)을 사용한 크롤링
+     */
+    @Override
+    protected List<NewsDataDto> crawlWithSelenium(String keyword, Long pageNumber, int pageSize) {
         WebDriver driver = null;
         try {
             log.info("다음 뉴스 크롤링 시작 (Selenium) - 키워드: {}, 페이지: {}, 크기: {}", keyword, pageNumber, pageSize);
 
-            // WebDriver 초기화
-            driver = initializeWebDriver();
+            // 풀에서 WebDriver 대여 (플랫폼별 리소스 차단 적용)
+            driver = webDriverPool.borrow(getPlatform());
 
             // 검색 URL 생성 및 접속
-            String url = buildSearchUrl(keyword);
+            String url = buildSearchUrl(keyword, pageNumber);
             log.debug("크롤링 URL: {}", url);
 
-            driver.get(url);
+            // 검색 결과 JSON 응답 캡처 시작 후 페이지 이동, 결과 렌더링 완료까지 대기
+            XhrResponseCapture.Capture capture = xhrResponseCapture.start(driver, getPlatform());
+            pageReadinessWaiter.load(driver, url, getPlatform(), READINESS_CONDITION, Duration.ofMillis(timeout));
 
-            // 페이지 로딩 대기
-            waitForPageLoad(driver);
-
-            // 뉴스 아이템 파싱
-            List<NewsDataDto> newsList = parseNewsItemsWithSelenium(driver, keyword, pageSize);
+            // 캡처된 JSON 응답에서 우선 추출, 없으면 DOM 파싱 (스크립트 1회 실행)
+            List<NewsDataDto> newsList = toNewsDataList(xhrResponseCapture.collect(capture, pageSize), keyword, pageSize);
+            if (newsList.isEmpty()) {
+                newsList = parseNewsItemsWithScript(driver, keyword, pageSize);
+            }
 
             log.info("다음 뉴스 크롤링 완료 - 키워드: {}, 수집된 뉴스: {}개", keyword, newsList.size());
             return newsList;
@@ -79,344 +121,143 @@ public class DaumCrawlerStrategy implements CrawlerStrategy {
             log.error("다음 뉴스 크롤링 중 오류 발생 - 키워드: {}, 오류: {}", keyword, e.getMessage(), e);
             return new ArrayList<>();
         } finally {
-            // WebDriver 정리
-            if (driver != null) {
-                try {
-                    driver.quit();
-                } catch (Exception e) {
-                    log.warn("WebDriver 종료 중 오류: {}", e.getMessage());
-                }
-            }
+            // WebDriver 반납 (상태 초기화 후 재사용)
+            webDriverPool.release(driver);
         }
     }
 
     /**
-     * WebDriver 초기화 (WebDriverManager 사용)
+     * 브라우저 없이 HTTP 요청 + Jsoup 파싱으로 크롤링
      */
-    private WebDriver initializeWebDriver() {
-        try {
-            // Chrome WebDriver 자동 다운로드 및 설정
-            WebDriverManager.chromedriver().setup();
-
-            ChromeOptions options = new ChromeOptions();
-
-            // 헤드리스 모드 설정
-            if (headless) {
-                options.addArguments("--headless");
-            }
-
-            // 성능 최적화 옵션
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-dev-shm-usage");
-            options.addArguments("--disable-gpu");
-            options.addArguments("--window-size=1920,1080");
-            options.addArguments("--user-agent=Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
-
-            // 추가 설정
-            options.addArguments("--disable-blink-features=AutomationControlled");
-            options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
-            options.setExperimentalOption("useAutomationExtension", false);
-
-            WebDriver driver = new ChromeDriver(options);
-
-            // JavaScript 실행으로 자동화 감지 방지
-            ((JavascriptExecutor) driver).executeScript("Object.defineProperty(navigator, 'webdriver', {get: () => undefined})");
-
-            log.debug("WebDriver 초기화 완료");
-            return driver;
-
-        } catch (Exception e) {
-            log.error("WebDriver 초기화 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("WebDriver 초기화 실패", e);
+    @Override
+    protected List<NewsDataDto> crawlWithHttp(String keyword, Long pageNumber, int pageSize) {
+        if (!httpPageFetcher.isEnabled()) {
+            return new ArrayList<>();
         }
-    }
-
-    /**
-     * 검색 URL 생성
-     */
-    private String buildSearchUrl(String keyword) throws Exception {
-        String encodedKeyword = URLEncoder.encode(keyword.trim(), StandardCharsets.UTF_8);
-        return String.format(DAUM_NEWS_SEARCH_URL, encodedKeyword);
-    }
 
-    /**
-     * 페이지 로딩 대기
-     */
-    private void waitForPageLoad(WebDriver driver) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-
-            // 페이지 로딩 완료 대기
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+            Document document = httpPageFetcher.fetch(buildSearchUrl(keyword, pageNumber), getPlatform());
+            List<NewsDataDto> newsList = parseNewsItemsWithJsoup(document, keyword, pageSize);
 
-            // 추가 대기 (JavaScript 실행 완료 대기)
-            Thread.sleep(3000);
+            log.info("다음 뉴스 정적 파싱 완료 - 키워드: {}, 수집된 뉴스: {}개", keyword, newsList.size());
+            return newsList;
 
-            log.debug("페이지 로딩 완료");
         } catch (Exception e) {
-            log.warn("페이지 로딩 대기 중 오류: {}", e.getMessage());
+            log.warn("다음 뉴스 정적 파싱 실패 - 키워드: {}, 오류: {}", keyword, e.getMessage());
+            return new ArrayList<>();
         }
     }
 
     /**
-     * Selenium을 사용한 뉴스 아이템 파싱
+     * Jsoup을 사용한 뉴스 아이템 파싱 (서버 렌더링된 검색 결과)
      */
-    private List<NewsDataDto> parseNewsItemsWithSelenium(WebDriver driver, String keyword, int maxItems) {
+    private List<NewsDataDto> parseNewsItemsWithJsoup(Document document, String keyword, int maxItems) {
         List<NewsDataDto> newsList = new ArrayList<>();
 
-        try {
-            // 다음 뉴스 검색 결과 컨테이너 (여러 선택자 시도)
-            List<By> selectors = List.of(
-                    By.cssSelector("li"),
-                    By.cssSelector(".wrap_cont"),
-                    By.cssSelector("[class*='news']"),
-                    By.cssSelector(".c-item"),
-                    By.cssSelector(".item")
-            );
-
-            List<WebElement> newsContainers = new ArrayList<>();
-            String usedSelector = null;
-
-            for (By selector : selectors) {
-                try {
-                    List<WebElement> elements = driver.findElements(selector);
-                    if (!elements.isEmpty()) {
-                        newsContainers = elements;
-                        usedSelector = selector.toString();
-                        break;
-                    }
-                } catch (Exception e) {
-                    log.debug("선택자 {} 실패: {}", selector, e.getMessage());
-                }
-            }
-
-            if (newsContainers.isEmpty()) {
-                log.warn("뉴스 컨테이너를 찾을 수 없습니다. 페이지 소스 일부: {}",
-                        driver.getPageSource().substring(0, Math.min(1000, driver.getPageSource().length())));
-                return newsList;
+        Elements containers = new Elements();
+        for (String selector : List.of("ul.c-list-basic > li", "ul.list_news > li", ".c-item", ".wrap_cont")) {
+            containers = document.select(selector);
+            if (!containers.isEmpty()) {
+                break;
             }
+        }
 
-            log.info("선택자 '{}'로 {}개의 뉴스 컨테이너를 찾았습니다", usedSelector, newsContainers.size());
-
-            // 디버깅: 첫 번째 컨테이너의 HTML 구조 상세 분석
-            if (!newsContainers.isEmpty()) {
-                WebElement firstContainer = newsContainers.get(0);
-                String containerHtml = firstContainer.getAttribute("outerHTML");
-                log.info("첫 번째 컨테이너 HTML (전체): {}", containerHtml);
+        for (Element container : containers) {
+            if (newsList.size() >= maxItems) break;
 
-                // 컨테이너 내부의 모든 요소 분석
-                analyzeContainerStructure(firstContainer);
+            Element titleElement = selectFirst(container, ".item-title a", ".tit-g a", "strong.tit_main a", "a.tit_main");
+            if (titleElement == null) {
+                continue;
             }
 
-            int itemCount = 0;
-            int parseSuccessCount = 0;
-            int parseFailCount = 0;
-
-            for (WebElement container : newsContainers) {
-                if (itemCount >= maxItems) break;
-
-                try {
-                    NewsDataDto news = parseNewsItemWithSelenium(container, keyword);
-                    if (news != null) {
-                        newsList.add(news);
-                        itemCount++;
-                        parseSuccessCount++;
-                        log.debug("뉴스 추가됨: {}", news.getTitle());
-                    } else {
-                        parseFailCount++;
-                    }
-                } catch (Exception e) {
-                    parseFailCount++;
-                    log.warn("개별 뉴스 아이템 파싱 실패: {}", e.getMessage());
-                }
+            String title = titleElement.text().trim();
+            String link = titleElement.absUrl("href");
+            if (title.isEmpty() || !isValidNewsLink(link)) {
+                continue;
+            }
+            if (title.length() > 100) {
+                title = title.substring(0, 100) + "...";
             }
 
-            log.info("파싱 결과 - 성공: {}개, 실패: {}개, 총 수집: {}개",
-                    parseSuccessCount, parseFailCount, newsList.size());
+            Element descElement = selectFirst(container, ".conts-desc", ".desc", ".summary", "p");
+            String description = descElement != null ? descElement.text().trim() : "";
+            if (description.isEmpty()) {
+                description = title;
+            } else if (description.length() > 200) {
+                description = description.substring(0, 200) + "...";
+            }
 
-        } catch (Exception e) {
-            log.error("뉴스 아이템 파싱 중 오류: {}", e.getMessage(), e);
+            newsList.add(new NewsDataDto(title, "", description, link, keyword, getPlatform()));
         }
 
         return newsList;
     }
 
     /**
-     * 컨테이너 구조 분석 (디버깅용)
+     * 우선순위 순으로 선택자를 시도하여 첫 번째로 매칭되는 요소 반환
      */
-    private void analyzeContainerStructure(WebElement container) {
-        try {
-            log.info("=== 컨테이너 구조 분석 시작 ===");
-
-            // 모든 하위 요소 찾기
-            List<WebElement> allElements = container.findElements(By.cssSelector("*"));
-            log.info("컨테이너 내 총 요소 수: {}", allElements.size());
-
-            // 각 요소의 태그명, 클래스, 텍스트 분석
-            for (int i = 0; i < Math.min(20, allElements.size()); i++) {
-                WebElement element = allElements.get(i);
-                String tagName = element.getTagName();
-                String className = element.getAttribute("class");
-                String text = element.getText().trim();
-                String href = element.getAttribute("href");
-
-                if (!text.isEmpty() || (href != null && !href.isEmpty())) {
-                    log.info("요소 {}: 태그={}, 클래스={}, 텍스트='{}', href='{}'",
-                            i, tagName, className, text, href);
-                }
+    private Element selectFirst(Element container, String... selectors) {
+        for (String selector : selectors) {
+            Element element = container.selectFirst(selector);
+            if (element != null) {
+                return element;
             }
-
-            // 특정 패턴의 요소들 찾기
-            List<WebElement> links = container.findElements(By.tagName("a"));
-            log.info("링크 요소 수: {}", links.size());
-            for (int i = 0; i < Math.min(5, links.size()); i++) {
-                WebElement link = links.get(i);
-                log.info("링크 {}: href='{}', 텍스트='{}', 클래스='{}'",
-                        i, link.getAttribute("href"), link.getText().trim(), link.getAttribute("class"));
-            }
-
-            // 제목 관련 요소들 찾기
-            List<WebElement> headings = container.findElements(By.cssSelector("h1, h2, h3, h4, h5, h6"));
-            log.info("제목 요소 수: {}", headings.size());
-            for (int i = 0; i < Math.min(5, headings.size()); i++) {
-                WebElement heading = headings.get(i);
-                log.info("제목 {}: 태그={}, 텍스트='{}', 클래스='{}'",
-                        i, heading.getTagName(), heading.getText().trim(), heading.getAttribute("class"));
-            }
-
-            log.info("=== 컨테이너 구조 분석 완료 ===");
-
-        } catch (Exception e) {
-            log.warn("컨테이너 구조 분석 실패: {}", e.getMessage());
         }
+        return null;
     }
 
     /**
-     * Selenium을 사용한 개별 뉴스 아이템 파싱
+     * 검색 URL 생성
      */
-    private NewsDataDto parseNewsItemWithSelenium(WebElement container, String keyword) {
-        try {
-            // 제목 추출
-            String title = extractTitleWithSelenium(container);
-            if (title == null || title.trim().isEmpty()) {
-                log.debug("제목 추출 실패");
-                return null;
-            }
-
-            // 링크 추출
-            String link = extractLinkWithSelenium(container);
-            if (link == null || link.trim().isEmpty()) {
-                log.debug("링크 추출 실패 - 제목: {}", title);
-                return null;
-            }
-
-            // 설명 추출
-            String description = extractDescriptionWithSelenium(container);
-
-            // 뉴스 데이터 생성
-            NewsDataDto news = new NewsDataDto(title,"", description, link, keyword, getPlatform());
-
-            log.debug("파싱된 뉴스: {} | 링크: {}", title, link);
-            return news;
-
-        } catch (Exception e) {
-            log.warn("뉴스 아이템 파싱 실패: {}", e.getMessage());
-            return null;
-        }
+    private String buildSearchUrl(String keyword, Long pageNumber) {
+        String encodedKeyword = URLEncoder.encode(keyword.trim(), StandardCharsets.UTF_8);
+        return String.format(searchUrl.isBlank() ? DAUM_NEWS_SEARCH_URL : searchUrl, encodedKeyword, CrawlerStrategy.normalizePage(pageNumber));
     }
 
     /**
-     * Selenium을 사용한 제목 추출
+     * 스크립트 1회 실행으로 뉴스 아이템 파싱
      */
-    private String extractTitleWithSelenium(WebElement container) {
-        try {
-            // 다음 뉴스의 실제 제목 선택자들 (우선순위 순)
-            List<By> titleSelectors = List.of(
-                    By.cssSelector("a"),              // 링크 텍스트
-                    By.cssSelector("strong"),         // 강조 텍스트
-                    By.cssSelector(".tit, .title"),   // 제목 클래스
-                    By.cssSelector("h3, h4"),         // 제목 태그
-                    By.cssSelector("[class*='title']"), // 제목 관련 클래스
-                    By.cssSelector("[class*='tit']")   // 제목 관련 클래스
-            );
-
-            for (By selector : titleSelectors) {
-                try {
-                    List<WebElement> elements = container.findElements(selector);
-                    if (!elements.isEmpty()) {
-                        WebElement element = elements.get(0);
-                        String title = element.getText().trim();
-
-                        // 링크 요소인 경우 href 속성도 확인
-                        if (title.isEmpty() && element.getTagName().equals("a")) {
-                            title = element.getAttribute("title");
-                            if (title == null || title.isEmpty()) {
-                                title = element.getAttribute("aria-label");
-                            }
-                        }
-
-                        if (title != null && !title.isEmpty()) {
-                            // 제목 길이 제한 (100자)
-                            if (title.length() > 100) {
-                                title = title.substring(0, 100) + "...";
-                            }
-                            log.debug("제목 추출 성공 (선택자: {}): {}", selector, title);
-                            return title;
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("제목 선택자 {} 실패: {}", selector, e.getMessage());
-                }
-            }
-
-            log.debug("모든 제목 선택자 실패");
-            return null;
-
-        } catch (Exception e) {
-            log.warn("제목 추출 실패: {}", e.getMessage());
-            return null;
-        }
+    private List<NewsDataDto> parseNewsItemsWithScript(WebDriver driver, String keyword, int maxItems) {
+        return toNewsDataList(scriptNewsExtractor.extract(driver, getPlatform(), EXTRACTION_SELECTORS, maxItems), keyword, maxItems);
     }
 
     /**
-     * Selenium을 사용한 링크 추출
+     * 추출된 아이템(DOM 스크립트 또는 XHR 응답)을 NewsDataDto로 변환
      */
-    private String extractLinkWithSelenium(WebElement container) {
-        try {
-            // 여러 방법으로 링크 찾기
-            List<By> linkSelectors = List.of(
-                    By.cssSelector("a[href*='news']"),      // news가 포함된 링크
-                    By.cssSelector("a[href*='article']"),   // article이 포함된 링크
-                    By.cssSelector("a[href^='http']"),      // 절대 URL
-                    By.cssSelector("a[href^='/']"),         // 상대 URL
-                    By.cssSelector("a")                     // 모든 링크
-            );
-
-            for (By selector : linkSelectors) {
-                try {
-                    List<WebElement> links = container.findElements(selector);
-                    for (WebElement link : links) {
-                        String href = link.getAttribute("href");
-                        if (href != null && !href.isEmpty()) {
-                            // 유효한 뉴스 링크인지 확인
-                            if (isValidNewsLink(href)) {
-                                log.debug("링크 추출 성공: {}", href);
-                                return href;
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("링크 선택자 {} 실패: {}", selector, e.getMessage());
-                }
+    private List<NewsDataDto> toNewsDataList(List<ExtractedNewsItem> items, String keyword, int maxItems) {
+        List<NewsDataDto> newsList = new ArrayList<>();
+
+        for (ExtractedNewsItem item : items) {
+            if (newsList.size() >= maxItems) break;
+
+            String link = item.getLinks().stream()
+                    .filter(this::isValidNewsLink)
+                    .findFirst()
+                    .orElse(null);
+            if (link == null) {
+                log.debug("링크 추출 실패 - 제목: {}", item.getTitle());
+                continue;
+            }
+
+            // 제목 길이 제한 (100자)
+            String title = item.getTitle();
+            if (title.length() > 100) {
+                title = title.substring(0, 100) + "...";
             }
 
-            log.debug("모든 링크 선택자 실패");
-            return null;
+            // 설명 길이 제한 (200자), 설명이 없으면 제목 사용
+            String description = item.getDescription();
+            if (description == null || description.isEmpty()) {
+                description = title;
+            } else if (description.length() > 200) {
+                description = description.substring(0, 200) + "...";
+            }
 
-        } catch (Exception e) {
-            log.warn("링크 추출 실패: {}", e.getMessage());
-            return null;
+            newsList.add(new NewsDataDto(title, "", description, link, keyword, getPlatform()));
         }
+
+        log.info("파싱 결과 - 후보: {}개, 총 수집: {}개", items.size(), newsList.size());
+        return newsList;
     }
 
     /**
@@ -440,55 +281,6 @@ public class DaumCrawlerStrategy implements CrawlerStrategy {
                         href.contains("content"));
     }
 
-    /**
-     * Selenium을 사용한 설명 추출
-     */
-    private String extractDescriptionWithSelenium(WebElement container) {
-        try {
-            // 다음 뉴스의 실제 설명 선택자들
-            List<By> descSelectors = List.of(
-                    By.cssSelector(".desc"),          // 설명 클래스
-                    By.cssSelector(".summary"),       // 요약 클래스
-                    By.cssSelector(".cont"),          // 내용 클래스
-                    By.cssSelector("p"),              // 단락 태그
-                    By.cssSelector(".description")    // 설명 클래스
-            );
-
-            for (By selector : descSelectors) {
-                try {
-                    List<WebElement> elements = container.findElements(selector);
-                    if (!elements.isEmpty()) {
-                        String description = elements.get(0).getText().trim();
-                        if (!description.isEmpty()) {
-                            // 설명 길이 제한 (200자)
-                            if (description.length() > 200) {
-                                description = description.substring(0, 200) + "...";
-                            }
-                            log.debug("설명 추출 성공: {}", description);
-                            return description;
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("설명 선택자 {} 실패: {}", selector, e.getMessage());
-                }
-            }
-
-            // 설명이 없으면 제목을 사용
-            String title = extractTitleWithSelenium(container);
-            if (title != null && !title.isEmpty()) {
-                log.debug("설명 없음, 제목을 설명으로 사용: {}", title);
-                return title;
-            }
-
-            log.debug("모든 설명 선택자 실패");
-            return "";
-
-        } catch (Exception e) {
-            log.warn("설명 추출 실패: {}", e.getMessage());
-            return "";
-        }
-    }
-
     @Override
     public boolean isEnabled() {
         return enabled != null && enabled;
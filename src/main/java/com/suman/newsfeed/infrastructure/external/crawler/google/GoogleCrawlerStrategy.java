@@ -1,31 +1,52 @@
 package com.suman.newsfeed.infrastructure.external.crawler.google;
 
+import com.suman.newsfeed.infrastructure.external.crawler.AbstractSearchCrawlerStrategy;
 import com.suman.newsfeed.infrastructure.external.crawler.CrawlerStrategy;
+import com.suman.newsfeed.infrastructure.external.crawler.ExtractedNewsItem;
+import com.suman.newsfeed.infrastructure.external.crawler.ExtractionSelectors;
+import com.suman.newsfeed.infrastructure.external.crawler.HttpPageFetcher;
+import com.suman.newsfeed.infrastructure.external.crawler.MultiTabCrawler;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsDataDto;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.suman.newsfeed.infrastructure.external.crawler.PageReadinessWaiter;
+import com.suman.newsfeed.infrastructure.external.crawler.ReadinessCondition;
+import com.suman.newsfeed.infrastructure.external.crawler.ScriptNewsExtractor;
+import com.suman.newsfeed.infrastructure.external.crawler.WebDriverPool;
+import com.suman.newsfeed.infrastructure.external.crawler.XhrResponseCapture;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 @Slf4j
 @Component
-public class GoogleCrawlerStrategy implements CrawlerStrategy {
+@RequiredArgsConstructor
+public class GoogleCrawlerStrategy extends AbstractSearchCrawlerStrategy {
+
+    private final WebDriverPool webDriverPool;
+    private final HttpPageFetcher httpPageFetcher;
+    private final PageReadinessWaiter pageReadinessWaiter;
+    private final ScriptNewsExtractor scriptNewsExtractor;
+    private final MultiTabCrawler multiTabCrawler;
+    private final XhrResponseCapture xhrResponseCapture;
 
     @Value("${google.news.enabled:true}")
     private Boolean enabled;
@@ -33,42 +54,81 @@ public class GoogleCrawlerStrategy implements CrawlerStrategy {
     @Value("${google.news.timeout:15000}")
     private Integer timeout;
 
-    @Value("${google.news.headless:true}")
-    private Boolean headless;
+    // 검색 URL 템플릿 재정의 (기록 재생 서버 등, 비어 있으면 기본 URL)
+    @Value("${google.news.search-url:}")
+    private String searchUrl;
 
     // 구글 뉴스 검색 URL 패턴
     private static final String GOOGLE_NEWS_SEARCH_URL = "https://news.google.com/search?q=%s&hl=ko&gl=KR&ceid=KR:ko";
 
+    // 검색 결과 렌더링 완료 조건 (클라이언트 렌더링이므로 네트워크 유휴까지 대기)
+    private static final ReadinessCondition READINESS_CONDITION = ReadinessCondition.builder()
+            .resultSelectors(List.of("article"))
+            .domQuietMillis(300)
+            .networkIdleMillis(500)
+            .build();
+
+    // 스크립트 추출 선택자 (구글 뉴스 실제 구조 기반, 우선순위 순)
+    private static final ExtractionSelectors EXTRACTION_SELECTORS = ExtractionSelectors.builder()
+            .containers(List.of("article[data-testid*='article']", ".NiLAwe.y6IFtc.R7GTQ.keNKEd.j7vNaf.CcCVZb",
+                    "article.MQsxIb.xTewfe.R7GTQ.keNKEd.j7vNaf.CcCVZb", ".DY5T1d.RZIKme", "article", ".NiLAwe"))
+            .title(List.of("a.JtKRv", ".JtKRv", "a[class*='JtKRv']", "a[data-n-tid='29']",
+                    "a[aria-label*='-']", "a[target='_blank']", "a"))
+            .link(List.of("a.JtKRv", "a[data-n-tid='29']", "a[class*='JtKRv']", "a[target='_blank']",
+                    "a[href*='read']", "a"))
+            .source(List.of(".vr1PYe", "div[data-n-tid='9']", ".a7P8l .vr1PYe", "div[class*='vr1PYe']"))
+            .time(List.of("time.hvbAAd", ".hvbAAd", "time[datetime]", "time"))
+            .build();
+
     @Override
     public NewsPlatform getPlatform() {
         return NewsPlatform.GOOGLE;
     }
 
+    // 구글 뉴스 검색은 정렬 옵션 없이 관련도순
     @Override
-    public List<NewsDataDto> crawlNews(String keyword, Long pageNumber, int pageSize) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            log.warn("키워드가 비어있습니다.");
-            return new ArrayList<>();
-        }
+    public boolean isNewestFirst() {
+        return false;
+    }
 
+    @Override
+    protected Map<String, List<NewsDataDto>> crawlWithSeleniumTabs(Map<String, Long> keywordPages, int pageSize) {
+        Map<String, String> seleniumUrls = new LinkedHashMap<>();
+        keywordPages.forEach((keyword, pageNumber) -> seleniumUrls.put(keyword, buildSearchUrl(keyword)));
+        return multiTabCrawler.crawl(seleniumUrls, getPlatform(), READINESS_CONDITION,
+                Duration.ofMillis(timeout), (driver, keyword) -> {
+                    Long pageNumber = keywordPages.get(keyword);
+                    return pageOf(parseNewsItemsWithScript(driver, keyword, resultLimit(pageNumber, pageSize)), pageNumber, pageSize);
+                });
+    }
+
+    /**
+     * Selenium(브라우저)을 사용한 크롤링
+     */
+    @Override
+    protected List<NewsDataDto> crawlWithSelenium(String keyword, Long pageNumber, int pageSize) {
         WebDriver driver = null;
         try {
             log.info("구글 뉴스 크롤링 시작 (Selenium) - 키워드: {}, 페이지: {}, 크기: {}", keyword, pageNumber, pageSize);
 
-            // WebDriver 초기화
-            driver = initializeWebDriver();
+            // 풀에서 WebDriver 대여 (플랫폼별 리소스 차단 적용)
+            driver = webDriverPool.borrow(getPlatform());
 
             // 검색 URL 생성 및 접속
             String url = buildSearchUrl(keyword);
             log.debug("크롤링 URL: {}", url);
 
-            driver.get(url);
-
-            // 페이지 로딩 대기
-            waitForPageLoad(driver);
+            // 검색 결과 JSON 응답 캡처 시작 후 페이지 이동, 결과 렌더링 완료까지 대기
+            XhrResponseCapture.Capture capture = xhrResponseCapture.start(driver, getPlatform());
+            pageReadinessWaiter.load(driver, url, getPlatform(), READINESS_CONDITION, Duration.ofMillis(timeout));
 
-            // 뉴스 아이템 파싱
-            List<NewsDataDto> newsList = parseNewsItemsWithSelenium(driver, keyword, pageSize);
+            // 캡처된 JSON 응답에서 우선 추출, 없으면 DOM 파싱 (스크립트 1회 실행)
+            int limit = resultLimit(pageNumber, pageSize);
+            List<NewsDataDto> newsList = toNewsDataList(xhrResponseCapture.collect(capture, limit), keyword, limit);
+            if (newsList.isEmpty()) {
+                newsList = parseNewsItemsWithScript(driver, keyword, limit);
+            }
+            newsList = pageOf(newsList, pageNumber, pageSize);
 
             log.info("구글 뉴스 크롤링 완료 - 키워드: {}, 수집된 뉴스: {}개", keyword, newsList.size());
             return newsList;
@@ -77,351 +137,188 @@ public class GoogleCrawlerStrategy implements CrawlerStrategy {
             log.error("구글 뉴스 크롤링 중 오류 발생 - 키워드: {}, 오류: {}", keyword, e.getMessage(), e);
             return new ArrayList<>();
         } finally {
-            // WebDriver 정리
-            if (driver != null) {
-                try {
-                    driver.quit();
-                } catch (Exception e) {
-                    log.warn("WebDriver 종료 중 오류: {}", e.getMessage());
-                }
-            }
+            // WebDriver 반납 (상태 초기화 후 재사용)
+            webDriverPool.release(driver);
         }
     }
 
     /**
-     * WebDriver 초기화 (WebDriverManager 사용)
+     * 브라우저 없이 HTTP 요청 + Jsoup 파싱으로 크롤링
      */
-    private WebDriver initializeWebDriver() {
-        try {
-            // Chrome WebDriver 자동 다운로드 및 설정
-            WebDriverManager.chromedriver().setup();
-
-            ChromeOptions options = new ChromeOptions();
-
-            // 헤드리스 모드 설정
-            if (headless) {
-                options.addArguments("--headless");
-            }
-
-            // 성능 최적화 옵션
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-dev-shm-usage");
-            options.addArguments("--disable-gpu");
-            options.addArguments("--window-size=1920,1080");
-            options.addArguments("--user-agent=Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
-
-            // 추가 설정
-            options.addArguments("--disable-blink-features=AutomationControlled");
-            options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
-            options.setExperimentalOption("useAutomationExtension", false);
-
-            WebDriver driver = new ChromeDriver(options);
-
-            // JavaScript 실행으로 자동화 감지 방지
-            ((JavascriptExecutor) driver).executeScript("Object.defineProperty(navigator, 'webdriver', {get: () => undefined})");
-
-            log.debug("WebDriver 초기화 완료");
-            return driver;
-
-        } catch (Exception e) {
-            log.error("WebDriver 초기화 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("WebDriver 초기화 실패", e);
+    @Override
+    protected List<NewsDataDto> crawlWithHttp(String keyword, Long pageNumber, int pageSize) {
+        if (!httpPageFetcher.isEnabled()) {
+            return new ArrayList<>();
         }
-    }
-
-    /**
-     * 검색 URL 생성
-     */
-    private String buildSearchUrl(String keyword) throws Exception {
-        String encodedKeyword = URLEncoder.encode(keyword.trim(), StandardCharsets.UTF_8);
-        return String.format(GOOGLE_NEWS_SEARCH_URL, encodedKeyword);
-    }
 
-    /**
-     * 페이지 로딩 대기
-     */
-    private void waitForPageLoad(WebDriver driver) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-
-            // 페이지 로딩 완료 대기
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+            Document document = httpPageFetcher.fetch(buildSearchUrl(keyword), getPlatform());
+            List<NewsDataDto> newsList = pageOf(parseNewsItemsWithJsoup(document, keyword, resultLimit(pageNumber, pageSize)), pageNumber, pageSize);
 
-            // 추가 대기 (JavaScript 실행 완료 대기)
-            Thread.sleep(3000);
+            log.info("구글 뉴스 정적 파싱 완료 - 키워드: {}, 수집된 뉴스: {}개", keyword, newsList.size());
+            return newsList;
 
-            log.debug("페이지 로딩 완료");
         } catch (Exception e) {
-            log.warn("페이지 로딩 대기 중 오류: {}", e.getMessage());
+            log.warn("구글 뉴스 정적 파싱 실패 - 키워드: {}, 오류: {}", keyword, e.getMessage());
+            return new ArrayList<>();
         }
     }
 
     /**
-     * Selenium을 사용한 뉴스 아이템 파싱
+     * Jsoup을 사용한 뉴스 아이템 파싱 (서버 렌더링된 검색 결과)
      */
-    private List<NewsDataDto> parseNewsItemsWithSelenium(WebDriver driver, String keyword, int maxItems) {
+    private List<NewsDataDto> parseNewsItemsWithJsoup(Document document, String keyword, int maxItems) {
         List<NewsDataDto> newsList = new ArrayList<>();
 
-        try {
-            // 더 구체적이고 정확한 선택자들 (구글 뉴스 실제 구조 기반)
-            List<By> selectors = List.of(
-                    By.cssSelector("article[data-testid*='article']"),
-                    By.cssSelector(".NiLAwe.y6IFtc.R7GTQ.keNKEd.j7vNaf.CcCVZb"),
-                    By.cssSelector("article.MQsxIb.xTewfe.R7GTQ.keNKEd.j7vNaf.CcCVZb"),
-                    By.cssSelector(".DY5T1d.RZIKme"),
-                    By.cssSelector("article"),
-                    By.cssSelector(".NiLAwe")
-            );
-
-            List<WebElement> newsContainers = new ArrayList<>();
-            String usedSelector = null;
-
-            for (By selector : selectors) {
-                try {
-                    List<WebElement> elements = driver.findElements(selector);
-                    if (!elements.isEmpty()) {
-                        newsContainers = elements;
-                        usedSelector = selector.toString();
-                        break;
-                    }
-                } catch (Exception e) {
-                    log.debug("선택자 {} 실패: {}", selector, e.getMessage());
-                }
-            }
+        for (Element container : document.select("article")) {
+            if (newsList.size() >= maxItems) break;
 
-            if (newsContainers.isEmpty()) {
-                log.warn("뉴스 컨테이너를 찾을 수 없습니다. 페이지 소스 일부: {}",
-                        driver.getPageSource().substring(0, Math.min(1000, driver.getPageSource().length())));
-                return newsList;
+            Element titleElement = selectFirst(container, "a.JtKRv", "a[data-n-tid='29']", "a[href*='./read/']");
+            if (titleElement == null) {
+                continue;
             }
 
-            log.info("선택자 '{}'로 {}개의 뉴스 컨테이너를 찾았습니다", usedSelector, newsContainers.size());
-
-            // 디버깅: 첫 번째 컨테이너의 HTML 구조 상세 분석
-            if (!newsContainers.isEmpty()) {
-                WebElement firstContainer = newsContainers.get(0);
-                String containerHtml = firstContainer.getAttribute("outerHTML");
-                log.info("첫 번째 컨테이너 HTML (전체): {}", containerHtml);
-
-                // 컨테이너 내부의 모든 요소 분석
-                analyzeContainerStructure(firstContainer);
+            String title = titleElement.text().trim();
+            if (title.isEmpty()) {
+                title = titleElement.attr("aria-label").trim();
+            }
+            String link = titleElement.absUrl("href");
+            if (title.isEmpty() || !isValidNewsLink(link)) {
+                continue;
+            }
+            if (title.length() > 100) {
+                title = title.substring(0, 100) + "...";
             }
 
-            int itemCount = 0;
-            int parseSuccessCount = 0;
-            int parseFailCount = 0;
-
-            for (WebElement container : newsContainers) {
-                if (itemCount >= maxItems) break;
-
-                try {
-                    NewsDataDto news = parseNewsItemWithSelenium(container, keyword);
-                    if (news != null) {
-                        newsList.add(news);
-                        itemCount++;
-                        parseSuccessCount++;
-                        log.debug("뉴스 추가됨: {}", news.getTitle());
-                    } else {
-                        parseFailCount++;
-                    }
-                } catch (Exception e) {
-                    parseFailCount++;
-                    log.warn("개별 뉴스 아이템 파싱 실패: {}", e.getMessage());
+            Element sourceElement = selectFirst(container, ".vr1PYe", "div[data-n-tid='9']");
+            String source = sourceElement != null ? sourceElement.text().trim() : null;
+
+            Element timeElement = selectFirst(container, "time[datetime]", "time");
+            String time = null;
+            if (timeElement != null) {
+                time = timeElement.text().trim();
+                if (time.isEmpty() && timeElement.hasAttr("datetime")) {
+                    time = convertDatetimeToReadable(timeElement.attr("datetime"));
                 }
             }
 
-            log.info("파싱 결과 - 성공: {}개, 실패: {}개, 총 수집: {}개",
-                    parseSuccessCount, parseFailCount, newsList.size());
-
-        } catch (Exception e) {
-            log.error("뉴스 아이템 파싱 중 오류: {}", e.getMessage(), e);
+            NewsDataDto newsDataDto = new NewsDataDto(title, "", composeDescription(source, time, title), link, keyword, getPlatform());
+            if (timeElement != null && timeElement.hasAttr("datetime")) {
+                newsDataDto.setPublishedAt(parsePublishedAt(timeElement.attr("datetime")));
+            }
+            newsList.add(newsDataDto);
         }
 
         return newsList;
     }
 
     /**
-     * 컨테이너 구조 분석 (디버깅용)
+     * 우선순위 순으로 선택자를 시도하여 첫 번째로 매칭되는 요소 반환
      */
-    private void analyzeContainerStructure(WebElement container) {
-        try {
-            log.info("=== 컨테이너 구조 분석 시작 ===");
-
-            // 모든 하위 요소 찾기
-            List<WebElement> allElements = container.findElements(By.cssSelector("*"));
-            log.info("컨테이너 내 총 요소 수: {}", allElements.size());
-
-            // 각 요소의 태그명, 클래스, 텍스트 분석
-            for (int i = 0; i < Math.min(20, allElements.size()); i++) {
-                WebElement element = allElements.get(i);
-                String tagName = element.getTagName();
-                String className = element.getAttribute("class");
-                String text = element.getText().trim();
-                String href = element.getAttribute("href");
-
-                if (!text.isEmpty() || (href != null && !href.isEmpty())) {
-                    log.info("요소 {}: 태그={}, 클래스={}, 텍스트='{}', href='{}'",
-                            i, tagName, className, text, href);
-                }
+    private Element selectFirst(Element container, String... selectors) {
+        for (String selector : selectors) {
+            Element element = container.selectFirst(selector);
+            if (element != null) {
+                return element;
             }
-
-            // 특정 패턴의 요소들 찾기
-            List<WebElement> links = container.findElements(By.tagName("a"));
-            log.info("링크 요소 수: {}", links.size());
-            for (int i = 0; i < Math.min(5, links.size()); i++) {
-                WebElement link = links.get(i);
-                log.info("링크 {}: href='{}', 텍스트='{}', 클래스='{}'",
-                        i, link.getAttribute("href"), link.getText().trim(), link.getAttribute("class"));
-            }
-
-            // 제목 관련 요소들 찾기
-            List<WebElement> headings = container.findElements(By.cssSelector("h1, h2, h3, h4, h5, h6"));
-            log.info("제목 요소 수: {}", headings.size());
-            for (int i = 0; i < Math.min(5, headings.size()); i++) {
-                WebElement heading = headings.get(i);
-                log.info("제목 {}: 태그={}, 텍스트='{}', 클래스='{}'",
-                        i, heading.getTagName(), heading.getText().trim(), heading.getAttribute("class"));
-            }
-
-            log.info("=== 컨테이너 구조 분석 완료 ===");
-
-        } catch (Exception e) {
-            log.warn("컨테이너 구조 분석 실패: {}", e.getMessage());
         }
+        return null;
     }
 
     /**
-     * Selenium을 사용한 개별 뉴스 아이템 파싱 (개선된 버전)
+     * 언론사/시간 정보로 설명 문자열 구성 (정보가 없으면 제목 사용)
      */
-    private NewsDataDto parseNewsItemWithSelenium(WebElement container, String keyword) {
-        try {
-            // 제목 추출
-            String title = extractTitleWithSelenium(container);
-            if (title == null || title.trim().isEmpty()) {
-                log.debug("제목 추출 실패");
-                return null;
-            }
-
-            // 링크 추출
-            String link = extractLinkWithSelenium(container);
-            if (link == null || link.trim().isEmpty()) {
-                log.debug("링크 추출 실패 - 제목: {}", title);
-                return null;
+    private String composeDescription(String source, String time, String title) {
+        StringBuilder description = new StringBuilder();
+        if (source != null && !source.isEmpty()) {
+            description.append("출처: ").append(source);
+        }
+        if (time != null && !time.isEmpty()) {
+            if (description.length() > 0) {
+                description.append(" | ");
             }
+            description.append("시간: ").append(time);
+        }
 
-            // 설명 추출
-            String description = extractDescriptionWithSelenium(container);
-
-            // 뉴스 데이터 생성
-            NewsDataDto news = new NewsDataDto(title, "", description, link, keyword, getPlatform());
-
-            log.debug("파싱된 뉴스: {} | 링크: {}", title, link);
-            return news;
-
-        } catch (Exception e) {
-            log.warn("뉴스 아이템 파싱 실패: {}", e.getMessage());
-            return null;
+        if (description.length() == 0) {
+            return title;
         }
+        String result = description.toString();
+        return result.length() > 200 ? result.substring(0, 200) + "..." : result;
     }
 
     /**
-     * Selenium을 사용한 제목 추출 (정확한 선택자)
+     * 검색 URL 생성
      */
-    private String extractTitleWithSelenium(WebElement container) {
-        try {
-            // 구글 뉴스의 실제 제목 선택자 (로그 분석 결과 기반)
-            List<By> titleSelectors = List.of(
-                    By.cssSelector("a.JtKRv"),        // 실제 제목이 있는 링크
-                    By.cssSelector(".JtKRv"),         // 클래스로 직접 접근
-                    By.cssSelector("a[class*='JtKRv']"), // 클래스명 포함
-                    By.cssSelector("a[data-n-tid='29']"), // data-n-tid 속성
-
-                    // 대안 선택자들
-                    By.cssSelector("a[aria-label*='-']"), // aria-label에 제목 포함
-                    By.cssSelector("a[target='_blank']"), // 새 창으로 열리는 링크
-                    By.cssSelector("a")                   // 모든 링크
-            );
-
-            for (By selector : titleSelectors) {
-                try {
-                    List<WebElement> elements = container.findElements(selector);
-                    if (!elements.isEmpty()) {
-                        WebElement element = elements.get(0);
-                        String title = element.getText().trim();
-
-                        // 링크 요소인 경우 href 속성도 확인
-                        if (title.isEmpty() && element.getTagName().equals("a")) {
-                            title = element.getAttribute("title");
-                            if (title == null || title.isEmpty()) {
-                                title = element.getAttribute("aria-label");
-                            }
-                        }
-
-                        if (title != null && !title.isEmpty()) {
-                            // 제목 길이 제한 (100자)
-                            if (title.length() > 100) {
-                                title = title.substring(0, 100) + "...";
-                            }
-                            log.debug("제목 추출 성공 (선택자: {}): {}", selector, title);
-                            return title;
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("제목 선택자 {} 실패: {}", selector, e.getMessage());
-                }
-            }
+    private String buildSearchUrl(String keyword) {
+        String encodedKeyword = URLEncoder.encode(keyword.trim(), StandardCharsets.UTF_8);
+        return String.format(searchUrl.isBlank() ? GOOGLE_NEWS_SEARCH_URL : searchUrl, encodedKeyword);
+    }
 
-            log.debug("모든 제목 선택자 실패");
-            return null;
+    /**
+     * 요청 페이지의 마지막 결과까지 포함하는 추출 개수
+     * 구글 뉴스 검색은 한 페이지에 전체 결과를 렌더링하므로, 페이지 번호는 결과 목록의 오프셋으로 변환합니다.
+     */
+    private int resultLimit(Long pageNumber, int pageSize) {
+        return (int) CrawlerStrategy.normalizePage(pageNumber) * pageSize;
+    }
 
-        } catch (Exception e) {
-            log.warn("제목 추출 실패: {}", e.getMessage());
-            return null;
+    /**
+     * 추출 결과에서 요청 페이지 구간만 반환 (결과가 부족하면 빈 목록)
+     */
+    private List<NewsDataDto> pageOf(List<NewsDataDto> newsList, Long pageNumber, int pageSize) {
+        int offset = (int) (CrawlerStrategy.normalizePage(pageNumber) - 1) * pageSize;
+        if (offset >= newsList.size()) {
+            return new ArrayList<>();
         }
+        return new ArrayList<>(newsList.subList(offset, Math.min(offset + pageSize, newsList.size())));
     }
 
     /**
-     * Selenium을 사용한 링크 추출 (정확한 선택자)
+     * 스크립트 1회 실행으로 뉴스 아이템 파싱
      */
-    private String extractLinkWithSelenium(WebElement container) {
-        try {
-            // 구글 뉴스의 실제 링크 선택자 (로그 분석 결과 기반)
-            List<By> linkSelectors = List.of(
-                    By.cssSelector("a.JtKRv"),        // 실제 제목 링크
-                    By.cssSelector("a[data-n-tid='29']"), // data-n-tid 속성
-                    By.cssSelector("a[class*='JtKRv']"), // 클래스명 포함
-
-                    // 대안 선택자들
-                    By.cssSelector("a[target='_blank']"), // 새 창으로 열리는 링크
-                    By.cssSelector("a[href*='read']"),    // read가 포함된 링크
-                    By.cssSelector("a")                   // 모든 링크
-            );
-
-            for (By selector : linkSelectors) {
-                try {
-                    List<WebElement> links = container.findElements(selector);
-                    for (WebElement link : links) {
-                        String href = link.getAttribute("href");
-                        if (href != null && !href.isEmpty()) {
-                            // 유효한 뉴스 링크인지 확인
-                            if (isValidNewsLink(href)) {
-                                log.debug("링크 추출 성공: {}", href);
-                                return href;
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("링크 선택자 {} 실패: {}", selector, e.getMessage());
-                }
+    private List<NewsDataDto> parseNewsItemsWithScript(WebDriver driver, String keyword, int maxItems) {
+        return toNewsDataList(scriptNewsExtractor.extract(driver, getPlatform(), EXTRACTION_SELECTORS, maxItems), keyword, maxItems);
+    }
+
+    /**
+     * 추출된 아이템(DOM 스크립트 또는 XHR 응답)을 NewsDataDto로 변환
+     */
+    private List<NewsDataDto> toNewsDataList(List<ExtractedNewsItem> items, String keyword, int maxItems) {
+        List<NewsDataDto> newsList = new ArrayList<>();
+
+        for (ExtractedNewsItem item : items) {
+            if (newsList.size() >= maxItems) break;
+
+            String link = item.getLinks().stream()
+                    .filter(this::isValidNewsLink)
+                    .findFirst()
+                    .orElse(null);
+            if (link == null) {
+                log.debug("링크 추출 실패 - 제목: {}", item.getTitle());
+                continue;
             }
 
-            log.debug("모든 링크 선택자 실패");
-            return null;
+            // 제목 길이 제한 (100자)
+            String title = item.getTitle();
+            if (title.length() > 100) {
+                title = title.substring(0, 100) + "...";
+            }
 
-        } catch (Exception e) {
-            log.warn("링크 추출 실패: {}", e.getMessage());
-            return null;
+            // 시간 텍스트가 없으면 datetime 속성 사용
+            String time = item.getTimes().isEmpty() ? null : item.getTimes().get(0);
+            if (time == null && item.getDatetime() != null && !item.getDatetime().isEmpty()) {
+                time = convertDatetimeToReadable(item.getDatetime());
+            }
+
+            String description = composeDescription(item.getSource(), time, title);
+            NewsDataDto newsDataDto = new NewsDataDto(title, "", description, link, keyword, getPlatform());
+            newsDataDto.setPublishedAt(parsePublishedAt(item.getDatetime()));
+            newsList.add(newsDataDto);
         }
+
+        log.info("파싱 결과 - 후보: {}개, 총 수집: {}개", items.size(), newsList.size());
+        return newsList;
     }
 
     /**
@@ -452,132 +349,15 @@ public class GoogleCrawlerStrategy implements CrawlerStrategy {
 
 
     /**
-     * Selenium을 사용한 설명 추출 (언론사 정보 포함)
+     * datetime 속성(ISO 8601, UTC)을 한국 시간 발행 시각으로 변환 (워터마크 비교용, 실패 시 null)
      */
-    private String extractDescriptionWithSelenium(WebElement container) {
-        try {
-            // 언론사 정보 추출 (구글 뉴스 전용)
-            String source = extractSourceWithSelenium(container);
-
-            // 시간 정보 추출
-            String time = extractTimeWithSelenium(container);
-
-            // 설명 조합
-            StringBuilder description = new StringBuilder();
-            if (source != null && !source.isEmpty()) {
-                description.append("출처: ").append(source);
-            }
-            if (time != null && !time.isEmpty()) {
-                if (description.length() > 0) {
-                    description.append(" | ");
-                }
-                description.append("시간: ").append(time);
-            }
-
-            if (description.length() > 0) {
-                String result = description.toString();
-                // 설명 길이 제한 (200자)
-                if (result.length() > 200) {
-                    result = result.substring(0, 200) + "...";
-                }
-                log.debug("설명 추출 성공: {}", result);
-                return result;
-            }
-
-            // 설명이 없으면 제목을 사용
-            String title = extractTitleWithSelenium(container);
-            if (title != null && !title.isEmpty()) {
-                log.debug("설명 없음, 제목을 설명으로 사용: {}", title);
-                return title;
-            }
-
-            log.debug("모든 설명 선택자 실패");
-            return "";
-
-        } catch (Exception e) {
-            log.warn("설명 추출 실패: {}", e.getMessage());
-            return "";
-        }
-    }
-
-    /**
-     * 언론사 정보 추출
-     */
-    private String extractSourceWithSelenium(WebElement container) {
-        try {
-            // 구글 뉴스의 실제 언론사 선택자
-            List<By> sourceSelectors = List.of(
-                    By.cssSelector(".vr1PYe"),        // 실제 언론사 클래스
-                    By.cssSelector("div[data-n-tid='9']"), // data-n-tid 속성
-                    By.cssSelector(".a7P8l .vr1PYe"), // 중첩된 구조
-                    By.cssSelector("div[class*='vr1PYe']") // 클래스명 포함
-            );
-
-            for (By selector : sourceSelectors) {
-                try {
-                    List<WebElement> elements = container.findElements(selector);
-                    if (!elements.isEmpty()) {
-                        String source = elements.get(0).getText().trim();
-                        if (!source.isEmpty()) {
-                            log.debug("언론사 추출 성공: {}", source);
-                            return source;
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("언론사 선택자 {} 실패: {}", selector, e.getMessage());
-                }
-            }
-
-            return null;
-
-        } catch (Exception e) {
-            log.warn("언론사 추출 실패: {}", e.getMessage());
+    private LocalDateTime parsePublishedAt(String datetime) {
+        if (datetime == null || datetime.isEmpty()) {
             return null;
         }
-    }
-
-    /**
-     * 시간 정보 추출
-     */
-    private String extractTimeWithSelenium(WebElement container) {
         try {
-            // 구글 뉴스의 실제 시간 선택자
-            List<By> timeSelectors = List.of(
-                    By.cssSelector("time.hvbAAd"),     // 실제 시간 클래스
-                    By.cssSelector(".hvbAAd"),         // 클래스로 직접 접근
-                    By.cssSelector("time[datetime]"), // datetime 속성
-                    By.cssSelector("time")             // 모든 time 태그
-            );
-
-            for (By selector : timeSelectors) {
-                try {
-                    List<WebElement> elements = container.findElements(selector);
-                    if (!elements.isEmpty()) {
-                        WebElement element = elements.get(0);
-                        String time = element.getText().trim();
-
-                        // datetime 속성에서 시간 추출
-                        if (time.isEmpty()) {
-                            String datetime = element.getAttribute("datetime");
-                            if (datetime != null && !datetime.isEmpty()) {
-                                time = convertDatetimeToReadable(datetime);
-                            }
-                        }
-
-                        if (!time.isEmpty()) {
-                            log.debug("시간 추출 성공: {}", time);
-                            return time;
-                        }
-                    }
-                } catch (Exception e) {
-                    log.debug("시간 선택자 {} 실패: {}", selector, e.getMessage());
-                }
-            }
-
-            return null;
-
+            return Instant.parse(datetime).atZone(ZoneId.of("Asia/Seoul")).toLocalDateTime();
         } catch (Exception e) {
-            log.warn("시간 추출 실패: {}", e.getMessage());
             return null;
         }
     }
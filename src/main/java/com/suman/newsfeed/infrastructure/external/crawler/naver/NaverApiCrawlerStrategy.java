@@ -0,0 +1,125 @@
+package com.suman.newsfeed.infrastructure.external.crawler.naver;
+
+import com.suman.newsfeed.domain.news.CrawlWatermark;
+import com.suman.newsfeed.infrastructure.external.crawler.CrawlerStrategy;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsDataDto;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 네이버 검색 API 기반 뉴스 수집 전략
+ * 브라우저 없이 공식 API로 수집하며, crawlNews의 페이지 번호/크기를 API의 start/display로 변환합니다.
+ * 인증 정보(naver.api.client-id, client-secret)가 설정된 경우에만 활성화되고,
+ * 활성화되면 브라우저 기반 NaverCrawlerStrategy 대신 사용됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverApiCrawlerStrategy implements CrawlerStrategy {
+
+    private final NaverNewsApiClient naverNewsApiClient;
+
+    @Value("${naver.api.enabled:true}")
+    private Boolean enabled;
+
+    @Override
+    public NewsPlatform getPlatform() {
+        return NewsPlatform.NAVER;
+    }
+
+    @Override
+    public List<NewsDataDto> crawlNews(String keyword, Long pageNumber, int pageSize) {
+        return crawlNews(keyword, pageNumber, pageSize, null);
+    }
+
+    @Override
+    public List<NewsDataDto> crawlNews(String keyword, Long pageNumber, int pageSize, CrawlWatermark watermark) {
+        List<NewsDataDto> newsList = new ArrayList<>();
+        if (keyword == null || keyword.trim().isEmpty()) {
+            log.warn("키워드가 비어있습니다.");
+            return newsList;
+        }
+
+        // 페이지 번호를 API 시작 위치로 변환 (1페이지 → start=1)
+        int display = Math.min(pageSize, NaverNewsApiClient.MAX_DISPLAY);
+        long start = (CrawlerStrategy.normalizePage(pageNumber) - 1) * display + 1;
+        if (start > NaverNewsApiClient.MAX_START) {
+            log.info("네이버 API 검색 범위 초과 - 키워드: {}, 페이지: {} (최대 시작 위치 {})", keyword, pageNumber, NaverNewsApiClient.MAX_START);
+            return newsList;
+        }
+
+        try {
+            NaverNewsResponse response = naverNewsApiClient.search(keyword, (int) start, display);
+            if (response.getItems() == null) {
+                return newsList;
+            }
+
+            for (NaverNewsItem item : response.getItems()) {
+                String url = item.getOriginallink() != null && !item.getOriginallink().isBlank()
+                        ? item.getOriginallink() : item.getLink();
+                if (url == null || url.isBlank()) {
+                    continue;
+                }
+
+                // 이미 본 기사(워터마크 이전)는 건너뜀 (순서가 섞여 뒤에 오는 새 기사는 남김)
+                LocalDateTime publishedAt = parsePubDate(item.getPubDate());
+                if (watermark != null && watermark.isReachedBy(url, publishedAt)) {
+                    continue;
+                }
+
+                NewsDataDto newsDataDto = new NewsDataDto(cleanText(item.getTitle()), "", cleanText(item.getDescription()),
+                        url, keyword, getPlatform());
+                newsDataDto.setPublishedAt(publishedAt);
+                newsList.add(newsDataDto);
+            }
+
+            log.info("네이버 API 뉴스 수집 완료 - 키워드: {}, 시작: {}, 수집된 뉴스: {}개 (전체 {}건)",
+                    keyword, start, newsList.size(), response.getTotal());
+
+        } catch (Exception e) {
+            log.error("네이버 API 뉴스 수집 실패 - 키워드: {}, 오류: {}", keyword, e.getMessage());
+        }
+
+        return newsList;
+    }
+
+    /**
+     * pubDate(RFC 1123, 예: "Mon, 06 Oct 2025 09:50:00 +0900")를 한국 시간으로 변환 (실패 시 null)
+     */
+    private LocalDateTime parsePubDate(String pubDate) {
+        if (pubDate == null || pubDate.isBlank()) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(pubDate, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .withZoneSameInstant(ZoneId.of("Asia/Seoul"))
+                    .toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 검색어 강조 태그(<b>)와 HTML 엔티티 제거
+     */
+    private String cleanText(String text) {
+        return text == null ? "" : Jsoup.parse(text).text();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled && naverNewsApiClient.isConfigured();
+    }
+}
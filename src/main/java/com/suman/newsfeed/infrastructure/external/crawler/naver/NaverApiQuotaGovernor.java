@@ -0,0 +1,68 @@
+package com.suman.newsfeed.infrastructure.external.crawler.naver;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 네이버 검색 API 호출 한도 관리 (클라이언트 측)
+ * 일일 호출 한도는 한국 시간 자정에 초기화되며, 한도를 넘으면 호출을 거부합니다.
+ * 초당 호출 한도는 최근 1초간 호출 시각을 기준으로, 한도에 도달하면 다음 호출 가능 시점까지 대기합니다.
+ */
+public class NaverApiQuotaGovernor {
+
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final long WINDOW_MILLIS = 1000;
+
+    private final int dailyLimit;
+    private final int perSecondLimit;
+
+    private final Deque<Long> recentCalls = new ArrayDeque<>();
+    private LocalDate quotaDate = LocalDate.now(QUOTA_ZONE);
+    private int dailyCount;
+
+    public NaverApiQuotaGovernor(int dailyLimit, int perSecondLimit) {
+        this.dailyLimit = dailyLimit;
+        this.perSecondLimit = perSecondLimit;
+    }
+
+    /**
+     * 호출 1회 허가 요청
+     * @return 일일 한도가 남아 있으면 true (초당 한도에 걸리면 대기 후 true), 일일 한도 소진 시 false
+     */
+    public synchronized boolean tryAcquire() throws InterruptedException {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (!today.equals(quotaDate)) {
+            quotaDate = today;
+            dailyCount = 0;
+        }
+        if (dailyCount >= dailyLimit) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        while (true) {
+            while (!recentCalls.isEmpty() && recentCalls.peekFirst() <= now - WINDOW_MILLIS) {
+                recentCalls.pollFirst();
+            }
+            if (recentCalls.size() < perSecondLimit) {
+                break;
+            }
+            // 가장 오래된 호출이 1초 창을 벗어날 때까지 대기 (다른 호출자도 같은 한도를 공유하므로 락을 유지)
+            Thread.sleep(recentCalls.peekFirst() + WINDOW_MILLIS - now);
+            now = System.currentTimeMillis();
+        }
+
+        recentCalls.addLast(now);
+        dailyCount++;
+        return true;
+    }
+
+    /**
+     * 오늘 남은 호출 횟수
+     */
+    public synchronized int getRemainingToday() {
+        return LocalDate.now(QUOTA_ZONE).equals(quotaDate) ? Math.max(dailyLimit - dailyCount, 0) : dailyLimit;
+    }
+}
@@ -1,15 +1,24 @@
 package com.suman.newsfeed.infrastructure.external.crawler.naver;
 
+import com.suman.newsfeed.infrastructure.external.crawler.AbstractSearchCrawlerStrategy;
 import com.suman.newsfeed.infrastructure.external.crawler.CrawlerStrategy;
+import com.suman.newsfeed.infrastructure.external.crawler.ExtractedNewsItem;
+import com.suman.newsfeed.infrastructure.external.crawler.ExtractionSelectors;
+import com.suman.newsfeed.infrastructure.external.crawler.HttpPageFetcher;
+import com.suman.newsfeed.infrastructure.external.crawler.MultiTabCrawler;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsDataDto;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.suman.newsfeed.infrastructure.external.crawler.PageReadinessWaiter;
+import com.suman.newsfeed.infrastructure.external.crawler.ReadinessCondition;
+import com.suman.newsfeed.infrastructure.external.crawler.ScriptNewsExtractor;
+import com.suman.newsfeed.infrastructure.external.crawler.WebDriverPool;
+import com.suman.newsfeed.infrastructure.external.crawler.XhrResponseCapture;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -17,12 +26,23 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 
 @Slf4j
 @Component
-public class NaverCrawlerStrategy implements CrawlerStrategy {
+@RequiredArgsConstructor
+public class NaverCrawlerStrategy extends AbstractSearchCrawlerStrategy {
+
+    private final WebDriverPool webDriverPool;
+    private final HttpPageFetcher httpPageFetcher;
+    private final PageReadinessWaiter pageReadinessWaiter;
+    private final ScriptNewsExtractor scriptNewsExtractor;
+    private final MultiTabCrawler multiTabCrawler;
+    private final XhrResponseCapture xhrResponseCapture;
+    private final NaverApiCrawlerStrategy naverApiCrawlerStrategy;
 
     @Value("${naver.news.enabled:true}")
     private Boolean enabled;
@@ -30,11 +50,37 @@ public class NaverCrawlerStrategy implements CrawlerStrategy {
     @Value("${naver.news.timeout:15000}")
     private Integer timeout;
 
-    @Value("${naver.news.headless:true}")
-    private Boolean headless;
-
-    // 네이버 뉴스 검색 URL 패턴
-    private static final String NAVER_NEWS_SEARCH_URL = "https://search.naver.com/search.naver?where=news&query=%s&sm=tab_she&qdt=0";
+    // 검색 URL 템플릿 재정의 (기록 재생 서버 등, 비어 있으면 기본 URL)
+    @Value("${naver.news.search-url:}")
+    private String searchUrl;
+
+    // 네이버 뉴스 검색 URL 패턴 (sort=1: 최신순, start: 결과 시작 위치, 1부터)
+    private static final String NAVER_NEWS_SEARCH_URL = "https://search.naver.com/search.naver?where=news&query=%s&sm=tab_she&qdt=0&sort=1&start=%d";
+
+    // 검색 결과 페이지당 기사 수 (페이지 번호 → start 변환 기준)
+    private static final int RESULTS_PER_PAGE = 10;
+
+    // 검색 결과 렌더링 완료 조건 (결과 목록 출현 + DOM 변경 정지)
+    private static final ReadinessCondition READINESS_CONDITION = ReadinessCondition.builder()
+            .resultSelectors(List.of("ul.list_news", ".news_wrap", "div[class*='news']"))
+            .domQuietMillis(300)
+            .build();
+
+    // 스크립트 추출 선택자 (네이버 뉴스 DOM 구조 기반, 우선순위 순)
+    private static final ExtractionSelectors EXTRACTION_SELECTORS = ExtractionSelectors.builder()
+            .containers(List.of("div[class*='news']", "#main_pack li", "#news_form li", "form#news_form li",
+                    "ul.list_news li", ".list_news li", ".news_wrap", ".news_area", ".bx", "li.bx", "article"))
+            .title(List.of("a.news_tit", ".news_tit", "a[class*='news_tit']", "a.tit", ".tit", "h3 a", "h4 a",
+                    "a[href*='news']", "a", "dt a", ".title"))
+            .link(List.of("a.news_tit", "a[class*='news_tit']", "a.tit", "a[href*='news']", "a[href*='naver']",
+                    "a[href]", "a", "dt a"))
+            .source(List.of(".press", ".source", ".media", ".company", ".news_agency", ".news_source", ".news_company",
+                    "span[class*='press']", "span[class*='source']", "span[class*='media']", "cite",
+                    ".info_group cite", ".info cite"))
+            .time(List.of("time", ".time", ".date", ".timestamp", ".news_time", ".news_date", "span[class*='time']",
+                    "span[class*='date']", "span[class*='ago']", ".info_group span", ".info span"))
+            .minTitleLength(6)
+            .build();
 
     @Override
     public NewsPlatform getPlatform() {
@@ -42,33 +88,38 @@ public class NaverCrawlerStrategy implements CrawlerStrategy {
     }
 
     @Override
-    public List<NewsDataDto> crawlNews(String keyword, Long pageNumber, int pageSize) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            log.warn("키워드가 비어있습니다.");
-            return new ArrayList<>();
-        }
+    protected Map<String, List<NewsDataDto>> crawlWithSeleniumTabs(Map<String, Long> keywordPages, int pageSize) {
+        Map<String, String> seleniumUrls = new LinkedHashMap<>();
+        keywordPages.forEach((keyword, pageNumber) -> seleniumUrls.put(keyword, buildSearchUrl(keyword, pageNumber)));
+        return multiTabCrawler.crawl(seleniumUrls, getPlatform(), READINESS_CONDITION,
+                Duration.ofMillis(timeout), (driver, keyword) -> parseNewsItemsWithScript(driver, keyword, pageSize));
+    }
 
+    /**
+     * Selenium(브라우저)을 사용한 크롤링
+     */
+    @Override
+    protected List<NewsDataDto> crawlWithSelenium(String keyword, Long pageNumber, int pageSize) {
         WebDriver driver = null;
         try {
             log.info("네이버 뉴스 크롤링 시작 (Selenium) - 키워드: {}, 페이지: {}, 크기: {}", keyword, pageNumber, pageSize);
 
-            // WebDriver 초기화
-            driver = initializeWebDriver();
+            // 풀에서 WebDriver 대여 (플랫폼별 리소스 차단 적용)
+            driver = webDriverPool.borrow(getPlatform());
 
             // 검색 URL 생성 및 접속
-            String url = buildSearchUrl(keyword);
+            String url = buildSearchUrl(keyword, pageNumber);
             log.debug("크롤링 URL: {}", url);
 
-            driver.get(url);
-
-            // 페이지 로딩 대기
-            waitForPageLoad(driver);
+            // 검색 결과 JSON 응답 캡처 시작 후 페이지 이동, 결과 렌더링 완료까지 대기
+            XhrResponseCapture.Capture capture = xhrResponseCapture.start(driver, getPlatform());
+            pageReadinessWaiter.load(driver, url, getPlatform(), READINESS_CONDITION, Duration.ofMillis(timeout));
 
-            // 페이지 구조 디버깅 (문제 해결을 위해 추가)
-            debugPageStructure(driver);
-
-            // 뉴스 아이템 파싱
-            List<NewsDataDto> newsList = parseNewsItemsWithSelenium(driver, keyword, pageSize);
+            // 캡처된 JSON 응답에서 우선 추출, 없으면 DOM 파싱 (스크립트 1회 실행)
+            List<NewsDataDto> newsList = toNewsDataList(xhrResponseCapture.collect(capture, pageSize), keyword, pageSize);
+            if (newsList.isEmpty()) {
+                newsList = parseNewsItemsWithScript(driver, keyword, pageSize);
+            }
 
             log.info("네이버 뉴스 크롤링 완료 - 키워드: {}, 수집된 뉴스: {}개", keyword, newsList.size());
             return newsList;
@@ -77,542 +128,163 @@ public class NaverCrawlerStrategy implements CrawlerStrategy {
             log.error("네이버 뉴스 크롤링 중 오류 발생 - 키워드: {}, 오류: {}", keyword, e.getMessage(), e);
             return new ArrayList<>();
         } finally {
-            // WebDriver 정리
-            if (driver != null) {
-                try {
-                    driver.quit();
-                } catch (Exception e) {
-                    log.warn("WebDriver 종료 중 오류: {}", e.getMessage());
-                }
-            }
+            // WebDriver 반납 (상태 초기화 후 재사용)
+            webDriverPool.release(driver);
         }
     }
 
     /**
-     * WebDriver 초기화
+     * 브라우저 없이 HTTP 요청 + Jsoup 파싱으로 크롤링
      */
-    private WebDriver initializeWebDriver() {
-        try {
-            // Chrome WebDriver 자동 설정
-            WebDriverManager.chromedriver().setup();
-
-            ChromeOptions options = new ChromeOptions();
-
-            if (headless) {
-                options.addArguments("--headless");
-            }
-
-            // 성능 및 메모리 최적화 옵션
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-dev-shm-usage");
-            options.addArguments("--disable-gpu");
-            options.addArguments("--window-size=1920,1080");
-            options.addArguments("--user-agent=Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36");
-            
-            // 메모리 사용량 최적화
-            options.addArguments("--memory-pressure-off");
-            options.addArguments("--max_old_space_size=4096");
-            options.addArguments("--disable-background-timer-throttling");
-            options.addArguments("--disable-backgrounding-occluded-windows");
-            options.addArguments("--disable-renderer-backgrounding");
-            options.addArguments("--disable-features=TranslateUI");
-            options.addArguments("--disable-ipc-flooding-protection");
-
-            // CDP 경고 제거
-            options.setExperimentalOption("excludeSwitches", List.of("enable-automation"));
-            options.setExperimentalOption("useAutomationExtension", false);
-
-            WebDriver driver = new ChromeDriver(options);
-            log.debug("Chrome WebDriver 초기화 완료");
-            return driver;
-
-        } catch (Exception e) {
-            log.error("WebDriver 초기화 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("WebDriver 초기화 실패", e);
+    @Override
+    protected List<NewsDataDto> crawlWithHttp(String keyword, Long pageNumber, int pageSize) {
+        if (!httpPageFetcher.isEnabled()) {
+            return new ArrayList<>();
         }
-    }
 
-    /**
-     * 검색 URL 생성
-     */
-    private String buildSearchUrl(String keyword) {
         try {
-            String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
-            return String.format(NAVER_NEWS_SEARCH_URL, encodedKeyword);
-        } catch (Exception e) {
-            log.error("URL 생성 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("URL 생성 실패", e);
-        }
-    }
+            Document document = httpPageFetcher.fetch(buildSearchUrl(keyword, pageNumber), getPlatform());
+            List<NewsDataDto> newsList = parseNewsItemsWithJsoup(document, keyword, pageSize);
 
-    /**
-     * 페이지 로딩 대기
-     */
-    private void waitForPageLoad(WebDriver driver) {
-        try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofMillis(timeout));
-
-            // 페이지 로딩 완료 대기
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
-
-            // 추가 대기 시간 (동적 콘텐츠 로딩을 위해)
-            Thread.sleep(3000);
-
-            log.debug("페이지 로딩 완료");
+            log.info("네이버 뉴스 정적 파싱 완료 - 키워드: {}, 수집된 뉴스: {}개", keyword, newsList.size());
+            return newsList;
 
         } catch (Exception e) {
-            log.warn("페이지 로딩 대기 중 오류: {}", e.getMessage());
+            log.warn("네이버 뉴스 정적 파싱 실패 - 키워드: {}, 오류: {}", keyword, e.getMessage());
+            return new ArrayList<>();
         }
     }
 
     /**
-     * 페이지 구조 디버깅 (문제 해결을 위해 추가)
+     * Jsoup을 사용한 뉴스 아이템 파싱 (서버 렌더링된 검색 결과)
      */
-    private void debugPageStructure(WebDriver driver) {
-        try {
-            log.info("=== 페이지 구조 디버깅 시작 ===");
-
-            // 페이지 제목 확인
-            String pageTitle = driver.getTitle();
-            log.info("페이지 제목: {}", pageTitle);
-
-            // 현재 URL 확인
-            String currentUrl = driver.getCurrentUrl();
-            log.info("현재 URL: {}", currentUrl);
-
-            // 실제 뉴스 컨테이너 확인 (네이버 뉴스 DOM 구조 기반)
-            List<WebElement> newsContainers = driver.findElements(By.cssSelector(".news_wrap"));
-            log.info("네이버 뉴스 컨테이너(.news_wrap) 수: {}", newsContainers.size());
-
-            // 대안 선택자들 확인
-            List<WebElement> newsArea = driver.findElements(By.cssSelector(".news_area"));
-            log.info("뉴스 영역(.news_area) 수: {}", newsArea.size());
-
-            List<WebElement> bxArea = driver.findElements(By.cssSelector(".bx"));
-            log.info("뉴스 박스(.bx) 수: {}", bxArea.size());
-
-            List<WebElement> ulLists = driver.findElements(By.cssSelector("ul.list_news"));
-            log.info("뉴스 리스트(ul.list_news) 수: {}", ulLists.size());
-
-            List<WebElement> liItems = driver.findElements(By.cssSelector("ul.list_news li"));
-            log.info("뉴스 아이템(ul.list_news li) 수: {}", liItems.size());
-
-            // 뉴스 제목 링크 확인
-            List<WebElement> newsLinks = driver.findElements(By.cssSelector("a.news_tit"));
-            log.info("뉴스 제목 링크(a.news_tit) 수: {}", newsLinks.size());
-
-            // 모든 a 태그 중 뉴스 관련 링크 확인
-            List<WebElement> allLinks = driver.findElements(By.cssSelector("a[href*='news']"));
-            log.info("뉴스 관련 링크 수: {}", allLinks.size());
-
-            // 추가 디버깅: 다양한 선택자로 뉴스 아이템 찾기
-            List<WebElement> newsItems1 = driver.findElements(By.cssSelector("div.news"));
-            log.info("뉴스 아이템(div.news) 수: {}", newsItems1.size());
-
-            List<WebElement> newsItems2 = driver.findElements(By.cssSelector("li[class*='news']"));
-            log.info("뉴스 아이템(li[class*='news']) 수: {}", newsItems2.size());
-
-            List<WebElement> newsItems3 = driver.findElements(By.cssSelector("div[class*='news']"));
-            log.info("뉴스 아이템(div[class*='news']) 수: {}", newsItems3.size());
-
-            List<WebElement> newsItems4 = driver.findElements(By.cssSelector(".news"));
-            log.info("뉴스 아이템(.news) 수: {}", newsItems4.size());
-
-            List<WebElement> newsItems5 = driver.findElements(By.cssSelector("#main_pack .news"));
-            log.info("뉴스 아이템(#main_pack .news) 수: {}", newsItems5.size());
-
-            List<WebElement> newsItems6 = driver.findElements(By.cssSelector("#main_pack li"));
-            log.info("메인 팩 내 li 아이템 수: {}", newsItems6.size());
-
-            List<WebElement> newsItems7 = driver.findElements(By.cssSelector(".api_ani_send"));
-            log.info("API 애니 센드 아이템 수: {}", newsItems7.size());
-
-            // 모든 div 태그에서 뉴스 관련 클래스 찾기
-            List<WebElement> allDivs = driver.findElements(By.tagName("div"));
-            log.info("전체 div 태그 수: {}", allDivs.size());
-
-            // 첫 번째 뉴스 아이템이 있다면 상세 분석
-            if (!liItems.isEmpty()) {
-                WebElement firstItem = liItems.get(0);
-                String itemHtml = firstItem.getAttribute("outerHTML");
-                if (itemHtml.length() > 500) {
-                    itemHtml = itemHtml.substring(0, 500) + "...";
-                }
-                log.info("첫 번째 뉴스 아이템 HTML: {}", itemHtml);
-            }
+    private List<NewsDataDto> parseNewsItemsWithJsoup(Document document, String keyword, int maxItems) {
+        List<NewsDataDto> newsList = new ArrayList<>();
 
-            // main_pack 내부 구조 확인
-            try {
-                WebElement mainPack = driver.findElement(By.id("main_pack"));
-                List<WebElement> mainPackChildren = mainPack.findElements(By.xpath("./*"));
-                log.info("main_pack 직계 자식 요소 수: {}", mainPackChildren.size());
-
-                for (int i = 0; i < Math.min(3, mainPackChildren.size()); i++) {
-                    WebElement child = mainPackChildren.get(i);
-                    String tagName = child.getTagName();
-                    String className = child.getAttribute("class");
-                    String id = child.getAttribute("id");
-                    log.info("main_pack 자식[{}] - 태그: {}, 클래스: {}, ID: {}", i, tagName, className, id);
-                }
-            } catch (Exception e) {
-                log.warn("main_pack 요소를 찾을 수 없습니다: {}", e.getMessage());
+        Elements containers = new Elements();
+        for (String selector : List.of("ul.list_news > li", ".news_wrap", ".news_area")) {
+            containers = document.select(selector);
+            if (!containers.isEmpty()) {
+                break;
             }
-
-            log.info("=== 페이지 구조 디버깅 완료 ===");
-
-        } catch (Exception e) {
-            log.error("페이지 구조 디버깅 중 오류: {}", e.getMessage(), e);
         }
-    }
 
-    /**
-     * Selenium을 사용한 뉴스 아이템 파싱
-     */
-    private List<NewsDataDto> parseNewsItemsWithSelenium(WebDriver driver, String keyword, int maxItems) {
-        List<NewsDataDto> newsList = new ArrayList<>();
+        for (Element container : containers) {
+            if (newsList.size() >= maxItems) break;
 
-        try {
-            // 네이버 뉴스의 실제 DOM 구조에 맞는 선택자들 (디버깅 결과 기반)
-            List<By> selectors = List.of(
-                    By.cssSelector("div[class*='news']"),        // news가 포함된 div (실제 뉴스 4개 발견!)
-                    By.cssSelector("#main_pack li"),             // 메인 팩 내 li (228개 발견)
-                    By.cssSelector("#news_form li"),             // 뉴스 폼 내 li
-                    By.cssSelector("form#news_form li"),         // 뉴스 폼 내 li
-                    By.cssSelector("ul.list_news li"),           // 네이버 뉴스 리스트 아이템
-                    By.cssSelector(".list_news li"),             // 뉴스 리스트 아이템
-                    By.cssSelector(".news_wrap"),                // 뉴스 래퍼
-                    By.cssSelector(".news_area"),                // 뉴스 영역
-                    By.cssSelector(".bx"),                       // 뉴스 박스
-                    By.cssSelector("li.bx"),                     // 뉴스 박스 리스트
-                    By.cssSelector("article")                    // fallback
-            );
-
-            List<WebElement> containers = null;
-            By usedSelector = null;
-
-            // 여러 선택자를 순차적으로 시도
-            for (By selector : selectors) {
-                try {
-                    containers = driver.findElements(selector);
-                    if (containers != null && !containers.isEmpty()) {
-                        usedSelector = selector;
-                        log.info("선택자 '{}'로 {}개의 뉴스 컨테이너를 찾았습니다", selector, containers.size());
-                        break;
-                    }
-                } catch (Exception e) {
-                    log.debug("선택자 '{}' 실패: {}", selector, e.getMessage());
-                }
+            Element titleElement = selectFirst(container, "a.news_tit", "a[class*='news_tit']", "a.tit");
+            if (titleElement == null) {
+                continue;
             }
 
-            if (containers == null || containers.isEmpty()) {
-                log.warn("네이버 뉴스 컨테이너를 찾을 수 없습니다.");
-                return newsList;
+            String title = titleElement.text().trim();
+            String link = titleElement.absUrl("href");
+            if (title.length() <= 5 || link.isEmpty()) {
+                continue;
             }
 
-            // 첫 번째 컨테이너 HTML 구조 분석 (디버깅용)
-            if (!containers.isEmpty()) {
-                WebElement firstContainer = containers.get(0);
-                String containerHtml = firstContainer.getAttribute("outerHTML");
-                if (containerHtml.length() > 500) {
-                    containerHtml = containerHtml.substring(0, 500) + "...";
-                }
-                log.info("첫 번째 컨테이너 HTML (전체): {}", containerHtml);
+            Element sourceElement = selectFirst(container, ".info.press", ".press", "cite");
+            String source = sourceElement != null ? sourceElement.text().trim() : null;
 
-                // 컨테이너 내부의 링크들 확인
-                List<WebElement> linksInContainer = firstContainer.findElements(By.tagName("a"));
-                log.info("첫 번째 컨테이너 내 링크 수: {}", linksInContainer.size());
-
-                if (!linksInContainer.isEmpty()) {
-                    WebElement firstLink = linksInContainer.get(0);
-                    String linkText = firstLink.getText().trim();
-                    String linkHref = firstLink.getAttribute("href");
-                    log.info("첫 번째 링크 - 텍스트: '{}', href: '{}'", linkText, linkHref);
+            String time = null;
+            for (Element info : container.select("span.info, .info_group span")) {
+                String text = info.text().trim();
+                if (text.contains("전") || text.contains("시간") || text.contains("분")) {
+                    time = text;
+                    break;
                 }
             }
 
-            // 뉴스 아이템 파싱
-            int successCount = 0;
-            int failCount = 0;
-
-            for (int i = 0; i < Math.min(containers.size(), maxItems); i++) {
-                try {
-                    WebElement container = containers.get(i);
-                    NewsDataDto news = parseNewsItem(container, keyword);
-
-                    if (news != null && news.getTitle() != null && !news.getTitle().trim().isEmpty()) {
-                        newsList.add(news);
-                        successCount++;
-                    } else {
-                        failCount++;
-                    }
-                } catch (Exception e) {
-                    log.warn("뉴스 아이템 {} 파싱 실패: {}", i, e.getMessage());
-                    failCount++;
-                }
-            }
-
-            log.info("파싱 결과 - 성공: {}개, 실패: {}개, 총 수집: {}개", successCount, failCount, newsList.size());
-
-        } catch (Exception e) {
-            log.error("뉴스 아이템 파싱 중 오류: {}", e.getMessage(), e);
+            newsList.add(new NewsDataDto(title, "", composeDescription(source, time, title), link, keyword, getPlatform()));
         }
 
         return newsList;
     }
 
     /**
-     * 개별 뉴스 아이템 파싱
+     * 우선순위 순으로 선택자를 시도하여 첫 번째로 매칭되는 요소 반환
      */
-    private NewsDataDto parseNewsItem(WebElement container, String keyword) {
-        try {
-            // 제목 추출
-            String title = extractTitleWithSelenium(container);
-            if (title == null || title.trim().isEmpty()) {
-                return null;
-            }
-
-            // 링크 추출
-            String link = extractLinkWithSelenium(container);
-            if (link == null || link.trim().isEmpty()) {
-                return null;
+    private Element selectFirst(Element container, String... selectors) {
+        for (String selector : selectors) {
+            Element element = container.selectFirst(selector);
+            if (element != null) {
+                return element;
             }
-
-            // 설명 추출 (언론사 + 시간 정보)
-            String description = extractDescriptionWithSelenium(container);
-
-            // NewsDataDto 생성
-            NewsDataDto news = new NewsDataDto(
-                    title,
-                    "",
-                    description,
-                    link,
-                    keyword,
-                    getPlatform()
-            );
-
-            log.debug("뉴스 아이템 파싱 성공 - 제목: {}, 링크: {}", title, link);
-            return news;
-
-        } catch (Exception e) {
-            log.warn("뉴스 아이템 파싱 실패: {}", e.getMessage());
-            return null;
         }
+        return null;
     }
 
     /**
-     * Selenium을 사용한 제목 추출 (네이버 뉴스 실제 구조 기반)
+     * 언론사/시간 정보로 설명 문자열 구성 (정보가 없으면 제목 사용)
      */
-    private String extractTitleWithSelenium(WebElement container) {
-        try {
-            // 네이버 뉴스의 실제 제목 선택자들
-            List<By> titleSelectors = List.of(
-                    By.cssSelector("a.news_tit"),                // 네이버 뉴스 제목 링크
-                    By.cssSelector(".news_tit"),                 // 뉴스 제목 클래스
-                    By.cssSelector("a[class*='news_tit']"),      // news_tit이 포함된 클래스
-                    By.cssSelector("a.tit"),                     // 제목 링크
-                    By.cssSelector(".tit"),                      // 제목 클래스
-                    By.cssSelector("h3 a"),                      // h3 내 링크
-                    By.cssSelector("h4 a"),                      // h4 내 링크
-                    By.cssSelector("a[href*='news']"),           // 뉴스 링크
-                    By.cssSelector("a"),                         // 모든 링크
-                    By.cssSelector("dt a"),                      // dt 내 링크
-                    By.cssSelector(".title")                     // 제목 클래스
-            );
-
-            for (By selector : titleSelectors) {
-                try {
-                    WebElement titleElement = container.findElement(selector);
-                    String title = titleElement.getText().trim();
-                    if (title != null && !title.isEmpty() && title.length() > 5) {
-                        log.debug("제목 추출 성공 (선택자: {}): {}", selector, title);
-                        return title;
-                    }
-                } catch (Exception e) {
-                    // 다음 선택자 시도
-                }
+    private String composeDescription(String source, String time, String title) {
+        StringBuilder description = new StringBuilder();
+        if (source != null && !source.isEmpty()) {
+            description.append("출처: ").append(source);
+        }
+        if (time != null && !time.isEmpty()) {
+            if (description.length() > 0) {
+                description.append(" | ");
             }
+            description.append("시간: ").append(time);
+        }
 
-            log.debug("모든 제목 선택자 실패");
-            return null;
-
-        } catch (Exception e) {
-            log.warn("제목 추출 실패: {}", e.getMessage());
-            return null;
+        if (description.length() == 0) {
+            return title;
         }
+        String result = description.toString();
+        return result.length() > 200 ? result.substring(0, 200) + "..." : result;
     }
 
     /**
-     * Selenium을 사용한 링크 추출
+     * 검색 URL 생성 (페이지 번호는 한 페이지 10건 기준 시작 위치로 변환)
      */
-    private String extractLinkWithSelenium(WebElement container) {
+    private String buildSearchUrl(String keyword, Long pageNumber) {
         try {
-            // 네이버 뉴스의 실제 링크 선택자들
-            List<By> linkSelectors = List.of(
-                    By.cssSelector("a.news_tit"),                // 네이버 뉴스 제목 링크
-                    By.cssSelector("a[class*='news_tit']"),      // news_tit이 포함된 클래스
-                    By.cssSelector("a.tit"),                     // 제목 링크
-                    By.cssSelector("a[href*='news']"),           // 뉴스 링크
-                    By.cssSelector("a[href*='naver']"),          // 네이버 링크
-                    By.cssSelector("a[href]"),                   // href 속성이 있는 링크
-                    By.cssSelector("a"),                         // 모든 링크
-                    By.cssSelector("dt a")                       // dt 내 링크
-            );
-
-            for (By selector : linkSelectors) {
-                try {
-                    WebElement linkElement = container.findElement(selector);
-                    String href = linkElement.getAttribute("href");
-                    if (href != null && !href.trim().isEmpty() && !href.startsWith("javascript:")) {
-                        log.debug("링크 추출 성공 (선택자: {}): {}", selector, href);
-                        return href;
-                    }
-                } catch (Exception e) {
-                    // 다음 선택자 시도
-                }
-            }
-
-            log.debug("모든 링크 선택자 실패");
-            return null;
-
+            String encodedKeyword = URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+            long start = (CrawlerStrategy.normalizePage(pageNumber) - 1) * RESULTS_PER_PAGE + 1;
+            return String.format(searchUrl.isBlank() ? NAVER_NEWS_SEARCH_URL : searchUrl, encodedKeyword, start);
         } catch (Exception e) {
-            log.warn("링크 추출 실패: {}", e.getMessage());
-            return null;
+            log.error("URL 생성 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("URL 생성 실패", e);
         }
     }
 
     /**
-     * Selenium을 사용한 설명 추출 (언론사 정보 포함)
+     * 스크립트 1회 실행으로 뉴스 아이템 파싱
      */
-    private String extractDescriptionWithSelenium(WebElement container) {
-        try {
-            // 언론사 정보 추출 (네이버 뉴스 전용)
-            String source = extractSourceWithSelenium(container);
-
-            // 시간 정보 추출
-            String time = extractTimeWithSelenium(container);
-
-            // 설명 조합
-            StringBuilder description = new StringBuilder();
-            if (source != null && !source.isEmpty()) {
-                description.append("출처: ").append(source);
-            }
-            if (time != null && !time.isEmpty()) {
-                if (description.length() > 0) {
-                    description.append(" | ");
-                }
-                description.append("시간: ").append(time);
-            }
-
-            if (description.length() > 0) {
-                String result = description.toString();
-                // 설명 길이 제한 (200자)
-                if (result.length() > 200) {
-                    result = result.substring(0, 200) + "...";
-                }
-                log.debug("설명 추출 성공: {}", result);
-                return result;
-            }
-
-            // 설명이 없으면 제목을 사용
-            String title = extractTitleWithSelenium(container);
-            if (title != null && !title.isEmpty()) {
-                log.debug("설명 없음, 제목을 설명으로 사용: {}", title);
-                return title;
-            }
-
-            log.debug("모든 설명 선택자 실패");
-            return "";
-
-        } catch (Exception e) {
-            log.warn("설명 추출 실패: {}", e.getMessage());
-            return "";
-        }
+    private List<NewsDataDto> parseNewsItemsWithScript(WebDriver driver, String keyword, int maxItems) {
+        return toNewsDataList(scriptNewsExtractor.extract(driver, getPlatform(), EXTRACTION_SELECTORS, maxItems), keyword, maxItems);
     }
 
     /**
-     * Selenium을 사용한 언론사 정보 추출
+     * 추출된 아이템(DOM 스크립트 또는 XHR 응답)을 NewsDataDto로 변환
      */
-    private String extractSourceWithSelenium(WebElement container) {
-        try {
-            // 네이버 뉴스의 실제 언론사 선택자들
-            List<By> sourceSelectors = List.of(
-                    By.cssSelector(".press"),                     // 언론사 클래스
-                    By.cssSelector(".source"),                    // 출처 클래스
-                    By.cssSelector(".media"),                     // 미디어 클래스
-                    By.cssSelector(".company"),                   // 회사 클래스
-                    By.cssSelector(".news_agency"),               // 뉴스 에이전시 클래스
-                    By.cssSelector(".news_source"),               // 뉴스 출처 클래스
-                    By.cssSelector(".news_company"),              // 뉴스 회사 클래스
-                    By.cssSelector("span[class*='press']"),       // press가 포함된 클래스
-                    By.cssSelector("span[class*='source']"),      // source가 포함된 클래스
-                    By.cssSelector("span[class*='media']"),       // media가 포함된 클래스
-                    By.cssSelector("cite"),                       // cite 태그
-                    By.cssSelector(".info_group cite"),           // 정보 그룹 내 cite
-                    By.cssSelector(".info cite")                  // 정보 내 cite
-            );
-
-            for (By selector : sourceSelectors) {
-                try {
-                    WebElement sourceElement = container.findElement(selector);
-                    String source = sourceElement.getText().trim();
-                    if (source != null && !source.isEmpty()) {
-                        log.debug("언론사 추출 성공 (선택자: {}): {}", selector, source);
-                        return source;
-                    }
-                } catch (Exception e) {
-                    // 다음 선택자 시도
-                }
-            }
-
-            log.debug("모든 언론사 선택자 실패");
-            return null;
+    private List<NewsDataDto> toNewsDataList(List<ExtractedNewsItem> items, String keyword, int maxItems) {
+        List<NewsDataDto> newsList = new ArrayList<>();
 
-        } catch (Exception e) {
-            log.warn("언론사 추출 실패: {}", e.getMessage());
-            return null;
-        }
-    }
+        for (ExtractedNewsItem item : items) {
+            if (newsList.size() >= maxItems) break;
 
-    /**
-     * Selenium을 사용한 시간 정보 추출
-     */
-    private String extractTimeWithSelenium(WebElement container) {
-        try {
-            // 네이버 뉴스의 실제 시간 선택자들
-            List<By> timeSelectors = List.of(
-                    By.cssSelector("time"),                       // time 태그
-                    By.cssSelector(".time"),                      // 시간 클래스
-                    By.cssSelector(".date"),                      // 날짜 클래스
-                    By.cssSelector(".timestamp"),                 // 타임스탬프 클래스
-                    By.cssSelector(".news_time"),                 // 뉴스 시간 클래스
-                    By.cssSelector(".news_date"),                 // 뉴스 날짜 클래스
-                    By.cssSelector("span[class*='time']"),        // time이 포함된 클래스
-                    By.cssSelector("span[class*='date']"),        // date가 포함된 클래스
-                    By.cssSelector("span[class*='ago']"),         // ago가 포함된 클래스 (몇 시간 전 등)
-                    By.cssSelector(".info_group span"),           // 정보 그룹 내 span
-                    By.cssSelector(".info span")                  // 정보 내 span
-            );
-
-            for (By selector : timeSelectors) {
-                try {
-                    WebElement timeElement = container.findElement(selector);
-                    String time = timeElement.getText().trim();
-                    if (time != null && !time.isEmpty() && (time.contains("전") || time.contains("시간") || time.contains("분"))) {
-                        log.debug("시간 추출 성공 (선택자: {}): {}", selector, time);
-                        return time;
-                    }
-                } catch (Exception e) {
-                    // 다음 선택자 시도
-                }
+            String link = item.getLinks().stream()
+                    .filter(href -> !href.isBlank() && !href.startsWith("javascript:"))
+                    .findFirst()
+                    .orElse(null);
+            if (link == null) {
+                continue;
             }
 
-            log.debug("모든 시간 선택자 실패");
-            return null;
+            String time = item.getTimes().stream()
+                    .filter(text -> text.contains("전") || text.contains("시간") || text.contains("분"))
+                    .findFirst()
+                    .orElse(null);
 
-        } catch (Exception e) {
-            log.warn("시간 추출 실패: {}", e.getMessage());
-            return null;
+            String description = composeDescription(item.getSource(), time, item.getTitle());
+            newsList.add(new NewsDataDto(item.getTitle(), "", description, link, keyword, getPlatform()));
         }
+
+        log.info("파싱 결과 - 후보: {}개, 총 수집: {}개", items.size(), newsList.size());
+        return newsList;
     }
 
     /**
@@ -635,9 +307,10 @@ public class NaverCrawlerStrategy implements CrawlerStrategy {
         return text.replaceAll("<[^>]*>", "").trim();
     }
 
+    // 네이버 검색 API가 활성화되어 있으면 브라우저 크롤링 대신 API 사용
     @Override
     public boolean isEnabled() {
-        return enabled;
+        return enabled && !naverApiCrawlerStrategy.isEnabled();
     }
 }
 
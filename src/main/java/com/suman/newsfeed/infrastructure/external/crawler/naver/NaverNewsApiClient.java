@@ -0,0 +1,136 @@
+package com.suman.newsfeed.infrastructure.external.crawler.naver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 네이버 검색 API(뉴스) 클라이언트
+ * 단일 HttpClient를 공유해 keep-alive 커넥션을 재사용하고,
+ * 응답 본문을 문자열로 모으지 않고 스트림에서 바로 Jackson으로 역직렬화합니다.
+ * 모든 호출은 NaverApiQuotaGovernor의 일일/초당 한도를 거칩니다.
+ */
+@Slf4j
+@Component
+public class NaverNewsApiClient {
+
+    // API 제약: start 1~1000, display 1~100
+    public static final int MAX_START = 1000;
+    public static final int MAX_DISPLAY = 100;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final NaverApiQuotaGovernor quotaGovernor;
+    private final HttpClient httpClient;
+
+    private final String baseUrl;
+    private final String clientId;
+    private final String clientSecret;
+    private final Duration requestTimeout;
+
+    public NaverNewsApiClient(ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${naver.api.base-url:https://openapi.naver.com/v1/search/news.json}") String baseUrl,
+                              @Value("${naver.api.client-id:}") String clientId,
+                              @Value("${naver.api.client-secret:}") String clientSecret,
+                              @Value("${naver.api.timeout:30000}") long timeout,
+                              @Value("${naver.api.daily-limit:25000}") int dailyLimit,
+                              @Value("${naver.api.per-second-limit:10}") int perSecondLimit) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.quotaGovernor = new NaverApiQuotaGovernor(dailyLimit, perSecondLimit);
+        this.baseUrl = baseUrl;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.requestTimeout = Duration.ofMillis(timeout);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(Math.min(timeout, 5000)))
+                .build();
+    }
+
+    /**
+     * 인증 정보가 설정되어 있는지 여부
+     */
+    public boolean isConfigured() {
+        return !clientId.isBlank() && !clientSecret.isBlank();
+    }
+
+    /**
+     * 뉴스 검색 (최신순)
+     * @param start 검색 시작 위치 (1~1000)
+     * @param display 한 번에 가져올 결과 수 (1~100)
+     * @throws IOException HTTP 오류 또는 응답 파싱 실패 시
+     * @throws IllegalStateException 일일 호출 한도 소진 시
+     */
+    public NaverNewsResponse search(String query, int start, int display) throws IOException {
+        acquireQuota();
+
+        String url = baseUrl
+                + "?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8)
+                + "&start=" + Math.max(1, Math.min(start, MAX_START))
+                + "&display=" + Math.max(1, Math.min(display, MAX_DISPLAY))
+                + "&sort=date";
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("X-Naver-Client-Id", clientId)
+                .header("X-Naver-Client-Secret", clientSecret)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+            if (response.statusCode() != 200) {
+                response.body().close();
+                count("error");
+                throw new IOException("네이버 API 응답 오류 - 상태 코드: " + response.statusCode() + ", 검색어: " + query);
+            }
+
+            boolean gzip = response.headers().firstValue("Content-Encoding")
+                    .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                    .orElse(false);
+
+            try (InputStream body = gzip ? new GZIPInputStream(response.body()) : response.body()) {
+                NaverNewsResponse newsResponse = objectMapper.readValue(body, NaverNewsResponse.class);
+                count("success");
+                return newsResponse;
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("네이버 API 요청 중 인터럽트 발생: " + query, e);
+        }
+    }
+
+    private void acquireQuota() throws IOException {
+        try {
+            if (!quotaGovernor.tryAcquire()) {
+                count("quota_exceeded");
+                throw new IllegalStateException("네이버 API 일일 호출 한도를 모두 사용했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("네이버 API 호출 한도 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("crawler.naver.api.requests", "outcome", outcome).increment();
+    }
+}
@@ -14,7 +14,10 @@ public class NewsKeywordMapper {
         return NewsKeyword.reconstruct(newsKeywordJpaEntity.getId(),
                 newsKeywordJpaEntity.getDomainId(),
                 newsKeywordJpaEntity.getText(),
-                newsKeywordJpaEntity.getCollectedCount());
+                newsKeywordJpaEntity.getCollectedCount(),
+                newsKeywordJpaEntity.getCrawlInterval(),
+                newsKeywordJpaEntity.toCrawlCursors(),
+                newsKeywordJpaEntity.getLastCrawledAt());
 
     }
 
@@ -23,7 +26,10 @@ public class NewsKeywordMapper {
                 newsKeyword.getId(),
                 newsKeyword.getDomainId(),
                 newsKeyword.getText(),
-                newsKeyword.getCollectedCount()
+                newsKeyword.getCollectedCount(),
+                newsKeyword.getCrawlInterval(),
+                newsKeyword.getLastCrawledAt(),
+                newsKeyword.getPlatformCursors()
         );
     }
 
@@ -23,7 +23,8 @@ public class NewsMapper {
                 news.getUrl(),
                 newsKeywordMapper.toEntity(news.getNewsKeyword()),
                 news.getPlatform(),
-                news.getImageUrl()
+                news.getImageUrl(),
+                news.getClusterId()
         );
     }
 
@@ -37,6 +38,7 @@ public class NewsMapper {
                 newsKeywordMapper.toDomain(newsJpaEntity.getNewsKeyword()),
                 newsJpaEntity.getPlatform(),
                 newsJpaEntity.getImageUrl(),
+                newsJpaEntity.getClusterId(),
                 newsJpaEntity.getCreatedAt());
     }
 }
@@ -37,6 +37,7 @@ public class UserMapper {
                 userJpaEntity.getEmail(),
                 userJpaEntity.getPassword(),
                 userJpaEntity.getNickname(),
+                userJpaEntity.getRole(),
                 userKeywords,
                 userNewsPlatforms,
                 userJpaEntity.getRefreshToken(),
@@ -0,0 +1,52 @@
+package com.suman.newsfeed.infrastructure.scheduler;
+
+import com.suman.newsfeed.application.usecase.NewsCollectionUseCase;
+import com.suman.newsfeed.infrastructure.external.crawler.SeenNewsFilter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 전체 키워드 수집(백필) 수동 실행 - POST /actuator/newscollection
+ * 정기 수집은 우선순위 스케줄러(NewsCollectionScheduler)가 맡으며, 이 엔드포인트는 재시작 직후나 장애 복구 후
+ * 모든 키워드를 한 번씩 다시 수집해야 할 때 운영자가 실행합니다. 결과를 기다리지 않고 바로 응답합니다.
+ * 진행 상황은 /actuator/metrics/crawler.collection.keywords에서 확인할 수 있습니다.
+ * 관리자(ROLE_ADMIN)만 실행할 수 있으며, 이미 진행 중인 수집이 있으면 새로 시작하지 않고 already-running을,
+ * 기동 직후 중복 판별 필터 재구성이 끝나기 전이면 dedup-loading을 반환합니다.
+ */
+@Component
+@Endpoint(id = "newscollection")
+@RequiredArgsConstructor
+public class NewsCollectionEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsCollectionEndpoint.class);
+
+    private final NewsCollectionUseCase newsCollectionUseCase;
+    private final SeenNewsFilter seenNewsFilter;
+
+    @WriteOperation
+    public Map<String, String> collectAll() {
+        logger.info("전체 키워드 수집 수동 실행 요청");
+        if (!seenNewsFilter.isLoaded()) {
+            logger.warn("중복 판별 필터 재구성 중이라 전체 키워드 수집을 시작하지 않습니다.");
+            return Map.of("status", "dedup-loading");
+        }
+        if (newsCollectionUseCase.isCollectingAll()) {
+            logger.warn("전체 키워드 수집이 이미 진행 중이라 새로 시작하지 않습니다.");
+            return Map.of("status", "already-running");
+        }
+        CompletableFuture<Void> future = newsCollectionUseCase.collectNewsAll();
+        future.whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.error("전체 키워드 수집 실패", error);
+            }
+        });
+        return Map.of("status", future.isDone() ? "completed" : "running");
+    }
+}
@@ -2,16 +2,29 @@ package com.suman.newsfeed.infrastructure.scheduler;
 
 
 
+import com.suman.newsfeed.application.usecase.KeywordActivityTracker;
+import com.suman.newsfeed.application.usecase.KeywordCrawlPlanner;
+import com.suman.newsfeed.application.usecase.KeywordPlatformDemandIndex;
 import com.suman.newsfeed.application.usecase.NewsCollectionUseCase;
-import jakarta.annotation.PostConstruct;
+import com.suman.newsfeed.domain.news.NewsKeyword;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import com.suman.newsfeed.infrastructure.external.crawler.SeenNewsFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 우선순위 기반 뉴스 수집 스케줄러 (crawler.schedule)
+ * 정해진 크롤링 예산(동시에 수집 중인 키워드 묶음 concurrency개) 안에서
+ * 수집 시각이 지난 키워드 중 가장 가치 있는 키워드부터 계속 꺼내 수집합니다. (우선순위 계산은 KeywordCrawlPlanner)
+ */
 @RequiredArgsConstructor
 @Component
 public class NewsCollectionScheduler {
@@ -19,25 +32,61 @@ public class NewsCollectionScheduler {
     private static final Logger logger = LoggerFactory.getLogger(NewsCollectionScheduler.class);
 
     private final NewsCollectionUseCase newsCollectionUseCase;
+    private final KeywordCrawlPlanner keywordCrawlPlanner;
+    private final KeywordPlatformDemandIndex keywordPlatformDemandIndex;
+    private final KeywordActivityTracker keywordActivityTracker;
+    private final SeenNewsFilter seenNewsFilter;
+    private final CrawlerProperties crawlerProperties;
 
-    // 매시 정각마다 실행
-    @Scheduled(initialDelay = 3000, fixedRate = 3600000)
-//    @Scheduled(initialDelay = 3000, fixedRate = 60000)
-    public void scheduledNewsCollection() {
-        executeNewsCollection();
-    }
-
-    // 공통 실행 메서드
-    private void executeNewsCollection() {
-        logger.info("뉴스 수집 시작: {}", LocalDateTime.now());
+    // 수집 중인 키워드 묶음 수
+    private final AtomicInteger inFlight = new AtomicInteger();
 
+    // 키워드 목록과 활성 구독자 수, 키워드별 수집 대상 플랫폼 갱신 (구독 변경 이벤트를 놓친 경우 대비), 휴면 사용자 반영
+    @Scheduled(initialDelay = 3000, fixedDelayString = "${crawler.schedule.refresh-interval:300000}")
+    public void refreshSchedule() {
         try {
-            newsCollectionUseCase.collectNewsAll();
-
+            keywordPlatformDemandIndex.refresh();
+            keywordActivityTracker.refresh();
+            keywordCrawlPlanner.refresh();
         } catch (Exception e) {
-            logger.error(" 뉴스 수집 실패: {}", e.getMessage(), e);
+            logger.error("키워드 수집 일정 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 크롤링 예산이 남아 있는 만큼 수집 시각이 된 키워드 묶음 시작 (결과를 기다리지 않음)
+    // 중복 판별 필터 재구성이 끝나기 전에는 이미 저장된 뉴스를 다시 저장하지 않도록 시작하지 않음
+    @Scheduled(initialDelay = 5000, fixedDelayString = "${crawler.schedule.tick:1000}")
+    public void dispatchDueKeywords() {
+        if (!seenNewsFilter.isLoaded()) {
+            logger.debug("중복 판별 필터 재구성 중 - 수집 시작 보류");
+            return;
         }
 
-        logger.info(" 뉴스 수집 종료: {}", LocalDateTime.now());
+        CrawlerProperties.Schedule schedule = crawlerProperties.getSchedule();
+        while (inFlight.get() < schedule.getConcurrency()) {
+            List<String> keywords = keywordCrawlPlanner.pollDue(schedule.getBatchSize());
+            if (keywords.isEmpty()) {
+                return;
+            }
+
+            inFlight.incrementAndGet();
+            logger.info("뉴스 수집 시작 - 키워드: {}", keywords);
+
+            CompletableFuture<Map<String, NewsKeyword>> future;
+            try {
+                future = newsCollectionUseCase.collectNewsForKeywords(keywords);
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            future.whenComplete((collectedKeywords, error) -> {
+                if (error != null) {
+                    logger.error(" 뉴스 수집 실패 - 키워드: {}", keywords, error);
+                }
+                // 결과가 없는 키워드는 실패로 보고 min-interval 후 다시 시도
+                keywords.forEach(keyword -> keywordCrawlPlanner.complete(keyword, collectedKeywords != null ? collectedKeywords.get(keyword) : null));
+                inFlight.decrementAndGet();
+            });
+        }
     }
-}
\ No newline at end of file
+}
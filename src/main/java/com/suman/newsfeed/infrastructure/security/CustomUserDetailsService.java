@@ -2,6 +2,7 @@ package com.suman.newsfeed.infrastructure.security;
 
 import com.suman.newsfeed.domain.user.User;
 import com.suman.newsfeed.domain.user.UserRepository;
+import com.suman.newsfeed.shared.UserRole;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
@@ -26,7 +27,7 @@ public class CustomUserDetailsService {
                 user.getDomainId(),
                 user.getEmail(),
                 user.getNickname(),
-                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                authoritiesOf(user)
         );
     }
 
@@ -43,7 +44,13 @@ public class CustomUserDetailsService {
                 user.getDomainId(),
                 user.getEmail(),
                 user.getNickname(),
-                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                authoritiesOf(user)
         );
     }
+
+    // 저장된 사용자 권한 (ROLE_USER / ROLE_ADMIN)
+    private List<SimpleGrantedAuthority> authoritiesOf(User user) {
+        UserRole role = user.getRole() != null ? user.getRole() : UserRole.USER;
+        return List.of(new SimpleGrantedAuthority(role.getRole()));
+    }
 }
@@ -0,0 +1,124 @@
+package com.suman.newsfeed.application.usecase;
+
+import com.suman.newsfeed.domain.user.User;
+import com.suman.newsfeed.domain.user.UserKeyword;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeywordActivityTracker 테스트 클래스
+ * 키워드 활성화/삭제, 로그인, 휴면 전환에 따른 키워드별 활동 구독자 수를 검증합니다.
+ */
+@DisplayName("KeywordActivityTracker 테스트")
+class KeywordActivityTrackerTest {
+
+    private static final long DAY = 86400000L;
+
+    private KeywordActivityTracker tracker;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        CrawlerProperties crawlerProperties = new CrawlerProperties();
+        crawlerProperties.getActivity().setDormantAfter(30 * DAY);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        tracker = new KeywordActivityTracker(null, crawlerProperties, meterRegistry);
+        ReflectionTestUtils.invokeMethod(tracker, "init");
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    @DisplayName("저장된 사용자 중 휴면이 아닌 사용자의 활성 키워드만 센다")
+    void load_CountsActiveKeywordsOfRecentUsers() {
+        // given - refresh token 만료 후 30일이 지난 사용자와 로그인한 적 없는 사용자는 휴면
+        User recent = user("recent", LocalDateTime.now().plusDays(1),
+                keyword("경제", true), keyword("정치", false));
+        User dormant = user("dormant", LocalDateTime.now().minusDays(40), keyword("경제", true));
+        User neverLoggedIn = user("never", null, keyword("날씨", true));
+
+        // when
+        tracker.load(List.of(recent, dormant, neverLoggedIn), now);
+
+        // then
+        assertTrue(tracker.isLoaded());
+        assertEquals(1, tracker.demandFor("경제"));
+        assertEquals(0, tracker.demandFor("정치"));
+        assertEquals(0, tracker.demandFor("날씨"));
+        assertEquals(Map.of("경제", 1L), tracker.activeSubscribersByText());
+    }
+
+    @Test
+    @DisplayName("휴면 사용자가 로그인하면 활성 키워드를 다시 센다")
+    void recordLogin_CountsDormantUserAgain() {
+        // given
+        User dormant = user("dormant", LocalDateTime.now().minusDays(40), keyword("경제", true));
+        tracker.load(List.of(dormant), now);
+        assertEquals(0, tracker.demandFor("경제"));
+
+        // when
+        dormant.setRefreshTokenExpiresAt(LocalDateTime.now().plusDays(7));
+        tracker.recordLogin(dormant, now);
+
+        // then
+        assertEquals(1, tracker.demandFor("경제"));
+    }
+
+    @Test
+    @DisplayName("활동 기한이 지난 사용자는 휴면으로 보고 수에서 뺀다")
+    void expire_RemovesDormantUsers() {
+        // given
+        User user = user("user", LocalDateTime.now(), keyword("경제", true));
+        tracker.load(List.of(user), now);
+
+        // when
+        tracker.expire(now + 29 * DAY);
+        long beforeDormant = tracker.demandFor("경제");
+        tracker.expire(now + 31 * DAY);
+
+        // then
+        assertEquals(1, beforeDormant);
+        assertEquals(0, tracker.demandFor("경제"));
+    }
+
+    @Test
+    @DisplayName("키워드 활성화/비활성, 추가, 삭제를 바로 반영한다")
+    void recordKeywordEvents_UpdatesCounts() {
+        // given
+        User user = user("user", LocalDateTime.now().plusDays(1), keyword("경제", true));
+        tracker.load(List.of(user), now);
+
+        // when & then
+        tracker.recordKeywordActive("user", "경제", false, now);
+        assertEquals(0, tracker.demandFor("경제"));
+
+        tracker.recordKeywordActive("user", "경제", true, now);
+        tracker.recordKeywordAdded("user", "정치");
+        assertEquals(1, tracker.demandFor("경제"));
+        assertEquals(1, tracker.demandFor("정치"));
+
+        tracker.recordKeywordRemoved("user", List.of("경제", "정치"));
+        assertTrue(tracker.activeSubscribersByText().isEmpty());
+    }
+
+    private static User user(String domainId, LocalDateTime refreshTokenExpiresAt, UserKeyword... keywords) {
+        Set<UserKeyword> userKeywords = new HashSet<>(List.of(keywords));
+        return User.reconstruct(null, domainId, domainId + "@example.com", "password", domainId,
+                userKeywords, new HashSet<>(), null, refreshTokenExpiresAt);
+    }
+
+    private static UserKeyword keyword(String text, boolean active) {
+        return UserKeyword.reconstruct(null, text, null, active, 0, LocalDateTime.now(), null);
+    }
+}
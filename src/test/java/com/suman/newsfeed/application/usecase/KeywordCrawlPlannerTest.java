@@ -0,0 +1,206 @@
+package com.suman.newsfeed.application.usecase;
+
+import com.suman.newsfeed.domain.news.CrawlCursor;
+import com.suman.newsfeed.domain.news.NewsKeyword;
+import com.suman.newsfeed.domain.user.User;
+import com.suman.newsfeed.domain.user.UserKeyword;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeywordCrawlPlanner 테스트 클래스
+ * 구독자 수/경과 시간/수율에 따른 수집 순서와 키워드 수집 간격·실패에 따른 다음 수집 시각을 검증합니다.
+ */
+@DisplayName("KeywordCrawlPlanner 테스트")
+class KeywordCrawlPlannerTest {
+
+    private static final long HOUR = 3600000L;
+
+    private KeywordCrawlPlanner planner;
+    private KeywordActivityTracker keywordActivityTracker;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        CrawlerProperties crawlerProperties = new CrawlerProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        // 활동 구독자 수는 채우기 전 (모든 키워드 수집)
+        keywordActivityTracker = new KeywordActivityTracker(null, crawlerProperties, meterRegistry);
+        planner = new KeywordCrawlPlanner(null, null, keywordActivityTracker, crawlerProperties, meterRegistry);
+        ReflectionTestUtils.invokeMethod(planner, "init");
+    }
+
+    @Test
+    @DisplayName("새 키워드는 바로 수집 대상이며 활성 구독자가 많은 키워드부터 꺼낸다")
+    void pollDue_OrdersBySubscribers() {
+        // given
+        planner.refresh(keywords("경제", "정치", "날씨"), Map.of("경제", 1L, "정치", 10L), 0);
+
+        // when
+        List<String> keywords = planner.pollDue(3, 0);
+
+        // then
+        assertEquals(List.of("정치", "경제", "날씨"), keywords);
+        assertTrue(planner.pollDue(3, 0).isEmpty()); // 수집 중인 키워드는 다시 꺼내지 않음
+    }
+
+    @Test
+    @DisplayName("수집에 성공하면 구독자 수와 수율로 정한 간격 뒤에 다시 수집 대상이 된다")
+    void complete_SchedulesNextCrawlByInterval() {
+        // given - 구독자 10명, 키워드 수집 간격 1시간 (간격 = 1시간 / log2(11) ≈ 17분)
+        planner.refresh(keywords("정치"), Map.of("정치", 10L), 0);
+        planner.pollDue(1, 0);
+
+        // when
+        planner.complete("정치", collected("정치", HOUR, 0), 0);
+
+        // then
+        assertTrue(planner.pollDue(1, 1000000).isEmpty());
+        assertEquals(List.of("정치"), planner.pollDue(1, 1100000));
+    }
+
+    @Test
+    @DisplayName("키워드 수집 간격이 늘어난 키워드는 더 늦게 다시 수집한다")
+    void complete_UsesKeywordCrawlInterval() {
+        // given
+        planner.refresh(keywords("경제", "정치"), Map.of("경제", 1L, "정치", 1L), 0);
+        planner.pollDue(2, 0);
+
+        // when - 새 뉴스가 많아 간격이 30분으로 줄어든 키워드와, 새 뉴스가 없어 2시간으로 늘어난 키워드
+        planner.complete("경제", collected("경제", HOUR / 2, 10), 0);
+        planner.complete("정치", collected("정치", 2 * HOUR, 0), 0);
+
+        // then
+        assertEquals(List.of("경제"), planner.pollDue(2, HOUR / 2));
+        assertEquals(List.of("정치"), planner.pollDue(2, 2 * HOUR));
+    }
+
+    @Test
+    @DisplayName("구독자 수가 같으면 마지막 수집 이후 더 오래된 키워드부터 꺼낸다")
+    void pollDue_PrefersStalerKeyword() {
+        // given
+        planner.refresh(keywords("경제", "정치"), Map.of("경제", 1L, "정치", 1L), 0);
+        planner.pollDue(2, 0);
+        planner.complete("경제", collected("경제", HOUR, 10), 0);
+        planner.complete("정치", collected("정치", HOUR, 10), HOUR);
+
+        // when
+        List<String> keywords = planner.pollDue(2, 10 * HOUR);
+
+        // then
+        assertEquals(List.of("경제", "정치"), keywords);
+    }
+
+    @Test
+    @DisplayName("수집에 실패하면 최소 간격 뒤에 다시 시도한다")
+    void complete_RetriesFailureAfterMinInterval() {
+        // given
+        planner.refresh(keywords("경제"), Map.of("경제", 1L), 0);
+        planner.pollDue(1, 0);
+
+        // when
+        planner.complete("경제", null, 0);
+
+        // then
+        assertTrue(planner.pollDue(1, 599999).isEmpty());
+        assertEquals(List.of("경제"), planner.pollDue(1, 600000));
+    }
+
+    @Test
+    @DisplayName("삭제된 키워드는 수집 대상에서 빠진다")
+    void refresh_RemovesDeletedKeywords() {
+        // given
+        planner.refresh(keywords("경제", "정치"), Map.of(), 0);
+
+        // when
+        planner.refresh(keywords("경제"), Map.of(), 0);
+
+        // then
+        assertEquals(List.of("경제"), planner.pollDue(2, 0));
+    }
+
+    @Test
+    @DisplayName("구독자 수가 같으면 저장된 수율이 높은 키워드부터 꺼낸다")
+    void pollDue_PrefersHigherStoredYield() {
+        // given - 재시작 후에도 키워드에 저장된 플랫폼별 수율 사용
+        planner.refresh(List.of(collected("경제", HOUR, 1), collected("정치", HOUR, 8)),
+                Map.of("경제", 1L, "정치", 1L), 0);
+
+        // when
+        List<String> keywords = planner.pollDue(2, 0);
+
+        // then
+        assertEquals(List.of("정치", "경제"), keywords);
+    }
+
+    @Test
+    @DisplayName("재시작 후에는 저장된 마지막 성공 시각부터 수집 간격 뒤에 다시 수집한다")
+    void refresh_SeedsDueTimeFromLastCrawledAt() {
+        // given - 경제는 재시작 10분 전에 수집에 성공, 정치는 수집 기록 없음
+        LocalDateTime restartedAt = LocalDateTime.of(2025, 10, 6, 9, 0);
+        long nowMillis = restartedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        NewsKeyword crawled = NewsKeyword.reconstruct(null, "domain-경제", "경제", 1L, HOUR,
+                new HashMap<>(), restartedAt.minusMinutes(10));
+        planner.refresh(List.of(crawled, keywords("정치").get(0)), Map.of("경제", 1L, "정치", 1L), nowMillis);
+
+        // when
+        List<String> keywords = planner.pollDue(2, nowMillis);
+
+        // then - 경제는 마지막 성공 후 1시간(남은 50분) 뒤에 수집 대상
+        assertEquals(List.of("정치"), keywords);
+        assertTrue(planner.pollDue(2, nowMillis + 50 * 60000L - 1).isEmpty());
+        assertEquals(List.of("경제"), planner.pollDue(2, nowMillis + 50 * 60000L));
+    }
+
+    @Test
+    @DisplayName("활동 구독자가 없는 키워드는 꺼내지 않고 최소 간격 뒤에 다시 확인한다")
+    void pollDue_SkipsKeywordsWithoutActiveSubscribers() {
+        // given - 경제 구독자는 활동 중, 정치 구독자는 키워드를 꺼 둠
+        User user = User.reconstruct(null, "user", "user@example.com", "password", "user",
+                new HashSet<>(List.of(
+                        UserKeyword.reconstruct(null, "경제", null, true, 0, LocalDateTime.now(), null),
+                        UserKeyword.reconstruct(null, "정치", null, false, 0, LocalDateTime.now(), null))),
+                new HashSet<>(), null, LocalDateTime.now().plusDays(7));
+        keywordActivityTracker.load(List.of(user), System.currentTimeMillis());
+        planner.refresh(keywords("경제", "정치"), Map.of("경제", 1L, "정치", 1L), 0);
+
+        // when
+        List<String> keywords = planner.pollDue(2, 0);
+
+        // then
+        assertEquals(List.of("경제"), keywords);
+        assertEquals(1.0, meterRegistry.get("crawler.schedule.skipped").counter().count());
+        assertTrue(planner.pollDue(2, 599999).isEmpty());
+
+        // 다시 활성화하면 다음 확인 때 수집
+        keywordActivityTracker.recordKeywordActive("user", "정치", true);
+        assertEquals(List.of("정치"), planner.pollDue(2, 600000));
+    }
+
+    private static List<NewsKeyword> keywords(String... texts) {
+        return Arrays.stream(texts)
+                .map(text -> NewsKeyword.reconstruct(null, "domain-" + text, text, 0L, new HashMap<>()))
+                .toList();
+    }
+
+    // 수집 결과가 반영된 키워드 (수집 간격, NAVER 최근 수율)
+    private static NewsKeyword collected(String text, long crawlInterval, double recentYield) {
+        return NewsKeyword.reconstruct(null, "domain-" + text, text, 1L, crawlInterval,
+                Map.of(NewsPlatform.NAVER, CrawlCursor.reconstruct(1, null, recentYield)));
+    }
+}
@@ -38,6 +38,9 @@ class LoginUseCaseTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private KeywordActivityTracker keywordActivityTracker;
+
     @InjectMocks
     private LoginUseCase loginUseCase;
 
@@ -92,6 +95,7 @@ class LoginUseCaseTest {
         verify(jwtTokenProvider, times(1)).generateAccessToken(testUser.getDomainId(), testUser.getEmail(), testUser.getNickname());
         verify(jwtTokenProvider, times(1)).generateRefreshToken(testUser.getDomainId());
         verify(userRepository, times(1)).save(testUser);
+        verify(keywordActivityTracker, times(1)).recordLogin(testUser);
     }
 
     @Test
@@ -131,6 +135,7 @@ class LoginUseCaseTest {
         verify(passwordEncoder, times(1)).matches(validLoginRequest.getPassword(), testUser.getPassword());
         verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyString(), anyString());
         verify(userRepository, never()).save(any(User.class));
+        verify(keywordActivityTracker, never()).recordLogin(any(User.class));
     }
 
     @Test
@@ -196,5 +201,6 @@ class LoginUseCaseTest {
 
         // When & Then
         assertThrows(RuntimeException.class, () -> loginUseCase.execute(validLoginRequest));
+        verify(keywordActivityTracker, never()).recordLogin(any(User.class));
     }
 }
@@ -1,29 +1,46 @@
 package com.suman.newsfeed.application.usecase;
 
 import com.suman.newsfeed.TestDataBuilder;
+import com.suman.newsfeed.domain.news.CrawlCursor;
+import com.suman.newsfeed.domain.news.CrawlWatermark;
 import com.suman.newsfeed.domain.news.News;
 import com.suman.newsfeed.domain.news.NewsKeyword;
 import com.suman.newsfeed.domain.news.NewsKeywordRepository;
 import com.suman.newsfeed.domain.news.NewsRepository;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import com.suman.newsfeed.infrastructure.external.crawler.CrawlOutcome;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsDataDto;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsDataProvider;
 import com.suman.newsfeed.infrastructure.external.crawler.NewsPlatform;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,7 +63,18 @@ class NewsCollectionServiceTest {
     @Mock
     private Executor taskExecutor;
 
-    @InjectMocks
+    @Mock
+    private KeywordPlatformDemandIndex keywordPlatformDemandIndex;
+
+    @Mock
+    private KeywordActivityTracker keywordActivityTracker;
+
+    private CrawlerProperties crawlerProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NewsCollectionPipeline newsCollectionPipeline;
+
     private NewsCollectionService newsCollectionService;
 
     private List<NewsKeyword> testNewsKeywords;
@@ -55,6 +83,18 @@ class NewsCollectionServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 실제 파이프라인 사용 (저장 묶음 대기 시간만 줄임)
+        crawlerProperties = new CrawlerProperties();
+        crawlerProperties.getPipeline().setPersistLinger(10L);
+        meterRegistry = new SimpleMeterRegistry();
+        newsCollectionPipeline = new NewsCollectionPipeline(newsDataProvider, newsRepository, crawlerProperties, meterRegistry);
+        newsCollectionPipeline.start();
+        newsCollectionService = new NewsCollectionService(newsKeywordRepository, newsDataProvider, newsCollectionPipeline,
+                keywordPlatformDemandIndex, keywordActivityTracker, crawlerProperties, meterRegistry, taskExecutor);
+        // 기본적으로 모든 키워드의 구독자가 모든 플랫폼을 구독
+        lenient().when(keywordPlatformDemandIndex.platformsFor(anyString())).thenReturn(EnumSet.allOf(NewsPlatform.class));
+        newsCollectionService.init();
+
         // 테스트용 뉴스 키워드
         NewsKeyword keyword1 = TestDataBuilder.createTestNewsKeywordWithId();
         keyword1.setText("테스트키워드1");
@@ -85,14 +125,23 @@ class NewsCollectionServiceTest {
         supportedPlatforms = Arrays.asList(NewsPlatform.NAVER, NewsPlatform.GOOGLE);
     }
 
+    @AfterEach
+    void tearDown() {
+        newsCollectionPipeline.stop();
+    }
+
     @Test
     @DisplayName("전체 뉴스 수집 성공 테스트")
     void shouldCollectNewsAllSuccessfully() {
         // Given
-        when(newsKeywordRepository.findAll()).thenReturn(testNewsKeywords);
+        when(newsKeywordRepository.findChunkAfter(isNull(), anyInt())).thenReturn(testNewsKeywords);
+        when(newsKeywordRepository.count()).thenReturn(2L);
         when(newsDataProvider.getSupportedPlatforms()).thenReturn(supportedPlatforms);
-        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyLong(), anyInt()))
-                .thenReturn(testNewsData);
+        when(newsDataProvider.fetchNewsByKeywords(anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(
+                        Map.of("테스트키워드1", CrawlOutcome.crawled(testNewsData), "테스트키워드2", CrawlOutcome.crawled(testNewsData)))));
+        when(newsDataProvider.filterUnseen(anyString(), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
         doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
 
         
@@ -108,13 +157,13 @@ class NewsCollectionServiceTest {
 
         // Then
         assertNotNull(result);
-        assertFalse(result.isCompletedExceptionally());
+        assertDoesNotThrow(result::join);
         
-        verify(newsKeywordRepository, times(1)).findAll();
+        verify(newsKeywordRepository, times(1)).findChunkAfter(isNull(), anyInt()); // 묶음 크기보다 적으면 더 읽지 않음
         verify(newsDataProvider, times(1)).getSupportedPlatforms();
-        verify(newsDataProvider, times(2)).fetchNewsByKeyword(anyString(), anyLong(), anyInt());
+        verify(newsDataProvider, times(1)).fetchNewsByKeywords(anyMap(), anyInt()); // 두 키워드를 한 묶음으로 수집
         verify(newsKeywordRepository, times(2)).update(any(NewsKeyword.class));
-        verify(newsRepository, times(4)).save(any(News.class)); // 각 키워드당 2개씩
+        assertEquals(4, savedNewsCount()); // 각 키워드당 2개씩
     }
 
     @Test
@@ -125,8 +174,10 @@ class NewsCollectionServiceTest {
         NewsKeyword newsKeyword = testNewsKeywords.get(0);
         
         when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
-        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyLong(), anyInt()))
-                .thenReturn(testNewsData);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(testNewsData))));
+        when(newsDataProvider.filterUnseen(anyString(), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
         doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
         
         // taskExecutor를 동기적으로 실행하도록 설정
@@ -141,12 +192,16 @@ class NewsCollectionServiceTest {
 
         // Then
         assertNotNull(result);
-        assertFalse(result.isCompletedExceptionally());
+        assertDoesNotThrow(result::join);
         
         verify(newsKeywordRepository, times(1)).findByText(keyword);
-        verify(newsDataProvider, times(1)).fetchNewsByKeyword(keyword, 0L, 10);
+        // 첫 수집은 커서가 없으므로 구독자가 구독한 모든 플랫폼의 첫 페이지
+        verify(newsDataProvider, times(1)).fetchNewsByKeyword(keyword, Map.of(
+                NewsPlatform.NAVER, CrawlCursor.initial(),
+                NewsPlatform.DAUM, CrawlCursor.initial(),
+                NewsPlatform.GOOGLE, CrawlCursor.initial()), 10);
         verify(newsKeywordRepository, times(1)).update(newsKeyword);
-        verify(newsRepository, times(2)).save(any(News.class));
+        assertEquals(2, savedNewsCount());
     }
 
     @Test
@@ -164,15 +219,15 @@ class NewsCollectionServiceTest {
         assertFalse(result.isCompletedExceptionally());
         
         verify(newsKeywordRepository, times(1)).findByText(nonExistentKeyword);
-        verify(newsDataProvider, never()).fetchNewsByKeyword(anyString(), anyLong(), anyInt());
-        verify(newsRepository, never()).save(any(News.class));
+        verify(newsDataProvider, never()).fetchNewsByKeyword(anyString(), anyMap(), anyInt());
+        verify(newsRepository, never()).saveAll(anyList());
     }
 
     @Test
     @DisplayName("지원되는 플랫폼이 없을 때 빈 결과 반환 테스트")
     void shouldReturnEmptyResultWhenNoSupportedPlatforms() {
         // Given
-        when(newsKeywordRepository.findAll()).thenReturn(testNewsKeywords);
+        when(newsKeywordRepository.findChunkAfter(isNull(), anyInt())).thenReturn(testNewsKeywords);
         when(newsDataProvider.getSupportedPlatforms()).thenReturn(Arrays.asList());
 
         // When
@@ -182,9 +237,10 @@ class NewsCollectionServiceTest {
         assertNotNull(result);
         assertFalse(result.isCompletedExceptionally());
         
-        verify(newsKeywordRepository, times(1)).findAll();
+        verify(newsKeywordRepository, times(1)).findChunkAfter(isNull(), anyInt());
         verify(newsDataProvider, times(1)).getSupportedPlatforms();
-        verify(newsDataProvider, never()).fetchNewsByKeyword(anyString(), anyLong(), anyInt());
+        verify(newsDataProvider, never()).fetchNewsByKeyword(anyString(), anyMap(), anyInt());
+        verify(newsDataProvider, never()).fetchNewsByKeywords(anyMap(), anyInt());
     }
 
     @Test
@@ -195,9 +251,8 @@ class NewsCollectionServiceTest {
         NewsKeyword newsKeyword = testNewsKeywords.get(0);
         
         when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
-        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyLong(), anyInt()))
-                .thenReturn(Arrays.asList());
-        doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(List.of()))));
         
         // taskExecutor를 동기적으로 실행하도록 설정
         doAnswer(invocation -> {
@@ -211,10 +266,10 @@ class NewsCollectionServiceTest {
 
         // Then
         assertNotNull(result);
-        assertFalse(result.isCompletedExceptionally());
+        assertDoesNotThrow(result::join);
 
-        verify(newsKeywordRepository, times(1)).update(newsKeyword);
-        verify(newsRepository, never()).save(any(News.class));
+        verify(newsKeywordRepository, never()).update(newsKeyword); // 새 뉴스도 커서 변경도 없으면 저장 생략
+        verify(newsRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -225,7 +280,7 @@ class NewsCollectionServiceTest {
         NewsKeyword newsKeyword = testNewsKeywords.get(0);
         
         when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
-        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyLong(), anyInt()))
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
                 .thenThrow(new RuntimeException("API 호출 실패"));
         
         // taskExecutor를 동기적으로 실행하도록 설정
@@ -240,10 +295,10 @@ class NewsCollectionServiceTest {
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isCompletedExceptionally());
+        assertThrows(CompletionException.class, result::join);
         
         verify(newsKeywordRepository, never()).update(any(NewsKeyword.class));
-        verify(newsRepository, never()).save(any(News.class));
+        verify(newsRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -254,8 +309,8 @@ class NewsCollectionServiceTest {
         NewsKeyword newsKeyword = testNewsKeywords.get(0);
         
         when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
-        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyLong(), anyInt()))
-                .thenReturn(testNewsData);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(testNewsData))));
         doThrow(new RuntimeException("Database error")).when(newsKeywordRepository).update(any(NewsKeyword.class));
         
         // taskExecutor를 동기적으로 실행하도록 설정
@@ -270,9 +325,9 @@ class NewsCollectionServiceTest {
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isCompletedExceptionally());
+        assertThrows(CompletionException.class, result::join);
         
-        verify(newsRepository, never()).save(any(News.class));
+        verify(newsRepository, never()).saveAll(anyList()); // 중복 제외 결과가 없어 저장 대상 없음
     }
 
     @Test
@@ -283,10 +338,12 @@ class NewsCollectionServiceTest {
         NewsKeyword newsKeyword = testNewsKeywords.get(0);
         
         when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
-        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyLong(), anyInt()))
-                .thenReturn(testNewsData);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(testNewsData))));
         doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
-        doThrow(new RuntimeException("Database error")).when(newsRepository).save(any(News.class));
+        when(newsDataProvider.filterUnseen(anyString(), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        doThrow(new RuntimeException("Database error")).when(newsRepository).saveAll(anyList());
         
         // taskExecutor를 동기적으로 실행하도록 설정
         doAnswer(invocation -> {
@@ -300,14 +357,14 @@ class NewsCollectionServiceTest {
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isCompletedExceptionally());
+        assertThrows(CompletionException.class, result::join);
     }
 
     @Test
     @DisplayName("전체 뉴스 수집 실패 시 예외 처리 테스트")
     void shouldHandleCollectNewsAllFailure() {
         // Given
-        when(newsKeywordRepository.findAll()).thenThrow(new RuntimeException("Database error"));
+        when(newsKeywordRepository.findChunkAfter(isNull(), anyInt())).thenThrow(new RuntimeException("Database error"));
 
         // When
         CompletableFuture<Void> result = newsCollectionService.collectNewsAll();
@@ -328,8 +385,8 @@ class NewsCollectionServiceTest {
         Long initialCount = newsKeyword.getCollectedCount();
         
         when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
-        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyLong(), anyInt()))
-                .thenReturn(testNewsData);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(testNewsData))));
         doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
 
         
@@ -341,10 +398,495 @@ class NewsCollectionServiceTest {
         }).when(taskExecutor).execute(any(Runnable.class));
 
         // When
-        newsCollectionService.collectNewsForKeyword(keyword);
+        newsCollectionService.collectNewsForKeyword(keyword).join();
 
         // Then
         verify(newsKeywordRepository, times(1)).update(newsKeyword);
         // 카운트가 증가했는지 확인 (실제로는 updateCount() 메서드가 호출되어야 함)
     }
+
+    @Test
+    @DisplayName("플랫폼별 수집 커서 이동 및 워터마크 갱신 테스트")
+    void shouldAdvancePlatformCursors() {
+        // Given
+        String keyword = "테스트키워드1";
+        NewsKeyword newsKeyword = testNewsKeywords.get(0);
+        newsKeyword.getPlatformCursors().put(NewsPlatform.DAUM, CrawlCursor.reconstruct(3L, null));
+
+        // NAVER는 한 페이지를 가득 채우고, GOOGLE은 1건만 수집
+        List<NewsDataDto> naverNewsData = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            NewsDataDto naverNews = new NewsDataDto();
+            naverNews.setTitle("네이버 뉴스" + i);
+            naverNews.setUrl("https://example.com/naver/" + i);
+            naverNews.setPlatform(NewsPlatform.NAVER);
+            naverNewsData.add(naverNews);
+        }
+
+        when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(naverNewsData)),
+                        NewsPlatform.GOOGLE, CompletableFuture.completedFuture(CrawlOutcome.crawled(List.of(testNewsData.get(1)))),
+                        NewsPlatform.DAUM, CompletableFuture.completedFuture(CrawlOutcome.crawled(List.of()))));
+        when(newsDataProvider.getSupportedPlatforms())
+                .thenReturn(Arrays.asList(NewsPlatform.NAVER, NewsPlatform.GOOGLE, NewsPlatform.DAUM));
+        doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        newsCollectionService.collectNewsForKeyword(keyword).join();
+
+        // Then
+        verify(newsDataProvider, times(1)).fetchNewsByKeyword(keyword, Map.of(NewsPlatform.NAVER, CrawlCursor.initial(),
+                NewsPlatform.DAUM, CrawlCursor.reconstruct(3L, null),
+                NewsPlatform.GOOGLE, CrawlCursor.initial()), 10);
+
+        CrawlCursor naverCursor = newsKeyword.cursorFor(NewsPlatform.NAVER);
+        assertEquals(2L, naverCursor.getNextPage()); // 한 페이지를 채웠으면 다음 페이지
+        assertTrue(naverCursor.getWatermark().isReachedBy("https://example.com/naver/0", null)); // 가장 최신 기사가 워터마크
+
+        CrawlCursor googleCursor = newsKeyword.cursorFor(NewsPlatform.GOOGLE);
+        assertEquals(1L, googleCursor.getNextPage()); // 워터마크에 도달해 결과가 부족하면 첫 페이지 유지
+        assertTrue(googleCursor.getWatermark().isReachedBy("https://example.com/news2", null));
+
+        CrawlCursor daumCursor = newsKeyword.cursorFor(NewsPlatform.DAUM);
+        assertEquals(1L, daumCursor.getNextPage()); // 결과가 없으면 첫 페이지부터 다시
+        assertNull(daumCursor.getWatermark()); // 첫 페이지가 아니었으므로 워터마크는 그대로
+        assertNotNull(newsKeyword.getLastCrawledAt()); // 재시작 후 수집 일정 기준
+        verify(newsKeywordRepository, times(1)).update(newsKeyword);
+    }
+
+    @Test
+    @DisplayName("한 페이지를 계속 가득 채워도 최대 페이지를 넘으면 첫 페이지로 돌아감 테스트")
+    void shouldResetCursorAfterMaxPages() {
+        // Given - 최대 3페이지, NAVER는 마지막 페이지(3)에서, DAUM은 2페이지에서 한 페이지를 가득 채움
+        crawlerProperties.getCursor().setMaxPages(3);
+        String keyword = "테스트키워드1";
+        NewsKeyword newsKeyword = testNewsKeywords.get(0);
+        CrawlWatermark watermark = CrawlWatermark.of("https://example.com/top", null);
+        newsKeyword.getPlatformCursors().put(NewsPlatform.NAVER, CrawlCursor.reconstruct(3L, watermark));
+        newsKeyword.getPlatformCursors().put(NewsPlatform.DAUM, CrawlCursor.reconstruct(2L, watermark));
+
+        List<NewsDataDto> fullPage = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            NewsDataDto news = new NewsDataDto();
+            news.setTitle("뉴스" + i);
+            news.setUrl("https://example.com/full/" + i);
+            news.setPlatform(NewsPlatform.NAVER);
+            fullPage.add(news);
+        }
+
+        when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(fullPage)),
+                        NewsPlatform.DAUM, CompletableFuture.completedFuture(CrawlOutcome.crawled(fullPage))));
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(Arrays.asList(NewsPlatform.NAVER, NewsPlatform.DAUM));
+        doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        newsCollectionService.collectNewsForKeyword(keyword).join();
+
+        // Then - 첫 페이지가 아니었으므로 워터마크는 그대로
+        assertEquals(CrawlCursor.reconstruct(1L, watermark), newsKeyword.cursorFor(NewsPlatform.NAVER));
+        assertEquals(CrawlCursor.reconstruct(3L, watermark), newsKeyword.cursorFor(NewsPlatform.DAUM));
+    }
+
+    @Test
+    @DisplayName("관련도순 결과는 첫 기사가 아닌 가장 최근 발행 기사로 워터마크 갱신 테스트")
+    void shouldTakeWatermarkFromLatestPublishedNews() {
+        // Given - GOOGLE 결과가 관련도순이라 가장 최근 기사가 두 번째에 옴
+        String keyword = "테스트키워드1";
+        NewsKeyword newsKeyword = testNewsKeywords.get(0);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<NewsDataDto> googleNewsData = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            NewsDataDto googleNews = new NewsDataDto();
+            googleNews.setTitle("구글 뉴스" + i);
+            googleNews.setUrl("https://example.com/google/" + i);
+            googleNews.setPlatform(NewsPlatform.GOOGLE);
+            googleNewsData.add(googleNews);
+        }
+        googleNewsData.get(0).setPublishedAt(now.minusDays(2));
+        googleNewsData.get(1).setPublishedAt(now.minusHours(1));
+        googleNewsData.get(2).setPublishedAt(now.minusHours(5));
+
+        when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.GOOGLE, CompletableFuture.completedFuture(CrawlOutcome.crawled(googleNewsData))));
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(List.of(NewsPlatform.GOOGLE));
+        doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        newsCollectionService.collectNewsForKeyword(keyword).join();
+
+        // Then
+        CrawlCursor googleCursor = newsKeyword.cursorFor(NewsPlatform.GOOGLE);
+        assertTrue(googleCursor.getWatermark().isReachedBy("https://example.com/google/1", null));
+        assertEquals(now.minusHours(1), googleCursor.getWatermark().getPublishedAt());
+    }
+
+    @Test
+    @DisplayName("이미 저장된 뉴스는 제외하고 새 뉴스만 저장 테스트")
+    void shouldSaveOnlyUnseenNews() {
+        // Given
+        String keyword = "테스트키워드1";
+        NewsKeyword newsKeyword = testNewsKeywords.get(0);
+
+        when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(testNewsData))));
+        when(newsDataProvider.filterUnseen(keyword, testNewsData))
+                .thenReturn(List.of(testNewsData.get(1)));
+        doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        newsCollectionService.collectNewsForKeyword(keyword).join();
+
+        // Then
+        verify(newsKeywordRepository, times(1)).update(newsKeyword); // 커서와 워터마크는 중복 제외 전 결과로 갱신
+        assertEquals(1, savedNewsCount());
+    }
+
+    @Test
+    @DisplayName("중복 제외 후 새 뉴스 수에 따라 수집 간격과 플랫폼별 수율 조정 테스트")
+    void shouldAdaptCrawlIntervalByNewNews() {
+        // Given - NAVER에서 한 페이지를 수집했지만 처음에는 모두 새 뉴스, 다음에는 모두 이미 저장된 뉴스
+        String keyword = "테스트키워드1";
+        NewsKeyword newsKeyword = testNewsKeywords.get(0);
+
+        List<NewsDataDto> naverNewsData = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            NewsDataDto naverNews = new NewsDataDto();
+            naverNews.setTitle("네이버 뉴스" + i);
+            naverNews.setUrl("https://example.com/naver/" + i);
+            naverNews.setPlatform(NewsPlatform.NAVER);
+            naverNewsData.add(naverNews);
+        }
+
+        when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(naverNewsData))));
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(List.of(NewsPlatform.NAVER));
+        when(newsDataProvider.filterUnseen(anyString(), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(1))
+                .thenReturn(List.of());
+        doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When & Then - 새 뉴스가 목표(5건) 이상이면 기본 간격(1시간)의 절반
+        newsCollectionService.collectNewsForKeyword(keyword).join();
+        assertEquals(1800000L, newsKeyword.getCrawlInterval());
+        assertEquals(3.0, newsKeyword.cursorFor(NewsPlatform.NAVER).getRecentYield(), 0.001);
+
+        // 새 뉴스가 없으면 간격 두 배
+        newsCollectionService.collectNewsForKeyword(keyword).join();
+        assertEquals(3600000L, newsKeyword.getCrawlInterval());
+        assertEquals(2.1, newsKeyword.cursorFor(NewsPlatform.NAVER).getRecentYield(), 0.001);
+        verify(newsKeywordRepository, times(2)).update(newsKeyword);
+    }
+
+    @Test
+    @DisplayName("건너뛰거나 실패한 플랫폼은 커서와 수집 간격을 바꾸지 않음 테스트")
+    void shouldKeepCursorAndIntervalWhenCrawlNotRun() {
+        // Given - NAVER는 회로가 열려 건너뛰고 GOOGLE은 크롤링 실패, 둘 다 이전 수집에서 3페이지까지 진행
+        String keyword = "테스트키워드1";
+        NewsKeyword newsKeyword = testNewsKeywords.get(0);
+        newsKeyword.setCrawlInterval(1800000L);
+        newsKeyword.getPlatformCursors().put(NewsPlatform.NAVER, CrawlCursor.reconstruct(3L, null, 4.0));
+        newsKeyword.getPlatformCursors().put(NewsPlatform.GOOGLE, CrawlCursor.reconstruct(3L, null, 2.0));
+
+        when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.skipped()),
+                        NewsPlatform.GOOGLE, CompletableFuture.completedFuture(CrawlOutcome.failed())));
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(supportedPlatforms);
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        newsCollectionService.collectNewsForKeyword(keyword).join();
+
+        // Then - 0건 수집으로 보지 않으므로 커서, 수율, 수집 간격 모두 그대로
+        assertEquals(CrawlCursor.reconstruct(3L, null, 4.0), newsKeyword.cursorFor(NewsPlatform.NAVER));
+        assertEquals(CrawlCursor.reconstruct(3L, null, 2.0), newsKeyword.cursorFor(NewsPlatform.GOOGLE));
+        assertEquals(1800000L, newsKeyword.getCrawlInterval());
+        assertNull(newsKeyword.getLastCrawledAt());
+        verify(newsKeywordRepository, never()).update(any(NewsKeyword.class));
+    }
+
+    @Test
+    @DisplayName("키워드 구독자가 구독한 플랫폼만 크롤링 테스트")
+    void shouldCrawlOnlyDemandedPlatforms() {
+        // Given - 구독자가 NAVER만 구독, 활성화된 플랫폼은 NAVER와 GOOGLE
+        String keyword = "테스트키워드1";
+        NewsKeyword newsKeyword = testNewsKeywords.get(0);
+        newsKeyword.getPlatformCursors().put(NewsPlatform.GOOGLE, CrawlCursor.reconstruct(3L, null));
+
+        when(keywordPlatformDemandIndex.platformsFor(keyword)).thenReturn(Set.of(NewsPlatform.NAVER));
+        when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
+        when(newsDataProvider.fetchNewsByKeyword(anyString(), anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(CrawlOutcome.crawled(List.of(testNewsData.get(0))))));
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(supportedPlatforms);
+        doNothing().when(newsKeywordRepository).update(any(NewsKeyword.class));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        newsCollectionService.collectNewsForKeyword(keyword).join();
+
+        // Then - 구독하지 않은 GOOGLE은 크롤링하지 않고 커서도 그대로
+        verify(newsDataProvider, times(1)).fetchNewsByKeyword(keyword, Map.of(NewsPlatform.NAVER, CrawlCursor.initial()), 10);
+        assertEquals(3L, newsKeyword.cursorFor(NewsPlatform.GOOGLE).getNextPage());
+        verify(newsKeywordRepository, times(1)).update(newsKeyword);
+    }
+
+    @Test
+    @DisplayName("구독 플랫폼이 없는 키워드는 수집 생략 테스트")
+    void shouldSkipKeywordWithoutDemandedPlatforms() {
+        // Given
+        String keyword = "테스트키워드1";
+        NewsKeyword newsKeyword = testNewsKeywords.get(0);
+
+        when(keywordPlatformDemandIndex.platformsFor(keyword)).thenReturn(Set.of());
+        when(newsKeywordRepository.findByText(keyword)).thenReturn(newsKeyword);
+
+        // When
+        CompletableFuture<Void> result = newsCollectionService.collectNewsForKeyword(keyword);
+
+        // Then
+        assertDoesNotThrow(result::join);
+        verify(newsDataProvider, never()).fetchNewsByKeyword(anyString(), anyMap(), anyInt());
+        verify(newsKeywordRepository, never()).update(any(NewsKeyword.class));
+    }
+
+    @Test
+    @DisplayName("전체 뉴스 수집 시 키워드를 나눠 읽고 동시 수집 묶음 수를 제한 테스트")
+    void shouldFeedKeywordBatchesThroughBoundedWindow() {
+        // Given - 키워드 20개를 10개씩 읽고, 5개씩 묶은 4개 묶음 중 2개까지만 동시에 수집
+        crawlerProperties.getCollection().setKeywordChunkSize(10);
+        crawlerProperties.getCollection().setMaxInFlightBatches(2);
+
+        List<NewsKeyword> keywords = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            keywords.add(NewsKeyword.reconstruct(id, "domain-" + id, "키워드" + id, 0L, new HashMap<>()));
+        }
+        List<CompletableFuture<Map<String, CrawlOutcome>>> batchFutures = new ArrayList<>();
+
+        when(newsKeywordRepository.findChunkAfter(isNull(), eq(10))).thenReturn(keywords.subList(0, 10));
+        when(newsKeywordRepository.findChunkAfter(eq(10L), eq(10))).thenReturn(keywords.subList(10, 20));
+        when(newsKeywordRepository.findChunkAfter(eq(20L), eq(10))).thenReturn(List.of());
+        when(newsKeywordRepository.count()).thenReturn(20L);
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(List.of(NewsPlatform.NAVER));
+        when(newsDataProvider.fetchNewsByKeywords(anyMap(), anyInt())).thenAnswer(invocation -> {
+            CompletableFuture<Map<String, CrawlOutcome>> batchFuture = new CompletableFuture<>();
+            batchFutures.add(batchFuture);
+            return Map.of(NewsPlatform.NAVER, batchFuture);
+        });
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        CompletableFuture<Void> result = newsCollectionService.collectNewsAll();
+
+        // Then - 처음에는 2개 묶음만 시작
+        assertEquals(2, batchFutures.size());
+        assertEquals(10.0, progressGauge("in-flight"));
+
+        // 묶음이 끝나는 만큼 다음 묶음 시작
+        batchFutures.get(0).complete(Map.of());
+        assertEquals(3, batchFutures.size());
+        batchFutures.get(1).complete(Map.of());
+        batchFutures.get(2).complete(Map.of());
+        assertEquals(4, batchFutures.size());
+        batchFutures.get(3).complete(Map.of());
+
+        assertDoesNotThrow(result::join);
+        verify(newsDataProvider, times(4)).fetchNewsByKeywords(anyMap(), anyInt());
+        verify(newsKeywordRepository, times(3)).findChunkAfter(any(), anyInt());
+        assertEquals(20.0, progressGauge("total"));
+        assertEquals(20.0, progressGauge("completed"));
+        assertEquals(0.0, progressGauge("failed"));
+    }
+
+    @Test
+    @DisplayName("전체 뉴스 수집이 진행 중이면 다시 시작하지 않음 테스트")
+    void shouldNotStartCollectNewsAllWhileRunning() {
+        // Given - 첫 수집의 키워드 묶음이 아직 끝나지 않음
+        CompletableFuture<Map<String, CrawlOutcome>> batchFuture = new CompletableFuture<>();
+        when(newsKeywordRepository.findChunkAfter(isNull(), anyInt())).thenReturn(testNewsKeywords);
+        when(newsKeywordRepository.count()).thenReturn(2L);
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(List.of(NewsPlatform.NAVER));
+        when(newsDataProvider.fetchNewsByKeywords(anyMap(), anyInt())).thenReturn(Map.of(NewsPlatform.NAVER, batchFuture));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        CompletableFuture<Void> first = newsCollectionService.collectNewsAll();
+        boolean collectingWhileRunning = newsCollectionService.isCollectingAll();
+        newsCollectionService.collectNewsAll();
+        batchFuture.complete(Map.of());
+
+        // Then - 두 번째 요청은 키워드를 다시 읽지 않음
+        assertTrue(collectingWhileRunning);
+        assertDoesNotThrow(first::join);
+        assertFalse(newsCollectionService.isCollectingAll());
+        verify(newsKeywordRepository, times(1)).findChunkAfter(any(), anyInt());
+        verify(newsDataProvider, times(1)).fetchNewsByKeywords(anyMap(), anyInt());
+    }
+
+    @Test
+    @DisplayName("키워드 묶음 수집 실패 시 이미 끝난 키워드는 실패로 다시 세지 않음 테스트")
+    void shouldNotDoubleCountKeywordsWhenBatchFails() {
+        // Given - 테스트키워드1은 구독 플랫폼이 없어 바로 성공, 테스트키워드2는 크롤링 요청 실패
+        when(newsKeywordRepository.findChunkAfter(isNull(), anyInt())).thenReturn(testNewsKeywords);
+        when(newsKeywordRepository.count()).thenReturn(2L);
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(supportedPlatforms);
+        when(keywordPlatformDemandIndex.platformsFor("테스트키워드1")).thenReturn(Set.of());
+        when(newsDataProvider.fetchNewsByKeywords(anyMap(), anyInt())).thenThrow(new RuntimeException("크롤러 오류"));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        CompletableFuture<Void> result = newsCollectionService.collectNewsAll();
+
+        // Then
+        assertDoesNotThrow(result::join);
+        assertEquals(2.0, progressGauge("completed"));
+        assertEquals(1.0, progressGauge("failed"));
+        assertEquals(0.0, progressGauge("in-flight"));
+    }
+
+    @Test
+    @DisplayName("회로가 열려 크롤링하지 못한 키워드는 수집 성공으로 반환하지 않음 테스트")
+    void shouldNotReportSkippedKeywordsAsCollected() {
+        // Given - 키워드1은 NAVER 회로가 열려 건너뛰고, 키워드2는 정상 수집(새 기사 0건)
+        List<String> keywords = List.of("테스트키워드1", "테스트키워드2");
+        when(newsKeywordRepository.findAllByTexts(keywords)).thenReturn(testNewsKeywords);
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(List.of(NewsPlatform.NAVER));
+        when(newsDataProvider.fetchNewsByKeywords(anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(
+                        Map.of("테스트키워드1", CrawlOutcome.skipped(), "테스트키워드2", CrawlOutcome.crawled(List.of())))));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        Map<String, NewsKeyword> collected = newsCollectionService.collectNewsForKeywords(keywords).join();
+
+        // Then - 건너뛴 키워드는 스케줄러가 실패로 보고 마지막 성공 시각을 바꾸지 않도록 결과에서 제외
+        assertEquals(Set.of("테스트키워드2"), collected.keySet());
+        assertNull(testNewsKeywords.get(0).getCrawlInterval());
+    }
+
+    @Test
+    @DisplayName("전체 뉴스 수집 시 활동 구독자가 없는 키워드는 건너뜀 테스트")
+    void shouldSkipKeywordsWithoutActiveSubscribers() {
+        // Given - 키워드2의 구독자는 모두 비활성이거나 휴면
+        List<NewsKeyword> keywords = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            keywords.add(NewsKeyword.reconstruct(id, "domain-" + id, "키워드" + id, 0L, new HashMap<>()));
+        }
+
+        when(newsKeywordRepository.findChunkAfter(isNull(), anyInt())).thenReturn(keywords);
+        when(newsKeywordRepository.count()).thenReturn(3L);
+        when(newsDataProvider.getSupportedPlatforms()).thenReturn(List.of(NewsPlatform.NAVER));
+        when(keywordActivityTracker.isLoaded()).thenReturn(true);
+        when(keywordActivityTracker.demandFor(anyString())).thenAnswer(invocation -> "키워드2".equals(invocation.getArgument(0)) ? 0L : 1L);
+        when(newsDataProvider.fetchNewsByKeywords(anyMap(), anyInt()))
+                .thenReturn(Map.of(NewsPlatform.NAVER, CompletableFuture.completedFuture(Map.of())));
+
+        // taskExecutor를 동기적으로 실행하도록 설정
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(taskExecutor).execute(any(Runnable.class));
+
+        // When
+        CompletableFuture<Void> result = newsCollectionService.collectNewsAll();
+
+        // Then
+        assertDoesNotThrow(result::join);
+        verify(newsDataProvider, times(1)).fetchNewsByKeywords(eq(Map.of(
+                "키워드1", Map.of(NewsPlatform.NAVER, CrawlCursor.initial()),
+                "키워드3", Map.of(NewsPlatform.NAVER, CrawlCursor.initial()))), anyInt());
+        assertEquals(1.0, progressGauge("skipped"));
+        assertEquals(3.0, progressGauge("completed"));
+        assertEquals(0.0, progressGauge("in-flight"));
+    }
+
+    private double progressGauge(String state) {
+        return meterRegistry.get("crawler.collection.keywords").tag("state", state).gauge().value();
+    }
+
+    // 파이프라인이 묶음 단위로 저장한 뉴스 수 합계
+    @SuppressWarnings("unchecked")
+    private int savedNewsCount() {
+        ArgumentCaptor<List<News>> captor = ArgumentCaptor.forClass(List.class);
+        verify(newsRepository, atLeastOnce()).saveAll(captor.capture());
+        return captor.getAllValues().stream().mapToInt(List::size).sum();
+    }
 }
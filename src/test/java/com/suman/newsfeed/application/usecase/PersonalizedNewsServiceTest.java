@@ -328,4 +328,66 @@ class PersonalizedNewsServiceTest {
         
         verify(newsRepository, times(1)).findWithKeywordByKeywordsAndPlatforms(anySet(), anySet(), any(Pageable.class));
     }
+
+    @Test
+    @DisplayName("같은 묶음의 유사 기사는 최신 1건만 반환 테스트")
+    void shouldReturnOneNewsPerCluster() {
+        // Given
+        Long userId = 1L;
+        News naverNews = TestDataBuilder.createTestNewsWithId();
+        naverNews.setNewsKeyword(testNewsKeywords.get(0));
+        naverNews.setClusterId("cluster-1");
+        News googleNews = TestDataBuilder.createTestNewsWithId();
+        googleNews.setNewsKeyword(testNewsKeywords.get(1));
+        googleNews.setPlatform(NewsPlatform.GOOGLE);
+        googleNews.setClusterId("cluster-1");
+        News otherNews = TestDataBuilder.createTestNewsWithId();
+        otherNews.setNewsKeyword(testNewsKeywords.get(0));
+        otherNews.setClusterId("cluster-2");
+
+        when(userRepository.findByUserIdWithKeywordsAndPlatforms(userId)).thenReturn(testUser);
+        when(newsKeywordRepository.findAll()).thenReturn(testNewsKeywords);
+        when(newsRepository.findWithKeywordByKeywordsAndPlatforms(anySet(), anySet(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(naverNews, googleNews, otherNews));
+
+        // When
+        List<PersonalizedNewsResponse> result = personalizedNewsService.getPersonalizedNews(userId, 0, 10);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(NewsPlatform.NAVER, result.get(0).getPlatform());
+        assertEquals(testNewsKeywords.get(0).getText(), result.get(1).getMatchedKeyword());
+    }
+
+    @Test
+    @DisplayName("묶음별 대표 기사로 조회된 페이지는 요청한 크기만큼 반환 테스트")
+    void shouldReturnFullPageOfClusterRepresentatives() {
+        // Given - 저장소가 묶음별 최신 1건만 페이지 크기만큼 조회
+        Long userId = 1L;
+        int size = 3;
+        News first = TestDataBuilder.createTestNewsWithId();
+        first.setNewsKeyword(testNewsKeywords.get(0));
+        first.setClusterId("cluster-1");
+        News second = TestDataBuilder.createTestNewsWithId();
+        second.setNewsKeyword(testNewsKeywords.get(1));
+        second.setClusterId("cluster-2");
+        News unclustered = TestDataBuilder.createTestNewsWithId();
+        unclustered.setNewsKeyword(testNewsKeywords.get(0));
+
+        when(userRepository.findByUserIdWithKeywordsAndPlatforms(userId)).thenReturn(testUser);
+        when(newsKeywordRepository.findAll()).thenReturn(testNewsKeywords);
+        when(newsRepository.findWithKeywordByKeywordsAndPlatforms(anySet(), anySet(), any(Pageable.class)))
+                .thenReturn(Arrays.asList(first, second, unclustered));
+
+        // When
+        List<PersonalizedNewsResponse> result = personalizedNewsService.getPersonalizedNews(userId, 0, size);
+
+        // Then - 묶음을 걸러도 페이지가 줄지 않고, 요청한 페이지 그대로 한 번만 조회
+        assertEquals(size, result.size());
+        verify(newsRepository, times(1)).findWithKeywordByKeywordsAndPlatforms(
+                anySet(),
+                anySet(),
+                argThat(pageable -> pageable.getPageNumber() == 0 && pageable.getPageSize() == size)
+        );
+    }
 }
@@ -0,0 +1,113 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import com.suman.newsfeed.infrastructure.external.crawler.naver.NaverCrawlerStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CrawlReplayServer 테스트 클래스
+ * 기록된 검색 결과 페이지를 로컬 서버로 재생해 네트워크 없이 크롤러 전략의 파싱 결과를 검증합니다.
+ */
+@DisplayName("CrawlReplayServer 테스트")
+class CrawlReplayServerTest {
+
+    private static final String NAVER_SEARCH_PATH = "/search.naver?where=news&query=%s&sm=tab_she&qdt=0&sort=1&start=%d";
+
+    @TempDir
+    Path fixtureDirectory;
+
+    private CrawlerProperties crawlerProperties;
+    private CrawlFixtureStore crawlFixtureStore;
+    private SimpleMeterRegistry meterRegistry;
+    private CrawlReplayServer crawlReplayServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        crawlerProperties = new CrawlerProperties();
+        crawlerProperties.getReplay().setDirectory(fixtureDirectory.toString());
+        crawlFixtureStore = new CrawlFixtureStore(crawlerProperties);
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 실제 포털 URL로 기록한 것처럼 저장
+        crawlerProperties.getReplay().setMode(CrawlerProperties.Replay.Mode.RECORD);
+        crawlFixtureStore.record("https://search.naver.com" + String.format(NAVER_SEARCH_PATH, encode("인공지능"), 1),
+                readFixture("fixtures/naver-news-search.html"), CrawlFixtureStore.HTML);
+
+        crawlerProperties.getReplay().setMode(CrawlerProperties.Replay.Mode.REPLAY);
+        crawlReplayServer = new CrawlReplayServer(crawlerProperties, crawlFixtureStore, meterRegistry);
+        crawlReplayServer.start(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        crawlReplayServer.stop();
+    }
+
+    @Test
+    @DisplayName("검색 URL 템플릿을 재생 서버로 바꾸면 기록된 페이지로 크롤링한다")
+    void naverStrategy_CrawlsRecordedPage() {
+        // given
+        HttpPageFetcher httpPageFetcher = createHttpPageFetcher();
+
+        NaverCrawlerStrategy strategy = new NaverCrawlerStrategy(null, httpPageFetcher, null, null, null, null, null);
+        ReflectionTestUtils.setField(strategy, "enabled", true);
+        ReflectionTestUtils.setField(strategy, "timeout", 15000);
+        ReflectionTestUtils.setField(strategy, "searchUrl", "http://127.0.0.1:" + crawlReplayServer.getPort() + NAVER_SEARCH_PATH);
+
+        // when
+        List<NewsDataDto> newsList = strategy.crawlNews("인공지능", 1L, 10);
+
+        // then - 한 페이지를 모두 채웠으므로 브라우저 없이 정적 파싱으로 끝남
+        assertEquals(10, newsList.size());
+        assertEquals("인공지능 산업 동향 기사 1번", newsList.get(0).getTitle());
+        assertEquals("https://example.com/news/1", newsList.get(0).getUrl());
+        assertEquals(1.0, meterRegistry.counter("crawler.replay.requests", "result", "hit").count());
+        assertEquals(1L, meterRegistry.get("crawler.http.fetch").timer().count());
+    }
+
+    @Test
+    @DisplayName("기록이 없는 경로는 404로 응답한다")
+    void fetch_MissingFixture() {
+        // given
+        HttpPageFetcher httpPageFetcher = createHttpPageFetcher();
+
+        // when & then
+        String url = "http://127.0.0.1:" + crawlReplayServer.getPort() + String.format(NAVER_SEARCH_PATH, encode("없는키워드"), 1);
+        assertThrows(IOException.class, () -> httpPageFetcher.fetch(url, NewsPlatform.NAVER));
+        assertEquals(1.0, meterRegistry.counter("crawler.replay.requests", "result", "miss").count());
+    }
+
+    private HttpPageFetcher createHttpPageFetcher() {
+        PlatformThrottle platformThrottle = new PlatformThrottle(new MockEnvironment(), meterRegistry);
+        ReflectionTestUtils.invokeMethod(platformThrottle, "init");
+        HttpPageFetcher httpPageFetcher = new HttpPageFetcher(crawlerProperties, crawlFixtureStore, meterRegistry, platformThrottle);
+        ReflectionTestUtils.invokeMethod(httpPageFetcher, "init");
+        return httpPageFetcher;
+    }
+
+    private String encode(String keyword) {
+        return URLEncoder.encode(keyword, StandardCharsets.UTF_8);
+    }
+
+    private String readFixture(String path) throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CrawlResultCache 테스트 클래스
+ * 유효 시간, stale-while-revalidate, 크기 제한을 검증합니다.
+ */
+@DisplayName("CrawlResultCache 테스트")
+class CrawlResultCacheTest {
+
+    private CrawlerProperties crawlerProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private CrawlResultCache crawlResultCache;
+
+    @BeforeEach
+    void setUp() {
+        crawlerProperties = new CrawlerProperties();
+        crawlerProperties.getResultCache().setTtl(100L);
+        crawlerProperties.getResultCache().setStaleWindow(10000L);
+        meterRegistry = new SimpleMeterRegistry();
+        crawlResultCache = new CrawlResultCache(crawlerProperties, meterRegistry);
+        ReflectionTestUtils.invokeMethod(crawlResultCache, "init");
+    }
+
+    @Test
+    @DisplayName("같은 플랫폼·정규화 키워드·페이지는 캐시된 결과를 돌려준다")
+    void get_ReturnsCachedResult() {
+        // given
+        List<NewsDataDto> newsList = List.of(news("https://example.com/1"));
+        crawlResultCache.put(NewsPlatform.NAVER, "인공 지능", 1, newsList);
+
+        // when
+        Optional<CrawlResultCache.CachedResult> hit = crawlResultCache.get(NewsPlatform.NAVER, "  인공   지능 ", 1);
+        Optional<CrawlResultCache.CachedResult> otherPage = crawlResultCache.get(NewsPlatform.NAVER, "인공 지능", 2);
+        Optional<CrawlResultCache.CachedResult> otherPlatform = crawlResultCache.get(NewsPlatform.DAUM, "인공 지능", 1);
+
+        // then
+        assertTrue(hit.isPresent());
+        assertFalse(hit.get().isStale());
+        assertEquals(newsList, hit.get().getNewsList());
+        assertTrue(otherPage.isEmpty());
+        assertTrue(otherPlatform.isEmpty());
+        assertEquals(1.0 / 3, meterRegistry.get("crawler.cache.hit.ratio").gauge().value(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지난 결과는 계속 돌려주되 첫 조회 요청에게만 다시 크롤링을 요청한다")
+    void get_StaleWhileRevalidate() throws InterruptedException {
+        // given
+        crawlResultCache.put(NewsPlatform.NAVER, "반도체", 1, List.of(news("https://example.com/1")));
+        Thread.sleep(150);
+
+        // when
+        CrawlResultCache.CachedResult first = crawlResultCache.get(NewsPlatform.NAVER, "반도체", 1).orElseThrow();
+        CrawlResultCache.CachedResult second = crawlResultCache.get(NewsPlatform.NAVER, "반도체", 1).orElseThrow();
+        crawlResultCache.refreshFailed(NewsPlatform.NAVER, "반도체", 1);
+        CrawlResultCache.CachedResult afterFailure = crawlResultCache.get(NewsPlatform.NAVER, "반도체", 1).orElseThrow();
+
+        // then
+        assertTrue(first.isStale());
+        assertTrue(first.isRefreshNeeded());
+        assertFalse(second.isRefreshNeeded());
+        assertTrue(afterFailure.isRefreshNeeded());
+    }
+
+    @Test
+    @DisplayName("플랫폼별 유효 시간을 적용한다")
+    void get_UsesPlatformTtl() throws InterruptedException {
+        // given
+        crawlerProperties.getResultCache().getPlatformTtl().put(NewsPlatform.GOOGLE, 60000L);
+        crawlResultCache.put(NewsPlatform.GOOGLE, "반도체", 1, List.of(news("https://example.com/1")));
+        crawlResultCache.put(NewsPlatform.NAVER, "반도체", 1, List.of(news("https://example.com/1")));
+        Thread.sleep(150);
+
+        // when & then
+        assertFalse(crawlResultCache.get(NewsPlatform.GOOGLE, "반도체", 1).orElseThrow().isStale());
+        assertTrue(crawlResultCache.get(NewsPlatform.NAVER, "반도체", 1).orElseThrow().isStale());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 결과부터 제거한다")
+    void put_EvictsLeastRecentlyUsed() {
+        // given - 결과 1건이 대략 700바이트, 최대 2건까지 보관
+        crawlerProperties.getResultCache().setMaxBytes(1500L);
+        crawlResultCache.put(NewsPlatform.NAVER, "키워드1", 1, List.of(news("https://example.com/" + "a".repeat(200))));
+        crawlResultCache.put(NewsPlatform.NAVER, "키워드2", 1, List.of(news("https://example.com/" + "b".repeat(200))));
+        crawlResultCache.get(NewsPlatform.NAVER, "키워드1", 1);
+
+        // when
+        crawlResultCache.put(NewsPlatform.NAVER, "키워드3", 1, List.of(news("https://example.com/" + "c".repeat(200))));
+
+        // then
+        assertTrue(crawlResultCache.get(NewsPlatform.NAVER, "키워드1", 1).isPresent());
+        assertTrue(crawlResultCache.get(NewsPlatform.NAVER, "키워드2", 1).isEmpty());
+        assertTrue(crawlResultCache.get(NewsPlatform.NAVER, "키워드3", 1).isPresent());
+        assertTrue(crawlResultCache.sizeInBytes() <= 1500L);
+    }
+
+    private NewsDataDto news(String url) {
+        return new NewsDataDto("기사 제목", null, null, url, "키워드", NewsPlatform.NAVER);
+    }
+}
@@ -0,0 +1,83 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.domain.news.CrawlCursor;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CrawlSingleFlight 테스트 클래스
+ * 같은 키워드·플랫폼·커서의 동시 요청 공유와 완료 후 재사용을 검증합니다.
+ */
+@DisplayName("CrawlSingleFlight 테스트")
+class CrawlSingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CrawlSingleFlight crawlSingleFlight;
+
+    @BeforeEach
+    void setUp() {
+        CrawlerProperties crawlerProperties = new CrawlerProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        crawlSingleFlight = new CrawlSingleFlight(crawlerProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("진행 중인 크롤링에 참여한 요청은 같은 결과를 받는다")
+    void join_SharesInFlightCrawl() {
+        // given
+        CrawlSingleFlight.Flight leader = crawlSingleFlight.join(NewsPlatform.NAVER, "인공지능", CrawlCursor.initial());
+
+        // when
+        CrawlSingleFlight.Flight follower = crawlSingleFlight.join(NewsPlatform.NAVER, " 인공지능 ", CrawlCursor.initial());
+        List<NewsDataDto> newsList = List.of(new NewsDataDto("기사", null, null, "https://example.com/1", "인공지능", NewsPlatform.NAVER));
+        crawlSingleFlight.complete(leader, newsList, null);
+
+        // then
+        assertTrue(leader.isLeader());
+        assertFalse(follower.isLeader());
+        assertSame(newsList, follower.getFuture().join());
+        assertEquals(1.0, meterRegistry.counter("crawler.single-flight", "platform", "NAVER", "result", "joined").count());
+    }
+
+    @Test
+    @DisplayName("완료 후 재사용 시간 안의 같은 요청은 마지막 결과를 재사용한다")
+    void join_ReusesCompletedCrawl() {
+        // given
+        CrawlSingleFlight.Flight leader = crawlSingleFlight.join(NewsPlatform.DAUM, "반도체", CrawlCursor.initial());
+        crawlSingleFlight.complete(leader, List.of(), null);
+
+        // when
+        CrawlSingleFlight.Flight repeated = crawlSingleFlight.join(NewsPlatform.DAUM, "반도체", CrawlCursor.initial());
+        CrawlSingleFlight.Flight otherPlatform = crawlSingleFlight.join(NewsPlatform.GOOGLE, "반도체", CrawlCursor.initial());
+        CrawlSingleFlight.Flight nextPage = crawlSingleFlight.join(NewsPlatform.DAUM, "반도체", CrawlCursor.reconstruct(2, null));
+
+        // then
+        assertFalse(repeated.isLeader());
+        assertTrue(repeated.getFuture().isDone());
+        assertTrue(otherPlatform.isLeader());
+        assertTrue(nextPage.isLeader());
+        assertEquals(1.0, meterRegistry.counter("crawler.single-flight", "platform", "DAUM", "result", "reused").count());
+    }
+
+    @Test
+    @DisplayName("실패한 크롤링은 재사용하지 않고 다음 요청이 다시 크롤링한다")
+    void join_RetriesAfterFailure() {
+        // given
+        CrawlSingleFlight.Flight leader = crawlSingleFlight.join(NewsPlatform.NAVER, "반도체", CrawlCursor.initial());
+        CrawlSingleFlight.Flight follower = crawlSingleFlight.join(NewsPlatform.NAVER, "반도체", CrawlCursor.initial());
+
+        // when
+        crawlSingleFlight.complete(leader, null, new IllegalStateException("요청 한도 대기 시간 초과"));
+
+        // then
+        assertTrue(follower.getFuture().isCompletedExceptionally());
+        assertTrue(crawlSingleFlight.join(NewsPlatform.NAVER, "반도체", CrawlCursor.initial()).isLeader());
+    }
+}
@@ -0,0 +1,60 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.domain.news.CrawlWatermark;
+import com.suman.newsfeed.infrastructure.external.crawler.google.GoogleCrawlerStrategy;
+import com.suman.newsfeed.infrastructure.external.crawler.naver.NaverCrawlerStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CrawlerStrategy 테스트 클래스
+ * 워터마크 이후의 새 기사만 남기는지, 결과가 최신순이 아닌 플랫폼을 구분하는지 검증합니다.
+ */
+@DisplayName("CrawlerStrategy 테스트")
+class CrawlerStrategyTest {
+
+    private static final LocalDateTime WATERMARK_AT = LocalDateTime.of(2025, 10, 6, 9, 0);
+
+    @Test
+    @DisplayName("관련도순 결과의 첫 기사가 워터마크와 같아도 뒤에 오는 새 기사는 남긴다")
+    void newerThan_KeepsNewerNewsAfterRepeatedTopResult() {
+        // given - 지난 수집의 첫 기사가 다시 맨 위에 오고, 더 새 기사와 오래된 기사가 섞여 있음
+        CrawlWatermark watermark = CrawlWatermark.of("https://example.com/top", WATERMARK_AT);
+        NewsDataDto top = news("https://example.com/top", WATERMARK_AT);
+        NewsDataDto newer = news("https://example.com/newer", WATERMARK_AT.plusHours(2));
+        NewsDataDto older = news("https://example.com/older", WATERMARK_AT.minusHours(3));
+        NewsDataDto unknownTime = news("https://example.com/unknown", null);
+
+        // when
+        List<NewsDataDto> newerNews = CrawlerStrategy.newerThan(List.of(top, older, newer, unknownTime), watermark);
+
+        // then
+        assertEquals(List.of(newer, unknownTime), newerNews);
+    }
+
+    @Test
+    @DisplayName("워터마크가 없으면 결과를 그대로 반환한다")
+    void newerThan_ReturnsAllWithoutWatermark() {
+        List<NewsDataDto> newsList = List.of(news("https://example.com/a", WATERMARK_AT));
+
+        assertSame(newsList, CrawlerStrategy.newerThan(newsList, null));
+    }
+
+    @Test
+    @DisplayName("정렬 옵션이 없는 구글 뉴스 검색은 최신순이 아닌 것으로 본다")
+    void isNewestFirst_FalseForRelevanceOrderedPlatform() {
+        assertFalse(new GoogleCrawlerStrategy(null, null, null, null, null, null).isNewestFirst());
+        assertTrue(new NaverCrawlerStrategy(null, null, null, null, null, null, null).isNewestFirst());
+    }
+
+    private static NewsDataDto news(String url, LocalDateTime publishedAt) {
+        NewsDataDto newsDataDto = new NewsDataDto("제목", "", "설명", url, "경제", NewsPlatform.GOOGLE);
+        newsDataDto.setPublishedAt(publishedAt);
+        return newsDataDto;
+    }
+}
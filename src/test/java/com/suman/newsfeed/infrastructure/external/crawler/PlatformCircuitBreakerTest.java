@@ -0,0 +1,104 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PlatformCircuitBreaker 테스트 클래스
+ * 연속 실패/0건에 따른 회로 열림, 반열림 시험 크롤링, 열림 시간 증가를 검증합니다.
+ */
+@DisplayName("PlatformCircuitBreaker 테스트")
+class PlatformCircuitBreakerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlatformCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        CrawlerProperties crawlerProperties = new CrawlerProperties();
+        crawlerProperties.getCircuitBreaker().setFailureThreshold(2);
+        crawlerProperties.getCircuitBreaker().setZeroYieldThreshold(3);
+        crawlerProperties.getCircuitBreaker().setOpenDuration(100L);
+        crawlerProperties.getCircuitBreaker().setMaxOpenDuration(1000L);
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new PlatformCircuitBreaker(crawlerProperties, meterRegistry);
+        ReflectionTestUtils.invokeMethod(circuitBreaker, "init");
+    }
+
+    @Test
+    @DisplayName("연속 예외가 기준에 도달하면 회로가 열리고 크롤링을 건너뛴다")
+    void recordFailure_OpensAfterThreshold() {
+        // when
+        circuitBreaker.recordFailure(NewsPlatform.DAUM);
+        assertEquals(PlatformCircuitBreaker.State.CLOSED, circuitBreaker.getState(NewsPlatform.DAUM));
+        circuitBreaker.recordFailure(NewsPlatform.DAUM);
+
+        // then
+        assertEquals(PlatformCircuitBreaker.State.OPEN, circuitBreaker.getState(NewsPlatform.DAUM));
+        assertFalse(circuitBreaker.tryAcquire(NewsPlatform.DAUM));
+        assertTrue(circuitBreaker.tryAcquire(NewsPlatform.NAVER));
+        assertEquals(1.0, meterRegistry.counter("crawler.circuit.short-circuited", "platform", "DAUM").count());
+        assertEquals(2.0, meterRegistry.get("crawler.circuit.state").tag("platform", "DAUM").gauge().value());
+    }
+
+    @Test
+    @DisplayName("워터마크로 설명되는 0건은 연속 0건으로 세지 않는다")
+    void recordResult_IgnoresExpectedEmpty() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.recordResult(NewsPlatform.NAVER, 0, true);
+        }
+        circuitBreaker.recordResult(NewsPlatform.NAVER, 0, false);
+        circuitBreaker.recordResult(NewsPlatform.NAVER, 0, false);
+
+        // then
+        assertEquals(PlatformCircuitBreaker.State.CLOSED, circuitBreaker.getState(NewsPlatform.NAVER));
+        circuitBreaker.recordResult(NewsPlatform.NAVER, 0, false);
+        assertEquals(PlatformCircuitBreaker.State.OPEN, circuitBreaker.getState(NewsPlatform.NAVER));
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 시험 크롤링 1건만 허용하고, 성공하면 회로가 닫힌다")
+    void halfOpen_ProbeSuccessCloses() throws InterruptedException {
+        // given
+        circuitBreaker.recordFailure(NewsPlatform.GOOGLE);
+        circuitBreaker.recordFailure(NewsPlatform.GOOGLE);
+        Thread.sleep(150);
+
+        // when
+        assertTrue(circuitBreaker.tryAcquire(NewsPlatform.GOOGLE));
+        assertEquals(PlatformCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState(NewsPlatform.GOOGLE));
+        assertFalse(circuitBreaker.tryAcquire(NewsPlatform.GOOGLE));
+        circuitBreaker.recordResult(NewsPlatform.GOOGLE, 5, false);
+
+        // then
+        assertEquals(PlatformCircuitBreaker.State.CLOSED, circuitBreaker.getState(NewsPlatform.GOOGLE));
+        assertTrue(circuitBreaker.tryAcquire(NewsPlatform.GOOGLE));
+    }
+
+    @Test
+    @DisplayName("시험 크롤링이 실패하면 열림 시간을 2배로 늘려 다시 연다")
+    void halfOpen_ProbeFailureBacksOff() throws InterruptedException {
+        // given
+        circuitBreaker.recordFailure(NewsPlatform.GOOGLE);
+        circuitBreaker.recordFailure(NewsPlatform.GOOGLE);
+        Thread.sleep(150);
+        assertTrue(circuitBreaker.tryAcquire(NewsPlatform.GOOGLE));
+
+        // when
+        circuitBreaker.recordResult(NewsPlatform.GOOGLE, 0, false);
+
+        // then - 열림 시간 200ms, 100ms 뒤에는 아직 열림
+        assertEquals(PlatformCircuitBreaker.State.OPEN, circuitBreaker.getState(NewsPlatform.GOOGLE));
+        Thread.sleep(100);
+        assertFalse(circuitBreaker.tryAcquire(NewsPlatform.GOOGLE));
+        Thread.sleep(150);
+        assertTrue(circuitBreaker.tryAcquire(NewsPlatform.GOOGLE));
+    }
+}
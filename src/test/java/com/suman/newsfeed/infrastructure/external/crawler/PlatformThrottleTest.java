@@ -0,0 +1,85 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PlatformThrottle 테스트 클래스
+ * 플랫폼별 요청 속도 제한과 동시 실행 제한을 검증합니다.
+ */
+@DisplayName("PlatformThrottle 테스트")
+class PlatformThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlatformThrottle platformThrottle;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("naver.throttle.rate-per-second", "1")
+                .withProperty("naver.throttle.burst", "2")
+                .withProperty("naver.throttle.max-concurrent", "1")
+                .withProperty("naver.throttle.max-wait", "100");
+        meterRegistry = new SimpleMeterRegistry();
+        platformThrottle = new PlatformThrottle(environment, meterRegistry);
+        ReflectionTestUtils.invokeMethod(platformThrottle, "init");
+    }
+
+    @Test
+    @DisplayName("버스트를 넘는 요청은 대기 한도 안에 토큰이 없으면 거부된다")
+    void acquireRequest_RejectsBeyondBurst() {
+        // when - 버스트 2건은 바로 허가
+        platformThrottle.acquireRequest(NewsPlatform.NAVER);
+        platformThrottle.acquireRequest(NewsPlatform.NAVER);
+
+        // then - 다음 토큰은 1초 뒤라 100ms 대기 한도 안에 받을 수 없음
+        assertThrows(IllegalStateException.class, () -> platformThrottle.acquireRequest(NewsPlatform.NAVER));
+        assertEquals(1.0, meterRegistry.counter("crawler.throttle.rejected", "platform", "NAVER", "type", "rate").count());
+
+        // 다른 플랫폼은 영향 없음
+        assertDoesNotThrow(() -> platformThrottle.acquireRequest(NewsPlatform.DAUM));
+    }
+
+    @Test
+    @DisplayName("동시 실행 한도를 넘는 작업은 자리가 나지 않으면 거부된다")
+    void withinBulkhead_RejectsBeyondMaxConcurrent() throws Exception {
+        // given - 한 작업이 유일한 자리를 차지한 상태
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> platformThrottle.withinBulkhead(NewsPlatform.NAVER, () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // when & then
+            assertThrows(IllegalStateException.class, () -> platformThrottle.withinBulkhead(NewsPlatform.NAVER, () -> "실행"));
+            assertEquals(1.0, meterRegistry.counter("crawler.throttle.rejected", "platform", "NAVER", "type", "bulkhead").count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+
+        // 자리가 반납되면 다시 실행 가능
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals("실행", platformThrottle.withinBulkhead(NewsPlatform.NAVER, () -> "실행"));
+    }
+}
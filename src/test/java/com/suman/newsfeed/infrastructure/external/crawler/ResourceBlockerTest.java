@@ -0,0 +1,81 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResourceBlocker 테스트 클래스
+ * 플랫폼별 차단 URL 패턴 구성과 차단된 요청의 리소스 유형별 집계를 검증합니다.
+ */
+@DisplayName("ResourceBlocker 테스트")
+class ResourceBlockerTest {
+
+    private CrawlerProperties crawlerProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private ResourceBlocker resourceBlocker;
+
+    @BeforeEach
+    void setUp() {
+        crawlerProperties = new CrawlerProperties();
+        crawlerProperties.getBlocking().getPlatformDomainPatterns().put(NewsPlatform.NAVER, List.of("*veta.naver.com*"));
+        meterRegistry = new SimpleMeterRegistry();
+        resourceBlocker = new ResourceBlocker(crawlerProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("리소스 유형 패턴, 공통 도메인, 해당 플랫폼 도메인 순으로 차단 패턴을 만든다")
+    void blockedUrlPatterns_CombinesPatternsPerPlatform() {
+        List<String> naverPatterns = resourceBlocker.blockedUrlPatterns(NewsPlatform.NAVER);
+        List<String> daumPatterns = resourceBlocker.blockedUrlPatterns(NewsPlatform.DAUM);
+
+        CrawlerProperties.Blocking blocking = crawlerProperties.getBlocking();
+        assertEquals(blocking.getResourcePatterns().size() + blocking.getDomainPatterns().size() + 1, naverPatterns.size());
+        assertEquals("*veta.naver.com*", naverPatterns.get(naverPatterns.size() - 1));
+        assertFalse(daumPatterns.contains("*veta.naver.com*")); // 다른 플랫폼 도메인은 차단하지 않음
+        assertTrue(naverPatterns.containsAll(daumPatterns));
+    }
+
+    @Test
+    @DisplayName("이미지·폰트·미디어와 광고 도메인은 차단하고 문서·CSS·스크립트·API 요청은 허용한다")
+    void blockedUrlPatterns_BlocksOnlyUnneededResources() {
+        // CDP Network.setBlockedURLs와 같은 와일드카드(*) 비교
+        Pattern blocked = XhrResponseCapture.toPattern(resourceBlocker.blockedUrlPatterns(NewsPlatform.NAVER));
+
+        assertTrue(blocked.matcher("https://imgnews.pstatic.net/image/001/2026/thumb.jpg?type=nf").matches());
+        assertTrue(blocked.matcher("https://ssl.pstatic.net/static/fonts/NanumGothic.woff2").matches());
+        assertTrue(blocked.matcher("https://video.example.com/clip.mp4").matches());
+        assertTrue(blocked.matcher("https://securepubads.g.doubleclick.net/tag/js/gpt.js").matches());
+        assertTrue(blocked.matcher("https://veta.naver.com/fxshow?su=1").matches());
+
+        assertFalse(blocked.matcher("https://search.naver.com/search.naver?where=news&query=경제").matches());
+        assertFalse(blocked.matcher("https://ssl.pstatic.net/sstatic/search/css/news.css").matches());
+        assertFalse(blocked.matcher("https://ssl.pstatic.net/sstatic/search/js/news.js").matches());
+        assertFalse(blocked.matcher("https://s.search.naver.com/p/newssearch/search.naver?start=11").matches());
+    }
+
+    @Test
+    @DisplayName("차단으로 실패한 요청만 리소스 유형별로 집계한다")
+    void recordBlocked_CountsByResourceType() {
+        resourceBlocker.recordBlocked(NewsPlatform.NAVER, Map.of("blockedReason", "inspector", "type", "Image"));
+        resourceBlocker.recordBlocked(NewsPlatform.NAVER, Map.of("blockedReason", "inspector", "type", "Image"));
+        resourceBlocker.recordBlocked(NewsPlatform.NAVER, Map.of("blockedReason", "inspector"));
+        resourceBlocker.recordBlocked(NewsPlatform.NAVER, Map.of("type", "Script", "errorText", "net::ERR_TIMED_OUT"));
+
+        assertEquals(2.0, blockedCount("Image"));
+        assertEquals(1.0, blockedCount("Other"));
+        assertNull(meterRegistry.find("crawler.requests.blocked").tag("type", "Script").counter());
+    }
+
+    private double blockedCount(String type) {
+        return meterRegistry.get("crawler.requests.blocked").tag("platform", "NAVER").tag("type", type).counter().count();
+    }
+}
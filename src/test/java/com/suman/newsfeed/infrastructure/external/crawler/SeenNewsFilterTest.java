@@ -0,0 +1,116 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.domain.news.NewsKeywordUrl;
+import com.suman.newsfeed.domain.news.NewsRepository;
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * SeenNewsFilter 테스트 클래스
+ * 저장에 성공한 뉴스만 이미 저장된 뉴스로 기록되고, 저장 중이거나 저장에 실패한 뉴스는 그에 맞게 처리되는지,
+ * 기동 시 저장된 뉴스로 필터를 다시 채운 뒤에 로드 완료로 보는지 검증합니다.
+ */
+@DisplayName("SeenNewsFilter 테스트")
+class SeenNewsFilterTest {
+
+    private static final String Url = "https://example.com/article/1";
+
+    private SeenNewsFilter seenNewsFilter;
+    private NewsRepository newsRepository;
+
+    @BeforeEach
+    void setUp() {
+        CrawlerProperties crawlerProperties = new CrawlerProperties();
+        newsRepository = mock(NewsRepository.class);
+        seenNewsFilter = new SeenNewsFilter(crawlerProperties, new UrlCanonicalizer(crawlerProperties), newsRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(seenNewsFilter, "init");
+    }
+
+    @Test
+    @DisplayName("저장 중인 뉴스는 다시 새 뉴스로 반환하지 않는다")
+    void filterUnseen_HoldsPendingNews() {
+        // given
+        assertEquals(1, seenNewsFilter.filterUnseen("경제", List.of(news(Url))).size());
+
+        // when
+        List<NewsDataDto> unseen = seenNewsFilter.filterUnseen("경제", List.of(news(Url)));
+
+        // then
+        assertTrue(unseen.isEmpty());
+    }
+
+    @Test
+    @DisplayName("저장에 성공한 뉴스는 이미 저장된 뉴스로 걸러낸다")
+    void markSeen_FiltersSavedNews() {
+        // given
+        List<NewsDataDto> unseen = seenNewsFilter.filterUnseen("경제", List.of(news(Url)));
+
+        // when
+        seenNewsFilter.markSeen("경제", unseen.stream().map(NewsDataDto::getUrl).toList());
+
+        // then
+        assertTrue(seenNewsFilter.filterUnseen("경제", List.of(news(Url))).isEmpty());
+        assertEquals(1, seenNewsFilter.filterUnseen("정치", List.of(news(Url))).size()); // 다른 키워드는 중복 아님
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 뉴스는 다음 수집에서 다시 새 뉴스로 받는다")
+    void release_AllowsRecollectingUnsavedNews() {
+        // given
+        List<NewsDataDto> unseen = seenNewsFilter.filterUnseen("경제", List.of(news(Url)));
+
+        // when
+        seenNewsFilter.release("경제", unseen.stream().map(NewsDataDto::getUrl).toList());
+
+        // then
+        assertEquals(1, seenNewsFilter.filterUnseen("경제", List.of(news(Url))).size());
+    }
+
+    @Test
+    @DisplayName("저장된 뉴스로 필터를 다시 채운 뒤에야 로드 완료로 본다")
+    void rebuild_LoadsSavedNewsBeforeReady() {
+        // given
+        when(newsRepository.findKeywordUrlsAfter(eq(0L), anyInt())).thenReturn(List.of(NewsKeywordUrl.of(1L, "경제", Url)));
+        assertFalse(seenNewsFilter.isLoaded());
+
+        // when
+        seenNewsFilter.rebuild();
+
+        // then
+        assertTrue(seenNewsFilter.isLoaded());
+        assertTrue(seenNewsFilter.filterUnseen("경제", List.of(news(Url))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("필터 재구성에 실패해도 수집이 멈추지 않도록 로드 완료로 본다")
+    void rebuild_ReadyEvenWhenQueryFails() {
+        // given
+        when(newsRepository.findKeywordUrlsAfter(eq(0L), anyInt())).thenThrow(new RuntimeException("DB 오류"));
+
+        // when
+        seenNewsFilter.rebuild();
+
+        // then
+        assertTrue(seenNewsFilter.isLoaded());
+    }
+
+    private static NewsDataDto news(String url) {
+        NewsDataDto newsDataDto = new NewsDataDto();
+        newsDataDto.setTitle("테스트 뉴스");
+        newsDataDto.setUrl(url);
+        newsDataDto.setPlatform(NewsPlatform.NAVER);
+        return newsDataDto;
+    }
+}
@@ -0,0 +1,99 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SelectorPlanCache 테스트 클래스
+ * 성공한 선택자를 앞으로 옮긴 계획 학습과, 수율 저하 시 기본 선택자로 돌아가는 폴백을 검증합니다.
+ */
+@DisplayName("SelectorPlanCache 테스트")
+class SelectorPlanCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SelectorPlanCache selectorPlanCache;
+    private ExtractionSelectors defaults;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        selectorPlanCache = new SelectorPlanCache(new CrawlerProperties(), meterRegistry);
+        defaults = ExtractionSelectors.builder()
+                .containers(List.of("div.old", "div.news", "li.item"))
+                .title(List.of("a.title", "strong.tit"))
+                .link(List.of("a.link", "a.title"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("학습된 계획이 없으면 기본 선택자를 사용한다")
+    void planFor_UsesDefaultsWithoutPlan() {
+        assertSame(defaults, selectorPlanCache.planFor(NewsPlatform.NAVER, defaults));
+    }
+
+    @Test
+    @DisplayName("기본 선택자로 추출에 성공하면 적중한 선택자를 앞으로 옮긴 계획을 학습한다")
+    void record_LearnsPlanFromHits() {
+        // when - 두 번째 컨테이너 선택자와 두 번째 제목 선택자가 적중
+        selectorPlanCache.record(NewsPlatform.NAVER, defaults, result(10, 1, List.of(0, 10), List.of(10, 0)));
+
+        // then
+        ExtractionSelectors plan = selectorPlanCache.planFor(NewsPlatform.NAVER, defaults);
+        assertNotSame(defaults, plan);
+        assertEquals(List.of("div.news", "div.old", "li.item"), plan.getContainers());
+        assertEquals(List.of("strong.tit", "a.title"), plan.getTitle()); // 적중하지 않은 선택자도 폴백으로 남김
+        assertEquals(List.of("a.link", "a.title"), plan.getLink());
+        assertSame(defaults, selectorPlanCache.planFor(NewsPlatform.DAUM, defaults)); // 플랫폼별 계획
+    }
+
+    @Test
+    @DisplayName("추출 결과가 없으면 계획을 학습하지 않는다")
+    void record_IgnoresEmptyResult() {
+        selectorPlanCache.record(NewsPlatform.NAVER, defaults, result(0, -1, List.of(), List.of()));
+
+        assertSame(defaults, selectorPlanCache.planFor(NewsPlatform.NAVER, defaults));
+    }
+
+    @Test
+    @DisplayName("학습된 계획의 수율이 학습 시점의 절반 미만으로 떨어지면 기본 선택자로 돌아간다")
+    void record_FallsBackWhenYieldDrops() {
+        // given
+        selectorPlanCache.record(NewsPlatform.NAVER, defaults, result(10, 1, List.of(0, 10), List.of(10, 0)));
+        ExtractionSelectors plan = selectorPlanCache.planFor(NewsPlatform.NAVER, defaults);
+
+        // when - 절반 이상이면 유지, 절반 미만이면 폐기
+        selectorPlanCache.record(NewsPlatform.NAVER, plan, result(5, 0, List.of(), List.of()));
+        ExtractionSelectors kept = selectorPlanCache.planFor(NewsPlatform.NAVER, defaults);
+        selectorPlanCache.record(NewsPlatform.NAVER, plan, result(4, 0, List.of(), List.of()));
+
+        // then
+        assertSame(plan, kept);
+        assertSame(defaults, selectorPlanCache.planFor(NewsPlatform.NAVER, defaults));
+        assertEquals(1.0, meterRegistry.get("crawler.selector.relearn").tag("platform", "NAVER").counter().count());
+    }
+
+    // 아이템 수와 선택자별 적중 횟수로 만든 추출 결과
+    private static ExtractionResult result(int itemCount, int containerHit, List<Integer> titleHits, List<Integer> linkHits) {
+        List<ExtractedNewsItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new ExtractedNewsItem());
+        }
+        ExtractionResult.SelectorHits hits = new ExtractionResult.SelectorHits();
+        hits.setContainers(containerHit);
+        hits.setTitle(titleHits);
+        hits.setLink(linkHits);
+
+        ExtractionResult result = new ExtractionResult();
+        result.setItems(items);
+        result.setHits(hits);
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StoryFingerprint 테스트 클래스
+ * 말머리/조사/띄어쓰기만 다른 기사는 유사하고, 다른 기사는 유사하지 않은지 검증합니다.
+ */
+@DisplayName("StoryFingerprint 테스트")
+class StoryFingerprintTest {
+
+    @Test
+    @DisplayName("말머리와 조사만 다른 제목은 같은 기사로 판단할 만큼 유사하다")
+    void similarity_SameStoryWithDifferentTitleDecorations() {
+        StoryFingerprint naver = StoryFingerprint.of("[속보] 삼성전자, 3분기 영업이익 10조원 돌파",
+                "삼성전자가 3분기 영업이익 10조원을 넘어섰다고 밝혔다.");
+        StoryFingerprint google = StoryFingerprint.of("삼성전자 3분기 영업이익이 10조원 돌파 (종합)", null);
+
+        assertTrue(naver.similarity(google) >= 0.5);
+    }
+
+    @Test
+    @DisplayName("다른 기사는 유사도가 낮고 LSH 밴드 키도 대부분 다르다")
+    void similarity_DifferentStories() {
+        StoryFingerprint first = StoryFingerprint.of("삼성전자 3분기 영업이익 10조원 돌파", null);
+        StoryFingerprint second = StoryFingerprint.of("정부, 내년 최저임금 인상률 발표", null);
+
+        assertTrue(first.similarity(second) < 0.2);
+        assertEquals(StoryFingerprint.BANDS, first.bandKeys().length);
+    }
+
+    @Test
+    @DisplayName("제목에서 shingle을 만들 수 없으면 서명을 만들지 않는다")
+    void of_BlankTitle() {
+        assertNull(StoryFingerprint.of("  [속보]  ", "요약"));
+    }
+}
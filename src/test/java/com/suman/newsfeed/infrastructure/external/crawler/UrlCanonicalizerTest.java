@@ -0,0 +1,72 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.suman.newsfeed.infrastructure.config.CrawlerProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UrlCanonicalizer 테스트 클래스
+ * 추적 파라미터, 호스트 변형, 리다이렉트 링크가 같은 URL로 정규화되는지 검증합니다.
+ */
+@DisplayName("UrlCanonicalizer 테스트")
+class UrlCanonicalizerTest {
+
+    private final UrlCanonicalizer urlCanonicalizer = new UrlCanonicalizer(new CrawlerProperties());
+
+    @Test
+    @DisplayName("추적 파라미터와 fragment를 제거하고 나머지 파라미터는 이름순으로 정렬한다")
+    void canonicalize_StripsTrackingParams() {
+        String canonical = urlCanonicalizer.canonicalize(
+                "http://www.example.com/news/view/?utm_source=naver&id=7&fbclid=abc&cat=it#comments");
+
+        assertEquals("https://example.com/news/view?cat=it&id=7", canonical);
+    }
+
+    @Test
+    @DisplayName("모바일/데스크톱 호스트 변형을 같은 URL로 정규화한다")
+    void canonicalize_NormalizesHostVariants() {
+        assertEquals(urlCanonicalizer.canonicalize("https://www.example.com/article/1"),
+                urlCanonicalizer.canonicalize("https://m.example.com/article/1"));
+        assertEquals("https://n.news.naver.com/article/001/0012345678",
+                urlCanonicalizer.canonicalize("https://m.news.naver.com/mnews/article/001/0012345678?sid=101"));
+    }
+
+    @Test
+    @DisplayName("구글 리다이렉트 링크와 구글 뉴스 기사 ID 링크는 원문 URL로 해석한다")
+    void canonicalize_ResolvesGoogleRedirects() {
+        assertEquals("https://example.com/article/1",
+                urlCanonicalizer.canonicalize("https://www.google.com/url?q=https%3A%2F%2Fwww.example.com%2Farticle%2F1%3Futm_medium%3Dsocial"));
+
+        String articleId = encodeGoogleArticleId("https://www.example.com/article/2?utm_source=google");
+        assertEquals("https://example.com/article/2",
+                urlCanonicalizer.canonicalize("https://news.google.com/read/" + articleId + "?hl=ko&gl=KR&ceid=KR:ko"));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 구글 뉴스 링크는 언어/지역 파라미터만 제거한다")
+    void canonicalize_KeepsOpaqueGoogleNewsLinks() {
+        assertEquals("https://news.google.com/read/AU_yqLOpaque",
+                urlCanonicalizer.canonicalize("https://news.google.com/read/AU_yqLOpaque?hl=ko&gl=KR&ceid=KR:ko"));
+    }
+
+    // 기존 형식의 구글 뉴스 기사 ID (필드 태그 + 길이 + 원문 URL)를 base64url로 인코딩
+    private String encodeGoogleArticleId(String url) {
+        byte[] urlBytes = url.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0x08);
+        out.write(0x13);
+        out.write(0x22);
+        out.write(urlBytes.length);
+        out.writeBytes(urlBytes);
+        out.write(0xd2);
+        out.write(0x01);
+        out.write(0x00);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+}
@@ -0,0 +1,96 @@
+package com.suman.newsfeed.infrastructure.external.crawler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * XhrResponseCapture 테스트 클래스
+ * URL 패턴 변환, JSON 응답에서 뉴스 아이템 추출, 캡처 대상 응답 판별을 검증합니다.
+ */
+@DisplayName("XhrResponseCapture 테스트")
+class XhrResponseCaptureTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final XhrResponseCapture xhrResponseCapture = new XhrResponseCapture(null, objectMapper, null, null);
+
+    @Test
+    @DisplayName("와일드카드 URL 패턴은 *만 임의 문자열로 보고 나머지 문자는 그대로 비교한다")
+    void toPattern_ConvertsWildcards() {
+        Pattern pattern = XhrResponseCapture.toPattern(List.of(
+                "https://s.search.naver.com/p/newssearch/*",
+                "https://api.example.com/search?q=*&type=news"));
+
+        assertTrue(pattern.matcher("https://s.search.naver.com/p/newssearch/search.naver?query=경제").matches());
+        assertTrue(pattern.matcher("https://api.example.com/search?q=경제&type=news").matches());
+        assertFalse(pattern.matcher("https://api.example.com/searchXq=경제&type=news").matches()); // ?는 문자 그대로
+        assertFalse(pattern.matcher("https://s.search.naver.com/p/blog/search.naver").matches());
+    }
+
+    @Test
+    @DisplayName("중첩된 JSON에서 제목과 절대 URL을 가진 객체만 뉴스 아이템으로 추출한다")
+    void extractItems_WalksNestedJson() throws Exception {
+        String body = """
+                {"result": {"total": 3, "items": [
+                  {"tit": "<b>경제</b> 뉴스", "link": "https://example.com/1", "summary": "요약", "press": "연합", "pubDate": "1시간 전",
+                   "related": {"title": "관련 기사", "url": "https://example.com/related"}},
+                  {"headline": "상대 경로 기사", "url": "/news/2"},
+                  {"url": "https://example.com/3"},
+                  {"title": "두 번째 기사", "originallink": "https://example.com/4", "link": "https://portal.example.com/4"}
+                ]}}
+                """;
+
+        List<ExtractedNewsItem> items = xhrResponseCapture.extractItems(objectMapper.readTree(body), 10);
+
+        assertEquals(2, items.size());
+        ExtractedNewsItem first = items.get(0);
+        assertEquals("경제 뉴스", first.getTitle()); // 강조 태그 제거
+        assertEquals(List.of("https://example.com/1"), first.getLinks());
+        assertEquals("요약", first.getDescription());
+        assertEquals("연합", first.getSource());
+        assertEquals(List.of("1시간 전"), first.getTimes());
+        assertEquals(List.of("https://example.com/4"), items.get(1).getLinks()); // 원문 링크 우선
+        assertEquals(List.of(), items.get(1).getTimes());
+    }
+
+    @Test
+    @DisplayName("추출 개수 한도를 넘지 않는다")
+    void extractItems_StopsAtLimit() throws Exception {
+        String body = """
+                [{"title": "기사1", "url": "https://example.com/1"},
+                 {"title": "기사2", "url": "https://example.com/2"},
+                 {"title": "기사3", "url": "https://example.com/3"}]
+                """;
+
+        List<ExtractedNewsItem> items = xhrResponseCapture.extractItems(objectMapper.readTree(body), 2);
+
+        assertEquals(2, items.size());
+    }
+
+    @Test
+    @DisplayName("URL 패턴에 맞는 XHR/Fetch JSON 응답만 한 번씩 기록한다")
+    void onResponse_RecordsMatchingJsonResponses() {
+        XhrResponseCapture.Capture capture = new XhrResponseCapture.Capture(NewsPlatform.NAVER, null,
+                XhrResponseCapture.toPattern(List.of("https://api.example.com/news*")));
+
+        capture.onResponse(response("1", "XHR", "application/json", "https://api.example.com/news?page=1"));
+        capture.onResponse(response("1", "XHR", "application/json", "https://api.example.com/news?page=1"));
+        capture.onResponse(response("2", "Fetch", "application/json; charset=utf-8", "https://api.example.com/news?page=2"));
+        capture.onResponse(response("3", "Document", "application/json", "https://api.example.com/news?page=3"));
+        capture.onResponse(response("4", "XHR", "text/html", "https://api.example.com/news?page=4"));
+        capture.onResponse(response("5", "XHR", "application/json", "https://api.example.com/ads"));
+
+        assertEquals(List.of("1", "2"), capture.getRequestIds());
+    }
+
+    private static Map<String, Object> response(String requestId, String type, String mimeType, String url) {
+        return Map.of("requestId", requestId, "type", type,
+                "response", Map.of("mimeType", mimeType, "url", url));
+    }
+}
@@ -0,0 +1,144 @@
+package com.suman.newsfeed.infrastructure.external.crawler.naver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.suman.newsfeed.infrastructure.external.crawler.NewsDataDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NaverNewsApiClient 테스트 클래스
+ * 로컬 스텁 HTTP 서버로 요청 파라미터/헤더와 응답 파싱, 호출 한도를 검증합니다.
+ */
+@DisplayName("NaverNewsApiClient 테스트")
+class NaverNewsApiClientTest {
+
+    private static final String RESPONSE_BODY = """
+            {
+              "lastBuildDate": "Mon, 06 Oct 2025 10:00:00 +0900",
+              "total": 2,
+              "start": 11,
+              "display": 2,
+              "items": [
+                {
+                  "title": "<b>인공지능</b> 산업 동향",
+                  "originallink": "https://example.com/news/1",
+                  "link": "https://n.news.naver.com/article/1",
+                  "description": "요약 &quot;1&quot;",
+                  "pubDate": "Mon, 06 Oct 2025 09:50:00 +0900"
+                },
+                {
+                  "title": "두 번째 기사",
+                  "originallink": "",
+                  "link": "https://n.news.naver.com/article/2",
+                  "description": "요약 2",
+                  "pubDate": "Mon, 06 Oct 2025 09:40:00 +0900"
+                }
+              ]
+            }
+            """;
+
+    private HttpServer server;
+    private final AtomicReference<String> lastQuery = new AtomicReference<>();
+    private final AtomicReference<String> lastClientId = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/search/news.json", exchange -> {
+            lastQuery.set(exchange.getRequestURI().getRawQuery());
+            lastClientId.set(exchange.getRequestHeaders().getFirst("X-Naver-Client-Id"));
+            byte[] body = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private NaverNewsApiClient createClient(int dailyLimit) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/search/news.json";
+        return new NaverNewsApiClient(new ObjectMapper(), new SimpleMeterRegistry(), baseUrl,
+                "test-id", "test-secret", 3000, dailyLimit, 10);
+    }
+
+    @Test
+    @DisplayName("검색 요청 - start/display 파라미터와 인증 헤더를 전송하고 응답을 파싱한다")
+    void search_Success() throws IOException {
+        // given
+        NaverNewsApiClient client = createClient(100);
+
+        // when
+        NaverNewsResponse response = client.search("인공지능", 11, 10);
+
+        // then
+        assertTrue(lastQuery.get().contains("start=11"));
+        assertTrue(lastQuery.get().contains("display=10"));
+        assertEquals("test-id", lastClientId.get());
+        assertEquals(2, response.getItems().size());
+        assertEquals("https://example.com/news/1", response.getItems().get(0).getOriginallink());
+    }
+
+    @Test
+    @DisplayName("API 제약 범위를 벗어난 start/display는 허용 범위로 보정한다")
+    void search_ClampsPagingParameters() throws IOException {
+        // given
+        NaverNewsApiClient client = createClient(100);
+
+        // when
+        client.search("인공지능", 5000, 500);
+
+        // then
+        assertTrue(lastQuery.get().contains("start=1000"));
+        assertTrue(lastQuery.get().contains("display=100"));
+    }
+
+    @Test
+    @DisplayName("일일 호출 한도를 모두 사용하면 요청하지 않고 예외를 던진다")
+    void search_DailyQuotaExceeded() throws IOException {
+        // given
+        NaverNewsApiClient client = createClient(1);
+        client.search("인공지능", 1, 10);
+        lastQuery.set(null);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> client.search("인공지능", 11, 10));
+        assertNull(lastQuery.get());
+    }
+
+    @Test
+    @DisplayName("API 전략 - 페이지 번호를 시작 위치로 변환하고 원문 링크 우선, 태그를 제거해 변환한다")
+    void strategy_MapsPagingAndItems() {
+        // given
+        NaverApiCrawlerStrategy strategy = new NaverApiCrawlerStrategy(createClient(100));
+
+        // when
+        List<NewsDataDto> newsList = strategy.crawlNews("인공지능", 2L, 10);
+
+        // then
+        assertTrue(lastQuery.get().contains("start=11"));
+        assertEquals(2, newsList.size());
+        assertEquals("인공지능 산업 동향", newsList.get(0).getTitle());
+        assertEquals("요약 \"1\"", newsList.get(0).getDescription());
+        assertEquals("https://n.news.naver.com/article/2", newsList.get(1).getUrl());
+    }
+}